@@ -39,6 +39,7 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.text.MessageFormat;
 import java.util.List;
@@ -50,6 +51,10 @@ import java.util.stream.Stream;
 /**
  * action for binding a method.
  * action uses agent for object binding
+ *
+ * @note the method is bound on construction to an invoker of the method arity,
+ * which calls the method handle with an exact type, so no argument list is created
+ * on each call, variable arity methods use the generic invocation
  */
 public final class CMethodAction extends IBaseAction
 {
@@ -73,6 +78,10 @@ public final class CMethodAction extends IBaseAction
      * method handle
      */
     private transient MethodHandle m_methodhandle;
+    /**
+     * arity invoker
+     */
+    private transient IInvoker m_invoker;
 
 
     /**
@@ -91,6 +100,7 @@ public final class CMethodAction extends IBaseAction
             : m_method.getName()
         );
         m_methodhandle = MethodHandles.lookup().unreflect( m_method );
+        m_invoker = CMethodAction.invoker( m_method, m_methodhandle );
     }
 
     /**
@@ -126,9 +136,10 @@ public final class CMethodAction extends IBaseAction
         final String l_name = p_stream.readUTF();
         final Class<?>[] l_types = (Class<?>[])p_stream.readObject();
 
-        final Method l_method = l_class.getDeclaredMethod( l_name, l_types );
-        l_method.setAccessible( true );
-        m_methodhandle = MethodHandles.lookup().unreflect( l_method );
+        m_method = l_class.getDeclaredMethod( l_name, l_types );
+        m_method.setAccessible( true );
+        m_methodhandle = MethodHandles.lookup().unreflect( m_method );
+        m_invoker = CMethodAction.invoker( m_method, m_methodhandle );
 
         p_stream.defaultReadObject();
     }
@@ -154,17 +165,12 @@ public final class CMethodAction extends IBaseAction
     {
         try
         {
-            return m_arguments == 0
-                   ? CMethodAction.returnvalues( m_methodhandle.invoke( p_context.agent() ), p_return )
-                   : CMethodAction.returnvalues(
-                       m_methodhandle.invokeWithArguments(
-                           Stream.concat(
-                               Stream.of( p_context.agent() ),
-                               p_argument.stream().map( ITerm::raw )
-                           ).collect( Collectors.toList() )
-                       ),
-                       p_return
-                   );
+            return CMethodAction.returnvalues(
+                p_argument.size() == m_arguments
+                ? m_invoker.invoke( p_context.agent(), p_argument )
+                : CMethodAction.invokegeneric( m_methodhandle, p_context.agent(), p_argument ),
+                p_return
+            );
         }
         catch ( final Throwable l_throwable )
         {
@@ -173,6 +179,87 @@ public final class CMethodAction extends IBaseAction
         }
     }
 
+    /**
+     * invokes the method with a generic argument list
+     *
+     * @param p_handle method handle
+     * @param p_agent agent
+     * @param p_argument arguments
+     * @return return value of the method
+     * @throws Throwable on invoke error
+     */
+    @Nullable
+    private static Object invokegeneric( @Nonnull final MethodHandle p_handle, @Nonnull final Object p_agent,
+                                         @Nonnull final List<ITerm> p_argument ) throws Throwable
+    {
+        return p_handle.invokeWithArguments(
+            Stream.concat(
+                Stream.of( p_agent ),
+                p_argument.stream().map( ITerm::raw )
+            ).collect( Collectors.toList() )
+        );
+    }
+
+    /**
+     * creates the invoker of the method arity
+     *
+     * @param p_method method
+     * @param p_handle method handle
+     * @return invoker
+     *
+     * @note the handle is adapted to object types, so primitive values are unboxed and the result is boxed by the handle
+     */
+    @Nonnull
+    private static IInvoker invoker( @Nonnull final Method p_method, @Nonnull final MethodHandle p_handle )
+    {
+        final int l_arguments = p_method.getParameterCount();
+        if ( p_method.isVarArgs() )
+            return ( a, l ) -> CMethodAction.invokegeneric( p_handle, a, l );
+
+        final MethodHandle l_handle = p_handle.asType( MethodType.genericMethodType( l_arguments + 1 ) );
+        switch ( l_arguments )
+        {
+            case 0:
+                return ( a, l ) -> (Object) l_handle.invokeExact( a );
+
+            case 1:
+                return ( a, l ) -> (Object) l_handle.invokeExact( a, l.get( 0 ).<Object>raw() );
+
+            case 2:
+                return ( a, l ) -> (Object) l_handle.invokeExact( a, l.get( 0 ).<Object>raw(), l.get( 1 ).<Object>raw() );
+
+            case 3:
+                return ( a, l ) -> (Object) l_handle.invokeExact( a, l.get( 0 ).<Object>raw(), l.get( 1 ).<Object>raw(), l.get( 2 ).<Object>raw() );
+
+            case 4:
+                return ( a, l ) -> (Object) l_handle.invokeExact(
+                    a, l.get( 0 ).<Object>raw(), l.get( 1 ).<Object>raw(), l.get( 2 ).<Object>raw(), l.get( 3 ).<Object>raw()
+                );
+
+            case 5:
+                return ( a, l ) -> (Object) l_handle.invokeExact(
+                    a, l.get( 0 ).<Object>raw(), l.get( 1 ).<Object>raw(), l.get( 2 ).<Object>raw(), l.get( 3 ).<Object>raw(),
+                    l.get( 4 ).<Object>raw()
+                );
+
+            case 6:
+                return ( a, l ) -> (Object) l_handle.invokeExact(
+                    a, l.get( 0 ).<Object>raw(), l.get( 1 ).<Object>raw(), l.get( 2 ).<Object>raw(), l.get( 3 ).<Object>raw(),
+                    l.get( 4 ).<Object>raw(), l.get( 5 ).<Object>raw()
+                );
+
+            default:
+                final MethodHandle l_spreader = l_handle.asSpreader( Object[].class, l_arguments );
+                return ( a, l ) ->
+                {
+                    final Object[] l_values = new Object[l.size()];
+                    for ( int i = 0; i < l_values.length; i++ )
+                        l_values[i] = l.get( i ).raw();
+                    return (Object) l_spreader.invokeExact( a, l_values );
+                };
+        }
+    }
+
     /**
      * creates the returns values of the execution
      *
@@ -191,4 +278,23 @@ public final class CMethodAction extends IBaseAction
         p_return.add( CRawTerm.of( p_result ) );
         return Stream.empty();
     }
+
+
+    /**
+     * invoker of a method with fixed arity
+     */
+    @FunctionalInterface
+    private interface IInvoker
+    {
+        /**
+         * invokes the method
+         *
+         * @param p_agent agent
+         * @param p_argument arguments with the method arity
+         * @return return value of the method
+         * @throws Throwable on invoke error
+         */
+        @Nullable
+        Object invoke( @Nonnull Object p_agent, @Nonnull List<ITerm> p_argument ) throws Throwable;
+    }
 }
@@ -0,0 +1,277 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.agent;
+
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.Multimap;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.execution.IContext;
+
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * registry of the running plans of an agent
+ *
+ * @note each cycle defines a new epoch, so entries of an older epoch are
+ * ignored and overwritten on the next insert instead of clearing the structure,
+ * only the instances of the entries, which are used within the last epoch, are released
+ * on a new epoch, so the execution contexts are not referenced anymore, the instance literal of a plan is allocated only if it is read, so it
+ * contains the variable values at the time of reading
+ */
+final class CRunningPlans implements Serializable
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -4409406640811587226L;
+    /**
+     * current epoch
+     */
+    private final AtomicLong m_epoch = new AtomicLong();
+    /**
+     * running plans with functor path
+     */
+    private final Map<IPath, CEntry> m_plans = new ConcurrentHashMap<>();
+    /**
+     * entries, which are used within the current epoch
+     */
+    private final Queue<CEntry> m_used = new ConcurrentLinkedQueue<>();
+
+
+    /**
+     * starts a new epoch, so all running plans are removed
+     *
+     * @return self reference
+     */
+    @Nonnull
+    CRunningPlans reset()
+    {
+        final long l_epoch = m_epoch.incrementAndGet();
+        for ( CEntry l_entry = m_used.poll(); Objects.nonNull( l_entry ); l_entry = m_used.poll() )
+            l_entry.release( l_epoch );
+        return this;
+    }
+
+    /**
+     * adds a running plan
+     *
+     * @param p_path functor path of the plan trigger
+     * @param p_literal trigger literal
+     * @param p_context execution context
+     * @return self reference
+     */
+    @Nonnull
+    CRunningPlans put( @Nonnull final IPath p_path, @Nonnull final ILiteral p_literal, @Nonnull final IContext p_context )
+    {
+        final CEntry l_entry = m_plans.computeIfAbsent( p_path, i -> new CEntry() );
+        if ( l_entry.add( m_epoch.get(), new CInstance( p_literal, p_context ) ) )
+            m_used.add( l_entry );
+        return this;
+    }
+
+    /**
+     * checks if a plan is running
+     *
+     * @param p_path functor path
+     * @return running flag
+     */
+    boolean contains( @Nonnull final IPath p_path )
+    {
+        final CEntry l_entry = m_plans.get( p_path );
+        return Objects.nonNull( l_entry ) && l_entry.m_epoch == m_epoch.get();
+    }
+
+    /**
+     * returns the paths of the running plans
+     *
+     * @return path stream
+     */
+    @Nonnull
+    Stream<IPath> paths()
+    {
+        final long l_epoch = m_epoch.get();
+        return m_plans.entrySet().stream().filter( i -> i.getValue().m_epoch == l_epoch ).map( Map.Entry::getKey );
+    }
+
+    /**
+     * returns the instance literals of the running plans
+     *
+     * @return literal stream
+     */
+    @Nonnull
+    Stream<ILiteral> literals()
+    {
+        final long l_epoch = m_epoch.get();
+        return m_plans.values().stream().flatMap( i -> i.instances( l_epoch ) ).map( CInstance::literal ).distinct();
+    }
+
+    /**
+     * returns a snapshot of the running plans
+     *
+     * @return multimap with functor path and instance literal
+     */
+    @Nonnull
+    Multimap<IPath, ILiteral> multimap()
+    {
+        final long l_epoch = m_epoch.get();
+        final ImmutableSetMultimap.Builder<IPath, ILiteral> l_builder = ImmutableSetMultimap.builder();
+        m_plans.forEach( ( k, v ) -> v.instances( l_epoch ).forEach( i -> l_builder.put( k, i.literal() ) ) );
+        return l_builder.build();
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.paths().collect( Collectors.toList() ).toString();
+    }
+
+
+    /**
+     * running plans of a functor path
+     */
+    private static final class CEntry implements Serializable
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 2383870530498264102L;
+        /**
+         * epoch of the instances
+         */
+        private volatile long m_epoch = -1;
+        /**
+         * plan instances
+         */
+        private List<CInstance> m_instances = Collections.emptyList();
+
+        /**
+         * adds an instance and drops instances of an older epoch
+         *
+         * @param p_epoch current epoch
+         * @param p_instance instance
+         * @return flag, that the entry is used first within the epoch
+         */
+        synchronized boolean add( final long p_epoch, @Nonnull final CInstance p_instance )
+        {
+            final boolean l_first = m_epoch != p_epoch;
+            if ( l_first )
+            {
+                m_instances = new ArrayList<>();
+                m_epoch = p_epoch;
+            }
+            m_instances.add( p_instance );
+            return l_first;
+        }
+
+        /**
+         * releases the instances of an older epoch
+         *
+         * @param p_epoch current epoch
+         */
+        synchronized void release( final long p_epoch )
+        {
+            if ( m_epoch < p_epoch )
+                m_instances = Collections.emptyList();
+        }
+
+        /**
+         * returns the instances of an epoch
+         *
+         * @param p_epoch epoch
+         * @return instance stream
+         */
+        @Nonnull
+        synchronized Stream<CInstance> instances( final long p_epoch )
+        {
+            return m_epoch == p_epoch ? new ArrayList<>( m_instances ).stream() : Stream.empty();
+        }
+    }
+
+    /**
+     * running plan instance with lazy literal allocation
+     */
+    private static final class CInstance implements Serializable
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 6744391985117580006L;
+        /**
+         * trigger literal
+         */
+        private final ILiteral m_literal;
+        /**
+         * execution context
+         */
+        private final IContext m_context;
+        /**
+         * allocated literal
+         */
+        private volatile ILiteral m_allocated;
+
+        /**
+         * ctor
+         *
+         * @param p_literal trigger literal
+         * @param p_context execution context
+         */
+        CInstance( @Nonnull final ILiteral p_literal, @Nonnull final IContext p_context )
+        {
+            m_literal = p_literal;
+            m_context = p_context;
+        }
+
+        /**
+         * returns the literal with the values of the context
+         *
+         * @return allocated literal
+         */
+        @Nonnull
+        ILiteral literal()
+        {
+            ILiteral l_literal = m_allocated;
+            if ( Objects.isNull( l_literal ) )
+            {
+                l_literal = m_literal.allocate( m_context );
+                m_allocated = l_literal;
+            }
+            return l_literal;
+        }
+    }
+
+}
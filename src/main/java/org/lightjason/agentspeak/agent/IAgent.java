@@ -26,15 +26,20 @@ package org.lightjason.agentspeak.agent;
 import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.Multimap;
 import org.checkerframework.checker.index.qual.Positive;
+import org.lightjason.agentspeak.agent.scheduler.IScheduler;
 import org.lightjason.agentspeak.beliefbase.view.IView;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.generator.IAgentGenerator;
 import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IVariableBuilder;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.IPlan;
 import org.lightjason.agentspeak.language.execution.instantiable.plan.statistic.IPlanStatistic;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.condition.IConditionNetwork;
 import org.lightjason.agentspeak.language.execution.instantiable.plan.trigger.ITrigger;
 import org.lightjason.agentspeak.language.execution.instantiable.rule.IRule;
+import org.lightjason.agentspeak.language.execution.instantiable.rule.IRuleTable;
+import org.lightjason.agentspeak.language.execution.policy.IExecutionPolicy;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import org.lightjason.agentspeak.language.fuzzy.bundle.IFuzzyBundle;
 import org.lightjason.agentspeak.language.unifier.IUnifier;
@@ -100,6 +105,12 @@ public interface IAgent<T extends IAgent<?>> extends Serializable, Callable<T>
             return ImmutableMultimap.of();
         }
 
+        @Override
+        public boolean runningplan( @Nonnull final IPath p_path )
+        {
+            return false;
+        }
+
         @Override
         public boolean sleeping()
         {
@@ -134,6 +145,61 @@ public interface IAgent<T extends IAgent<?>> extends Serializable, Callable<T>
             return this;
         }
 
+        @Override
+        public boolean runnable()
+        {
+            return false;
+        }
+
+        @Nonnull
+        @Override
+        public IAgent<IAgent<?>> scheduler( @Nonnull final IScheduler p_scheduler )
+        {
+            return this;
+        }
+
+        @Nonnull
+        @Override
+        public IExecutionPolicy executionpolicy()
+        {
+            return IExecutionPolicy.SEQUENTIAL;
+        }
+
+        @Nonnull
+        @Override
+        public IAgent<IAgent<?>> executionpolicy( @Nonnull final IExecutionPolicy p_policy )
+        {
+            return this;
+        }
+
+        @Nonnull
+        @Override
+        public IRuleTable ruletable()
+        {
+            return IRuleTable.EMPTY;
+        }
+
+        @Nonnull
+        @Override
+        public IAgent<IAgent<?>> ruletable( @Nonnull final IRuleTable p_table )
+        {
+            return this;
+        }
+
+        @Nonnull
+        @Override
+        public IConditionNetwork conditionnetwork()
+        {
+            return IConditionNetwork.EMPTY;
+        }
+
+        @Nonnull
+        @Override
+        public IAgent<IAgent<?>> conditionnetwork( @Nonnull final IConditionNetwork p_network )
+        {
+            return this;
+        }
+
         @Nonnull
         @Override
         public Map<String, Object> storage()
@@ -162,6 +228,20 @@ public interface IAgent<T extends IAgent<?>> extends Serializable, Callable<T>
             return ImmutableMultimap.of();
         }
 
+        @Nonnull
+        @Override
+        public IAgent<IAgent<?>> addplan( @Nonnull final IPlan... p_plan )
+        {
+            return this;
+        }
+
+        @Nonnull
+        @Override
+        public IAgent<IAgent<?>> addplan( @Nonnull final Stream<IPlan> p_plan )
+        {
+            return this;
+        }
+
         @Nonnull
         @Override
         public IFuzzyBundle fuzzy()
@@ -242,6 +322,17 @@ public interface IAgent<T extends IAgent<?>> extends Serializable, Callable<T>
     @Nonnull
     Multimap<IPath, ILiteral> runningplans();
 
+    /**
+     * checks if a plan is running
+     *
+     * @param p_path functor path of the plan
+     * @return flag that the plan is running
+     */
+    default boolean runningplan( @Nonnull final IPath p_path )
+    {
+        return this.runningplans().containsKey( p_path );
+    }
+
     /**
      * returns sleeping state
      *
@@ -287,6 +378,78 @@ public interface IAgent<T extends IAgent<?>> extends Serializable, Callable<T>
     @Nonnull
     IAgent<T> wakeup( @Nonnull final Stream<ITerm> p_term );
 
+    /**
+     * returns the runnable state, the agent
+     * needs an execution cycle
+     *
+     * @return runnable flag
+     *
+     * @note an agent which sleeps infinitely does not need any cycle until it is woken up
+     */
+    boolean runnable();
+
+    /**
+     * binds a scheduler, which is notified
+     * on trigger and wake-up calls
+     *
+     * @param p_scheduler scheduler
+     * @return agent reference
+     */
+    @Nonnull
+    IAgent<T> scheduler( @Nonnull final IScheduler p_scheduler );
+
+    /**
+     * returns the execution policy, which
+     * decides about parallel executions
+     *
+     * @return execution policy
+     */
+    @Nonnull
+    IExecutionPolicy executionpolicy();
+
+    /**
+     * sets the execution policy
+     *
+     * @param p_policy execution policy
+     * @return agent reference
+     */
+    @Nonnull
+    IAgent<T> executionpolicy( @Nonnull final IExecutionPolicy p_policy );
+
+    /**
+     * returns the table of the tabled rules
+     *
+     * @return rule table
+     */
+    @Nonnull
+    IRuleTable ruletable();
+
+    /**
+     * sets the table of the tabled rules
+     *
+     * @param p_table rule table
+     * @return agent reference
+     */
+    @Nonnull
+    IAgent<T> ruletable( @Nonnull final IRuleTable p_table );
+
+    /**
+     * returns the network of the plan conditions
+     *
+     * @return condition network
+     */
+    @Nonnull
+    IConditionNetwork conditionnetwork();
+
+    /**
+     * sets the network of the plan conditions
+     *
+     * @param p_network condition network
+     * @return agent reference
+     */
+    @Nonnull
+    IAgent<T> conditionnetwork( @Nonnull final IConditionNetwork p_network );
+
 
     /**
      * storage access
@@ -316,11 +479,31 @@ public interface IAgent<T extends IAgent<?>> extends Serializable, Callable<T>
     /**
      * returns the internal map of plans
      *
-     * @return plan map
+     * @return unmodifiable plan map
      */
     @Nonnull
     Multimap<ITrigger, IPlanStatistic> plans();
 
+    /**
+     * adds plans to the agent
+     *
+     * @param p_plan plans
+     * @return agent reference
+     */
+    @Nonnull
+    IAgent<T> addplan( @Nonnull final IPlan... p_plan );
+
+    /**
+     * adds plans to the agent
+     *
+     * @param p_plan plan stream
+     * @return agent reference
+     *
+     * @note the plan index of the agent is copied, so it is not shared anymore
+     */
+    @Nonnull
+    IAgent<T> addplan( @Nonnull final Stream<IPlan> p_plan );
+
     /**
      * return fuzzy operator
      *
@@ -24,30 +24,40 @@
 package org.lightjason.agentspeak.agent;
 
 import com.codepoetics.protonpack.StreamUtils;
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.ImmutableMultimap;
-import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.Multimap;
-import com.google.common.collect.Multimaps;
-import com.google.common.collect.TreeMultimap;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.checkerframework.checker.index.qual.Positive;
+import org.lightjason.agentspeak.agent.scheduler.IScheduler;
 import org.lightjason.agentspeak.beliefbase.view.IView;
+import org.lightjason.agentspeak.common.CCopyOnWriteMultimap;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.configuration.IAgentConfiguration;
 import org.lightjason.agentspeak.error.CIllegalArgumentException;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CLiteral;
 import org.lightjason.agentspeak.language.ILiteral;
-import org.lightjason.agentspeak.language.IStructureHash;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.execution.IVariableBuilder;
+import org.lightjason.agentspeak.language.execution.instantiable.IBaseInstantiable;
+import org.lightjason.agentspeak.language.execution.instantiable.IInstantiable;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.condition.IConditionNetwork;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.index.CPlanIndex;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.index.IPlanIndex;
 import org.lightjason.agentspeak.language.execution.instantiable.plan.statistic.CPlanStatistic;
 import org.lightjason.agentspeak.language.execution.instantiable.plan.statistic.IPlanStatistic;
 import org.lightjason.agentspeak.language.execution.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.execution.instantiable.rule.CRuleTable;
 import org.lightjason.agentspeak.language.execution.instantiable.rule.IRule;
+import org.lightjason.agentspeak.language.execution.instantiable.rule.IRuleTable;
+import org.lightjason.agentspeak.language.execution.policy.CExecutionPolicy;
+import org.lightjason.agentspeak.language.execution.policy.IExecutionPolicy;
+import org.lightjason.agentspeak.language.execution.trampoline.ICallFrame;
+import org.lightjason.agentspeak.language.execution.trampoline.ITrampoline;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import org.lightjason.agentspeak.language.fuzzy.bundle.IFuzzyBundle;
 import org.lightjason.agentspeak.language.unifier.IUnifier;
@@ -57,11 +67,13 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -69,6 +81,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -98,19 +111,20 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
      */
     protected final Map<String, Object> m_storage = new ConcurrentHashMap<>();
     /**
-     * execution trigger with content hash
+     * execution trigger with content fingerprint
      */
-    protected final Map<Integer, ITrigger> m_trigger = new ConcurrentHashMap<>();
+    protected final Map<Long, ITrigger> m_trigger = new ConcurrentHashMap<>();
     /**
-     * multimap with rules
+     * multimap with rules (copy-on-write, initial rules are shared)
      */
-    protected final Multimap<IPath, IRule> m_rules = Multimaps.synchronizedMultimap( LinkedHashMultimap.create() );
+    protected final Multimap<IPath, IRule> m_rules;
     /**
-     * map with all existing plans and successful / fail runs
+     * plan index and the successful / fail runs of each plan slot
+     *
+     * @note index and statistics are replaced together on adding plans,
+     * so both are read lock-free as one snapshot
      */
-    @SuppressWarnings( "RedundantTypeArguments" )
-    protected final Multimap<ITrigger, IPlanStatistic> m_plans = Multimaps.synchronizedMultimap(
-        TreeMultimap.create( IStructureHash.COMPARATOR, Comparator.<IPlanStatistic>naturalOrder() ) );
+    private volatile Pair<IPlanIndex, IPlanStatistic[]> m_plans;
     /**
      * nano seconds at the last cycle
      */
@@ -141,7 +155,23 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
     /**
      * running plans (thread-safe)
      */
-    private final Multimap<IPath, ILiteral> m_runningplans = Multimaps.synchronizedSetMultimap( HashMultimap.create() );
+    private final CRunningPlans m_runningplans = new CRunningPlans();
+    /**
+     * scheduler, which is notified on trigger and wake-up calls
+     */
+    private transient volatile IScheduler m_scheduler = IScheduler.EMPTY;
+    /**
+     * execution policy
+     */
+    private transient volatile IExecutionPolicy m_executionpolicy;
+    /**
+     * table of the tabled rules
+     */
+    private transient volatile IRuleTable m_ruletable;
+    /**
+     * network of the plan conditions
+     */
+    private transient volatile IConditionNetwork m_conditionnetwork = IConditionNetwork.EMPTY;
 
 
 
@@ -157,12 +187,16 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
         m_beliefbase = p_configuration.beliefbase();
         m_variablebuilder = p_configuration.variablebuilder();
         m_fuzzy = p_configuration.fuzzy();
+        m_executionpolicy = p_configuration.executionpolicy();
 
         // initial plans and rules
-        p_configuration.plans().parallelStream().forEach( i -> m_plans.put( i.trigger(), CPlanStatistic.of( i ) ) );
-        p_configuration.rules().parallelStream().forEach( i -> m_rules.put( i.identifier().fqnfunctor(), i ) );
+        m_plans = new ImmutablePair<>(
+            p_configuration.planindex(),
+            p_configuration.planindex().plans().map( CPlanStatistic::of ).toArray( IPlanStatistic[]::new )
+        );
+        m_rules = new CCopyOnWriteMultimap<>( p_configuration.ruleindex() );
         if ( !ITrigger.EMPTY.equals( p_configuration.initialgoal() ) )
-            m_trigger.put( p_configuration.initialgoal().hashCode(), p_configuration.initialgoal() );
+            m_trigger.put( p_configuration.initialgoal().fingerprint(), p_configuration.initialgoal() );
     }
 
     @Nonnull
@@ -176,13 +210,12 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
     @Override
     public final IAgent<T> inspect( @Nonnull final IInspector... p_inspector )
     {
-        Arrays.stream( p_inspector )
-              .parallel()
+        this.executionpolicy().stream( Arrays.stream( p_inspector ), p_inspector.length )
               .peek( i -> i.inspectcycletime( m_cycletime.get() ) )
               .peek( i -> i.inspectsleeping( m_sleepingcycles.get() ) )
               .peek( i -> i.inspectbelief( m_beliefbase.stream() ) )
-              .peek( i -> i.inspectplans( m_plans.values().stream() ) )
-              .peek( i -> i.inspectrunningplans( m_runningplans.values().stream() ) )
+              .peek( i -> i.inspectplans( Arrays.stream( m_plans.getRight() ) ) )
+              .peek( i -> i.inspectrunningplans( m_runningplans.literals() ) )
               .peek( i -> i.inspectstorage( m_storage.entrySet().stream() ) )
               .peek( i -> i.inspectrules( m_rules.values().stream() ) )
               .forEach( i -> i.inspectpendingtrigger( m_trigger.values().stream() ) );
@@ -194,7 +227,13 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
     @Override
     public final Multimap<IPath, ILiteral> runningplans()
     {
-        return ImmutableMultimap.copyOf( m_runningplans );
+        return m_runningplans.multimap();
+    }
+
+    @Override
+    public final boolean runningplan( @Nonnull final IPath p_path )
+    {
+        return m_runningplans.contains( p_path );
     }
 
     @Override
@@ -241,6 +280,84 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
     {
         p_term.forEach( m_sleepingterm::add );
         this.active( true );
+        this.notifyscheduler();
+        return this;
+    }
+
+    @Override
+    public final boolean runnable()
+    {
+        return m_sleepingcycles.get() != Long.MAX_VALUE;
+    }
+
+    @Nonnull
+    @Override
+    public final IAgent<T> scheduler( @Nonnull final IScheduler p_scheduler )
+    {
+        m_scheduler = p_scheduler;
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public final IExecutionPolicy executionpolicy()
+    {
+        // policy is not serialized, so the default policy is used after deserialization
+        final IExecutionPolicy l_policy = m_executionpolicy;
+        return Objects.isNull( l_policy ) ? CExecutionPolicy.DEFAULT : l_policy;
+    }
+
+    @Nonnull
+    @Override
+    public final IAgent<T> executionpolicy( @Nonnull final IExecutionPolicy p_policy )
+    {
+        m_executionpolicy = p_policy;
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public final IRuleTable ruletable()
+    {
+        // table is not serialized, so it is created on the first call
+        IRuleTable l_table = m_ruletable;
+        if ( Objects.nonNull( l_table ) )
+            return l_table;
+
+        synchronized ( this )
+        {
+            l_table = m_ruletable;
+            if ( Objects.isNull( l_table ) )
+            {
+                l_table = CRuleTable.of();
+                m_ruletable = l_table;
+            }
+            return l_table;
+        }
+    }
+
+    @Nonnull
+    @Override
+    public final IAgent<T> ruletable( @Nonnull final IRuleTable p_table )
+    {
+        m_ruletable = p_table;
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public final IConditionNetwork conditionnetwork()
+    {
+        // network is not serialized, so a deserialized agent evaluates each condition
+        final IConditionNetwork l_network = m_conditionnetwork;
+        return Objects.isNull( l_network ) ? IConditionNetwork.EMPTY : l_network;
+    }
+
+    @Nonnull
+    @Override
+    public final IAgent<T> conditionnetwork( @Nonnull final IConditionNetwork p_network )
+    {
+        m_conditionnetwork = p_network;
         return this;
     }
 
@@ -269,7 +386,31 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
     @Override
     public final Multimap<ITrigger, IPlanStatistic> plans()
     {
-        return m_plans;
+        final ImmutableListMultimap.Builder<ITrigger, IPlanStatistic> l_plans = ImmutableListMultimap.builder();
+        Arrays.stream( m_plans.getRight() ).forEach( i -> l_plans.put( i.plan().trigger(), i ) );
+        return l_plans.build();
+    }
+
+    @Nonnull
+    @Override
+    public final IAgent<T> addplan( @Nonnull final IPlan... p_plan )
+    {
+        return this.addplan( Arrays.stream( p_plan ) );
+    }
+
+    @Nonnull
+    @Override
+    public final synchronized IAgent<T> addplan( @Nonnull final Stream<IPlan> p_plan )
+    {
+        final Pair<IPlanIndex, IPlanStatistic[]> l_plans = m_plans;
+        final IPlanIndex l_index = CPlanIndex.of( Stream.concat( l_plans.getLeft().plans(), p_plan ) );
+        final IPlanStatistic[] l_statistic = Arrays.copyOf( l_plans.getRight(), l_index.size() );
+
+        // slots of the existing plans are not changed, so only new slots get a statistic
+        IntStream.range( l_plans.getRight().length, l_statistic.length ).forEach( i -> l_statistic[i] = CPlanStatistic.of( l_index.plan( i ) ) );
+        m_plans = new ImmutablePair<>( l_index, l_statistic );
+
+        return this;
     }
 
     @Nonnull
@@ -310,7 +451,7 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
             StringUtils.join(
                 StreamUtils.zip(
                     Stream.of( "Trigger", "Running Plans", "Beliefbase" ),
-                    Stream.of( m_trigger.values(), m_runningplans.keySet(), m_beliefbase ),
+                    Stream.of( m_trigger.values(), m_runningplans, m_beliefbase ),
                     ( l, c ) -> MessageFormat.format( "{0}: {1}", l, c )
                 ).toArray(),
                 " / "
@@ -329,16 +470,22 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
         if ( p_trigger.literal().hasVariable() )
             throw new CIllegalArgumentException( org.lightjason.agentspeak.common.CCommon.languagestring( IBaseAgent.class, "literalvariable", p_trigger ) );
 
-        // run plan immediatly and return
+        // run plan immediatly and return, the plans without parallel annotation are executed sequentially if a trampoline is used
         if ( Objects.nonNull( p_immediately ) && p_immediately.length > 0 && p_immediately[0] )
-            return this.executing( this.generateexecution( Stream.of( p_trigger ) ) );
+        {
+            final ITrampoline l_trampoline = this.executionpolicy().trampoline();
+            return ITrampoline.EMPTY.equals( l_trampoline )
+                   ? this.executing( this.generateexecution( Collections.singletonList( p_trigger ) ) )
+                   : l_trampoline.execute( () -> new CGoalFrame( this.generateexecution( Collections.singletonList( p_trigger ) ) ) );
+        }
 
         // add trigger for the next cycle must be synchronized to avoid indeterministic state during execution
         synchronized ( this )
         {
-            m_trigger.putIfAbsent( p_trigger.hashCode(), p_trigger );
+            m_trigger.putIfAbsent( p_trigger.fingerprint(), p_trigger );
         }
 
+        this.notifyscheduler();
         return m_fuzzy.membership().success();
     }
 
@@ -357,11 +504,9 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
         // update fuzzification
         m_fuzzy.update( this );
 
-        // clear running plan- and trigger list and execute elements
-        this.executing( this.generateexecutionlist() )
-            .forEach( i ->
-            {
-            } );
+        // clear running plan- and trigger list and execute elements,
+        // only parallel streams run within the executor of the policy
+        this.executing( this.generateexecutionlist() );
 
         m_cycletime.getAndUpdate( i -> System.nanoTime() - i );
         return (T) this;
@@ -377,12 +522,10 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
     @Nonnull
     private synchronized Collection<Pair<IPlanStatistic, IContext>> generateexecutionlist()
     {
-        m_runningplans.clear();
+        m_runningplans.reset();
+
         final Collection<Pair<IPlanStatistic, IContext>> l_execution = this.generateexecution(
-            Stream.concat(
-                m_trigger.values().parallelStream(),
-                m_beliefbase.trigger().parallel()
-            )
+            Stream.concat( m_trigger.values().stream(), m_beliefbase.trigger() ).collect( Collectors.toList() )
         );
         m_trigger.clear();
 
@@ -393,13 +536,13 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
     /**
      * create execution list with plan and context
      *
-     * @param p_trigger trigger stream
+     * @param p_trigger trigger collection
      * @return collection with excutable plans, instantiated execution context and plan statistic
      */
     @Nonnull
-    private Collection<Pair<IPlanStatistic, IContext>> generateexecution( @Nonnull final Stream<ITrigger> p_trigger )
+    private Collection<Pair<IPlanStatistic, IContext>> generateexecution( @Nonnull final Collection<ITrigger> p_trigger )
     {
-        return p_trigger.flatMap( this::planfinder ).collect( Collectors.toList() );
+        return this.executionpolicy().flatmap( p_trigger, this::planfinder );
     }
 
     /**
@@ -412,8 +555,10 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
      */
     private Stream<Pair<IPlanStatistic, IContext>> planfinder( @Nonnull final ITrigger p_trigger )
     {
-        if ( m_plans.containsKey( p_trigger ) )
-            return m_plans.get( p_trigger ).stream().flatMap( i -> this.planinstantiation( p_trigger, i ) );
+        final Pair<IPlanIndex, IPlanStatistic[]> l_plans = m_plans;
+        final int[] l_slots = l_plans.getLeft().slots( p_trigger );
+        if ( l_slots.length > 0 )
+            return Arrays.stream( l_slots ).mapToObj( i -> l_plans.getRight()[i] ).flatMap( i -> this.planinstantiation( p_trigger, i ) );
 
         return p_trigger.hasShallowcopywithoutsuffix()
                ? this.planfinder( p_trigger.shallowcopywithoutsuffix() )
@@ -431,15 +576,26 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
      */
     private Stream<Pair<IPlanStatistic, IContext>> planinstantiation( @Nonnull final ITrigger p_trigger, @Nonnull final IPlanStatistic p_planstatistic )
     {
-        final Pair<Boolean, Set<IVariable<?>>> l_result = CCommon.unifytrigger( m_unifier, p_trigger, p_planstatistic.plan().trigger() );
+        final Pair<Boolean, Set<IVariable<?>>> l_result = m_unifier.unifytrigger( p_trigger, p_planstatistic.plan() );
         if ( !l_result.getLeft() )
             return Stream.empty();
 
-        final Pair<IPlanStatistic, IContext> l_instantiate = CCommon.instantiateplan( p_planstatistic, this, l_result.getRight() );
-        if ( l_instantiate.getLeft().plan().condition( l_instantiate.getRight() ) )
-            return Stream.of( l_instantiate );
+        // the condition is checked within a frame of the condition variables, so the plan context is created for successful conditions only
+        final List<IVariable<?>> l_builder = m_variablebuilder.apply( this, p_planstatistic.plan() ).collect( Collectors.toList() );
+        final IContext l_condition = CCommon.instantiatecondition( p_planstatistic, this, l_result.getRight(), l_builder );
+        if ( this.conditionnetwork().condition( p_planstatistic, p_trigger, l_condition ) )
+            return Stream.of( CCommon.instantiateplan( p_planstatistic, this, l_condition, l_result.getRight(), l_builder ) );
 
-        return this.planfinder( p_trigger.shallowcopywithoutsuffix() );
+        // use the precomputed suffix fallback of the index to skip not existing trigger
+        final int l_fallback = m_plans.getLeft().fallback( p_trigger );
+        if ( l_fallback == 0 )
+            return Stream.empty();
+
+        ITrigger l_trigger = p_trigger;
+        for ( int i = 0; i < l_fallback; i++ )
+            l_trigger = l_trigger.shallowcopywithoutsuffix();
+
+        return this.planfinder( l_trigger );
     }
 
     /**
@@ -450,15 +606,27 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
      */
     @Nonnull
     private Stream<IFuzzyValue<?>> executing( @Nonnull final Collection<Pair<IPlanStatistic, IContext>> p_execution )
+    {
+        // execute plan parallel and return values and return execution result
+        return this.executionpolicy().flatmap( this.running( p_execution ), this::executeplan ).stream();
+    }
+
+    /**
+     * updates the running plans with a list of plans
+     *
+     * @param p_execution execution collection with instantiated plans and context
+     * @return execution collection
+     */
+    @Nonnull
+    private Collection<Pair<IPlanStatistic, IContext>> running( @Nonnull final Collection<Pair<IPlanStatistic, IContext>> p_execution )
     {
         // update executable plan list, so that test-goals are defined all the time
-        p_execution.parallelStream().forEach( i -> m_runningplans.put(
+        p_execution.forEach( i -> m_runningplans.put(
             i.getLeft().plan().trigger().literal().fqnfunctor(),
-            i.getLeft().plan().trigger().literal().allocate( i.getRight() )
+            i.getLeft().plan().trigger().literal(),
+            i.getRight()
         ) );
-
-        // execute plan parallel and return values and return execution result
-        return p_execution.parallelStream().flatMap( this::executeplan );
+        return p_execution;
     }
 
     /**
@@ -470,10 +638,20 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
     @Nonnull
     private Stream<IFuzzyValue<?>> executeplan( @Nonnull final Pair<IPlanStatistic, IContext> p_plan )
     {
-        // execute plan
-        final Number l_result = p_plan.getRight().agent().fuzzy().defuzzification().apply(
-            p_plan.getLeft().plan().execute( false, p_plan.getRight(), Collections.emptyList(), Collections.emptyList() )
-        );
+        return this.finishplan( p_plan, p_plan.getLeft().plan().execute( false, p_plan.getRight(), Collections.emptyList(), Collections.emptyList() ) );
+    }
+
+    /**
+     * updates the plan statistic with the plan result
+     *
+     * @param p_plan pair of plan-statistic and context
+     * @param p_result fuzzy results of the plan body
+     * @return fuzzy result
+     */
+    @Nonnull
+    private Stream<IFuzzyValue<?>> finishplan( @Nonnull final Pair<IPlanStatistic, IContext> p_plan, @Nonnull final Stream<IFuzzyValue<?>> p_result )
+    {
+        final Number l_result = p_plan.getRight().agent().fuzzy().defuzzification().apply( p_result );
 
         // check strict execution result
         if ( p_plan.getRight().agent().fuzzy().defuzzification().success( l_result ) )
@@ -491,6 +669,18 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
         }
     }
 
+    /**
+     * notifies the scheduler that the agent can be runnable
+     *
+     * @note scheduler reference is not serialized
+     */
+    private void notifyscheduler()
+    {
+        final IScheduler l_scheduler = m_scheduler;
+        if ( Objects.nonNull( l_scheduler ) )
+            l_scheduler.ready( this );
+    }
+
     /**
      * runs the wakeup goal
      *
@@ -518,10 +708,78 @@ public abstract class IBaseAgent<T extends IAgent<?>> implements IAgent<T>
             m_sleepingterm.isEmpty()
             ? Stream.of( ITrigger.EType.ADDGOAL.builddefault( CLiteral.of( "wakeup" ) ) )
             : m_sleepingterm.stream().map( i -> ITrigger.EType.ADDGOAL.builddefault( CLiteral.of( "wakeup", i ) ) )
-        ).forEach( i -> m_trigger.put( i.structurehash(), i ) );
+        ).forEach( i -> m_trigger.put( i.fingerprint(), i ) );
 
         m_sleepingterm.clear();
         m_sleepingcycles.set( Long.MIN_VALUE );
     }
 
+
+    /**
+     * call frame of an immediate goal, which executes all instantiated plans
+     *
+     * @note plans with parallel annotation are forked with the parallelism of the execution
+     * policy on creating the frame, all other plans are executed sequentially by the trampoline
+     */
+    private final class CGoalFrame implements ICallFrame
+    {
+        /**
+         * instantiated plans
+         */
+        private final Iterator<Pair<IPlanStatistic, IContext>> m_plans;
+        /**
+         * fuzzy results of the plans
+         */
+        private final List<IFuzzyValue<?>> m_result = new ArrayList<>();
+        /**
+         * current plan
+         */
+        private Pair<IPlanStatistic, IContext> m_current;
+
+        /**
+         * ctor
+         *
+         * @param p_execution execution collection with instantiated plans and context
+         */
+        CGoalFrame( @Nonnull final Collection<Pair<IPlanStatistic, IContext>> p_execution )
+        {
+            final Map<Boolean, List<Pair<IPlanStatistic, IContext>>> l_execution = IBaseAgent.this.running( p_execution ).stream().collect(
+                Collectors.partitioningBy( i -> i.getLeft().plan() instanceof IBaseInstantiable && ( (IBaseInstantiable) i.getLeft().plan() ).parallel() )
+            );
+
+            IBaseAgent.this.executionpolicy().flatmap( l_execution.get( true ), IBaseAgent.this::executeplan ).forEach( m_result::add );
+            m_plans = l_execution.get( false ).iterator();
+        }
+
+        @Nullable
+        @Override
+        public Pair<IInstantiable, IContext> next()
+        {
+            if ( !m_plans.hasNext() )
+                return null;
+
+            m_current = m_plans.next();
+            return new ImmutablePair<>( m_current.getLeft().plan(), m_current.getRight() );
+        }
+
+        @Override
+        public void finish( @Nonnull final Stream<IFuzzyValue<?>> p_result )
+        {
+            IBaseAgent.this.finishplan( m_current, p_result ).forEach( m_result::add );
+        }
+
+        @Override
+        public boolean last()
+        {
+            return !m_plans.hasNext();
+        }
+
+        @Nonnull
+        @Override
+        public Stream<IFuzzyValue<?>> result()
+        {
+            return m_result.stream();
+        }
+    }
+
 }
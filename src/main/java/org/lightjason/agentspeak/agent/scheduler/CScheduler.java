@@ -0,0 +1,220 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.agent.scheduler;
+
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.common.CCommon;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+
+/**
+ * work-stealing scheduler, which executes the agents of the population,
+ * if parking is enabled, agents which are sleeping infinitely are parked
+ * and re-queued on trigger or wake-up calls, so the cost of a cycle
+ * depends on the number of active agents only
+ *
+ * @note parking is disabled by default, because a parked agent does not
+ * update its beliefbase and does not run its perception until it is woken up
+ */
+public final class CScheduler implements IScheduler
+{
+    /**
+     * logger
+     */
+    private static final Logger LOGGER = CCommon.logger( CScheduler.class );
+    /**
+     * population
+     */
+    private final Set<IAgent<?>> m_population = ConcurrentHashMap.newKeySet();
+    /**
+     * runnable agents
+     */
+    private final Set<IAgent<?>> m_ready = ConcurrentHashMap.newKeySet();
+    /**
+     * executor pool
+     */
+    private final ForkJoinPool m_pool;
+    /**
+     * parking of sleeping agents
+     */
+    private final boolean m_parking;
+    /**
+     * cycle counter
+     */
+    private final AtomicLong m_tick = new AtomicLong();
+    /**
+     * statistic of the last cycle
+     */
+    private final AtomicReference<ITickStatistic> m_statistic = new AtomicReference<>( ITickStatistic.EMPTY );
+
+    /**
+     * ctor
+     */
+    public CScheduler()
+    {
+        this( ForkJoinPool.commonPool() );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_pool executor pool
+     */
+    public CScheduler( @Nonnull final ForkJoinPool p_pool )
+    {
+        this( p_pool, false );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_pool executor pool
+     * @param p_parking parking of agents, which are sleeping infinitely
+     */
+    public CScheduler( @Nonnull final ForkJoinPool p_pool, final boolean p_parking )
+    {
+        m_pool = p_pool;
+        m_parking = p_parking;
+    }
+
+    @Nonnull
+    @Override
+    public IScheduler add( @Nonnull final Stream<IAgent<?>> p_agent )
+    {
+        p_agent.filter( m_population::add )
+               .forEach( i ->
+               {
+                   i.scheduler( this );
+                   this.ready( i );
+               } );
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public IScheduler remove( @Nonnull final Stream<IAgent<?>> p_agent )
+    {
+        p_agent.filter( m_population::remove )
+               .forEach( i ->
+               {
+                   m_ready.remove( i );
+                   i.scheduler( IScheduler.EMPTY );
+               } );
+        return this;
+    }
+
+    @Override
+    public void ready( @Nonnull final IAgent<?> p_agent )
+    {
+        if ( ( !m_parking || p_agent.runnable() ) && m_population.contains( p_agent ) )
+            m_ready.add( p_agent );
+    }
+
+    @Nonnull
+    @Override
+    public ITickStatistic tick()
+    {
+        final long l_start = System.nanoTime();
+        final LongAdder l_failed = new LongAdder();
+        final IAgent<?>[] l_agents = m_ready.toArray( IAgent<?>[]::new );
+
+        m_pool.submit( () -> Arrays.stream( l_agents ).parallel().forEach( i -> this.execute( i, l_failed ) ) ).join();
+
+        final ITickStatistic l_statistic = CTickStatistic.of(
+            m_tick.incrementAndGet(), m_population.size(), l_agents.length, l_failed.sum(), System.nanoTime() - l_start
+        );
+        m_statistic.set( l_statistic );
+        return l_statistic;
+    }
+
+    @Override
+    public boolean parking()
+    {
+        return m_parking;
+    }
+
+    @Nonnull
+    @Override
+    public ITickStatistic statistic()
+    {
+        return m_statistic.get();
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IAgent<?>> population()
+    {
+        return m_population.stream();
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IAgent<?>> active()
+    {
+        return m_ready.stream();
+    }
+
+    @Override
+    public String toString()
+    {
+        return m_statistic.get().toString();
+    }
+
+    /**
+     * executes a single agent cycle and parks the agent
+     * if parking is enabled and it is not runnable anymore
+     *
+     * @param p_agent agent
+     * @param p_failed fail counter
+     */
+    private void execute( @Nonnull final IAgent<?> p_agent, @Nonnull final LongAdder p_failed )
+    {
+        try
+        {
+            p_agent.call();
+        }
+        catch ( final Exception l_exception )
+        {
+            p_failed.increment();
+            LOGGER.warning( CCommon.languagestring( this, "executionerror", p_agent, l_exception.getMessage() ) );
+        }
+
+        if ( !m_parking || p_agent.runnable() )
+            return;
+
+        // re-check after removing, because a wake-up call can be run concurrently
+        m_ready.remove( p_agent );
+        this.ready( p_agent );
+    }
+}
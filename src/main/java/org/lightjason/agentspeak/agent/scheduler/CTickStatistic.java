@@ -0,0 +1,143 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.agent.scheduler;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.text.MessageFormat;
+
+
+/**
+ * immutable statistic of a scheduler cycle
+ */
+public final class CTickStatistic implements ITickStatistic
+{
+    /**
+     * cycle number
+     */
+    private final long m_tick;
+    /**
+     * population size
+     */
+    private final long m_population;
+    /**
+     * number of executed agents
+     */
+    private final long m_executed;
+    /**
+     * number of failed agents
+     */
+    private final long m_failed;
+    /**
+     * cycle time in nano seconds
+     */
+    private final long m_time;
+
+    /**
+     * ctor
+     *
+     * @param p_tick cycle number
+     * @param p_population population size
+     * @param p_executed number of executed agents
+     * @param p_failed number of failed agents
+     * @param p_time cycle time in nano seconds
+     */
+    private CTickStatistic( @Nonnegative final long p_tick, @Nonnegative final long p_population, @Nonnegative final long p_executed,
+                            @Nonnegative final long p_failed, @Nonnegative final long p_time )
+    {
+        m_tick = p_tick;
+        m_population = p_population;
+        m_executed = p_executed;
+        m_failed = p_failed;
+        m_time = p_time;
+    }
+
+    @Override
+    public long tick()
+    {
+        return m_tick;
+    }
+
+    @Override
+    public long population()
+    {
+        return m_population;
+    }
+
+    @Override
+    public long executed()
+    {
+        return m_executed;
+    }
+
+    @Override
+    public long idle()
+    {
+        return Math.max( 0, m_population - m_executed );
+    }
+
+    @Override
+    public long failed()
+    {
+        return m_failed;
+    }
+
+    @Override
+    public long time()
+    {
+        return m_time;
+    }
+
+    @Override
+    public double throughput()
+    {
+        return m_time == 0 ? 0 : m_executed * 1e9 / m_time;
+    }
+
+    @Override
+    public String toString()
+    {
+        return MessageFormat.format(
+            "tick {0}: executed {1} / idle {2} / failed {3} in {4} ns",
+            m_tick, m_executed, this.idle(), m_failed, m_time
+        );
+    }
+
+    /**
+     * factory
+     *
+     * @param p_tick cycle number
+     * @param p_population population size
+     * @param p_executed number of executed agents
+     * @param p_failed number of failed agents
+     * @param p_time cycle time in nano seconds
+     * @return statistic
+     */
+    @Nonnull
+    public static ITickStatistic of( @Nonnegative final long p_tick, @Nonnegative final long p_population, @Nonnegative final long p_executed,
+                                     @Nonnegative final long p_failed, @Nonnegative final long p_time )
+    {
+        return new CTickStatistic( p_tick, p_population, p_executed, p_failed, p_time );
+    }
+}
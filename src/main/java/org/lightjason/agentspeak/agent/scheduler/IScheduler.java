@@ -0,0 +1,192 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.agent.scheduler;
+
+import org.lightjason.agentspeak.agent.IAgent;
+
+import javax.annotation.Nonnull;
+import java.util.stream.Stream;
+
+
+/**
+ * scheduler interface to execute
+ * a population of agents cycle-by-cycle
+ */
+public interface IScheduler
+{
+    /**
+     * empty scheduler
+     */
+    IScheduler EMPTY = new IScheduler()
+    {
+        @Nonnull
+        @Override
+        public IScheduler add( @Nonnull final Stream<IAgent<?>> p_agent )
+        {
+            return this;
+        }
+
+        @Nonnull
+        @Override
+        public IScheduler remove( @Nonnull final Stream<IAgent<?>> p_agent )
+        {
+            return this;
+        }
+
+        @Override
+        public void ready( @Nonnull final IAgent<?> p_agent )
+        {
+        }
+
+        @Nonnull
+        @Override
+        public ITickStatistic tick()
+        {
+            return ITickStatistic.EMPTY;
+        }
+
+        @Override
+        public boolean parking()
+        {
+            return false;
+        }
+
+        @Nonnull
+        @Override
+        public ITickStatistic statistic()
+        {
+            return ITickStatistic.EMPTY;
+        }
+
+        @Nonnull
+        @Override
+        public Stream<IAgent<?>> population()
+        {
+            return Stream.empty();
+        }
+
+        @Nonnull
+        @Override
+        public Stream<IAgent<?>> active()
+        {
+            return Stream.empty();
+        }
+    };
+
+
+    /**
+     * adds agents to the population
+     *
+     * @param p_agent agents
+     * @return self reference
+     */
+    @Nonnull
+    default IScheduler add( @Nonnull final IAgent<?>... p_agent )
+    {
+        return this.add( Stream.of( p_agent ) );
+    }
+
+    /**
+     * adds agents to the population
+     *
+     * @param p_agent agent stream
+     * @return self reference
+     */
+    @Nonnull
+    IScheduler add( @Nonnull final Stream<IAgent<?>> p_agent );
+
+    /**
+     * removes agents from the population
+     *
+     * @param p_agent agents
+     * @return self reference
+     */
+    @Nonnull
+    default IScheduler remove( @Nonnull final IAgent<?>... p_agent )
+    {
+        return this.remove( Stream.of( p_agent ) );
+    }
+
+    /**
+     * removes agents from the population
+     *
+     * @param p_agent agent stream
+     * @return self reference
+     */
+    @Nonnull
+    IScheduler remove( @Nonnull final Stream<IAgent<?>> p_agent );
+
+    /**
+     * notifies the scheduler that an agent
+     * can need an execution cycle
+     *
+     * @param p_agent agent
+     *
+     * @note is called by the agent on trigger and wake-up calls
+     */
+    void ready( @Nonnull final IAgent<?> p_agent );
+
+    /**
+     * executes a single cycle of all active agents
+     *
+     * @return statistic of the cycle
+     */
+    @Nonnull
+    ITickStatistic tick();
+
+    /**
+     * returns the parking state of the scheduler
+     *
+     * @return parking flag
+     *
+     * @note if parking is enabled, agents which are sleeping infinitely are not executed,
+     * so their beliefbase is not updated and their perception is not run until they are woken up
+     */
+    boolean parking();
+
+    /**
+     * returns the statistic of the last cycle
+     *
+     * @return statistic
+     */
+    @Nonnull
+    ITickStatistic statistic();
+
+    /**
+     * returns all agents of the population
+     *
+     * @return agent stream
+     */
+    @Nonnull
+    Stream<IAgent<?>> population();
+
+    /**
+     * returns all agents, which will be executed on the next cycle
+     *
+     * @return agent stream
+     */
+    @Nonnull
+    Stream<IAgent<?>> active();
+
+}
@@ -0,0 +1,139 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.agent.scheduler;
+
+import javax.annotation.Nonnegative;
+
+
+/**
+ * statistic of a single scheduler cycle
+ */
+public interface ITickStatistic
+{
+    /**
+     * empty statistic
+     */
+    ITickStatistic EMPTY = new ITickStatistic()
+    {
+        @Override
+        public long tick()
+        {
+            return 0;
+        }
+
+        @Override
+        public long population()
+        {
+            return 0;
+        }
+
+        @Override
+        public long executed()
+        {
+            return 0;
+        }
+
+        @Override
+        public long idle()
+        {
+            return 0;
+        }
+
+        @Override
+        public long failed()
+        {
+            return 0;
+        }
+
+        @Override
+        public long time()
+        {
+            return 0;
+        }
+
+        @Override
+        public double throughput()
+        {
+            return 0;
+        }
+    };
+
+    /**
+     * number of the cycle
+     *
+     * @return cycle number
+     */
+    @Nonnegative
+    long tick();
+
+    /**
+     * size of the population
+     *
+     * @return number of agents
+     */
+    @Nonnegative
+    long population();
+
+    /**
+     * number of executed agents
+     *
+     * @return number of agents
+     */
+    @Nonnegative
+    long executed();
+
+    /**
+     * number of skipped agents
+     *
+     * @return number of agents
+     */
+    @Nonnegative
+    long idle();
+
+    /**
+     * number of agents which execution
+     * throws an exception
+     *
+     * @return number of agents
+     */
+    @Nonnegative
+    long failed();
+
+    /**
+     * duration of the cycle
+     *
+     * @return nano seconds
+     */
+    @Nonnegative
+    long time();
+
+    /**
+     * throughput of the cycle
+     *
+     * @return executed agents per second
+     */
+    @Nonnegative
+    double throughput();
+
+}
@@ -29,6 +29,7 @@ import org.lightjason.agentspeak.beliefbase.view.IView;
 import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.language.execution.instantiable.plan.trigger.ITrigger;
 
+import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Collection;
@@ -55,6 +56,18 @@ public final class CBeliefbase extends IBaseBeliefbase
         m_storage = p_storage;
     }
 
+    /**
+     * ctor
+     *
+     * @param p_storage storage
+     * @param p_capacity number of events within the event ring
+     */
+    public CBeliefbase( @Nonnull final IStorage<ILiteral, IView> p_storage, @Nonnegative final int p_capacity )
+    {
+        super( p_capacity );
+        m_storage = p_storage;
+    }
+
     @Override
     public int hashCode()
     {
@@ -134,6 +147,13 @@ public final class CBeliefbase extends IBaseBeliefbase
         return m_storage.multi( p_key );
     }
 
+    @Nonnull
+    @Override
+    public Stream<ILiteral> literal( @Nonnull final String p_key, @Nonnull final ILiteral p_query )
+    {
+        return m_storage.query( p_key, p_query );
+    }
+
     @Nonnull
     @Override
     public IAgent<?> update( @Nonnull final IAgent<?> p_agent )
@@ -181,6 +201,19 @@ public final class CBeliefbase extends IBaseBeliefbase
         );
     }
 
+    @Override
+    public long sequence()
+    {
+        // the numbers of the views are increased only, so the sum is changed on each change
+        return super.sequence() + m_storage.streamsingle().mapToLong( i -> i.beliefbase().sequence() ).sum();
+    }
+
+    @Override
+    public long sequence( @Nonnull final String p_functor )
+    {
+        return super.sequence( p_functor ) + m_storage.streamsingle().mapToLong( i -> i.beliefbase().sequence( p_functor ) ).sum();
+    }
+
     @Nonnull
     @Override
     public Stream<ILiteral> streamliteral()
@@ -23,23 +23,26 @@
 
 package org.lightjason.agentspeak.beliefbase;
 
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.Multimap;
-import com.google.common.collect.Multimaps;
 import org.lightjason.agentspeak.agent.IAgent;
 import org.lightjason.agentspeak.beliefbase.view.CView;
 import org.lightjason.agentspeak.beliefbase.view.IView;
+import org.lightjason.agentspeak.common.CCommon;
 import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.language.execution.instantiable.plan.trigger.ITrigger;
 
+import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.lang.ref.PhantomReference;
 import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.logging.Logger;
 import java.util.stream.Stream;
 
 
@@ -47,25 +50,70 @@ import java.util.stream.Stream;
  * default behaviour of a beliefbase
  *
  * @tparam T agent type
+ * @note events are stored once within a fixed-capacity ring, which is indexed by the sequence number
+ * of the event, each view holds only a read cursor into the ring, so pushing an event is independent
+ * of the number of views and the memory is bounded, if a view is not read before the ring wraps around,
+ * the oldest events are dropped for this view and the view is marked as lagging, the sequence number
+ * of the last event marks the belief state and is stored for the functor of the event, so results which
+ * are cached with the number are out-dated on the write, without any notification of the agents
  * @see <a href="http://docs.oracle.com/javase/8/docs/api/java/lang/ref/PhantomReference.html"></a>
  * @see <a href="http://docs.oracle.com/javase/8/docs/api/java/lang/ref/WeakReference.html"></a>
  * @see <a href="https://community.oracle.com/blogs/enicholas/2006/05/04/understanding-weak-references"></a>
  */
 public abstract class IBaseBeliefbase implements IBeliefbase
 {
-
     /**
-     * map with events for a mask
+     * default number of events within the ring
+     */
+    public static final int DEFAULTCAPACITY = 4096;
+    /**
+     * logger
+     */
+    private static final Logger LOGGER = CCommon.logger( IBaseBeliefbase.class );
+    /**
+     * event ring, the slot of an event is its sequence number masked by the capacity
+     */
+    private final AtomicReferenceArray<CEvent> m_events;
+    /**
+     * slot mask of the ring
+     */
+    private final int m_mask;
+    /**
+     * sequence number of the last event
      */
-    private final Multimap<IView, ITrigger> m_events = Multimaps.synchronizedSetMultimap( HashMultimap.create() );
+    private final AtomicLong m_sequence = new AtomicLong();
     /**
-     * set with all current views
+     * read cursor of each view
      */
-    private final Set<IView> m_views = Collections.synchronizedSet( new HashSet<>() );
+    private final Map<IView, CCursor> m_cursor = new ConcurrentHashMap<>();
     /**
      * weak reference queue of all masks to avoid memory-leaks of belief events
      */
     private final ReferenceQueue<IView> m_maskreference = new ReferenceQueue<>();
+    /**
+     * sequence number of the last event of each functor
+     */
+    private final Map<String, AtomicLong> m_functors = new ConcurrentHashMap<>();
+
+    /**
+     * ctor
+     */
+    protected IBaseBeliefbase()
+    {
+        this( DEFAULTCAPACITY );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_capacity number of events within the ring, which is rounded up to a power of two
+     */
+    protected IBaseBeliefbase( @Nonnegative final int p_capacity )
+    {
+        final int l_capacity = Integer.highestOneBit( Math.max( 1, p_capacity - 1 ) ) << 1;
+        m_events = new AtomicReferenceArray<>( l_capacity );
+        m_mask = l_capacity - 1;
+    }
 
 
     @Nonnull
@@ -106,8 +154,7 @@ public abstract class IBaseBeliefbase implements IBeliefbase
             final IView l_view = l_reference.get();
             if ( Objects.nonNull( l_view ) )
             {
-                m_views.remove( l_view );
-                m_events.asMap().remove( l_view );
+                m_cursor.remove( l_view );
             }
         }
 
@@ -121,17 +168,56 @@ public abstract class IBaseBeliefbase implements IBeliefbase
         return this.cleartrigger( p_view );
     }
 
+    @Override
+    public long sequence()
+    {
+        return m_sequence.get();
+    }
+
+    @Override
+    public long sequence( @Nonnull final String p_functor )
+    {
+        final AtomicLong l_sequence = m_functors.get( p_functor );
+        return Objects.isNull( l_sequence ) ? 0 : l_sequence.get();
+    }
+
+    /**
+     * returns the number of events, which are dropped
+     * for a view, because the view is read too slowly
+     *
+     * @param p_view view
+     * @return number of dropped events
+     */
+    @Nonnegative
+    public final long dropped( @Nonnull final IView p_view )
+    {
+        final CCursor l_cursor = m_cursor.get( p_view );
+        if ( Objects.isNull( l_cursor ) )
+            return 0;
+
+        synchronized ( l_cursor )
+        {
+            return l_cursor.m_dropped;
+        }
+    }
+
 
     /**
-     * push an event and literal to the event map
+     * appends an event and literal to the event ring
      *
      * @param p_event event
      * @param p_literal literal
      */
     protected ILiteral event( final ITrigger.EType p_event, final ILiteral p_literal )
     {
-        final ITrigger l_trigger = p_event.builddefault( p_literal );
-        m_views.parallelStream().forEach( i -> m_events.put( i, l_trigger ) );
+        final long l_sequence = m_sequence.incrementAndGet();
+        m_events.set( (int) ( l_sequence & m_mask ), new CEvent( l_sequence, p_event.builddefault( p_literal ) ) );
+
+        // the functor number is read without lock and is set to the maximum, because the events can be appended concurrently
+        AtomicLong l_functor = m_functors.get( p_literal.functor() );
+        if ( Objects.isNull( l_functor ) )
+            l_functor = m_functors.computeIfAbsent( p_literal.functor(), i -> new AtomicLong() );
+        l_functor.accumulateAndGet( l_sequence, Math::max );
         return p_literal;
     }
 
@@ -143,8 +229,7 @@ public abstract class IBaseBeliefbase implements IBeliefbase
      */
     protected final IView internalremove( final IView p_view )
     {
-        m_views.remove( p_view );
-        m_events.removeAll( p_view );
+        m_cursor.remove( p_view );
         return p_view;
     }
 
@@ -157,19 +242,113 @@ public abstract class IBaseBeliefbase implements IBeliefbase
     protected IView eventreference( final IView p_view )
     {
         new PhantomReference<>( p_view, m_maskreference );
-        m_views.add( p_view );
+        m_cursor.putIfAbsent( p_view, new CCursor( m_sequence.get() ) );
         return p_view;
     }
 
     /**
-     * copy of all trigger values
+     * reads all trigger values since the last read and moves the view cursor
      *
      * @param p_view trigger of this view
-     * @return set with trigger values
+     * @return distinct trigger values
      */
     protected final Stream<ITrigger> cleartrigger( final IView p_view )
     {
-        return m_events.removeAll( p_view ).stream();
+        final CCursor l_cursor = m_cursor.get( p_view );
+        if ( Objects.isNull( l_cursor ) )
+            return Stream.empty();
+
+        synchronized ( l_cursor )
+        {
+            final long l_head = m_sequence.get();
+            final long l_oldest = l_head - m_events.length() + 1;
+            long l_next = l_cursor.m_sequence + 1;
+
+            // events, which are overwritten before the view is read, are dropped
+            long l_dropped = Math.max( 0, l_oldest - l_next );
+            l_next += l_dropped;
+
+            final List<ITrigger> l_trigger = new ArrayList<>( (int) Math.max( 0, l_head - l_next + 1 ) );
+            for ( ; l_next <= l_head; l_next++ )
+            {
+                final CEvent l_event = m_events.get( (int) ( l_next & m_mask ) );
+
+                // the event is not stored yet, so it is read on the next call
+                if ( Objects.isNull( l_event ) || l_event.m_sequence < l_next )
+                    break;
+
+                // the event is overwritten during the read
+                if ( l_event.m_sequence > l_next )
+                {
+                    l_dropped++;
+                    continue;
+                }
+
+                l_trigger.add( l_event.m_trigger );
+            }
+
+            l_cursor.m_sequence = l_next - 1;
+            if ( l_dropped > 0 )
+            {
+                l_cursor.m_dropped += l_dropped;
+                LOGGER.warning( CCommon.languagestring( IBaseBeliefbase.class, "eventoverflow", p_view, l_dropped ) );
+            }
+
+            return l_trigger.stream().distinct();
+        }
+    }
+
+
+    /**
+     * event of the ring
+     */
+    private static final class CEvent
+    {
+        /**
+         * sequence number
+         */
+        private final long m_sequence;
+        /**
+         * trigger
+         */
+        private final ITrigger m_trigger;
+
+        /**
+         * ctor
+         *
+         * @param p_sequence sequence number
+         * @param p_trigger trigger
+         */
+        CEvent( final long p_sequence, final ITrigger p_trigger )
+        {
+            m_sequence = p_sequence;
+            m_trigger = p_trigger;
+        }
+    }
+
+    /**
+     * read cursor of a view
+     */
+    private static final class CCursor
+    {
+        /**
+         * sequence number of the last read event
+         */
+        private long m_sequence;
+        /**
+         * number of dropped events
+         */
+        private long m_dropped;
+
+        /**
+         * ctor
+         *
+         * @param p_sequence sequence number of the last read event
+         */
+        CCursor( final long p_sequence )
+        {
+            m_sequence = p_sequence;
+        }
     }
 
 }
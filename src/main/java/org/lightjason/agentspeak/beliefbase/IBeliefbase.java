@@ -75,6 +75,18 @@ public interface IBeliefbase extends IStructure
             return Stream.empty();
         }
 
+        @Override
+        public long sequence()
+        {
+            return 0;
+        }
+
+        @Override
+        public long sequence( @Nonnull final String p_functor )
+        {
+            return 0;
+        }
+
         @Nonnull
         @Override
         public Stream<ILiteral> streamliteral()
@@ -183,6 +195,27 @@ public interface IBeliefbase extends IStructure
     @Nonnull
     Stream<ITrigger> trigger( @Nonnull final IView p_view );
 
+    /**
+     * returns the sequence number of the beliefbase and its views,
+     * which is changed on each belief change
+     *
+     * @return sequence number
+     *
+     * @note the number is read without any lock, so cached results can be stamped with the number
+     * and are out-dated, if the number has moved on
+     */
+    long sequence();
+
+    /**
+     * returns the sequence number of the beliefs with a functor
+     * within the beliefbase and its views, which is changed on each
+     * change of a belief with the functor
+     *
+     * @param p_functor functor
+     * @return sequence number
+     */
+    long sequence( @Nonnull final String p_functor );
+
 
 
     /**
@@ -289,6 +322,19 @@ public interface IBeliefbase extends IStructure
     @Nonnull
     Collection<ILiteral> literal( @Nonnull final String p_key );
 
+    /**
+     * returns the literals by the name, which can be unified with the query literal
+     *
+     * @param p_key name of the literal
+     * @param p_query query literal
+     * @return stream of candidate literals
+     */
+    @Nonnull
+    default Stream<ILiteral> literal( @Nonnull final String p_key, @Nonnull final ILiteral p_query )
+    {
+        return this.literal( p_key ).stream();
+    }
+
     /**
      * returns a view element
      *
@@ -0,0 +1,188 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.beliefbase.storage;
+
+import javax.annotation.Nonnull;
+import java.text.MessageFormat;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * thread-safe storage of the data of single- and multi-elements
+ * without a global lock, multi-elements are stored in concurrent
+ * sets per key and changes lock only the key
+ *
+ * @tparam N multi-element type
+ * @tparam M single-element type
+ * @note streams and collections are weakly-consistent, so they
+ * reflect the state at some point at or since their creation
+ */
+public final class CConcurrentStorage<N, M> extends IBaseStorage<N, M>
+{
+    /**
+     * map with elements
+     **/
+    private final Map<String, Set<N>> m_multielements = new ConcurrentHashMap<>();
+    /**
+     * map with single elements
+     **/
+    private final Map<String, M> m_singleelements = new ConcurrentHashMap<>();
+    /**
+     * number of multi-elements
+     */
+    private final LongAdder m_size = new LongAdder();
+
+
+    @Nonnull
+    @Override
+    public Stream<N> streammulti()
+    {
+        return m_multielements.values().stream().flatMap( Collection::stream );
+    }
+
+    @Nonnull
+    @Override
+    public Stream<M> streamsingle()
+    {
+        return m_singleelements.values().stream();
+    }
+
+    @Override
+    public boolean containsmulti( @Nonnull final String p_key )
+    {
+        return m_multielements.containsKey( p_key );
+    }
+
+    @Override
+    public boolean containssingle( @Nonnull final String p_key )
+    {
+        return m_singleelements.containsKey( p_key );
+    }
+
+    @Override
+    public boolean putmulti( @Nonnull final String p_key, final N p_value )
+    {
+        final boolean[] l_result = {false};
+        m_multielements.compute( p_key, ( i, j ) ->
+        {
+            final Set<N> l_set = Objects.isNull( j ) ? ConcurrentHashMap.newKeySet() : j;
+            l_result[0] = l_set.add( p_value );
+            return l_set;
+        } );
+
+        if ( l_result[0] )
+            m_size.increment();
+        return l_result[0];
+    }
+
+    @Override
+    public boolean putsingle( @Nonnull final String p_key, final M p_value )
+    {
+        return !p_value.equals( m_singleelements.put( p_key, p_value ) );
+    }
+
+    @Override
+    public boolean removemulti( @Nonnull final String p_key, final N p_value )
+    {
+        final boolean[] l_result = {false};
+        m_multielements.computeIfPresent( p_key, ( i, j ) ->
+        {
+            l_result[0] = j.remove( p_value );
+            return j.isEmpty() ? null : j;
+        } );
+
+        if ( l_result[0] )
+            m_size.decrement();
+        return l_result[0];
+    }
+
+    @Override
+    public boolean removesingle( @Nonnull final String p_key )
+    {
+        return Objects.nonNull( m_singleelements.remove( p_key ) );
+    }
+
+    @Override
+    public M single( @Nonnull final String p_key )
+    {
+        return m_singleelements.get( p_key );
+    }
+
+    @Override
+    public M singleordefault( @Nonnull final String p_key, final M p_default )
+    {
+        return m_singleelements.getOrDefault( p_key, p_default );
+    }
+
+    @Nonnull
+    @Override
+    public Collection<N> multi( @Nonnull final String p_key )
+    {
+        final Set<N> l_set = m_multielements.get( p_key );
+        return Objects.isNull( l_set ) ? Collections.emptySet() : Collections.unmodifiableSet( l_set );
+    }
+
+    @Override
+    public IStorage<N, M> clear()
+    {
+        m_multielements.keySet().forEach( i -> m_multielements.computeIfPresent( i, ( j, k ) ->
+        {
+            m_size.add( -k.size() );
+            return null;
+        } ) );
+        m_singleelements.clear();
+        return this;
+    }
+
+    @Override
+    public boolean isempty()
+    {
+        return m_multielements.isEmpty() && m_singleelements.isEmpty();
+    }
+
+    @Override
+    public int size()
+    {
+        return m_size.intValue();
+    }
+
+    @Override
+    public String toString()
+    {
+        final Collection<N> l_multi = this.streammulti().collect( Collectors.toList() );
+        return MessageFormat.format(
+            "{0} {1}",
+            l_multi.isEmpty() ? "" : l_multi,
+            m_singleelements.isEmpty() ? "" : m_singleelements.values()
+        ).trim();
+    }
+}
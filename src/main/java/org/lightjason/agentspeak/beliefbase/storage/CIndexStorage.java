@@ -0,0 +1,335 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.beliefbase.storage;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.ImmutableTriple;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.ITerm;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * thread-safe storage of literals, which are indexed by the
+ * functor and additionally by the ground values of argument positions
+ * (first-argument indexing like in Prolog engines), so
+ * queries with ground arguments do not scan all literals of a functor
+ *
+ * @note changes lock only the functor of the literal, streams are weakly-consistent
+ * and the literals of a functor are returned in insertion order
+ *
+ * @tparam M single-element type
+ */
+public final class CIndexStorage<M> extends IBaseStorage<ILiteral, M>
+{
+    /**
+     * index value of literals, which cannot be indexed
+     * at a position (variable, literal or missing argument)
+     */
+    private static final Object NOTINDEXED = new Object();
+    /**
+     * empty candidate set
+     */
+    private static final CSequenceSet<ILiteral> EMPTYSET = new CSequenceSet<>();
+    /**
+     * indexed argument positions
+     */
+    private final int[] m_positions;
+    /**
+     * sequence number of the literals to keep the insertion order
+     */
+    private final AtomicLong m_sequence = new AtomicLong();
+    /**
+     * multi-elements with index, which is replaced on clearing
+     */
+    private volatile CData m_data = new CData();
+    /**
+     * map with single elements
+     **/
+    private final Map<String, M> m_singleelements = new ConcurrentHashMap<>();
+
+    /**
+     * ctor
+     *
+     * @param p_positions indexed argument positions (default first argument)
+     */
+    public CIndexStorage( @Nonnull @Nonnegative final int... p_positions )
+    {
+        m_positions = p_positions.length == 0 ? new int[]{0} : Arrays.stream( p_positions ).distinct().toArray();
+    }
+
+    @Nonnull
+    @Override
+    public Stream<ILiteral> streammulti()
+    {
+        return m_data.m_multielements.values().stream().flatMap( Collection::stream );
+    }
+
+    @Nonnull
+    @Override
+    public Stream<M> streamsingle()
+    {
+        return m_singleelements.values().stream();
+    }
+
+    @Override
+    public boolean containsmulti( @Nonnull final String p_key )
+    {
+        return m_data.m_multielements.containsKey( p_key );
+    }
+
+    @Override
+    public boolean containssingle( @Nonnull final String p_key )
+    {
+        return m_singleelements.containsKey( p_key );
+    }
+
+    @Override
+    public boolean putmulti( @Nonnull final String p_key, final ILiteral p_value )
+    {
+        // the element and the index are changed within the lock of the key only
+        final CData l_data = m_data;
+        final boolean[] l_result = {false};
+        l_data.m_multielements.compute( p_key, ( i, j ) ->
+        {
+            final CSequenceSet<ILiteral> l_set = Objects.isNull( j ) ? new CSequenceSet<>() : j;
+            final long l_sequence = m_sequence.incrementAndGet();
+            l_result[0] = l_set.add( p_value, l_sequence );
+            if ( l_result[0] )
+                this.indexkeys( p_key, p_value ).forEach( n -> l_data.m_index.computeIfAbsent( n, m -> new CSequenceSet<>() ).add( p_value, l_sequence ) );
+            return l_set;
+        } );
+
+        if ( l_result[0] )
+            l_data.m_size.increment();
+        return l_result[0];
+    }
+
+    @Override
+    public boolean putsingle( @Nonnull final String p_key, final M p_value )
+    {
+        return !p_value.equals( m_singleelements.put( p_key, p_value ) );
+    }
+
+    @Override
+    public boolean removemulti( @Nonnull final String p_key, final ILiteral p_value )
+    {
+        final CData l_data = m_data;
+        final boolean[] l_result = {false};
+        l_data.m_multielements.computeIfPresent( p_key, ( i, j ) ->
+        {
+            l_result[0] = j.remove( p_value );
+            if ( l_result[0] )
+                this.indexkeys( p_key, p_value ).forEach( n -> l_data.m_index.computeIfPresent( n, ( m, k ) ->
+                {
+                    k.remove( p_value );
+                    return k.isEmpty() ? null : k;
+                } ) );
+            return j.isEmpty() ? null : j;
+        } );
+
+        if ( l_result[0] )
+            l_data.m_size.decrement();
+        return l_result[0];
+    }
+
+    @Override
+    public boolean removesingle( @Nonnull final String p_key )
+    {
+        return Objects.nonNull( m_singleelements.remove( p_key ) );
+    }
+
+    @Override
+    public M single( @Nonnull final String p_key )
+    {
+        return m_singleelements.get( p_key );
+    }
+
+    @Override
+    public M singleordefault( @Nonnull final String p_key, final M p_default )
+    {
+        return m_singleelements.getOrDefault( p_key, p_default );
+    }
+
+    @Nonnull
+    @Override
+    public Collection<ILiteral> multi( @Nonnull final String p_key )
+    {
+        final Set<ILiteral> l_set = m_data.m_multielements.get( p_key );
+        return Objects.isNull( l_set ) ? Collections.emptySet() : Collections.unmodifiableSet( l_set );
+    }
+
+    @Nonnull
+    @Override
+    public Stream<ILiteral> query( @Nonnull final String p_key, @Nonnull final ILiteral p_query )
+    {
+        final CData l_data = m_data;
+        final ITerm[] l_values = p_query.orderedvalues().toArray( ITerm[]::new );
+
+        // the smallest candidate set of all ground argument positions is used
+        return Arrays.stream( m_positions )
+                     .filter( i -> !NOTINDEXED.equals( indexvalue( l_values, i ) ) )
+                     .mapToObj( i -> l_data.candidates( p_key, i, indexvalue( l_values, i ) ) )
+                     .min( Comparator.comparingInt( i -> i.getLeft().size() + i.getRight().size() ) )
+                     .map( CIndexStorage::merge )
+                     .orElseGet( () -> this.multi( p_key ).stream() );
+    }
+
+    @Override
+    public IStorage<ILiteral, M> clear()
+    {
+        // the multi-elements and the index are replaced, so the index is not scanned for each functor
+        m_data = new CData();
+        m_singleelements.clear();
+        return this;
+    }
+
+    @Override
+    public boolean isempty()
+    {
+        return m_data.m_multielements.isEmpty() && m_singleelements.isEmpty();
+    }
+
+    @Override
+    public int size()
+    {
+        return m_data.m_size.intValue();
+    }
+
+    @Override
+    public String toString()
+    {
+        final Collection<ILiteral> l_multi = this.streammulti().collect( Collectors.toList() );
+        return MessageFormat.format(
+            "{0} {1}",
+            l_multi.isEmpty() ? "" : l_multi,
+            m_singleelements.isEmpty() ? "" : m_singleelements.values()
+        ).trim();
+    }
+
+    /**
+     * returns the index keys of a literal
+     *
+     * @param p_key key
+     * @param p_literal literal
+     * @return index key stream
+     */
+    @Nonnull
+    private Stream<Triple<String, Integer, Object>> indexkeys( @Nonnull final String p_key, @Nonnull final ILiteral p_literal )
+    {
+        final ITerm[] l_values = p_literal.orderedvalues().toArray( ITerm[]::new );
+        return Arrays.stream( m_positions ).mapToObj( i -> ImmutableTriple.of( p_key, i, indexvalue( l_values, i ) ) );
+    }
+
+    /**
+     * merges the indexed and not-indexed candidates in insertion order
+     *
+     * @param p_candidates pair of indexed and not-indexed candidates
+     * @return literal stream
+     */
+    @Nonnull
+    private static Stream<ILiteral> merge( @Nonnull final Pair<CSequenceSet<ILiteral>, CSequenceSet<ILiteral>> p_candidates )
+    {
+        if ( p_candidates.getRight().isEmpty() )
+            return p_candidates.getLeft().stream();
+        if ( p_candidates.getLeft().isEmpty() )
+            return p_candidates.getRight().stream();
+
+        return Stream.concat( p_candidates.getLeft().entries(), p_candidates.getRight().entries() )
+                     .sorted( Map.Entry.comparingByKey() )
+                     .map( Map.Entry::getValue );
+    }
+
+    /**
+     * returns the index value of an argument position
+     *
+     * @param p_values argument values
+     * @param p_position position
+     * @return ground raw term or not-indexed marker
+     */
+    @Nonnull
+    private static Object indexvalue( @Nonnull final ITerm[] p_values, final int p_position )
+    {
+        return p_position < p_values.length && p_values[p_position] instanceof CRawTerm<?>
+               ? p_values[p_position]
+               : NOTINDEXED;
+    }
+
+
+    /**
+     * multi-elements with argument index
+     */
+    private static final class CData
+    {
+        /**
+         * map with elements
+         **/
+        private final Map<String, CSequenceSet<ILiteral>> m_multielements = new ConcurrentHashMap<>();
+        /**
+         * number of multi-elements
+         */
+        private final LongAdder m_size = new LongAdder();
+        /**
+         * argument index with functor, position and value
+         */
+        private final Map<Triple<String, Integer, Object>, CSequenceSet<ILiteral>> m_index = new ConcurrentHashMap<>();
+
+        /**
+         * returns the candidates of an argument position,
+         * which are the literals with the value and the not-indexed literals
+         *
+         * @param p_key key
+         * @param p_position argument position
+         * @param p_value ground value
+         * @return pair of indexed and not-indexed candidates
+         */
+        @Nonnull
+        private Pair<CSequenceSet<ILiteral>, CSequenceSet<ILiteral>> candidates( @Nonnull final String p_key, final int p_position,
+                                                                                 @Nonnull final Object p_value )
+        {
+            return ImmutablePair.of(
+                m_index.getOrDefault( ImmutableTriple.of( p_key, p_position, p_value ), EMPTYSET ),
+                m_index.getOrDefault( ImmutableTriple.of( p_key, p_position, NOTINDEXED ), EMPTYSET )
+            );
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.beliefbase.storage;
+
+import org.lightjason.agentspeak.agent.IAgent;
+
+import javax.annotation.Nonnull;
+import java.text.MessageFormat;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * thread-safe storage with a shared and immutable base layer
+ * of multi-elements and an instance overlay, which stores
+ * only the changes (added and removed elements) of the base layer
+ *
+ * @tparam N multi-element type
+ * @tparam M single-element type
+ * @note the base layer can be shared between many storages (e.g. the initial beliefs of all agents),
+ * it is built once (e.g. as index storage, so queries use the index of the base layer) and must not be changed afterwards
+ */
+public final class COverlayStorage<N, M> extends IBaseStorage<N, M>
+{
+    /**
+     * shared base layer
+     */
+    private final IStorage<N, ?> m_base;
+    /**
+     * storage of the added multi-elements and all single-elements
+     */
+    private final IStorage<N, M> m_delta;
+    /**
+     * removed multi-elements of the base layer
+     */
+    private final Set<N> m_removed = ConcurrentHashMap.newKeySet();
+
+    /**
+     * ctor
+     *
+     * @param p_base base layer
+     */
+    public COverlayStorage( @Nonnull final IStorage<N, ?> p_base )
+    {
+        this( p_base, new CMultiStorage<>() );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_base base layer
+     * @param p_delta storage of the changes
+     */
+    public COverlayStorage( @Nonnull final IStorage<N, ?> p_base, @Nonnull final IStorage<N, M> p_delta )
+    {
+        m_base = p_base;
+        m_delta = p_delta;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<N> streammulti()
+    {
+        return Stream.concat( this.streambase(), m_delta.streammulti() );
+    }
+
+    @Nonnull
+    @Override
+    public Stream<M> streamsingle()
+    {
+        return m_delta.streamsingle();
+    }
+
+    @Override
+    public boolean containsmulti( @Nonnull final String p_key )
+    {
+        return m_delta.containsmulti( p_key ) || m_base.multi( p_key ).stream().anyMatch( i -> !m_removed.contains( i ) );
+    }
+
+    @Override
+    public boolean containssingle( @Nonnull final String p_key )
+    {
+        return m_delta.containssingle( p_key );
+    }
+
+    @Override
+    public boolean putmulti( @Nonnull final String p_key, final N p_value )
+    {
+        return m_base.multi( p_key ).contains( p_value )
+               ? m_removed.remove( p_value )
+               : m_delta.putmulti( p_key, p_value );
+    }
+
+    @Override
+    public boolean putsingle( @Nonnull final String p_key, final M p_value )
+    {
+        return m_delta.putsingle( p_key, p_value );
+    }
+
+    @Override
+    public boolean removemulti( @Nonnull final String p_key, final N p_value )
+    {
+        return m_base.multi( p_key ).contains( p_value )
+               ? m_removed.add( p_value )
+               : m_delta.removemulti( p_key, p_value );
+    }
+
+    @Override
+    public boolean removesingle( @Nonnull final String p_key )
+    {
+        return m_delta.removesingle( p_key );
+    }
+
+    @Override
+    public M single( @Nonnull final String p_key )
+    {
+        return m_delta.single( p_key );
+    }
+
+    @Override
+    public M singleordefault( @Nonnull final String p_key, final M p_default )
+    {
+        return m_delta.singleordefault( p_key, p_default );
+    }
+
+    @Nonnull
+    @Override
+    public Collection<N> multi( @Nonnull final String p_key )
+    {
+        // the base layer is returned directly if the key is not changed
+        final Collection<N> l_base = m_base.multi( p_key );
+        final Collection<N> l_added = m_delta.multi( p_key );
+        if ( m_removed.isEmpty() && l_added.isEmpty() )
+            return Collections.unmodifiableCollection( l_base );
+
+        final Set<N> l_values = new LinkedHashSet<>();
+        l_base.stream().filter( i -> !m_removed.contains( i ) ).forEach( l_values::add );
+        l_values.addAll( l_added );
+        return Collections.unmodifiableSet( l_values );
+    }
+
+    @Nonnull
+    @Override
+    public Stream<N> query( @Nonnull final String p_key, @Nonnull final N p_query )
+    {
+        // both layers are queried with their own index
+        return Stream.concat(
+            m_removed.isEmpty() ? m_base.query( p_key, p_query ) : m_base.query( p_key, p_query ).filter( i -> !m_removed.contains( i ) ),
+            m_delta.query( p_key, p_query )
+        );
+    }
+
+    @Override
+    public IStorage<N, M> clear()
+    {
+        m_delta.clear();
+        m_base.streammulti().forEach( m_removed::add );
+        return this;
+    }
+
+    @Override
+    public boolean isempty()
+    {
+        return m_delta.isempty() && m_removed.size() == m_base.size();
+    }
+
+    @Override
+    public int size()
+    {
+        return m_base.size() - m_removed.size() + m_delta.size();
+    }
+
+    @Nonnull
+    @Override
+    public IAgent<?> update( @Nonnull final IAgent<?> p_agent )
+    {
+        return m_delta.update( p_agent );
+    }
+
+    @Override
+    public String toString()
+    {
+        final Collection<N> l_multi = this.streammulti().collect( Collectors.toList() );
+        final Collection<M> l_single = this.streamsingle().collect( Collectors.toList() );
+        return MessageFormat.format(
+            "{0} {1}",
+            l_multi.isEmpty() ? "" : l_multi,
+            l_single.isEmpty() ? "" : l_single
+        ).trim();
+    }
+
+    /**
+     * stream of the not removed base layer elements
+     *
+     * @return element stream
+     */
+    @Nonnull
+    private Stream<N> streambase()
+    {
+        return m_removed.isEmpty()
+               ? m_base.streammulti()
+               : m_base.streammulti().filter( i -> !m_removed.contains( i ) );
+    }
+}
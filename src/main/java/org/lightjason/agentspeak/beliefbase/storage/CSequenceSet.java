@@ -0,0 +1,117 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.beliefbase.storage;
+
+import javax.annotation.Nonnull;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+
+/**
+ * concurrent set, which iterates the elements in insertion order,
+ * each element is stamped with a sequence number of the storage
+ *
+ * @tparam T element type
+ * @note changes must be synchronized by the caller, iterators and streams are weakly-consistent
+ */
+final class CSequenceSet<T> extends AbstractSet<T>
+{
+    /**
+     * sequence number of each element
+     */
+    private final Map<T, Long> m_sequence = new ConcurrentHashMap<>();
+    /**
+     * elements ordered by the sequence number
+     */
+    private final ConcurrentSkipListMap<Long, T> m_elements = new ConcurrentSkipListMap<>();
+
+    /**
+     * adds an element
+     *
+     * @param p_element element
+     * @param p_sequence sequence number
+     * @return flag if the element is added
+     */
+    boolean add( @Nonnull final T p_element, final long p_sequence )
+    {
+        if ( Objects.nonNull( m_sequence.putIfAbsent( p_element, p_sequence ) ) )
+            return false;
+
+        m_elements.put( p_sequence, p_element );
+        return true;
+    }
+
+    @Override
+    public boolean remove( final Object p_element )
+    {
+        final Long l_sequence = m_sequence.remove( p_element );
+        if ( Objects.isNull( l_sequence ) )
+            return false;
+
+        m_elements.remove( l_sequence );
+        return true;
+    }
+
+    @Override
+    public boolean contains( final Object p_element )
+    {
+        return m_sequence.containsKey( p_element );
+    }
+
+    @Nonnull
+    @Override
+    public Iterator<T> iterator()
+    {
+        return m_elements.values().iterator();
+    }
+
+    @Override
+    public int size()
+    {
+        return m_sequence.size();
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return m_sequence.isEmpty();
+    }
+
+    /**
+     * returns the elements with their sequence number in insertion order
+     *
+     * @return entry stream
+     */
+    @Nonnull
+    Stream<Map.Entry<Long, T>> entries()
+    {
+        return m_elements.entrySet().stream();
+    }
+
+}
@@ -134,6 +134,22 @@ public interface IStorage<N, M>
     @Nonnull
     Collection<N> multi( @Nonnull final String p_key );
 
+    /**
+     * returns the multi-elements by name, which can match the query element
+     *
+     * @param p_key name
+     * @param p_query query element
+     * @return stream of candidate elements
+     *
+     * @note the stream can contain elements, which do not match the query,
+     * but all matching elements must be contained
+     */
+    @Nonnull
+    default Stream<N> query( @Nonnull final String p_key, @Nonnull final N p_query )
+    {
+        return this.multi( p_key ).stream();
+    }
+
     /**
      * clears all elements
      *
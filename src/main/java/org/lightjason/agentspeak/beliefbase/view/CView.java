@@ -244,6 +244,19 @@ public final class CView implements IView
         ).map( i -> i.shallowcopy( l_path ) );
     }
 
+    @Nonnull
+    @Override
+    public Stream<ILiteral> query( @Nonnull final ILiteral p_literal )
+    {
+        // build path relative to this view
+        final IPath l_path = this.path();
+        return this.leafview( this.walk( p_literal.functorpath() ) )
+                   .beliefbase()
+                   .literal( p_literal.functor(), p_literal )
+                   .filter( i -> i.negated() == p_literal.negated() )
+                   .map( i -> i.shallowcopy( l_path ) );
+    }
+
     @Nonnull
     @Override
     public Stream<IView> walk( @Nonnull final IPath p_path, @Nullable final IViewGenerator... p_generator )
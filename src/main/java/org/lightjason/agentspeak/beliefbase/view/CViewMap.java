@@ -44,6 +44,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -410,9 +411,15 @@ public final class CViewMap implements IView
 
     /**
      * wrapper beliefbase
+     *
+     * @note the sequence number counts the changes of the wrapper only, changes of the map are not visible
      */
     private final class CWrapperBeliefbase implements IBeliefbase
     {
+        /**
+         * sequence number of the last change
+         */
+        private final AtomicLong m_sequence = new AtomicLong();
 
         @Override
         public boolean isempty()
@@ -449,6 +456,18 @@ public final class CViewMap implements IView
             return Stream.empty();
         }
 
+        @Override
+        public long sequence()
+        {
+            return m_sequence.get();
+        }
+
+        @Override
+        public long sequence( @Nonnull final String p_functor )
+        {
+            return m_sequence.get();
+        }
+
         @Nonnull
         @Override
         @SuppressWarnings( "unchecked" )
@@ -476,6 +495,7 @@ public final class CViewMap implements IView
         public IBeliefbase clear()
         {
             m_clearconsumer.accept( m_data );
+            m_sequence.incrementAndGet();
             return this;
         }
 
@@ -484,6 +504,7 @@ public final class CViewMap implements IView
         public ILiteral add( @Nonnull final ILiteral p_literal )
         {
             m_addliteralconsumer.accept( new ImmutablePair<>( m_literaltokey.apply( p_literal.functor() ), p_literal.orderedvalues() ), m_data );
+            m_sequence.incrementAndGet();
             return p_literal;
         }
 
@@ -500,6 +521,7 @@ public final class CViewMap implements IView
         public ILiteral remove( @Nonnull final ILiteral p_literal )
         {
             m_removeliteralconsumer.accept( m_literaltokey.apply( p_literal.functor() ), m_data );
+            m_sequence.incrementAndGet();
             return p_literal;
         }
 
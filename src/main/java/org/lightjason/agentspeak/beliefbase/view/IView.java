@@ -314,6 +314,20 @@ public interface IView extends IStructure
     @Nonnull
     Stream<ILiteral> stream( final boolean p_negated, @Nullable final IPath... p_path );
 
+    /**
+     * returns a stream of literals, which can be unified
+     * with the query literal, so literal indexes of the
+     * storage are used
+     *
+     * @param p_literal query literal with full path
+     * @return stream of candidate literals
+     */
+    @Nonnull
+    default Stream<ILiteral> query( @Nonnull final ILiteral p_literal )
+    {
+        return this.stream( p_literal.negated(), p_literal.fqnfunctor() );
+    }
+
 
 
     /**
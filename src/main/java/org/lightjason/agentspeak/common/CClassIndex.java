@@ -0,0 +1,357 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.common;
+
+import org.apache.commons.lang3.StringUtils;
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.language.execution.lambda.ILambdaStreaming;
+import org.reflections.Reflections;
+
+import javax.annotation.Nonnull;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * class index of actions and lambda-streaming objects, the index
+ * is created on compile time by the annotation processor and read
+ * once, so no classpath scanning is needed
+ *
+ * @note a package is scanned once (and the result is cached and merged with the index), if a classpath
+ * root of the package is not processed by the annotation processor, so classes of other libraries within
+ * the same package are found also, the classpath roots of a package are detected by the package directory
+ * @see CClassIndexProcessor
+ */
+public final class CClassIndex
+{
+    /**
+     * logger
+     */
+    private static final Logger LOGGER = CCommon.logger( CClassIndex.class );
+    /**
+     * resource directory of the index
+     */
+    private static final String RESOURCEDIRECTORY = "META-INF/lightjason/";
+    /**
+     * resource name of the processed packages of a classpath root
+     */
+    static final String PACKAGES = RESOURCEDIRECTORY + "packages";
+    /**
+     * index data
+     */
+    private static final Map<EIndex, Set<Class<?>>> INDEX = CClassIndex.load();
+    /**
+     * classpath roots, which are processed by the annotation processor
+     */
+    private static final Set<String> ROOTS = CClassIndex.roots();
+    /**
+     * cache of packages, which are fully covered by the index
+     */
+    private static final Map<String, Boolean> COVERED = new ConcurrentHashMap<>();
+    /**
+     * cache of scanned packages, which are not covered by the index
+     */
+    private static final Map<EIndex, Map<String, Set<Class<?>>>> SCANNED = new EnumMap<>( EIndex.class );
+
+    static
+    {
+        Stream.of( EIndex.values() ).forEach( i -> SCANNED.put( i, new ConcurrentHashMap<>() ) );
+    }
+
+    /**
+     * ctor
+     */
+    private CClassIndex()
+    {
+    }
+
+    /**
+     * returns the classes of a package and its subpackages
+     *
+     * @param p_index index type
+     * @param p_package full-qualified package name
+     * @return class stream
+     */
+    @Nonnull
+    public static Stream<Class<?>> classes( @Nonnull final EIndex p_index, @Nonnull final String p_package )
+    {
+        final String l_prefix = p_package.isEmpty() ? "" : p_package + ".";
+        final Stream<Class<?>> l_classes = INDEX.get( p_index ).stream().filter( i -> i.getName().startsWith( l_prefix ) );
+
+        return COVERED.computeIfAbsent( p_package, CClassIndex::covered )
+               ? l_classes
+               : Stream.concat( l_classes, SCANNED.get( p_index ).computeIfAbsent( p_package, i -> p_index.scan( i ) ).stream() ).distinct();
+    }
+
+    /**
+     * returns all classes of an index
+     *
+     * @param p_index index type
+     * @return class stream
+     */
+    @Nonnull
+    public static Stream<Class<?>> index( @Nonnull final EIndex p_index )
+    {
+        return INDEX.get( p_index ).stream();
+    }
+
+    /**
+     * returns the classes of packages
+     *
+     * @param p_index index type
+     * @param p_package stream of full-qualified package names
+     * @return class stream
+     */
+    @Nonnull
+    public static Stream<Class<?>> classes( @Nonnull final EIndex p_index, @Nonnull final Stream<String> p_package )
+    {
+        return p_package.flatMap( i -> CClassIndex.classes( p_index, i ) ).distinct();
+    }
+
+    /**
+     * reads all index resources
+     *
+     * @return index map
+     */
+    @Nonnull
+    private static Map<EIndex, Set<Class<?>>> load()
+    {
+        final ClassLoader l_loader = CClassIndex.classloader();
+        final Map<EIndex, Set<Class<?>>> l_index = new EnumMap<>( EIndex.class );
+
+        Stream.of( EIndex.values() ).forEach( i ->
+        {
+            final Set<Class<?>> l_classes = new HashSet<>();
+            try
+            {
+                Collections.list( l_loader.getResources( i.resource() ) )
+                           .forEach( j -> CClassIndex.read( j ).map( n -> CClassIndex.forname( l_loader, n ) ).filter( Objects::nonNull ).forEach( l_classes::add ) );
+            }
+            catch ( final IOException l_exception )
+            {
+                LOGGER.warning( CCommon.languagestring( CClassIndex.class, "readerror", i.resource(), l_exception ) );
+            }
+            l_index.put( i, Collections.unmodifiableSet( l_classes ) );
+        } );
+
+        return Collections.unmodifiableMap( l_index );
+    }
+
+    /**
+     * reads the classpath roots, which are processed by the annotation processor
+     *
+     * @return root set
+     */
+    @Nonnull
+    private static Set<String> roots()
+    {
+        try
+        {
+            return Collections.unmodifiableSet(
+                Collections.list( CClassIndex.classloader().getResources( PACKAGES ) )
+                           .stream()
+                           .map( i -> CClassIndex.root( i, PACKAGES ) )
+                           .collect( Collectors.toSet() )
+            );
+        }
+        catch ( final IOException l_exception )
+        {
+            LOGGER.warning( CCommon.languagestring( CClassIndex.class, "readerror", PACKAGES, l_exception ) );
+            return Collections.emptySet();
+        }
+    }
+
+    /**
+     * checks if all classpath roots of a package are processed by the annotation processor
+     *
+     * @param p_package full-qualified package name
+     * @return covered flag
+     */
+    private static boolean covered( @Nonnull final String p_package )
+    {
+        if ( p_package.isEmpty() )
+            return false;
+
+        final String l_directory = p_package.replace( '.', '/' );
+        try
+        {
+            return Collections.list( CClassIndex.classloader().getResources( l_directory ) )
+                              .stream()
+                              .allMatch( i -> ROOTS.contains( CClassIndex.root( i, l_directory ) ) );
+        }
+        catch ( final IOException l_exception )
+        {
+            LOGGER.warning( CCommon.languagestring( CClassIndex.class, "readerror", l_directory, l_exception ) );
+            return false;
+        }
+    }
+
+    /**
+     * returns the classpath root of a resource
+     *
+     * @param p_url resource url
+     * @param p_name resource name
+     * @return root url
+     */
+    @Nonnull
+    private static String root( @Nonnull final URL p_url, @Nonnull final String p_name )
+    {
+        final String l_url = StringUtils.removeEnd( p_url.toString(), "/" );
+        return StringUtils.removeEnd( l_url, p_name );
+    }
+
+    /**
+     * reads the class names of an index resource
+     *
+     * @param p_url resource url
+     * @return class names
+     */
+    @Nonnull
+    private static Stream<String> read( @Nonnull final URL p_url )
+    {
+        try
+        (
+            final BufferedReader l_reader = new BufferedReader( new InputStreamReader( p_url.openStream(), StandardCharsets.UTF_8 ) )
+        )
+        {
+            return l_reader.lines()
+                           .map( String::trim )
+                           .filter( i -> !i.isEmpty() )
+                           .collect( Collectors.toList() )
+                           .stream();
+        }
+        catch ( final IOException l_exception )
+        {
+            LOGGER.warning( CCommon.languagestring( CClassIndex.class, "readerror", p_url, l_exception ) );
+            return Stream.empty();
+        }
+    }
+
+    /**
+     * loads a class without initializing
+     *
+     * @param p_loader class loader
+     * @param p_name binary class name
+     * @return class or null
+     */
+    private static Class<?> forname( @Nonnull final ClassLoader p_loader, @Nonnull final String p_name )
+    {
+        try
+        {
+            return Class.forName( p_name, false, p_loader );
+        }
+        catch ( final ClassNotFoundException | LinkageError l_exception )
+        {
+            LOGGER.warning( CCommon.languagestring( CClassIndex.class, "classnotfound", p_name, l_exception ) );
+            return null;
+        }
+    }
+
+    /**
+     * returns the class loader
+     *
+     * @return context class loader or the loader of the index
+     */
+    @Nonnull
+    private static ClassLoader classloader()
+    {
+        final ClassLoader l_loader = Thread.currentThread().getContextClassLoader();
+        return Objects.isNull( l_loader ) ? CClassIndex.class.getClassLoader() : l_loader;
+    }
+
+
+    /**
+     * index types
+     */
+    public enum EIndex
+    {
+        ACTION( IAction.class ),
+        LAMBDASTREAMING( ILambdaStreaming.class );
+
+        /**
+         * type of the index
+         */
+        private final Class<?> m_type;
+
+        /**
+         * ctor
+         *
+         * @param p_type type of the index
+         */
+        EIndex( @Nonnull final Class<?> p_type )
+        {
+            m_type = p_type;
+        }
+
+        /**
+         * returns the type of the index
+         *
+         * @return super type
+         */
+        @Nonnull
+        public final Class<?> type()
+        {
+            return m_type;
+        }
+
+        /**
+         * returns the resource name of the index
+         *
+         * @return resource name
+         */
+        @Nonnull
+        public final String resource()
+        {
+            return MessageFormat.format( "{0}{1}", RESOURCEDIRECTORY, this.name().toLowerCase( Locale.ROOT ) );
+        }
+
+        /**
+         * scans a package without index
+         *
+         * @param p_package package name
+         * @return classes
+         */
+        @Nonnull
+        private Set<Class<?>> scan( @Nonnull final String p_package )
+        {
+            return Collections.unmodifiableSet( new HashSet<>( new Reflections( p_package ).getSubTypesOf( m_type ) ) );
+        }
+    }
+
+}
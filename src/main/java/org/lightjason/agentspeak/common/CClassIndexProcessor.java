@@ -0,0 +1,211 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.common;
+
+import javax.annotation.Nonnull;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+
+/**
+ * annotation processor, which creates on compile time the class index
+ * of all actions and lambda-streaming objects
+ *
+ * @note the processor must run after the compilation of the sources, so
+ * the maven build uses an additional compiler execution with processing only,
+ * the list of processed packages is written always, because it marks the
+ * classpath root as covered by the index
+ * @see CClassIndex
+ */
+@SupportedAnnotationTypes( "*" )
+public final class CClassIndexProcessor extends AbstractProcessor
+{
+    /**
+     * binary class names of each index
+     */
+    private final Map<CClassIndex.EIndex, Set<String>> m_index = new EnumMap<>( CClassIndex.EIndex.class );
+    /**
+     * processed package names
+     */
+    private final Set<String> m_packages = new TreeSet<>();
+
+
+    @Override
+    public SourceVersion getSupportedSourceVersion()
+    {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process( @Nonnull final Set<? extends TypeElement> p_annotations, @Nonnull final RoundEnvironment p_environment )
+    {
+        if ( p_environment.processingOver() )
+        {
+            m_index.forEach( ( i, j ) -> this.write( i.resource(), j ) );
+            this.write( CClassIndex.PACKAGES, m_packages );
+        }
+        else
+            p_environment.getRootElements()
+                         .stream()
+                         .peek( this::pack )
+                         .flatMap( CClassIndexProcessor::types )
+                         .forEach( this::index );
+
+        // annotations are not claimed, so other processors are not affected
+        return false;
+    }
+
+    /**
+     * adds the package of an element to the processed packages
+     *
+     * @param p_element element
+     */
+    private void pack( @Nonnull final Element p_element )
+    {
+        final PackageElement l_package = processingEnv.getElementUtils().getPackageOf( p_element );
+        if ( !l_package.isUnnamed() )
+            m_packages.add( l_package.getQualifiedName().toString() );
+    }
+
+    /**
+     * adds a type to all matching indices
+     *
+     * @param p_type type element
+     */
+    private void index( @Nonnull final TypeElement p_type )
+    {
+        Stream.of( CClassIndex.EIndex.values() )
+              .filter( i -> this.matches( i, p_type ) )
+              .forEach( i -> m_index.computeIfAbsent( i, j -> new TreeSet<>() )
+                                    .add( processingEnv.getElementUtils().getBinaryName( p_type ).toString() ) );
+    }
+
+    /**
+     * checks if a type matches an index
+     *
+     * @param p_index index
+     * @param p_type type element
+     * @return matching flag
+     */
+    private boolean matches( @Nonnull final CClassIndex.EIndex p_index, @Nonnull final TypeElement p_type )
+    {
+        final TypeElement l_index = processingEnv.getElementUtils().getTypeElement( p_index.type().getCanonicalName() );
+        if ( Objects.isNull( l_index ) )
+            return false;
+
+        final TypeMirror l_type = processingEnv.getTypeUtils().erasure( l_index.asType() );
+        return CClassIndexProcessor.instantiable( p_type )
+               && processingEnv.getTypeUtils().isAssignable( processingEnv.getTypeUtils().erasure( p_type.asType() ), l_type )
+               && ElementFilter.constructorsIn( p_type.getEnclosedElements() )
+                               .stream()
+                               .anyMatch( CClassIndexProcessor::defaultconstructor );
+    }
+
+    /**
+     * writes a resource with one entry per line
+     *
+     * @param p_resource resource name
+     * @param p_entries entries
+     */
+    private void write( @Nonnull final String p_resource, @Nonnull final Set<String> p_entries )
+    {
+        try
+        (
+            final Writer l_writer = processingEnv.getFiler().createResource( StandardLocation.CLASS_OUTPUT, "", p_resource ).openWriter()
+        )
+        {
+            for ( final String l_entry : p_entries )
+                l_writer.append( l_entry ).append( '\n' );
+        }
+        catch ( final IOException l_exception )
+        {
+            processingEnv.getMessager().printMessage( Diagnostic.Kind.ERROR, l_exception.getMessage() );
+        }
+    }
+
+    /**
+     * returns a type with all nested types
+     *
+     * @param p_element element
+     * @return type stream
+     */
+    @Nonnull
+    private static Stream<TypeElement> types( @Nonnull final Element p_element )
+    {
+        return p_element instanceof TypeElement
+               ? Stream.concat(
+                   Stream.of( (TypeElement) p_element ),
+                   p_element.getEnclosedElements().stream().flatMap( CClassIndexProcessor::types )
+               )
+               : Stream.empty();
+    }
+
+    /**
+     * checks if a type is a public, concrete class, which
+     * can be instantiated without an outer instance
+     *
+     * @param p_type type element
+     * @return instantiable flag
+     */
+    private static boolean instantiable( @Nonnull final TypeElement p_type )
+    {
+        return ElementKind.CLASS.equals( p_type.getKind() )
+               && p_type.getModifiers().contains( Modifier.PUBLIC )
+               && !p_type.getModifiers().contains( Modifier.ABSTRACT )
+               && ( NestingKind.TOP_LEVEL.equals( p_type.getNestingKind() ) || p_type.getModifiers().contains( Modifier.STATIC ) );
+    }
+
+    /**
+     * checks if a constructor is public and has no arguments
+     *
+     * @param p_constructor constructor
+     * @return default constructor flag
+     */
+    private static boolean defaultconstructor( @Nonnull final ExecutableElement p_constructor )
+    {
+        return p_constructor.getModifiers().contains( Modifier.PUBLIC ) && p_constructor.getParameters().isEmpty();
+    }
+
+}
@@ -31,7 +31,6 @@ import org.lightjason.agentspeak.action.binding.IAgentAction;
 import org.lightjason.agentspeak.action.binding.IAgentActionFilter;
 import org.lightjason.agentspeak.agent.IAgent;
 import org.lightjason.agentspeak.language.execution.lambda.ILambdaStreaming;
-import org.reflections.Reflections;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -145,7 +144,7 @@ public final class CCommon
      */
     public static Stream<ILambdaStreaming<?>> lambdastreamingFromPackage( @Nullable final String... p_package )
     {
-        return CCommon.classfrompackage( ILambdaStreaming.class, packagenames( p_package ) );
+        return CCommon.classfrompackage( CClassIndex.EIndex.LAMBDASTREAMING, packagenames( p_package ) );
     }
 
     /**
@@ -156,7 +155,7 @@ public final class CCommon
      */
     public static Stream<ILambdaStreaming<?>> lambdastreamingFromPackage( @Nonnull final Stream<String> p_package )
     {
-        return CCommon.classfrompackage( ILambdaStreaming.class, p_package );
+        return CCommon.classfrompackage( CClassIndex.EIndex.LAMBDASTREAMING, p_package );
     }
 
 
@@ -171,7 +170,7 @@ public final class CCommon
     @Nonnull
     public static Stream<IAction> actionsFromPackage( @Nullable final String... p_package )
     {
-        return CCommon.<IAction>classfrompackage( IAction.class, packagenames( p_package ) ).filter( CCommon::actionusable );
+        return CCommon.<IAction>classfrompackage( CClassIndex.EIndex.ACTION, packagenames( p_package ) ).filter( CCommon::actionusable );
     }
 
     /**
@@ -183,7 +182,7 @@ public final class CCommon
     @Nonnull
     public static Stream<IAction> actionsFromPackage( @Nonnull final Stream<String> p_package )
     {
-        return CCommon.<IAction>classfrompackage( IAction.class, p_package ).filter( CCommon::actionusable );
+        return CCommon.<IAction>classfrompackage( CClassIndex.EIndex.ACTION, p_package ).filter( CCommon::actionusable );
     }
 
     /**
@@ -356,34 +355,34 @@ public final class CCommon
     /**
      * read classes of package
      *
-     * @param p_class class
+     * @param p_index class index
      * @param p_package full-qualified package name or empty for default package
      * @return object stream
      *
      * @tparam T class type
+     * @note classes are read from the compile-time index, packages without index are scanned once
      */
     @SuppressWarnings( "unchecked" )
-    private static <T> Stream<T> classfrompackage( @Nonnull final Class<?> p_class, @Nonnull final Stream<String> p_package )
+    private static <T> Stream<T> classfrompackage( @Nonnull final CClassIndex.EIndex p_index, @Nonnull final Stream<String> p_package )
     {
-        return p_package.flatMap( j -> new Reflections( j ).getSubTypesOf( p_class )
-                                                           .parallelStream()
-                                                           .filter( i -> !Modifier.isAbstract( i.getModifiers() ) )
-                                                           .filter( i -> !Modifier.isInterface( i.getModifiers() ) )
-                                                           .filter( i -> Modifier.isPublic( i.getModifiers() ) )
-                                                           .map( i ->
-                                                           {
-                                                               try
-                                                               {
-                                                                   return (T) i.getConstructor().newInstance();
-                                                               }
-                                                               catch ( final NoSuchMethodException | InvocationTargetException
-                                                                   | IllegalAccessException | InstantiationException l_exception )
-                                                               {
-                                                                   LOGGER.warning( CCommon.languagestring( CCommon.class, "classinstantiateerror", i, l_exception ) );
-                                                                   return null;
-                                                               }
-                                                           } )
-                                                           .filter( Objects::nonNull ) );
+        return CClassIndex.classes( p_index, p_package )
+                          .filter( i -> !Modifier.isAbstract( i.getModifiers() ) )
+                          .filter( i -> !Modifier.isInterface( i.getModifiers() ) )
+                          .filter( i -> Modifier.isPublic( i.getModifiers() ) )
+                          .map( i ->
+                          {
+                              try
+                              {
+                                  return (T) i.getConstructor().newInstance();
+                              }
+                              catch ( final NoSuchMethodException | InvocationTargetException
+                                  | IllegalAccessException | InstantiationException l_exception )
+                              {
+                                  LOGGER.warning( CCommon.languagestring( CCommon.class, "classinstantiateerror", i, l_exception ) );
+                                  return null;
+                              }
+                          } )
+                          .filter( Objects::nonNull );
     }
 
 
@@ -0,0 +1,176 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.common;
+
+import com.google.common.collect.ForwardingSetMultimap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.Multimap;
+import com.google.common.collect.SetMultimap;
+
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.util.Set;
+
+
+/**
+ * copy-on-write set-multimap, reads are lock-free on an immutable
+ * snapshot, each write creates a new snapshot, so an initial snapshot
+ * can be shared between many instances until a write is done
+ *
+ * @tparam K key type
+ * @tparam V value type
+ * @note views (e.g. get, keySet, values) are immutable snapshots, so modifications must be done on the multimap
+ */
+public final class CCopyOnWriteMultimap<K, V> extends ForwardingSetMultimap<K, V> implements Serializable
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 4197253620341887913L;
+    /**
+     * current snapshot
+     */
+    private volatile ImmutableSetMultimap<K, V> m_snapshot;
+
+    /**
+     * ctor
+     */
+    public CCopyOnWriteMultimap()
+    {
+        this( ImmutableSetMultimap.of() );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_snapshot initial snapshot
+     */
+    public CCopyOnWriteMultimap( @Nonnull final Multimap<? extends K, ? extends V> p_snapshot )
+    {
+        m_snapshot = ImmutableSetMultimap.copyOf( p_snapshot );
+    }
+
+    @Override
+    protected SetMultimap<K, V> delegate()
+    {
+        return m_snapshot;
+    }
+
+    @Override
+    public synchronized boolean put( final K p_key, final V p_value )
+    {
+        if ( m_snapshot.containsEntry( p_key, p_value ) )
+            return false;
+
+        m_snapshot = ImmutableSetMultimap.<K, V>builder().putAll( m_snapshot ).put( p_key, p_value ).build();
+        return true;
+    }
+
+    @Override
+    public synchronized boolean putAll( final K p_key, @Nonnull final Iterable<? extends V> p_values )
+    {
+        final ImmutableSetMultimap<K, V> l_snapshot = ImmutableSetMultimap.<K, V>builder().putAll( m_snapshot ).putAll( p_key, p_values ).build();
+        return this.swap( l_snapshot );
+    }
+
+    @Override
+    public synchronized boolean putAll( @Nonnull final Multimap<? extends K, ? extends V> p_multimap )
+    {
+        final ImmutableSetMultimap<K, V> l_snapshot = ImmutableSetMultimap.<K, V>builder().putAll( m_snapshot ).putAll( p_multimap ).build();
+        return this.swap( l_snapshot );
+    }
+
+    @Override
+    public synchronized boolean remove( final Object p_key, final Object p_value )
+    {
+        if ( !m_snapshot.containsEntry( p_key, p_value ) )
+            return false;
+
+        final ImmutableSetMultimap.Builder<K, V> l_builder = ImmutableSetMultimap.builder();
+        m_snapshot.entries()
+                  .stream()
+                  .filter( i -> !( i.getKey().equals( p_key ) && i.getValue().equals( p_value ) ) )
+                  .forEach( l_builder::put );
+        m_snapshot = l_builder.build();
+        return true;
+    }
+
+    @Override
+    public synchronized Set<V> removeAll( final Object p_key )
+    {
+        final ImmutableSet<V> l_values = m_snapshot.get( this.cast( p_key ) );
+        if ( l_values.isEmpty() )
+            return l_values;
+
+        final ImmutableSetMultimap.Builder<K, V> l_builder = ImmutableSetMultimap.builder();
+        m_snapshot.entries()
+                  .stream()
+                  .filter( i -> !i.getKey().equals( p_key ) )
+                  .forEach( l_builder::put );
+        m_snapshot = l_builder.build();
+        return l_values;
+    }
+
+    @Override
+    public synchronized Set<V> replaceValues( final K p_key, @Nonnull final Iterable<? extends V> p_values )
+    {
+        final Set<V> l_values = this.removeAll( p_key );
+        this.putAll( p_key, p_values );
+        return l_values;
+    }
+
+    @Override
+    public synchronized void clear()
+    {
+        m_snapshot = ImmutableSetMultimap.of();
+    }
+
+    /**
+     * sets a new snapshot
+     *
+     * @param p_snapshot snapshot
+     * @return true if the snapshot is changed
+     */
+    private boolean swap( @Nonnull final ImmutableSetMultimap<K, V> p_snapshot )
+    {
+        if ( p_snapshot.size() == m_snapshot.size() )
+            return false;
+
+        m_snapshot = p_snapshot;
+        return true;
+    }
+
+    /**
+     * cast any object to the key type
+     *
+     * @param p_key key object
+     * @return casted key
+     */
+    @SuppressWarnings( "unchecked" )
+    private K cast( final Object p_key )
+    {
+        return (K) p_key;
+    }
+}
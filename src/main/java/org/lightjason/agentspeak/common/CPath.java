@@ -24,6 +24,8 @@
 package org.lightjason.agentspeak.common;
 
 import com.google.common.base.Charsets;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import com.google.common.hash.Hasher;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.apache.commons.lang3.StringUtils;
@@ -34,16 +36,9 @@ import javax.annotation.Nullable;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
-import java.util.Set;
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.function.BiConsumer;
-import java.util.function.BinaryOperator;
-import java.util.function.Function;
-import java.util.function.Supplier;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -51,7 +46,10 @@ import java.util.stream.Stream;
 
 
 /**
- * class to create a path structure
+ * class to create an immutable path structure
+ *
+ * @note paths which are created by the factory methods are interned within a global path table,
+ * so equal paths share the same instance and equality is checked by identity first
  */
 public final class CPath implements IPath
 {
@@ -60,13 +58,21 @@ public final class CPath implements IPath
      */
     private static final long serialVersionUID = -8502900889333744887L;
     /**
-     * list with path parts *
+     * global path table
      */
-    private final List<String> m_path;
+    private static final Interner<CPath> PATHTABLE = Interners.newWeakInterner();
     /**
-     * separator of the path elements *
+     * path parts
      */
-    private String m_separator = DEFAULTSEPERATOR;
+    private final String[] m_path;
+    /**
+     * separator of the path elements
+     */
+    private final String m_separator;
+    /**
+     * precomputed hash code
+     */
+    private final int m_hash;
 
     /**
      * copy-ctor with arguments
@@ -74,11 +80,9 @@ public final class CPath implements IPath
      * @param p_path path object
      * @param p_varargs string arguments
      */
-    public CPath( final IPath p_path, final String... p_varargs )
+    public CPath( @Nonnull final IPath p_path, @Nonnull final String... p_varargs )
     {
-        this( p_path );
-        m_path.addAll( Arrays.asList( p_varargs ) );
-        this.normalize();
+        this( normalize( Stream.concat( p_path.stream(), Arrays.stream( p_varargs ) ) ), p_path.separator() );
     }
 
     /**
@@ -88,9 +92,7 @@ public final class CPath implements IPath
      */
     public CPath( @Nonnull final IPath p_path )
     {
-        m_path = p_path.stream().filter( i -> !i.isEmpty() )
-                       .collect( CPath.collectorfactory() );
-        m_separator = p_path.separator();
+        this( p_path.stream().filter( i -> !i.isEmpty() ).toArray( String[]::new ), p_path.separator() );
     }
 
     /**
@@ -100,18 +102,7 @@ public final class CPath implements IPath
      */
     public CPath( @Nullable final String... p_varargs )
     {
-        if ( Objects.isNull( p_varargs ) || p_varargs.length == 0 )
-            m_path = CPath.listfactory();
-        else
-        {
-            m_path = Arrays.stream( StringUtils.join( p_varargs, m_separator ).split( m_separator ) )
-                           .map( String::trim )
-                           .filter( i -> !i.isEmpty() )
-                           .collect( CPath.collectorfactory() );
-            if ( m_path.size() == 0 )
-                throw new CNoSuchElementException( CCommon.languagestring( this, "pathempty" ) );
-        }
-        this.normalize();
+        this( split( p_varargs ), DEFAULTSEPERATOR );
     }
 
     /**
@@ -121,16 +112,23 @@ public final class CPath implements IPath
      */
     public CPath( @Nonnull final Stream<String> p_stream )
     {
-        m_path = p_stream.collect( CPath.collectorfactory() );
-        this.normalize();
+        this( normalize( p_stream ), DEFAULTSEPERATOR );
     }
 
     /**
-     * private ctor for empty path
+     * private ctor
+     *
+     * @param p_path normalized path parts
+     * @param p_separator separator
      */
-    private CPath()
+    private CPath( @Nonnull final String[] p_path, @Nonnull final String p_separator )
     {
-        m_path = Collections.emptyList();
+        m_path = p_path;
+        m_separator = p_separator.isEmpty() ? DEFAULTSEPERATOR : p_separator;
+
+        final Hasher l_hasher = org.lightjason.agentspeak.language.CCommon.termhashing();
+        Arrays.stream( m_path ).forEach( i -> l_hasher.putString( i, Charsets.UTF_8 ) );
+        m_hash = l_hasher.hash().hashCode();
     }
 
     /**
@@ -142,7 +140,7 @@ public final class CPath implements IPath
     @Nonnull
     public static IPath createPath( @Nonnull final String... p_varargs )
     {
-        return new CPath( p_varargs );
+        return intern( new CPath( p_varargs ) );
     }
 
     /**
@@ -154,10 +152,10 @@ public final class CPath implements IPath
     @Nonnull
     public static IPath createPathWithSeperator( @Nonnull final String... p_varargs )
     {
-        return new CPath(
+        return intern( new CPath(
             Arrays.asList( p_varargs ).subList( 1, p_varargs.length ).stream()
                   .flatMap( i -> Arrays.stream( StringUtils.split( i, p_varargs[0] ) ) )
-        );
+        ) );
     }
 
     /**
@@ -172,35 +170,52 @@ public final class CPath implements IPath
         return p_string.isEmpty() ? EMPTY : createPathWithSeperator( DEFAULTSEPERATOR, p_string );
     }
 
+    /**
+     * factor method to get the interned path
+     *
+     * @param p_path path
+     * @return interned path
+     */
+    @Nonnull
+    public static IPath of( @Nonnull final IPath p_path )
+    {
+        return intern( p_path instanceof CPath ? (CPath) p_path : new CPath( p_path ) );
+    }
+
     @Nonnull
     @Override
     public IPath append( @Nonnull final IPath p_path )
     {
-        return new CPath( this ).pushback( p_path );
+        return intern( new CPath( Stream.concat( Arrays.stream( m_path ), p_path.stream() ).toArray( String[]::new ), m_separator ) );
     }
 
     @Nonnull
     @Override
     public IPath append( @Nonnull final String p_path )
     {
-        return new CPath( this ).pushback( p_path );
+        return this.append( new CPath( p_path ) );
     }
 
     @Nonnull
     @Override
     public IPath remove( final int p_index )
     {
-        if ( !m_path.isEmpty() )
-            m_path.remove( p_index );
-        return this;
+        return m_path.length == 0
+               ? this
+               : intern( new CPath(
+                   IntStream.range( 0, m_path.length ).filter( i -> i != p_index ).mapToObj( i -> m_path[i] ).toArray( String[]::new ),
+                   m_separator
+               ) );
     }
 
     @Nonnull
     @Override
     public IPath remove( final int p_start, final int p_end )
     {
-        m_path.subList( p_start, p_end ).clear();
-        return this;
+        return intern( new CPath(
+            Stream.concat( Arrays.stream( m_path, 0, p_start ), Arrays.stream( m_path, p_end, m_path.length ) ).toArray( String[]::new ),
+            m_separator
+        ) );
     }
 
     @Override
@@ -210,10 +225,10 @@ public final class CPath implements IPath
     }
 
     @Override
-    public synchronized boolean endswith( @Nonnull final IPath p_path )
+    public boolean endswith( @Nonnull final IPath p_path )
     {
-        return p_path.size() <= this.size()
-               && IntStream.range( 0, p_path.size() ).boxed().parallel().allMatch( i -> this.get( i - p_path.size() ).equals( p_path.get( i ) ) );
+        return p_path.size() <= m_path.length
+               && IntStream.range( 0, p_path.size() ).allMatch( i -> m_path[m_path.length - p_path.size() + i].equals( p_path.get( i ) ) );
     }
 
     @Override
@@ -225,16 +240,15 @@ public final class CPath implements IPath
     @Override
     public boolean startswith( @Nonnull final IPath p_path )
     {
-        return p_path.size() <= this.size()
-               && IntStream.range( 0, p_path.size() ).boxed().parallel().allMatch( i -> this.get( i ).equals( p_path.get( i ) ) );
-
+        return p_path.size() <= m_path.length
+               && IntStream.range( 0, p_path.size() ).allMatch( i -> m_path[i].equals( p_path.get( i ) ) );
     }
 
     @Nonnull
     @Override
     public String get( final int p_index )
     {
-        return p_index < 0 ? m_path.get( m_path.size() + p_index ) : m_path.get( p_index );
+        return p_index < 0 ? m_path[m_path.length + p_index] : m_path[p_index];
     }
 
     @Nonnull
@@ -265,24 +279,21 @@ public final class CPath implements IPath
         if ( p_separator.isEmpty() )
             throw new CNoSuchElementException( CCommon.languagestring( this, "separatornotempty" ) );
 
-        m_separator = p_separator;
-        return this;
+        return intern( new CPath( m_path, p_separator ) );
     }
 
     @Nonnull
     @Override
-    public synchronized IPath lower()
+    public IPath lower()
     {
-        IntStream.range( 0, m_path.size() ).boxed().parallel().forEach( i -> m_path.set( i, m_path.get( i ).toLowerCase( Locale.ROOT ) ) );
-        return this;
+        return intern( new CPath( Arrays.stream( m_path ).map( i -> i.toLowerCase( Locale.ROOT ) ).toArray( String[]::new ), m_separator ) );
     }
 
     @Nonnull
     @Override
-    public synchronized IPath upper()
+    public IPath upper()
     {
-        IntStream.range( 0, m_path.size() ).boxed().parallel().forEach( i -> m_path.set( i, m_path.get( i ).toUpperCase( Locale.ROOT ) ) );
-        return this;
+        return intern( new CPath( Arrays.stream( m_path ).map( i -> i.toUpperCase( Locale.ROOT ) ).toArray( String[]::new ), m_separator ) );
     }
 
     @Nonnull
@@ -296,40 +307,41 @@ public final class CPath implements IPath
     @Override
     public IPath subpath( final int p_fromindex, final int p_toindex )
     {
-        return new CPath(
+        return intern( new CPath(
             p_toindex == 0
-            ? Stream.empty()
-            : IntStream.range(
-                p_fromindex,
-                p_toindex > 0 ? p_toindex : this.size() + p_toindex
-            )
-                       .mapToObj( m_path::get )
-        ).separator( m_separator );
+            ? new String[0]
+            : Arrays.copyOfRange( m_path, p_fromindex, p_toindex > 0 ? p_toindex : m_path.length + p_toindex ),
+            m_separator
+        ) );
     }
 
     @Nonnull
     @Override
-    public synchronized String suffix()
+    public String suffix()
     {
-        return m_path.isEmpty()
+        return m_path.length == 0
                ? ""
-               : m_path.get( m_path.size() - 1 );
+               : m_path[m_path.length - 1];
     }
 
     @Override
     public int hashCode()
     {
-        final Hasher l_hasher = org.lightjason.agentspeak.language.CCommon.termhashing();
-        m_path.forEach( i -> l_hasher.putString( i, Charsets.UTF_8 ) );
-        return l_hasher.hash().hashCode();
+        return m_hash;
     }
 
     @Override
     @SuppressFBWarnings( "EQ_CHECK_FOR_OPERAND_NOT_COMPATIBLE_WITH_THIS" )
     public boolean equals( final Object p_object )
     {
-        return p_object instanceof IPath && this.hashCode() == p_object.hashCode()
-               || p_object instanceof String && this.path().hashCode() == p_object.hashCode();
+        if ( this == p_object )
+            return true;
+
+        if ( p_object instanceof CPath )
+            return m_hash == p_object.hashCode() && Arrays.equals( m_path, ( (CPath) p_object ).m_path );
+
+        return p_object instanceof IPath && m_hash == p_object.hashCode()
+               || p_object instanceof String && this.path().equals( p_object );
     }
 
     @Override
@@ -345,75 +357,55 @@ public final class CPath implements IPath
      */
     public boolean empty()
     {
-        return m_path.isEmpty();
+        return m_path.length == 0;
     }
 
     @Nonnull
     @Override
     public IPath pushback( @Nonnull final IPath p_path )
     {
-        p_path.stream().forEach( m_path::add );
-        return this;
+        return this.append( p_path );
     }
 
     @Nonnull
     @Override
     public IPath pushback( @Nonnull final String p_path )
     {
-        this.pushback( new CPath( p_path ) );
-        return this;
+        return this.append( p_path );
     }
 
     @Nonnull
     @Override
     public IPath pushfront( @Nonnull final String p_path )
     {
-        this.pushfront( new CPath( p_path ) );
-        return this;
+        return this.pushfront( new CPath( p_path ) );
     }
 
     @Nonnull
     @Override
-    public synchronized IPath pushfront( @Nonnull final IPath p_path )
+    public IPath pushfront( @Nonnull final IPath p_path )
     {
-        final List<String> l_path = Stream.concat( p_path.stream(), m_path.stream() ).collect( Collectors.toList() );
-        m_path.clear();
-        m_path.addAll( l_path );
-        return this;
-    }
-
-    @Nonnull
-    @Override
-    public String removesuffix()
-    {
-        if ( this.empty() )
-            return "";
-
-        final String l_suffix = this.suffix();
-        if ( m_path.size() > 0 )
-            m_path.remove( m_path.size() - 1 );
-        return l_suffix;
+        return intern( new CPath( Stream.concat( p_path.stream(), Arrays.stream( m_path ) ).toArray( String[]::new ), m_separator ) );
     }
 
     @Nonnull
     @Override
     public IPath reverse()
     {
-        Collections.reverse( m_path );
-        return this;
+        return intern( new CPath( IntStream.range( 0, m_path.length ).mapToObj( i -> m_path[m_path.length - 1 - i] ).toArray( String[]::new ), m_separator ) );
     }
 
     @Override
     public int size()
     {
-        return m_path.size();
+        return m_path.length;
     }
 
     @Nonnull
     @Override
     public Stream<String> stream()
     {
-        return m_path.stream();
+        return Arrays.stream( m_path );
     }
 
     @Override
@@ -423,137 +415,90 @@ public final class CPath implements IPath
     }
 
     /**
-     * normalize the internal path
+     * returns the interned path on deserialization
+     *
+     * @return interned path
      */
-    private synchronized void normalize()
+    private Object readResolve()
     {
-        if ( m_path.isEmpty() )
-            return;
-
-        // normalize path
-        final List<String> l_cleared = new ArrayList<>();
-        Paths.get( m_path.get( 0 ), m_path.stream().skip( 1 ).toArray( String[]::new ) ).normalize().forEach( i -> cleared( l_cleared, i.toString().trim() ) );
-
-        // clear internal path and add optimized path
-        m_path.clear();
-        m_path.addAll( l_cleared );
+        return intern( this );
     }
 
     /**
-     * cleared data
+     * returns the interned instance of a path
      *
-     * @param p_list cleared list
-     * @param p_value string value
+     * @param p_path path
+     * @return interned path
+     * @note only paths with the default separator are interned, because the separator is not part of the equality
      */
-    private static void cleared( @Nonnull final List<String> p_list, @Nonnull final String p_value )
+    @Nonnull
+    private static CPath intern( @Nonnull final CPath p_path )
     {
-        if ( p_value.isEmpty() || p_value.isBlank() || ".".equals( p_value ) || "..".equals( p_value ) )
-            return;
-
-        p_list.add( p_value );
+        return DEFAULTSEPERATOR.equals( p_path.m_separator ) ? PATHTABLE.intern( p_path ) : p_path;
     }
 
     /**
-     * collector factory
+     * splits and normalizes string items
      *
-     * @return collector
+     * @param p_varargs string items
+     * @return normalized path parts
      */
     @Nonnull
-    private static Collector<String, List<String>, List<String>> collectorfactory()
-    {
-        return new Collector<>()
-        {
-            @Override
-            public Supplier<List<String>> supplier()
-            {
-                return CopyOnWriteArrayList::new;
-            }
-
-            @Override
-            public BiConsumer<List<String>, String> accumulator()
-            {
-                return List::add;
-            }
-
-            @Override
-            public BinaryOperator<List<String>> combiner()
-            {
-                return ( i, j ) ->
-                {
-                    i.addAll( j );
-                    return i;
-                };
-            }
-
-            @Override
-            public Function<List<String>, List<String>> finisher()
-            {
-                return i -> i;
-            }
-
-            @Override
-            public Set<Characteristics> characteristics()
-            {
-                return Collections.emptySet();
-            }
-        };
+    private static String[] split( @Nullable final String... p_varargs )
+    {
+        if ( Objects.isNull( p_varargs ) || p_varargs.length == 0 )
+            return new String[0];
+
+        final String[] l_path = normalize(
+            Arrays.stream( StringUtils.join( p_varargs, DEFAULTSEPERATOR ).split( DEFAULTSEPERATOR ) )
+                  .map( String::trim )
+                  .filter( i -> !i.isEmpty() )
+        );
+        if ( l_path.length == 0 )
+            throw new CNoSuchElementException( CCommon.languagestring( CPath.class, "pathempty" ) );
+
+        return l_path;
     }
 
     /**
-     * list factory
+     * normalize path parts
      *
-     * @return list
+     * @param p_stream path parts
+     * @return normalized path parts
      */
     @Nonnull
-    private static List<String> listfactory()
+    private static String[] normalize( @Nonnull final Stream<String> p_stream )
     {
-        return new CopyOnWriteArrayList<>();
+        final String[] l_path = p_stream.toArray( String[]::new );
+        if ( l_path.length == 0 )
+            return l_path;
+
+        final List<String> l_cleared = new ArrayList<>();
+        Paths.get( l_path[0], Arrays.copyOfRange( l_path, 1, l_path.length ) ).normalize().forEach( i -> cleared( l_cleared, i.toString().trim() ) );
+        return l_cleared.toArray( String[]::new );
     }
 
     /**
-     * returns a collector to build a path of strings
+     * cleared data
      *
-     * @return collector
+     * @param p_list cleared list
+     * @param p_value string value
      */
-    public static Collector<String, IPath, IPath> collect()
+    private static void cleared( @Nonnull final List<String> p_list, @Nonnull final String p_value )
     {
-        return new CPathCollector();
+        if ( p_value.isEmpty() || p_value.isBlank() || ".".equals( p_value ) || "..".equals( p_value ) )
+            return;
+
+        p_list.add( p_value );
     }
 
     /**
-     * path collector
+     * returns a collector to build a path of strings
+     *
+     * @return collector
      */
-    private static final class CPathCollector implements Collector<String, IPath, IPath>
-    {
-
-        @Override
-        public Supplier<IPath> supplier()
-        {
-            return () -> new CPath( Stream.empty() );
-        }
-
-        @Override
-        public BiConsumer<IPath, String> accumulator()
-        {
-            return IPath::pushback;
-        }
-
-        @Override
-        public BinaryOperator<IPath> combiner()
-        {
-            return IPath::pushback;
-        }
-
-        @Override
-        public Function<IPath, IPath> finisher()
-        {
-            return Function.identity();
-        }
-
-        @Override
-        public Set<Characteristics> characteristics()
-        {
-            return Collections.emptySet();
-        }
+    public static Collector<String, ?, IPath> collect()
+    {
+        return Collectors.collectingAndThen( Collectors.toList(), i -> intern( new CPath( i.toArray( String[]::new ), DEFAULTSEPERATOR ) ) );
     }
 }
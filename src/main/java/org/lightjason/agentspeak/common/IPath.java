@@ -35,6 +35,7 @@ import java.util.stream.Stream;
  * interface of a path
  *
  * @note implement equals with String object, so a path object can be checked to a String
+ * @note a path is immutable, all modifying methods return a new path object
  */
 public interface IPath extends Serializable, Comparable<IPath>
 {
@@ -185,13 +186,6 @@ public interface IPath extends Serializable, Comparable<IPath>
             return this;
         }
 
-        @Nonnull
-        @Override
-        public String removesuffix()
-        {
-            return "";
-        }
-
         @Nonnull
         @Override
         public IPath reverse()
@@ -285,7 +279,7 @@ public interface IPath extends Serializable, Comparable<IPath>
      * removes an element
      *
      * @param p_index index position
-     * @return return the changed object
+     * @return new path
      */
     @Nonnull
     IPath remove( final int p_index );
@@ -295,7 +289,7 @@ public interface IPath extends Serializable, Comparable<IPath>
      *
      * @param p_start start index
      * @param p_end end index (exclusive)
-     * @return return the changed object
+     * @return new path
      */
     @Nonnull
     IPath remove( final int p_start, final int p_end );
@@ -345,7 +339,7 @@ public interface IPath extends Serializable, Comparable<IPath>
      * sets the separator
      *
      * @param p_separator separator
-     * @return path object
+     * @return new path
      */
     @Nonnull
     IPath separator( @Nonnull final String p_separator );
@@ -353,7 +347,7 @@ public interface IPath extends Serializable, Comparable<IPath>
     /**
      * changes all elements to lower-case
      *
-     * @return object
+     * @return new path
      */
     @Nonnull
     IPath lower();
@@ -361,7 +355,7 @@ public interface IPath extends Serializable, Comparable<IPath>
     /**
      * changes all elements to uppercase
      *
-     * @return object
+     * @return new path
      */
     @Nonnull
     IPath upper();
@@ -397,7 +391,7 @@ public interface IPath extends Serializable, Comparable<IPath>
      * adds a path at the end
      *
      * @param p_path path
-     * @return return the changed object
+     * @return new path
      */
     @Nonnull
     IPath pushback( @Nonnull final IPath p_path );
@@ -406,7 +400,7 @@ public interface IPath extends Serializable, Comparable<IPath>
      * adds a path at the end
      *
      * @param p_path string path
-     * @return return the changed object
+     * @return new path
      */
     @Nonnull
     IPath pushback( @Nonnull final String p_path );
@@ -415,7 +409,7 @@ public interface IPath extends Serializable, Comparable<IPath>
      * adds a path at the front
      *
      * @param p_path string path
-     * @return return the changed object
+     * @return new path
      */
     @Nonnull
     IPath pushfront( @Nonnull final String p_path );
@@ -424,23 +418,15 @@ public interface IPath extends Serializable, Comparable<IPath>
      * adds a path to the front of the path
      *
      * @param p_path path
-     * @return return the changed object
+     * @return new path
      */
     @Nonnull
     IPath pushfront( @Nonnull final IPath p_path );
 
-    /**
-     * remove the suffix of the path
-     *
-     * @return last item of the path
-     */
-    @Nonnull
-    String removesuffix();
-
     /**
      * reverse path
      *
-     * @return return the changed object
+     * @return new path
      */
     @Nonnull
     IPath reverse();
@@ -23,17 +23,26 @@
 
 package org.lightjason.agentspeak.configuration;
 
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.SetMultimap;
 import org.apache.commons.lang3.StringUtils;
 import org.lightjason.agentspeak.agent.IAgent;
 import org.lightjason.agentspeak.beliefbase.CBeliefbase;
-import org.lightjason.agentspeak.beliefbase.storage.CMultiStorage;
+import org.lightjason.agentspeak.beliefbase.storage.CIndexStorage;
+import org.lightjason.agentspeak.beliefbase.storage.COverlayStorage;
+import org.lightjason.agentspeak.beliefbase.storage.IStorage;
 import org.lightjason.agentspeak.beliefbase.view.IView;
 import org.lightjason.agentspeak.common.CCommon;
+import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.language.execution.IVariableBuilder;
 import org.lightjason.agentspeak.language.execution.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.index.CPlanIndex;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.index.IPlanIndex;
 import org.lightjason.agentspeak.language.execution.instantiable.plan.trigger.ITrigger;
 import org.lightjason.agentspeak.language.execution.instantiable.rule.IRule;
+import org.lightjason.agentspeak.language.execution.policy.CExecutionPolicy;
+import org.lightjason.agentspeak.language.execution.policy.IExecutionPolicy;
 import org.lightjason.agentspeak.language.fuzzy.bundle.IFuzzyBundle;
 import org.lightjason.agentspeak.language.unifier.IUnifier;
 
@@ -72,6 +81,10 @@ public class CDefaultAgentConfiguration<T extends IAgent<?>> implements IAgentCo
      * instance of agent plans
      */
     protected final Set<IPlan> m_plans;
+    /**
+     * plan index
+     */
+    protected final IPlanIndex m_planindex;
     /**
      * instance of variable builder
      */
@@ -88,6 +101,18 @@ public class CDefaultAgentConfiguration<T extends IAgent<?>> implements IAgentCo
      * rules
      */
     protected final Set<IRule> m_rules;
+    /**
+     * rules with literal functor
+     */
+    protected final SetMultimap<IPath, IRule> m_ruleindex;
+    /**
+     * initial beliefs of the root view, which are shared between all agents
+     */
+    protected final IStorage<ILiteral, IView> m_beliefbaselayer;
+    /**
+     * execution policy
+     */
+    protected final IExecutionPolicy m_executionpolicy;
 
 
     /**
@@ -124,16 +149,50 @@ public class CDefaultAgentConfiguration<T extends IAgent<?>> implements IAgentCo
                                        @Nonnull final ITrigger p_initialgoal, @Nonnull final IUnifier p_unifier,
                                        @Nonnull final IVariableBuilder p_variablebuilder
     )
+    {
+        this( p_fuzzy, p_initialbeliefs, p_plans, p_rules, p_initialgoal, p_unifier, p_variablebuilder, CExecutionPolicy.DEFAULT );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_fuzzy fuzzy bundle
+     * @param p_initialbeliefs set with initial beliefs
+     * @param p_plans plans
+     * @param p_rules rules
+     * @param p_initialgoal initial goal
+     * @param p_unifier unifier component
+     * @param p_variablebuilder variable builder
+     * @param p_executionpolicy execution policy
+     */
+    public CDefaultAgentConfiguration( @Nonnull final IFuzzyBundle p_fuzzy, @Nonnull final Collection<ILiteral> p_initialbeliefs,
+                                       @Nonnull final Set<IPlan> p_plans, @Nonnull final Set<IRule> p_rules,
+                                       @Nonnull final ITrigger p_initialgoal, @Nonnull final IUnifier p_unifier,
+                                       @Nonnull final IVariableBuilder p_variablebuilder, @Nonnull final IExecutionPolicy p_executionpolicy
+    )
     {
         m_fuzzy = p_fuzzy;
         m_unifier = p_unifier;
         m_variablebuilder = p_variablebuilder;
+        m_executionpolicy = p_executionpolicy;
 
         m_initialgoal = p_initialgoal;
         m_plans = Collections.unmodifiableSet( p_plans );
+        m_planindex = CPlanIndex.of( m_plans.stream() );
         m_rules = Collections.unmodifiableSet( p_rules );
         m_initialbeliefs = Collections.unmodifiableCollection( p_initialbeliefs );
 
+        final ImmutableSetMultimap.Builder<IPath, IRule> l_rules = ImmutableSetMultimap.builder();
+        m_rules.forEach( i -> l_rules.put( i.identifier().fqnfunctor(), i ) );
+        m_ruleindex = l_rules.build();
+
+        // the shared layer is indexed once, so queries of all agents use the argument index of the initial beliefs
+        m_beliefbaselayer = new CIndexStorage<>();
+        m_initialbeliefs.stream()
+                        .filter( i -> i.functorpath().empty() )
+                        .map( ILiteral::shallowcopysuffix )
+                        .forEach( i -> m_beliefbaselayer.putmulti( i.functor(), i ) );
+
         LOGGER.info( MessageFormat.format( "create agent configuration: {0}", this ) );
     }
 
@@ -141,8 +200,9 @@ public class CDefaultAgentConfiguration<T extends IAgent<?>> implements IAgentCo
     @Override
     public IView beliefbase()
     {
-        final IView l_beliefbase = new CBeliefbase( new CMultiStorage<>() ).create( BELIEFBASEROOTNAME );
-        m_initialbeliefs.forEach( i -> l_beliefbase.add( i.shallowcopy() ) );
+        // initial beliefs of the root view are stored within the shared layer, so the agent stores only changes
+        final IView l_beliefbase = new CBeliefbase( new COverlayStorage<>( m_beliefbaselayer, new CIndexStorage<>() ) ).create( BELIEFBASEROOTNAME );
+        m_initialbeliefs.stream().filter( i -> !i.functorpath().empty() ).forEach( i -> l_beliefbase.add( i.shallowcopy() ) );
 
         // clear all events of the initial beliefs
         l_beliefbase.trigger();
@@ -185,6 +245,27 @@ public class CDefaultAgentConfiguration<T extends IAgent<?>> implements IAgentCo
         return m_initialbeliefs;
     }
 
+    @Nonnull
+    @Override
+    public final IPlanIndex planindex()
+    {
+        return m_planindex;
+    }
+
+    @Nonnull
+    @Override
+    public final SetMultimap<IPath, IRule> ruleindex()
+    {
+        return m_ruleindex;
+    }
+
+    @Nonnull
+    @Override
+    public final IExecutionPolicy executionpolicy()
+    {
+        return m_executionpolicy;
+    }
+
     @Nonnull
     @Override
     public final Set<IPlan> plans()
@@ -214,9 +295,10 @@ public class CDefaultAgentConfiguration<T extends IAgent<?>> implements IAgentCo
         ).trim();
 
         return MessageFormat.format(
-            "{0} ( unifier: {1} / {2} {3} )",
+            "{0} ( unifier: {1} / {2} / {3} {4} )",
             super.toString(),
             m_unifier,
+            m_executionpolicy,
             m_fuzzy,
             l_elements.isEmpty() ? "" : l_elements
         ).trim();
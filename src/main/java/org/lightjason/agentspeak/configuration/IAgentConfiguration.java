@@ -23,11 +23,17 @@
 
 package org.lightjason.agentspeak.configuration;
 
+import com.google.common.collect.SetMultimap;
 import org.lightjason.agentspeak.agent.IAgent;
 import org.lightjason.agentspeak.beliefbase.view.IView;
+import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.language.execution.IVariableBuilder;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.index.IPlanIndex;
 import org.lightjason.agentspeak.language.execution.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.execution.instantiable.rule.IRule;
+import org.lightjason.agentspeak.language.execution.policy.CExecutionPolicy;
+import org.lightjason.agentspeak.language.execution.policy.IExecutionPolicy;
 import org.lightjason.agentspeak.language.fuzzy.bundle.IFuzzyBundle;
 import org.lightjason.agentspeak.language.unifier.IUnifier;
 
@@ -91,4 +97,37 @@ public interface IAgentConfiguration<T extends IAgent<?>> extends IConfiguration
     @Nonnull
     Collection<ILiteral> initialbeliefs();
 
+    /**
+     * returns the plan index
+     *
+     * @return plan index
+     *
+     * @note the index is shared between all agents of the configuration
+     */
+    @Nonnull
+    IPlanIndex planindex();
+
+    /**
+     * returns the rules with the literal functor
+     *
+     * @return unmodifiable multimap
+     *
+     * @note the multimap is shared between all agents of the configuration
+     */
+    @Nonnull
+    SetMultimap<IPath, IRule> ruleindex();
+
+    /**
+     * returns the execution policy
+     *
+     * @return policy
+     *
+     * @note the policy is shared between all agents of the configuration
+     */
+    @Nonnull
+    default IExecutionPolicy executionpolicy()
+    {
+        return CExecutionPolicy.DEFAULT;
+    }
+
 }
@@ -31,6 +31,8 @@ import org.lightjason.agentspeak.common.IPath;
 
 import javax.annotation.Nonnull;
 import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -51,6 +53,10 @@ public final class CActionGenerator extends IBaseActionGenerator
      * agent classes with action
      */
     private final Set<Class<? extends IAgent<?>>> m_classes;
+    /**
+     * all actions of the packages and classes, which are loaded on the first request
+     */
+    private volatile Map<IPath, IAction> m_index;
 
     /**
      * ctor
@@ -93,10 +99,36 @@ public final class CActionGenerator extends IBaseActionGenerator
      */
     protected Optional<IAction> stream( @Nonnull final IPath p_path )
     {
-        return Stream.concat(
-            CCommon.actionsFromPackage( m_packages.stream() ),
-            CCommon.actionsFromAgentClass( m_classes.stream() )
-        ).parallel().filter( i -> i.name().equals( p_path ) ).findFirst();
+        return Optional.ofNullable( this.index().get( p_path ) );
+    }
+
+    /**
+     * returns the actions of the packages and classes
+     *
+     * @return map with action name and action
+     *
+     * @note actions are instantiated once, so a missing action does not load all actions again
+     */
+    @Nonnull
+    private Map<IPath, IAction> index()
+    {
+        Map<IPath, IAction> l_index = m_index;
+        if ( Objects.nonNull( l_index ) )
+            return l_index;
+
+        synchronized ( this )
+        {
+            l_index = m_index;
+            if ( Objects.isNull( l_index ) )
+            {
+                l_index = Stream.concat(
+                    CCommon.actionsFromPackage( m_packages.stream() ),
+                    CCommon.actionsFromAgentClass( m_classes.stream() )
+                ).collect( Collectors.toUnmodifiableMap( IAction::name, i -> i, ( i, j ) -> i ) );
+                m_index = l_index;
+            }
+            return l_index;
+        }
     }
 
 }
@@ -26,6 +26,7 @@ package org.lightjason.agentspeak.generator;
 import org.lightjason.agentspeak.agent.CDefaultPlanBundle;
 import org.lightjason.agentspeak.agent.IPlanBundle;
 import org.lightjason.agentspeak.configuration.IPlanBundleConfiguration;
+import org.lightjason.agentspeak.grammar.IScriptCache;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -51,6 +52,22 @@ public final class CDefaultPlanBundleGenerator extends IBasePlanBundleGenerator
         super( p_stream, p_actions, p_lambda );
     }
 
+    /**
+     * ctor
+     *
+     * @param p_stream input stream
+     * @param p_actions action generator
+     * @param p_lambda lambda streaming generator
+     * @param p_cache script cache
+     */
+    public CDefaultPlanBundleGenerator( @Nonnull final InputStream p_stream,
+                                        @Nonnull final IActionGenerator p_actions,
+                                        @Nonnull final ILambdaStreamingGenerator p_lambda,
+                                        @Nonnull final IScriptCache p_cache )
+    {
+        super( p_stream, p_actions, p_lambda, p_cache );
+    }
+
     /**
      * ctor
      *
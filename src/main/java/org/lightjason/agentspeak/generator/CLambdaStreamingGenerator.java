@@ -30,6 +30,7 @@ import org.lightjason.agentspeak.language.execution.lambda.ILambdaStreaming;
 
 import javax.annotation.Nonnull;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -60,6 +61,10 @@ public final class CLambdaStreamingGenerator implements ILambdaStreamingGenerato
      * use cache
      */
     private final boolean m_usecache;
+    /**
+     * lambda-streaming objects of the packages, which are loaded on the first request
+     */
+    private transient volatile List<ILambdaStreaming<?>> m_index;
 
 
     /**
@@ -122,11 +127,37 @@ public final class CLambdaStreamingGenerator implements ILambdaStreamingGenerato
      */
     private ILambdaStreaming<?> withoutcache( @NonNull final Set<Class<?>> p_hierarchie )
     {
-        return CCommon.lambdastreamingFromPackage( m_packages.toArray( String[]::new ) )
-                      .parallel()
-                      .filter( i -> i.assignable().anyMatch( p_hierarchie::contains ) )
-                      .findFirst()
-                      .orElse( ILambdaStreaming.EMPTY );
+        return this.index()
+                   .stream()
+                   .filter( i -> i.assignable().anyMatch( p_hierarchie::contains ) )
+                   .findFirst()
+                   .orElse( ILambdaStreaming.EMPTY );
+    }
+
+    /**
+     * returns the lambda-streaming objects of the packages
+     *
+     * @return lambda-streaming list
+     *
+     * @note objects are instantiated once, so packages are not read again on each call
+     */
+    @Nonnull
+    private List<ILambdaStreaming<?>> index()
+    {
+        List<ILambdaStreaming<?>> l_index = m_index;
+        if ( Objects.nonNull( l_index ) )
+            return l_index;
+
+        synchronized ( this )
+        {
+            l_index = m_index;
+            if ( Objects.isNull( l_index ) )
+            {
+                l_index = CCommon.lambdastreamingFromPackage( m_packages.toArray( String[]::new ) ).collect( Collectors.toUnmodifiableList() );
+                m_index = l_index;
+            }
+            return l_index;
+        }
     }
 
     /**
@@ -28,13 +28,17 @@ import org.lightjason.agentspeak.agent.IAgent;
 import org.lightjason.agentspeak.agent.IPlanBundle;
 import org.lightjason.agentspeak.configuration.CDefaultAgentConfiguration;
 import org.lightjason.agentspeak.configuration.IAgentConfiguration;
-import org.lightjason.agentspeak.grammar.CParserAgent;
-import org.lightjason.agentspeak.grammar.IASTVisitorAgent;
+import org.lightjason.agentspeak.grammar.CScript;
+import org.lightjason.agentspeak.grammar.IScriptCache;
 import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.language.execution.IVariableBuilder;
 import org.lightjason.agentspeak.language.execution.instantiable.plan.IPlan;
 import org.lightjason.agentspeak.language.execution.instantiable.plan.trigger.ITrigger;
 import org.lightjason.agentspeak.language.execution.instantiable.rule.IRule;
+import org.lightjason.agentspeak.language.execution.optimizer.COptimizer;
+import org.lightjason.agentspeak.language.execution.optimizer.IOptimizer;
+import org.lightjason.agentspeak.language.execution.policy.CExecutionPolicy;
+import org.lightjason.agentspeak.language.execution.policy.IExecutionPolicy;
 import org.lightjason.agentspeak.language.fuzzy.bundle.IFuzzyBundle;
 import org.lightjason.agentspeak.language.unifier.IUnifier;
 
@@ -60,6 +64,10 @@ public abstract class IBaseAgentGenerator<T extends IAgent<?>> implements IAgent
      * configuration of an agent
      */
     protected final IAgentConfiguration<T> m_configuration;
+    /**
+     * optimizer of plans and rules
+     */
+    private final IOptimizer m_optimizer;
 
 
     /**
@@ -103,30 +111,91 @@ public abstract class IBaseAgentGenerator<T extends IAgent<?>> implements IAgent
                                 @Nonnull final ILambdaStreamingGenerator p_lambda, @Nonnull final Set<IPlanBundle> p_planbundle,
                                 @Nonnull final IVariableBuilder p_variablebuilder )
     {
-        final IASTVisitorAgent l_visitor = new CParserAgent( p_actions, p_lambda ).parse( p_stream );
+        this( p_stream, p_actions, p_lambda, p_planbundle, p_variablebuilder, CExecutionPolicy.DEFAULT );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_stream input stream
+     * @param p_actions action generator
+     * @param p_lambda lambda generator
+     * @param p_planbundle set with planbundles
+     * @param p_variablebuilder variable builder (can be set to null)
+     * @param p_executionpolicy execution policy of the agents
+     */
+    public IBaseAgentGenerator( @Nonnull final InputStream p_stream, @Nonnull final IActionGenerator p_actions,
+                                @Nonnull final ILambdaStreamingGenerator p_lambda, @Nonnull final Set<IPlanBundle> p_planbundle,
+                                @Nonnull final IVariableBuilder p_variablebuilder, @Nonnull final IExecutionPolicy p_executionpolicy )
+    {
+        this( p_stream, p_actions, p_lambda, p_planbundle, p_variablebuilder, p_executionpolicy, false );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_stream input stream
+     * @param p_actions action generator
+     * @param p_lambda lambda generator
+     * @param p_planbundle set with planbundles
+     * @param p_variablebuilder variable builder (can be set to null)
+     * @param p_executionpolicy execution policy of the agents
+     * @param p_optimize enables the optimization of plans and rules
+     *
+     * @note the optimization is disabled on all other constructors, so it must be enabled explicitly
+     */
+    public IBaseAgentGenerator( @Nonnull final InputStream p_stream, @Nonnull final IActionGenerator p_actions,
+                                @Nonnull final ILambdaStreamingGenerator p_lambda, @Nonnull final Set<IPlanBundle> p_planbundle,
+                                @Nonnull final IVariableBuilder p_variablebuilder, @Nonnull final IExecutionPolicy p_executionpolicy,
+                                final boolean p_optimize )
+    {
+        this( p_stream, p_actions, p_lambda, p_planbundle, p_variablebuilder, p_executionpolicy, p_optimize, IScriptCache.EMPTY );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_stream input stream
+     * @param p_actions action generator
+     * @param p_lambda lambda generator
+     * @param p_planbundle set with planbundles
+     * @param p_variablebuilder variable builder (can be set to null)
+     * @param p_executionpolicy execution policy of the agents
+     * @param p_optimize enables the optimization of plans and rules
+     * @param p_cache script cache
+     */
+    public IBaseAgentGenerator( @Nonnull final InputStream p_stream, @Nonnull final IActionGenerator p_actions,
+                                @Nonnull final ILambdaStreamingGenerator p_lambda, @Nonnull final Set<IPlanBundle> p_planbundle,
+                                @Nonnull final IVariableBuilder p_variablebuilder, @Nonnull final IExecutionPolicy p_executionpolicy,
+                                final boolean p_optimize, @Nonnull final IScriptCache p_cache )
+    {
+        final CScript l_script = p_cache.agent( p_stream, p_actions, p_lambda );
+        m_optimizer = p_optimize ? COptimizer.of( DEFAULTFUZZYBUNDLE ) : IOptimizer.EMPTY;
         m_configuration = this.configuration(
             DEFAULTFUZZYBUNDLE,
 
             Stream.concat(
-                l_visitor.initialbeliefs().stream(),
+                l_script.initialbeliefs().stream(),
                 p_planbundle.stream().flatMap( i -> i.initialbeliefs().stream() )
             ).collect( Collectors.toCollection( LinkedHashSet::new ) ),
 
             Stream.concat(
-                l_visitor.plans().stream(),
+                l_script.plans().stream(),
                 p_planbundle.parallelStream().flatMap( i -> i.plans().stream() )
-            ).collect( Collectors.toSet() ),
+            ).map( m_optimizer::optimize ).collect( Collectors.toSet() ),
 
             Stream.concat(
-                l_visitor.rules().stream(),
+                l_script.rules().stream(),
                 p_planbundle.parallelStream().flatMap( i -> i.rules().stream() )
-            ).collect( Collectors.toSet() ),
+            ).map( m_optimizer::optimize ).collect( Collectors.toSet() ),
 
-            l_visitor.initialgoal(),
+            l_script.initialgoal(),
 
             DEFAULTUNIFIER,
 
-            p_variablebuilder
+            p_variablebuilder,
+
+            p_executionpolicy
         );
     }
 
@@ -140,12 +209,13 @@ public abstract class IBaseAgentGenerator<T extends IAgent<?>> implements IAgent
      * @param p_initialgoal intial goal
      * @param p_unifier unifier component
      * @param p_variablebuilder variable builder
+     * @param p_executionpolicy execution policy
      * @return configuration object
      */
     protected IAgentConfiguration<T> configuration( @Nonnull final IFuzzyBundle p_fuzzy, @Nonnull final Collection<ILiteral> p_initalbeliefs,
                                                     @Nonnull final Set<IPlan> p_plans, @Nonnull final Set<IRule> p_rules,
                                                     @Nonnull final ITrigger p_initialgoal, @Nonnull final IUnifier p_unifier,
-                                                    @Nonnull final IVariableBuilder p_variablebuilder
+                                                    @Nonnull final IVariableBuilder p_variablebuilder, @Nonnull final IExecutionPolicy p_executionpolicy
     )
     {
         return new CDefaultAgentConfiguration<>(
@@ -155,10 +225,24 @@ public abstract class IBaseAgentGenerator<T extends IAgent<?>> implements IAgent
             p_rules,
             p_initialgoal,
             p_unifier,
-            p_variablebuilder
+            p_variablebuilder,
+            p_executionpolicy
         );
     }
 
+    /**
+     * returns the optimizer with the report of the rewritten plans and rules
+     *
+     * @return optimizer
+     *
+     * @note the optimizer uses the fuzzy bundle, which is passed to the agent configuration
+     */
+    @Nonnull
+    public final IOptimizer optimizer()
+    {
+        return m_optimizer;
+    }
+
     @Nonnull
     @Override
     public final Stream<T> generatemultiple( final int p_number, @Nullable final Object... p_data )
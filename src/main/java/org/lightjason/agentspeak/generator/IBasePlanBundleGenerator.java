@@ -26,8 +26,8 @@ package org.lightjason.agentspeak.generator;
 import org.lightjason.agentspeak.agent.IPlanBundle;
 import org.lightjason.agentspeak.configuration.CDefaultPlanBundleConfiguration;
 import org.lightjason.agentspeak.configuration.IPlanBundleConfiguration;
-import org.lightjason.agentspeak.grammar.CParserPlanBundle;
-import org.lightjason.agentspeak.grammar.IASTVisitorPlanBundle;
+import org.lightjason.agentspeak.grammar.CScript;
+import org.lightjason.agentspeak.grammar.IScriptCache;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -57,12 +57,26 @@ public abstract class IBasePlanBundleGenerator implements IPlanBundleGenerator
     public IBasePlanBundleGenerator( @Nonnull final InputStream p_stream, @Nonnull final IActionGenerator p_actions,
                                      @Nonnull final ILambdaStreamingGenerator p_lambda )
     {
-        final IASTVisitorPlanBundle l_visitor = new CParserPlanBundle( p_actions, p_lambda ).parse( p_stream );
+        this( p_stream, p_actions, p_lambda, IScriptCache.EMPTY );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_stream input stream
+     * @param p_actions action generator
+     * @param p_lambda lambda generator
+     * @param p_cache script cache
+     */
+    public IBasePlanBundleGenerator( @Nonnull final InputStream p_stream, @Nonnull final IActionGenerator p_actions,
+                                     @Nonnull final ILambdaStreamingGenerator p_lambda, @Nonnull final IScriptCache p_cache )
+    {
+        final CScript l_script = p_cache.planbundle( p_stream, p_actions, p_lambda );
 
         m_configuration = new CDefaultPlanBundleConfiguration(
-            l_visitor.plans(),
-            l_visitor.rules(),
-            l_visitor.initialbeliefs()
+            l_script.plans(),
+            l_script.rules(),
+            l_script.initialbeliefs()
         );
     }
 
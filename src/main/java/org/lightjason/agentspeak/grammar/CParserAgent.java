@@ -62,7 +62,7 @@ public final class CParserAgent extends IBaseParser<IASTVisitorAgent, AgentLexer
     public IASTVisitorAgent parse( final InputStream p_stream )
     {
         final IASTVisitorAgent l_visitor = new CASTVisitorAgent( m_actions, m_lambda );
-        l_visitor.visit( this.parser( p_stream ).agent() );
+        l_visitor.visit( this.parsetree( p_stream, AgentParser::agent ) );
         return l_visitor;
     }
 
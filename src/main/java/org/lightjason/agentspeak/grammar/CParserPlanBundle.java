@@ -62,7 +62,7 @@ public final class CParserPlanBundle extends IBaseParser<IASTVisitorPlanBundle,
     public IASTVisitorPlanBundle parse( final InputStream p_stream )
     {
         final IASTVisitorPlanBundle l_visitor = new CASTVisitorPlanBundle( m_actions, m_lambda );
-        l_visitor.visit( this.parser( p_stream ).planbundle() );
+        l_visitor.visit( this.parsetree( p_stream, PlanBundleParser::planbundle ) );
         return l_visitor;
     }
 
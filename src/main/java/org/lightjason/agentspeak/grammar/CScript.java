@@ -0,0 +1,151 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.grammar;
+
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.execution.instantiable.rule.IRule;
+
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+
+/**
+ * parsed script, which stores the result of a visitor
+ * independent of the parser
+ */
+public final class CScript implements Serializable
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2371843566011427262L;
+    /**
+     * initial beliefs
+     */
+    private final Set<ILiteral> m_initialbeliefs;
+    /**
+     * plans
+     */
+    private final Set<IPlan> m_plans;
+    /**
+     * rules
+     */
+    private final Set<IRule> m_rules;
+    /**
+     * initial goal
+     */
+    private final ITrigger m_initialgoal;
+
+
+    /**
+     * ctor
+     *
+     * @param p_initialbeliefs initial beliefs
+     * @param p_plans plans
+     * @param p_rules rules
+     * @param p_initialgoal initial goal
+     */
+    private CScript( @Nonnull final Set<ILiteral> p_initialbeliefs, @Nonnull final Set<IPlan> p_plans, @Nonnull final Set<IRule> p_rules,
+                     @Nonnull final ITrigger p_initialgoal )
+    {
+        m_initialbeliefs = Collections.unmodifiableSet( new LinkedHashSet<>( p_initialbeliefs ) );
+        m_plans = Collections.unmodifiableSet( new LinkedHashSet<>( p_plans ) );
+        m_rules = Collections.unmodifiableSet( new LinkedHashSet<>( p_rules ) );
+        m_initialgoal = p_initialgoal;
+    }
+
+    /**
+     * returns initial beliefs
+     *
+     * @return set with initial beliefs
+     */
+    @Nonnull
+    public Set<ILiteral> initialbeliefs()
+    {
+        return m_initialbeliefs;
+    }
+
+    /**
+     * returns the plans
+     *
+     * @return plan set
+     */
+    @Nonnull
+    public Set<IPlan> plans()
+    {
+        return m_plans;
+    }
+
+    /**
+     * returns the rules
+     *
+     * @return rule set
+     */
+    @Nonnull
+    public Set<IRule> rules()
+    {
+        return m_rules;
+    }
+
+    /**
+     * returns the initial goal
+     *
+     * @return initial goal trigger
+     */
+    @Nonnull
+    public ITrigger initialgoal()
+    {
+        return m_initialgoal;
+    }
+
+    /**
+     * creates a script of an agent visitor
+     *
+     * @param p_visitor agent visitor
+     * @return script
+     */
+    @Nonnull
+    public static CScript of( @Nonnull final IASTVisitorAgent p_visitor )
+    {
+        return new CScript( p_visitor.initialbeliefs(), p_visitor.plans(), p_visitor.rules(), p_visitor.initialgoal() );
+    }
+
+    /**
+     * creates a script of a plan bundle visitor
+     *
+     * @param p_visitor plan bundle visitor
+     * @return script
+     */
+    @Nonnull
+    public static CScript of( @Nonnull final IASTVisitorPlanBundle p_visitor )
+    {
+        return new CScript( p_visitor.initialbeliefs(), p_visitor.plans(), p_visitor.rules(), ITrigger.EMPTY );
+    }
+
+}
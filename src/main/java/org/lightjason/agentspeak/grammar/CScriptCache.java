@@ -0,0 +1,524 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.grammar;
+
+import com.google.common.hash.Hashing;
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.common.CCommon;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.parser.CParserInitializationError;
+import org.lightjason.agentspeak.generator.IActionGenerator;
+import org.lightjason.agentspeak.generator.ILambdaStreamingGenerator;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.IRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IExecution;
+import org.lightjason.agentspeak.language.execution.expression.IExpression;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.annotation.IAnnotation;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.execution.instantiable.rule.IRule;
+import org.lightjason.agentspeak.language.execution.lambda.ILambdaStreaming;
+import org.lightjason.agentspeak.language.variable.IVariable;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+
+/**
+ * file cache of parsed scripts, the script is stored in a binary
+ * format within a file, which is named by a hash of the script content,
+ * so a script with an unchanged content is loaded without parsing
+ *
+ * @note actions are stored by their name and are resolved by the action generator on loading,
+ * if an action cannot be resolved, the cache entry is invalid and the script is parsed again,
+ * the hash contains the library version, so entries of other builds are not loaded
+ * @warning the cache entries are created by the Java serialization, the deserialization accepts
+ * only classes of an allow-list, but the cache directory should be trusted
+ */
+public final class CScriptCache implements IScriptCache
+{
+    /**
+     * logger
+     */
+    private static final Logger LOGGER = CCommon.logger( CScriptCache.class );
+    /**
+     * version of the binary format, is part of the hash
+     */
+    private static final String FORMAT = "1";
+    /**
+     * library version and build, is part of the hash
+     */
+    private static final String VERSION = MessageFormat.format(
+        "{0}-{1}-{2}",
+        CCommon.configuration().getString( "version" ),
+        CCommon.configuration().getString( "buildnumber" ),
+        CCommon.configuration().getString( "buildcommit" )
+    );
+    /**
+     * allow-list of the deserialized classes
+     */
+    private static final ObjectInputFilter FILTER = ObjectInputFilter.Config.createFilter(
+        "org.lightjason.agentspeak.**;java.lang.*;java.lang.invoke.SerializedLambda;java.util.**;java.math.*;"
+        + "com.google.common.collect.*;org.apache.commons.lang3.tuple.*;!*"
+    );
+    /**
+     * file extension
+     */
+    private static final String EXTENSION = ".bin";
+    /**
+     * singleton objects, which are restored by reference
+     */
+    private static final List<Object> SINGLETONS = Collections.unmodifiableList( Arrays.asList(
+        ITrigger.EMPTY,
+        ILiteral.EMPTY,
+        ITerm.EMPTYTERM,
+        IRawTerm.EMPTY,
+        IVariable.EMPTY,
+        IExecution.EMPTY,
+        IExpression.EMPTY,
+        IAnnotation.EMPTY,
+        ILambdaStreaming.EMPTY,
+        IPlan.EMPTY,
+        IRule.EMPTY,
+        IPath.EMPTY
+    ) );
+    /**
+     * cache directory
+     */
+    private final Path m_directory;
+
+
+    /**
+     * ctor
+     *
+     * @param p_directory cache directory
+     */
+    private CScriptCache( @Nonnull final Path p_directory )
+    {
+        m_directory = p_directory;
+    }
+
+    @Nonnull
+    @Override
+    public CScript agent( @Nonnull final InputStream p_stream, @Nonnull final IActionGenerator p_actions,
+                          @Nonnull final ILambdaStreamingGenerator p_lambda )
+    {
+        return this.script( "agent", p_stream, p_actions, p_lambda, i -> IScriptCache.EMPTY.agent( i, p_actions, p_lambda ) );
+    }
+
+    @Nonnull
+    @Override
+    public CScript planbundle( @Nonnull final InputStream p_stream, @Nonnull final IActionGenerator p_actions,
+                               @Nonnull final ILambdaStreamingGenerator p_lambda )
+    {
+        return this.script( "planbundle", p_stream, p_actions, p_lambda, i -> IScriptCache.EMPTY.planbundle( i, p_actions, p_lambda ) );
+    }
+
+    /**
+     * returns the cache directory
+     *
+     * @return directory
+     */
+    @Nonnull
+    public Path directory()
+    {
+        return m_directory;
+    }
+
+    /**
+     * returns the cache file of a script
+     *
+     * @param p_type script type
+     * @param p_script script content
+     * @return cache file
+     */
+    @Nonnull
+    public Path file( @Nonnull final String p_type, @Nonnull final byte[] p_script )
+    {
+        return m_directory.resolve(
+            Hashing.sha256()
+                   .newHasher()
+                   .putString( FORMAT, StandardCharsets.UTF_8 )
+                   .putString( VERSION, StandardCharsets.UTF_8 )
+                   .putString( p_type, StandardCharsets.UTF_8 )
+                   .putBytes( p_script )
+                   .hash()
+                   .toString()
+            + EXTENSION
+        );
+    }
+
+    /**
+     * loads a script of the cache or parses the script and stores the result
+     *
+     * @param p_type script type
+     * @param p_stream input stream
+     * @param p_actions action generator
+     * @param p_lambda lambda generator
+     * @param p_parser parser function
+     * @return script
+     */
+    @Nonnull
+    private CScript script( @Nonnull final String p_type, @Nonnull final InputStream p_stream, @Nonnull final IActionGenerator p_actions,
+                            @Nonnull final ILambdaStreamingGenerator p_lambda, @Nonnull final Function<InputStream, CScript> p_parser )
+    {
+        final byte[] l_content;
+        try
+        {
+            l_content = p_stream.readAllBytes();
+        }
+        catch ( final IOException l_exception )
+        {
+            throw new CParserInitializationError( l_exception );
+        }
+
+        final Path l_file = this.file( p_type, l_content );
+        final CScript l_cached = load( l_file, p_actions, p_lambda );
+        if ( Objects.nonNull( l_cached ) )
+            return l_cached;
+
+        final CScript l_script = p_parser.apply( new ByteArrayInputStream( l_content ) );
+        store( l_file, l_script );
+        return l_script;
+    }
+
+    /**
+     * loads a script of the cache file
+     *
+     * @param p_file cache file
+     * @param p_actions action generator
+     * @param p_lambda lambda generator
+     * @return script or null if the cache entry does not exist or is invalid
+     *
+     * @note runtime exceptions are caught also, because a corrupted file can fail within the deserialization of an object
+     */
+    @Nullable
+    private static CScript load( @Nonnull final Path p_file, @Nonnull final IActionGenerator p_actions, @Nonnull final ILambdaStreamingGenerator p_lambda )
+    {
+        if ( !Files.isRegularFile( p_file ) )
+            return null;
+
+        try (
+            final FileChannel l_channel = FileChannel.open( p_file, StandardOpenOption.READ );
+            final ObjectInputStream l_input = new CInputStream(
+                new CBufferInputStream( l_channel.map( FileChannel.MapMode.READ_ONLY, 0, l_channel.size() ) ), p_actions, p_lambda
+            )
+        )
+        {
+            return (CScript) l_input.readObject();
+        }
+        catch ( final IOException | ClassNotFoundException | RuntimeException l_exception )
+        {
+            LOGGER.warning( CCommon.languagestring( CScriptCache.class, "invalid", p_file, l_exception.getMessage() ) );
+            return null;
+        }
+    }
+
+    /**
+     * stores a script within the cache file, the file is written
+     * to a temporary file and is moved, so concurrent readers do not see a partial file
+     *
+     * @param p_file cache file
+     * @param p_script script
+     */
+    private static void store( @Nonnull final Path p_file, @Nonnull final CScript p_script )
+    {
+        Path l_temporary = null;
+        try
+        {
+            Files.createDirectories( p_file.getParent() );
+            l_temporary = Files.createTempFile( p_file.getParent(), p_file.getFileName().toString(), ".tmp" );
+
+            try (
+                final ObjectOutputStream l_output = new COutputStream( new BufferedOutputStream( Files.newOutputStream( l_temporary ) ) )
+            )
+            {
+                l_output.writeObject( p_script );
+            }
+
+            try
+            {
+                Files.move( l_temporary, p_file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+            }
+            catch ( final AtomicMoveNotSupportedException l_exception )
+            {
+                Files.move( l_temporary, p_file, StandardCopyOption.REPLACE_EXISTING );
+            }
+        }
+        catch ( final IOException l_exception )
+        {
+            LOGGER.warning( CCommon.languagestring( CScriptCache.class, "notstored", p_file, l_exception.getMessage() ) );
+            try
+            {
+                if ( Objects.nonNull( l_temporary ) )
+                    Files.deleteIfExists( l_temporary );
+            }
+            catch ( final IOException l_deleteexception )
+            {
+                LOGGER.warning( l_deleteexception.getMessage() );
+            }
+        }
+    }
+
+    /**
+     * creates a script cache
+     *
+     * @param p_directory cache directory
+     * @return cache
+     */
+    @Nonnull
+    public static CScriptCache of( @Nonnull final Path p_directory )
+    {
+        return new CScriptCache( p_directory );
+    }
+
+
+    /**
+     * output stream, which replaces actions and generators by references
+     */
+    private static final class COutputStream extends ObjectOutputStream
+    {
+
+        /**
+         * ctor
+         *
+         * @param p_stream output stream
+         * @throws IOException on stream error
+         */
+        COutputStream( @Nonnull final OutputStream p_stream ) throws IOException
+        {
+            super( p_stream );
+            this.enableReplaceObject( true );
+        }
+
+        @Override
+        protected Object replaceObject( final Object p_object ) throws IOException
+        {
+            if ( p_object instanceof IAction )
+                return new CActionReference( ( (IAction) p_object ).name() );
+
+            if ( p_object instanceof ILambdaStreamingGenerator )
+                return new CLambdaReference();
+
+            for ( int i = 0; i < SINGLETONS.size(); i++ )
+                if ( SINGLETONS.get( i ) == p_object )
+                    return new CSingletonReference( i );
+
+            return p_object;
+        }
+    }
+
+
+    /**
+     * input stream, which resolves actions and generators
+     */
+    private static final class CInputStream extends ObjectInputStream
+    {
+        /**
+         * action generator
+         */
+        private final IActionGenerator m_actions;
+        /**
+         * lambda generator
+         */
+        private final ILambdaStreamingGenerator m_lambda;
+
+        /**
+         * ctor
+         *
+         * @param p_stream input stream
+         * @param p_actions action generator
+         * @param p_lambda lambda generator
+         * @throws IOException on stream error
+         */
+        CInputStream( @Nonnull final InputStream p_stream, @Nonnull final IActionGenerator p_actions,
+                      @Nonnull final ILambdaStreamingGenerator p_lambda ) throws IOException
+        {
+            super( p_stream );
+            m_actions = p_actions;
+            m_lambda = p_lambda;
+            this.enableResolveObject( true );
+            this.setObjectInputFilter( FILTER );
+        }
+
+        @Override
+        protected Object resolveObject( final Object p_object ) throws IOException
+        {
+            if ( p_object instanceof CActionReference )
+            {
+                final IPath l_name = ( (CActionReference) p_object ).m_name;
+                if ( !m_actions.contains( l_name ) )
+                    throw new InvalidObjectException( CCommon.languagestring( CScriptCache.class, "actionnotfound", l_name ) );
+                return m_actions.apply( l_name );
+            }
+
+            if ( p_object instanceof CLambdaReference )
+                return m_lambda;
+
+            if ( p_object instanceof CSingletonReference )
+                return SINGLETONS.get( ( (CSingletonReference) p_object ).m_index );
+
+            return p_object;
+        }
+    }
+
+
+    /**
+     * input stream of a (memory-mapped) buffer
+     */
+    private static final class CBufferInputStream extends InputStream
+    {
+        /**
+         * buffer
+         */
+        private final ByteBuffer m_buffer;
+
+        /**
+         * ctor
+         *
+         * @param p_buffer buffer
+         */
+        CBufferInputStream( @Nonnull final ByteBuffer p_buffer )
+        {
+            m_buffer = p_buffer;
+        }
+
+        @Override
+        public int read()
+        {
+            return m_buffer.hasRemaining() ? m_buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read( @Nonnull final byte[] p_bytes, final int p_offset, final int p_length )
+        {
+            if ( p_length == 0 )
+                return 0;
+
+            if ( !m_buffer.hasRemaining() )
+                return -1;
+
+            final int l_length = Math.min( p_length, m_buffer.remaining() );
+            m_buffer.get( p_bytes, p_offset, l_length );
+            return l_length;
+        }
+
+        @Override
+        public int available()
+        {
+            return m_buffer.remaining();
+        }
+    }
+
+
+    /**
+     * reference of an action
+     */
+    private static final class CActionReference implements Serializable
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 4381427612993614587L;
+        /**
+         * action name
+         */
+        private final IPath m_name;
+
+        /**
+         * ctor
+         *
+         * @param p_name action name
+         */
+        CActionReference( @Nonnull final IPath p_name )
+        {
+            m_name = p_name;
+        }
+    }
+
+
+    /**
+     * reference of the lambda generator
+     */
+    private static final class CLambdaReference implements Serializable
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = -8126439281957384213L;
+    }
+
+
+    /**
+     * reference of a singleton
+     */
+    private static final class CSingletonReference implements Serializable
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 2910472315602855126L;
+        /**
+         * index of the singleton
+         */
+        private final int m_index;
+
+        /**
+         * ctor
+         *
+         * @param p_index index
+         */
+        CSingletonReference( final int p_index )
+        {
+            m_index = p_index;
+        }
+    }
+
+}
@@ -24,12 +24,19 @@
 package org.lightjason.agentspeak.grammar;
 
 import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
 import org.antlr.v4.runtime.Lexer;
 import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
 import org.lightjason.agentspeak.error.parser.CParserInitializationError;
 
 import javax.annotation.Nonnull;
@@ -37,10 +44,20 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 
 /**
  * generic default parser
+ *
+ * @note lexer and parser instances are pooled and reused, a rule is parsed first with the
+ * fast SLL prediction and a bail-out error strategy, only on a failure the rule is parsed
+ * again with the full LL prediction and the error listener, the DFA cache of the generated
+ * parser is static, so all instances share the cache which is warmed up by each parsing call
  */
 public abstract class IBaseParser<T extends IASTVisitor, L extends Lexer, P extends Parser> implements IParser<T>
 {
@@ -56,6 +73,10 @@ public abstract class IBaseParser<T extends IASTVisitor, L extends Lexer, P exte
      * ctor parser reference
      */
     private final Constructor<P> m_ctorparser;
+    /**
+     * pool of lexer and parser instances
+     */
+    private final Queue<Pair<L, P>> m_pool = new ConcurrentLinkedQueue<>();
 
 
     /**
@@ -105,6 +126,102 @@ public abstract class IBaseParser<T extends IASTVisitor, L extends Lexer, P exte
         }
     }
 
+    /**
+     * parses a rule of an input stream with a pooled parser, the rule
+     * is parsed in SLL mode and on failure in LL mode
+     *
+     * @param p_stream input stream
+     * @param p_rule rule function
+     * @return parse tree of the rule
+     *
+     * @tparam R rule context type
+     */
+    @Nonnull
+    protected final <R extends ParserRuleContext> R parsetree( @Nonnull final InputStream p_stream, @Nonnull final Function<P, R> p_rule )
+    {
+        final Pair<L, P> l_instance = this.acquire();
+        try
+        {
+            l_instance.getLeft().setInputStream( CharStreams.fromStream( p_stream ) );
+            final CommonTokenStream l_tokens = new CommonTokenStream( l_instance.getLeft() );
+            final P l_parser = l_instance.getRight();
+
+            l_parser.setTokenStream( l_tokens );
+            l_parser.removeErrorListeners();
+            l_parser.setErrorHandler( new BailErrorStrategy() );
+            l_parser.getInterpreter().setPredictionMode( PredictionMode.SLL );
+
+            try
+            {
+                return p_rule.apply( l_parser );
+            }
+            catch ( final ParseCancellationException l_exception )
+            {
+                l_tokens.seek( 0 );
+                l_parser.reset();
+                l_parser.addErrorListener( m_errorlistener );
+                l_parser.setErrorHandler( new DefaultErrorStrategy() );
+                l_parser.getInterpreter().setPredictionMode( PredictionMode.LL );
+
+                return p_rule.apply( l_parser );
+            }
+        }
+        catch ( final IOException l_exception )
+        {
+            throw new CParserInitializationError( l_exception );
+        }
+        finally
+        {
+            // input references are released, so the pool does not hold the last script
+            l_instance.getRight().setTokenStream( null );
+            l_instance.getLeft().setInputStream( null );
+            m_pool.offer( l_instance );
+        }
+    }
+
+    /**
+     * parses multiple input streams in parallel
+     *
+     * @param p_streams input streams
+     * @return stream of visitor instances in the order of the input streams
+     */
+    @Nonnull
+    public final Stream<T> parsemultiple( @Nonnull final Stream<InputStream> p_streams )
+    {
+        return p_streams.parallel().map( this::parse );
+    }
+
+    @Nonnull
+    @Override
+    public abstract T parse( @Nonnull final InputStream p_stream );
+
+    /**
+     * returns a lexer and parser instance of the pool
+     * or creates a new instance
+     *
+     * @return pair of lexer and parser
+     */
+    @Nonnull
+    private Pair<L, P> acquire()
+    {
+        final Pair<L, P> l_instance = m_pool.poll();
+        if ( Objects.nonNull( l_instance ) )
+            return l_instance;
+
+        try
+        {
+            final L l_lexer = m_ctorlexer.newInstance( CharStreams.fromString( "" ) );
+            l_lexer.removeErrorListeners();
+            l_lexer.addErrorListener( m_errorlistener );
+
+            return new ImmutablePair<>( l_lexer, m_ctorparser.newInstance( new CommonTokenStream( l_lexer ) ) );
+        }
+        catch ( final InstantiationException | IllegalAccessException | InvocationTargetException l_exception )
+        {
+            throw new CParserInitializationError( l_exception );
+        }
+    }
+
     /**
      * returns the lexer class reference
      *
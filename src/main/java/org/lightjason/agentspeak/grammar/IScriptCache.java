@@ -0,0 +1,82 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.grammar;
+
+import org.lightjason.agentspeak.generator.IActionGenerator;
+import org.lightjason.agentspeak.generator.ILambdaStreamingGenerator;
+
+import javax.annotation.Nonnull;
+import java.io.InputStream;
+
+
+/**
+ * cache of parsed scripts
+ */
+public interface IScriptCache
+{
+    /**
+     * empty cache, which parses each script
+     */
+    IScriptCache EMPTY = new IScriptCache()
+    {
+        @Nonnull
+        @Override
+        public CScript agent( @Nonnull final InputStream p_stream, @Nonnull final IActionGenerator p_actions,
+                              @Nonnull final ILambdaStreamingGenerator p_lambda )
+        {
+            return CScript.of( new CParserAgent( p_actions, p_lambda ).parse( p_stream ) );
+        }
+
+        @Nonnull
+        @Override
+        public CScript planbundle( @Nonnull final InputStream p_stream, @Nonnull final IActionGenerator p_actions,
+                                   @Nonnull final ILambdaStreamingGenerator p_lambda )
+        {
+            return CScript.of( new CParserPlanBundle( p_actions, p_lambda ).parse( p_stream ) );
+        }
+    };
+
+    /**
+     * returns the script of an agent
+     *
+     * @param p_stream input stream of the agent script
+     * @param p_actions action generator
+     * @param p_lambda lambda generator
+     * @return script
+     */
+    @Nonnull
+    CScript agent( @Nonnull final InputStream p_stream, @Nonnull final IActionGenerator p_actions, @Nonnull final ILambdaStreamingGenerator p_lambda );
+
+    /**
+     * returns the script of a plan bundle
+     *
+     * @param p_stream input stream of the plan bundle script
+     * @param p_actions action generator
+     * @param p_lambda lambda generator
+     * @return script
+     */
+    @Nonnull
+    CScript planbundle( @Nonnull final InputStream p_stream, @Nonnull final IActionGenerator p_actions, @Nonnull final ILambdaStreamingGenerator p_lambda );
+
+}
@@ -185,18 +185,36 @@ public final class CAgentSpeak
      * @return rule stream
      */
     @Nonnull
-    @SuppressWarnings( "unchecked" )
     public static Stream<IRule> rule( @Nonnull final ParseTreeVisitor<?> p_visitor,
                                       @Nullable final RuleContext p_literal, @Nullable final List<? extends RuleContext> p_body
     )
+    {
+        return rule( p_visitor, null, p_literal, p_body );
+    }
+
+    /**
+     * build a rule
+     *
+     * @param p_visitor visitor
+     * @param p_annotation annotation
+     * @param p_literal literal
+     * @param p_body execution body
+     * @return rule stream
+     */
+    @Nonnull
+    @SuppressWarnings( "unchecked" )
+    public static Stream<IRule> rule( @Nonnull final ParseTreeVisitor<?> p_visitor, @Nullable final List<TerminalNode> p_annotation,
+                                      @Nullable final RuleContext p_literal, @Nullable final List<? extends RuleContext> p_body
+    )
     {
         if ( Objects.isNull( p_literal ) || Objects.isNull( p_body ) || p_body.isEmpty() )
             return Stream.empty();
 
         final ILiteral l_literal = (ILiteral) p_visitor.visit( p_literal );
+        final IAnnotation<?>[] l_annotation = annotation( p_annotation );
         return p_body.stream()
                      .map( i -> ( (Stream<IExecution>) p_visitor.visit( i ) ).toArray( IExecution[]::new ) )
-                     .map( i -> new CRule( l_literal, i ) );
+                     .map( i -> new CRule( l_annotation, l_literal, i ) );
     }
 
 
@@ -145,9 +145,21 @@ public final class CCommon
      */
     public static Number modulo( @Nonnull final Number p_lhs, @Nonnull final Number p_rhs )
     {
-        return p_lhs.longValue() < 0
-               ? Math.abs( ( p_rhs.longValue() + p_lhs.longValue() ) % p_rhs.longValue() )
-               : p_lhs.longValue() % p_rhs.longValue();
+        return modulo( p_lhs.longValue(), p_rhs.longValue() );
+    }
+
+    /**
+     * modulo operator on primitive values
+     *
+     * @param p_lhs left-hand-side
+     * @param p_rhs right-hand-side
+     * @return result
+     */
+    public static long modulo( final long p_lhs, final long p_rhs )
+    {
+        return p_lhs < 0
+               ? Math.abs( ( p_rhs + p_lhs ) % p_rhs )
+               : p_lhs % p_rhs;
     }
 
     /**
@@ -185,8 +197,7 @@ public final class CCommon
     @Nonnull
     public static IContext updatecontext( @Nonnull final IContext p_context, @Nonnull final Stream<IVariable<?>> p_unifiedvariables )
     {
-        p_unifiedvariables.parallel()
-                          .map( i -> new ImmutablePair<>( i, p_context.instancevariables().get( i.fqnfunctor() ) ) )
+        p_unifiedvariables.map( i -> new ImmutablePair<>( i, p_context.instancevariables().get( i.fqnfunctor() ) ) )
                           .filter( i -> Objects.nonNull( i.right ) )
                           .forEach( i -> i.right.set( i.left.raw() ) );
         return p_context;
@@ -208,12 +219,11 @@ public final class CCommon
         return new CContext(
             p_agent,
             p_instance,
-            Collections.unmodifiableSet(
-                CCommon.streamconcat(
+            p_instance.layout().frame(
+                Stream.concat(
                     p_variable,
-                    p_agent.variablebuilder().apply( p_agent, p_instance ),
-                    p_instance.variables().map( i -> i.shallowcopy() )
-                ).collect( Collectors.toSet() )
+                    p_agent.variablebuilder().apply( p_agent, p_instance )
+                )
             )
         );
     }
@@ -247,24 +257,60 @@ public final class CCommon
                : new ImmutablePair<>( false, Collections.emptySet() );
     }
 
+    /**
+     * instantiate the condition context of a plan, which contains the variables of the condition only
+     *
+     * @param p_planstatistic plan statistic for instatiation
+     * @param p_agent agent
+     * @param p_variables instantiated variables
+     * @param p_builder variables of the variable builder
+     * @return condition context
+     */
+    @Nonnull
+    public static IContext instantiatecondition( @Nonnull final IPlanStatistic p_planstatistic, @Nonnull final IAgent<?> p_agent,
+                                                 @Nonnull final Set<IVariable<?>> p_variables, @Nonnull final Collection<IVariable<?>> p_builder
+    )
+    {
+        return new CContext(
+            p_agent,
+            p_planstatistic.plan(),
+            p_planstatistic.plan().conditionlayout().select(
+                Stream.of( p_variables.stream(), p_planstatistic.variables(), p_builder.stream() ).flatMap( i -> i )
+            )
+        );
+    }
+
     /**
      * instantiate a plan with context and plan-specific variables
      *
      * @param p_planstatistic plan statistic for instatiation
      * @param p_agent agent
+     * @param p_condition condition context
      * @param p_variables instantiated variables
+     * @param p_builder variables of the variable builder
      * @return pair of planstatistic and context
+     *
+     * @note the variables of the condition context are used within the plan context, so the condition bindings are kept
      */
     @Nonnull
-    public static Pair<IPlanStatistic, IContext> instantiateplan( @Nonnull final IPlanStatistic p_planstatistic,
-                                                                  @Nonnull final IAgent<?> p_agent, @Nonnull final Set<IVariable<?>> p_variables
+    public static Pair<IPlanStatistic, IContext> instantiateplan( @Nonnull final IPlanStatistic p_planstatistic, @Nonnull final IAgent<?> p_agent,
+                                                                  @Nonnull final IContext p_condition, @Nonnull final Set<IVariable<?>> p_variables,
+                                                                  @Nonnull final Collection<IVariable<?>> p_builder
     )
     {
         return new ImmutablePair<>(
             p_planstatistic,
-            p_planstatistic.plan().instantiate(
+            new CContext(
                 p_agent,
-                Stream.concat( p_variables.stream(), p_planstatistic.variables() )
+                p_planstatistic.plan(),
+                p_planstatistic.plan().layout().frame(
+                    Stream.of(
+                        p_condition.instancevariables().values().stream(),
+                        p_variables.stream(),
+                        p_planstatistic.variables(),
+                        p_builder.stream()
+                    ).flatMap( i -> i )
+                )
             )
         );
     }
@@ -325,17 +371,17 @@ public final class CCommon
      * @param p_execution execution stream
      * @return list with execution results and successful execution
      *
-     * @note each element is executed
+     * @note each element is executed, the execution runs within the executor of the agent execution policy
      */
     @Nonnull
     public static Pair<List<IFuzzyValue<?>>, Boolean> executeparallel( @Nonnull final IContext p_context, @Nonnull final Stream<IExecution> p_execution
     )
     {
-        final List<IFuzzyValue<?>> l_result = p_execution.parallel()
-                                                         .flatMap( i -> i.execute(
-                                                             false, p_context, Collections.emptyList(), Collections.emptyList() )
-                                                         )
-                                                         .collect( Collectors.toList() );
+        final List<IFuzzyValue<?>> l_result = p_context.agent().executionpolicy().execute(
+            () -> p_execution.parallel()
+                             .flatMap( i -> i.execute( false, p_context, Collections.emptyList(), Collections.emptyList() ) )
+                             .collect( Collectors.toList() )
+        );
 
         return new ImmutablePair<>(
             l_result,
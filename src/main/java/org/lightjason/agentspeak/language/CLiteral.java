@@ -38,6 +38,7 @@ import org.lightjason.agentspeak.grammar.IBaseParser;
 import org.lightjason.agentspeak.grammar.ManualLexer;
 import org.lightjason.agentspeak.grammar.ManualParser;
 import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.variable.IVariable;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -102,6 +103,10 @@ public final class CLiteral implements ILiteral
      * hash of the structure
      */
     private final int m_structurehash;
+    /**
+     * 64-bit fingerprint (lazy calculated)
+     */
+    private transient volatile long m_fingerprint;
 
 
 
@@ -117,8 +122,8 @@ public final class CLiteral implements ILiteral
     {
         m_at = p_at;
         m_negated = p_negated;
-        // create a full copy of the functor, because concurrency modification
-        m_functor = new CPath( p_functor );
+        // use the interned functor, so equal functors share one instance
+        m_functor = CPath.of( p_functor );
 
         // create immutable structures
         if ( !p_values.isEmpty() )
@@ -255,7 +260,7 @@ public final class CLiteral implements ILiteral
     @Nonnull
     public static ILiteral parse( @Nonnull final String p_literal )
     {
-        return new CParser().parse( new ByteArrayInputStream( p_literal.getBytes( Charset.forName( "UTF-8" ) ) ) ).literal();
+        return CParser.INSTANCE.parse( new ByteArrayInputStream( p_literal.getBytes( Charset.forName( "UTF-8" ) ) ) ).literal();
     }
 
     @Nonnull
@@ -276,6 +281,13 @@ public final class CLiteral implements ILiteral
                : valuefilter( m_orderedvalues.stream().filter( i -> i.fqnfunctor().equals( p_path[0] ) ), p_path );
     }
 
+    @Nonnull
+    @Override
+    public List<ITerm> orderedvaluelist()
+    {
+        return m_orderedvalues;
+    }
+
     /**
      * recursive streaming ordered values
      *
@@ -317,7 +329,7 @@ public final class CLiteral implements ILiteral
     @Override
     public boolean hasVariable()
     {
-        return m_orderedvalues.parallelStream().anyMatch( ITerm::hasVariable );
+        return m_orderedvalues.stream().anyMatch( ITerm::hasVariable );
     }
 
     @Nonnull
@@ -386,9 +398,73 @@ public final class CLiteral implements ILiteral
     @Override
     public boolean equals( final Object p_object )
     {
+        if ( this == p_object )
+            return true;
+
+        // hash is used as fast-path, structure is checked on equal hashes only
+        if ( p_object instanceof CLiteral )
+        {
+            final CLiteral l_literal = (CLiteral) p_object;
+            return m_hash == l_literal.m_hash
+                   && m_negated == l_literal.m_negated
+                   && m_at == l_literal.m_at
+                   && m_functor.equals( l_literal.m_functor )
+                   && m_orderedvalues.equals( l_literal.m_orderedvalues );
+        }
+
         return p_object instanceof ILiteral && this.hashCode() == p_object.hashCode();
     }
 
+    @Override
+    public long fingerprint()
+    {
+        long l_fingerprint = m_fingerprint;
+        if ( l_fingerprint != 0 )
+            return l_fingerprint;
+
+        final Hasher l_hasher = CCommon.termhashing();
+        m_functor.stream().forEach( i -> l_hasher.putInt( i.length() ).putString( i, Charsets.UTF_8 ) );
+        l_hasher.putBoolean( m_negated );
+        l_hasher.putBoolean( m_at );
+        m_orderedvalues.forEach( i -> fingerprint( l_hasher, i ) );
+
+        l_fingerprint = l_hasher.hash().asLong();
+        m_fingerprint = l_fingerprint;
+        return l_fingerprint;
+    }
+
+    /**
+     * adds a term to the fingerprint
+     *
+     * @param p_hasher hasher
+     * @param p_term term
+     */
+    private static void fingerprint( @Nonnull final Hasher p_hasher, @Nonnull final ITerm p_term )
+    {
+        if ( p_term instanceof ILiteral )
+        {
+            p_hasher.putInt( 1 ).putLong( ( (ILiteral) p_term ).fingerprint() );
+            return;
+        }
+
+        if ( p_term instanceof IVariable<?> )
+        {
+            final String l_name = p_term.fqnfunctor().path();
+            p_hasher.putInt( 2 ).putInt( l_name.length() ).putString( l_name, Charsets.UTF_8 );
+            return;
+        }
+
+        final Object l_value = p_term.raw();
+        if ( Objects.isNull( l_value ) )
+        {
+            p_hasher.putInt( 3 );
+            return;
+        }
+
+        final String l_string = l_value.toString();
+        p_hasher.putInt( 4 ).putInt( l_value.hashCode() ).putInt( l_string.length() ).putString( l_string, Charsets.UTF_8 );
+    }
+
     @Nonnull
     @Override
     public ILiteral shallowcopy( @Nullable final IPath... p_prefix )
@@ -412,7 +488,7 @@ public final class CLiteral implements ILiteral
     @Override
     public ILiteral shallowcopywithoutsuffix()
     {
-        return new CLiteral( m_at, m_negated, m_functor.remove( m_functor.size() - 1 ), m_orderedvalues );
+        return new CLiteral( m_at, m_negated, m_functor.subpath( 0, m_functor.size() - 1 ), m_orderedvalues );
     }
 
     @Override
@@ -455,6 +531,10 @@ public final class CLiteral implements ILiteral
      */
     private static final class CParser extends IBaseParser<IASTVisitorManual, ManualLexer, ManualParser>
     {
+        /**
+         * shared parser instance
+         */
+        private static final CParser INSTANCE = new CParser();
 
         /**
          * ctor
@@ -469,7 +549,7 @@ public final class CLiteral implements ILiteral
         public IASTVisitorManual parse( @Nonnull final InputStream p_stream )
         {
             final IASTVisitorManual l_visitor = new CASTVisitorManual();
-            l_visitor.visit( this.parser( p_stream ).root_literal() );
+            l_visitor.visit( this.parsetree( p_stream, ManualParser::root_literal ) );
             return l_visitor;
         }
 
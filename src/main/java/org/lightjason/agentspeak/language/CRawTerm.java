@@ -99,6 +99,9 @@ public final class CRawTerm<T> implements IRawTerm<T>
     @SuppressFBWarnings( "EQ_CHECK_FOR_OPERAND_NOT_COMPATIBLE_WITH_THIS" )
     public boolean equals( final Object p_object )
     {
+        if ( p_object instanceof CRawTerm<?> )
+            return this.hashCode() == p_object.hashCode() && Objects.equals( m_value, ( (CRawTerm<?>) p_object ).m_value );
+
         return p_object instanceof IVariable<?> && ( (IVariable<?>) p_object ).allocated() && this.hashCode() == ( (IVariable<?>) p_object ).raw().hashCode()
                || p_object instanceof ITerm && this.hashCode() == p_object.hashCode();
     }
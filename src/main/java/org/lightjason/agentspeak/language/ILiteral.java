@@ -28,6 +28,8 @@ import org.lightjason.agentspeak.language.execution.IContext;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
@@ -182,6 +184,12 @@ public interface ILiteral extends ITerm, IShallowCopy<ILiteral>, Comparable<ILit
             return 0;
         }
 
+        @Override
+        public long fingerprint()
+        {
+            return 0;
+        }
+
         @Override
         public int hashCode()
         {
@@ -195,6 +203,17 @@ public interface ILiteral extends ITerm, IShallowCopy<ILiteral>, Comparable<ILit
         }
     };
 
+    /**
+     * returns a 64-bit fingerprint of the literal
+     * with functor, flags and all values
+     *
+     * @return fingerprint
+     *
+     * @note the fingerprint can be used as map key, because collisions are
+     * unlikely in contrast to the 32-bit hash code
+     */
+    long fingerprint();
+
     /**
      * returns a stream over value items
      *
@@ -214,6 +233,17 @@ public interface ILiteral extends ITerm, IShallowCopy<ILiteral>, Comparable<ILit
     @Nonnull
     Stream<ITerm> orderedvalues( @Nullable final IPath... p_path );
 
+    /**
+     * returns the ordered values without creating a stream
+     *
+     * @return unmodifiable list of ordered values
+     */
+    @Nonnull
+    default List<ITerm> orderedvaluelist()
+    {
+        return this.orderedvalues().collect( Collectors.toList() );
+    }
+
     /**
      * check for empty values
      *
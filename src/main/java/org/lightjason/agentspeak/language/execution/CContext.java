@@ -23,6 +23,7 @@
 
 package org.lightjason.agentspeak.language.execution;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.lightjason.agentspeak.agent.IAgent;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.execution.instantiable.IInstantiable;
@@ -31,12 +32,15 @@ import org.lightjason.agentspeak.language.variable.IVariable;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.text.MessageFormat;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Set;
 import java.util.stream.Stream;
 
 
@@ -44,6 +48,7 @@ import java.util.stream.Stream;
  * execution context
  *
  * @tparam T instance type (plan or rule)
+ * @note variables are stored within a flat frame, the slot of each variable is defined by the slot layout
  */
 public final class CContext implements IContext
 {
@@ -59,9 +64,17 @@ public final class CContext implements IContext
      * current instance object
      */
     private final IInstantiable m_instance;
+    /**
+     * slot layout of the variables
+     */
+    private final CSlotLayout m_layout;
     /**
      * plan variables with their data
      */
+    private final IVariable<?>[] m_frame;
+    /**
+     * map view of the variables
+     */
     private final Map<IPath, IVariable<?>> m_variables;
     /**
      * hash code
@@ -89,12 +102,28 @@ public final class CContext implements IContext
      * @param p_variables instance variables
      */
     public CContext( @Nonnull final IAgent<?> p_agent, @Nonnull final IInstantiable p_instance, @Nonnull final Stream<IVariable<?>> p_variables )
+    {
+        this( p_agent, p_instance, CSlotLayout.framelayout( p_variables ) );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_agent agent
+     * @param p_instance instance object
+     * @param p_frame pair of slot layout and variable frame
+     *
+     * @warning the frame is not copied and must be aligned to the layout
+     */
+    public CContext( @Nonnull final IAgent<?> p_agent, @Nonnull final IInstantiable p_instance, @Nonnull final Pair<CSlotLayout, IVariable<?>[]> p_frame )
     {
         m_agent = p_agent;
         m_instance = p_instance;
-        m_variables = Collections.unmodifiableMap( p_variables.parallel().collect( Collectors.toMap( IVariable::fqnfunctor, i -> i, ( i, j ) -> i ) ) );
+        m_layout = p_frame.getLeft();
+        m_frame = p_frame.getRight();
+        m_variables = new CFrameMap();
 
-        m_hashcode = m_agent.hashCode() ^ m_instance.hashCode() ^ m_variables.keySet().stream().mapToInt( Object::hashCode ).reduce( 0, ( i, j ) -> i ^ j );
+        m_hashcode = m_agent.hashCode() ^ m_instance.hashCode() ^ m_layout.hashCode();
     }
 
 
@@ -109,14 +138,7 @@ public final class CContext implements IContext
     @Override
     public IContext duplicate( @Nonnull final Stream<IVariable<?>> p_variables )
     {
-        return new CContext(
-            m_agent,
-            m_instance,
-            Stream.concat(
-                p_variables,
-                m_variables.values().stream().map( i -> i.shallowcopy() )
-            )
-        );
+        return new CContext( m_agent, m_instance, m_layout.frame( p_variables, m_frame ) );
     }
 
     @Nonnull
@@ -149,13 +171,96 @@ public final class CContext implements IContext
     @Override
     public boolean equals( final Object p_object )
     {
-        return p_object instanceof IContext && this.hashCode() == p_object.hashCode();
+        return this == p_object
+               || p_object instanceof IContext
+                  && this.hashCode() == p_object.hashCode()
+                  && m_agent.equals( ( (IContext) p_object ).agent() )
+                  && m_instance.equals( ( (IContext) p_object ).instance() )
+                  && m_variables.keySet().equals( ( (IContext) p_object ).instancevariables().keySet() );
     }
 
     @Override
     public String toString()
     {
-        return MessageFormat.format( "{0} [{1} | {2} | {3}]", super.toString(), m_variables.values(), m_instance, m_agent );
+        return MessageFormat.format( "{0} [{1} | {2} | {3}]", super.toString(), Arrays.toString( m_frame ), m_instance, m_agent );
+    }
+
+
+    /**
+     * unmodifiable map view of the variable frame
+     */
+    private final class CFrameMap extends AbstractMap<IPath, IVariable<?>>
+    {
+
+        @Override
+        public IVariable<?> get( final Object p_key )
+        {
+            final int l_slot = m_layout.slot( p_key );
+            return l_slot < 0 ? null : m_frame[l_slot];
+        }
+
+        @Override
+        public boolean containsKey( final Object p_key )
+        {
+            return m_layout.slot( p_key ) >= 0;
+        }
+
+        @Override
+        public int size()
+        {
+            return m_frame.length;
+        }
+
+        @Nonnull
+        @Override
+        public Collection<IVariable<?>> values()
+        {
+            return Arrays.asList( m_frame );
+        }
+
+        @Nonnull
+        @Override
+        public Set<Entry<IPath, IVariable<?>>> entrySet()
+        {
+            return new AbstractSet<>()
+            {
+                @Nonnull
+                @Override
+                public Iterator<Entry<IPath, IVariable<?>>> iterator()
+                {
+                    return new Iterator<>()
+                    {
+                        /**
+                         * current slot
+                         */
+                        private int m_slot;
+
+                        @Override
+                        public boolean hasNext()
+                        {
+                            return m_slot < m_frame.length;
+                        }
+
+                        @Override
+                        public Entry<IPath, IVariable<?>> next()
+                        {
+                            if ( m_slot >= m_frame.length )
+                                throw new NoSuchElementException();
+
+                            final Entry<IPath, IVariable<?>> l_entry = new SimpleImmutableEntry<>( m_layout.path( m_slot ), m_frame[m_slot] );
+                            m_slot++;
+                            return l_entry;
+                        }
+                    };
+                }
+
+                @Override
+                public int size()
+                {
+                    return m_frame.length;
+                }
+            };
+        }
     }
 
 }
@@ -0,0 +1,312 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.execution;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.variable.IVariable;
+
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+
+/**
+ * slot layout of the variables of an instantiable, each variable
+ * path is resolved once to a fixed slot index, so an execution
+ * context can store its variables within a flat frame
+ */
+public final class CSlotLayout implements Serializable
+{
+    /**
+     * empty layout
+     */
+    public static final CSlotLayout EMPTY = new CSlotLayout( Stream.empty() );
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -5862398426153817504L;
+    /**
+     * maximum number of cached extensions
+     */
+    private static final int EXTENSIONCACHE = 64;
+    /**
+     * variable templates of each slot
+     */
+    private final IVariable<?>[] m_templates;
+    /**
+     * variable path of each slot
+     */
+    private final IPath[] m_paths;
+    /**
+     * slot index of each path
+     */
+    private final Map<IPath, Integer> m_slots;
+    /**
+     * hash code
+     */
+    private final int m_hash;
+    /**
+     * cache of layout extensions
+     */
+    private final Map<List<IPath>, CSlotLayout> m_extension = new ConcurrentHashMap<>();
+
+
+    /**
+     * ctor
+     *
+     * @param p_variables variables, the first variable of each path is used
+     */
+    private CSlotLayout( @Nonnull final Stream<IVariable<?>> p_variables )
+    {
+        final Map<IPath, IVariable<?>> l_variables = new LinkedHashMap<>();
+        p_variables.forEachOrdered( i -> l_variables.putIfAbsent( i.fqnfunctor(), i ) );
+
+        m_templates = l_variables.values().toArray( IVariable<?>[]::new );
+        m_paths = l_variables.keySet().toArray( IPath[]::new );
+
+        final Map<IPath, Integer> l_slots = new HashMap<>();
+        for ( int i = 0; i < m_paths.length; i++ )
+            l_slots.put( m_paths[i], i );
+        m_slots = Collections.unmodifiableMap( l_slots );
+
+        m_hash = Arrays.stream( m_paths ).mapToInt( Object::hashCode ).reduce( 0, ( i, j ) -> i ^ j );
+    }
+
+    /**
+     * factory
+     *
+     * @param p_variables variables, the first variable of each path is used
+     * @return layout
+     */
+    @Nonnull
+    public static CSlotLayout of( @Nonnull final Stream<IVariable<?>> p_variables )
+    {
+        return new CSlotLayout( p_variables );
+    }
+
+    /**
+     * creates a layout and a frame of the variables
+     *
+     * @param p_variables variables, the first variable of each path is used
+     * @return pair of layout and frame
+     */
+    @Nonnull
+    public static Pair<CSlotLayout, IVariable<?>[]> framelayout( @Nonnull final Stream<IVariable<?>> p_variables )
+    {
+        final CSlotLayout l_layout = new CSlotLayout( p_variables );
+        return new ImmutablePair<>( l_layout, l_layout.m_templates.clone() );
+    }
+
+    /**
+     * returns the number of slots
+     *
+     * @return number of slots
+     */
+    public int size()
+    {
+        return m_paths.length;
+    }
+
+    /**
+     * returns the slot index of a path
+     *
+     * @param p_path variable path
+     * @return slot index or -1 if the path does not exist
+     */
+    public int slot( @Nonnull final Object p_path )
+    {
+        final Integer l_slot = m_slots.get( p_path );
+        return Objects.isNull( l_slot ) ? -1 : l_slot;
+    }
+
+    /**
+     * returns the path of a slot
+     *
+     * @param p_slot slot index
+     * @return variable path
+     */
+    @Nonnull
+    public IPath path( final int p_slot )
+    {
+        return m_paths[p_slot];
+    }
+
+    /**
+     * creates a frame with shallow-copies of the variable templates
+     *
+     * @param p_variables variables, which are used instead of the templates
+     * @return pair of layout and frame
+     */
+    @Nonnull
+    public Pair<CSlotLayout, IVariable<?>[]> frame( @Nonnull final Stream<IVariable<?>> p_variables )
+    {
+        return this.frame( p_variables, m_templates );
+    }
+
+    /**
+     * creates a frame, the first variable of each path is used, missing
+     * slots are filled with shallow-copies of the base variables and
+     * unknown variables extend the layout
+     *
+     * @param p_variables variables, which are used instead of the base variables
+     * @param p_base base variables aligned to the slots
+     * @return pair of layout and frame
+     */
+    @Nonnull
+    public Pair<CSlotLayout, IVariable<?>[]> frame( @Nonnull final Stream<IVariable<?>> p_variables, @Nonnull final IVariable<?>[] p_base )
+    {
+        final IVariable<?>[] l_frame = new IVariable<?>[m_paths.length];
+        Map<IPath, IVariable<?>> l_unknown = Collections.emptyMap();
+
+        for ( final Iterator<IVariable<?>> l_iterator = p_variables.iterator(); l_iterator.hasNext(); )
+        {
+            final IVariable<?> l_variable = l_iterator.next();
+            final int l_slot = this.slot( l_variable.fqnfunctor() );
+
+            if ( l_slot >= 0 )
+            {
+                if ( Objects.isNull( l_frame[l_slot] ) )
+                    l_frame[l_slot] = l_variable;
+                continue;
+            }
+
+            if ( l_unknown.isEmpty() )
+                l_unknown = new LinkedHashMap<>();
+            l_unknown.putIfAbsent( l_variable.fqnfunctor(), l_variable );
+        }
+
+        for ( int i = 0; i < l_frame.length; i++ )
+            if ( Objects.isNull( l_frame[i] ) )
+                l_frame[i] = p_base[i].shallowcopy();
+
+        if ( l_unknown.isEmpty() )
+            return new ImmutablePair<>( this, l_frame );
+
+        // unknown variables are appended, so the slots of the layout are not changed
+        final CSlotLayout l_layout = this.extend( l_unknown );
+        final IVariable<?>[] l_extendedframe = Arrays.copyOf( l_frame, l_layout.size() );
+        l_unknown.values().forEach( i -> l_extendedframe[l_layout.slot( i.fqnfunctor() )] = i );
+        return new ImmutablePair<>( l_layout, l_extendedframe );
+    }
+
+    /**
+     * creates a frame of the slots only, variables of unknown paths are ignored
+     *
+     * @param p_variables variables, which are used instead of the templates
+     * @return pair of layout and frame
+     */
+    @Nonnull
+    public Pair<CSlotLayout, IVariable<?>[]> select( @Nonnull final Stream<IVariable<?>> p_variables )
+    {
+        final IVariable<?>[] l_frame = new IVariable<?>[m_paths.length];
+        if ( l_frame.length == 0 )
+            return new ImmutablePair<>( this, l_frame );
+
+        for ( final Iterator<IVariable<?>> l_iterator = p_variables.iterator(); l_iterator.hasNext(); )
+        {
+            final IVariable<?> l_variable = l_iterator.next();
+            final int l_slot = this.slot( l_variable.fqnfunctor() );
+            if ( l_slot >= 0 && Objects.isNull( l_frame[l_slot] ) )
+                l_frame[l_slot] = l_variable;
+        }
+
+        for ( int i = 0; i < l_frame.length; i++ )
+            if ( Objects.isNull( l_frame[i] ) )
+                l_frame[i] = m_templates[i].shallowcopy();
+
+        return new ImmutablePair<>( this, l_frame );
+    }
+
+    /**
+     * creates a layout of a subset of the slots
+     *
+     * @param p_variables variables, which paths are used
+     * @return layout with the templates of this layout, which paths exist within the variables
+     */
+    @Nonnull
+    public CSlotLayout restrict( @Nonnull final Stream<IVariable<?>> p_variables )
+    {
+        return new CSlotLayout(
+            p_variables.mapToInt( i -> this.slot( i.fqnfunctor() ) )
+                       .filter( i -> i >= 0 )
+                       .distinct()
+                       .sorted()
+                       .mapToObj( i -> m_templates[i] )
+        );
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return m_hash;
+    }
+
+    @Override
+    public boolean equals( final Object p_object )
+    {
+        return this == p_object
+               || p_object instanceof CSlotLayout
+                  && m_hash == p_object.hashCode()
+                  && m_slots.keySet().equals( ( (CSlotLayout) p_object ).m_slots.keySet() );
+    }
+
+    @Override
+    public String toString()
+    {
+        return Arrays.toString( m_paths );
+    }
+
+    /**
+     * extends the layout with unknown variables
+     *
+     * @param p_variables unknown variables
+     * @return extended layout
+     */
+    @Nonnull
+    private CSlotLayout extend( @Nonnull final Map<IPath, IVariable<?>> p_variables )
+    {
+        final List<IPath> l_key = new ArrayList<>( p_variables.keySet() );
+        final CSlotLayout l_layout = m_extension.get( l_key );
+        if ( Objects.nonNull( l_layout ) )
+            return l_layout;
+
+        final CSlotLayout l_extension = new CSlotLayout( Stream.concat( Arrays.stream( m_templates ), p_variables.values().stream() ) );
+        if ( m_extension.size() < EXTENSIONCACHE )
+            m_extension.putIfAbsent( l_key, l_extension );
+        return l_extension;
+    }
+
+}
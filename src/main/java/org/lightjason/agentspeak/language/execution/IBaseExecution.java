@@ -55,6 +55,17 @@ public abstract class IBaseExecution<T> implements IExecution
         m_value = p_value;
     }
 
+    /**
+     * returns the data
+     *
+     * @return data
+     */
+    @Nonnull
+    public final T value()
+    {
+        return m_value;
+    }
+
     @Nonnull
     @Override
     public Stream<IVariable<?>> variables()
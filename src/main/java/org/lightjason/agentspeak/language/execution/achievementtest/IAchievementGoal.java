@@ -55,6 +55,16 @@ public abstract class IAchievementGoal<T> extends IBaseExecution<T>
         m_immediately = p_immediately;
     }
 
+    /**
+     * returns if the goal runs immediately
+     *
+     * @return immediately flag
+     */
+    public final boolean immediately()
+    {
+        return m_immediately;
+    }
+
     @Override
     public final int hashCode()
     {
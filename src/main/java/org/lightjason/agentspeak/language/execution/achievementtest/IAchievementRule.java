@@ -23,21 +23,32 @@
 
 package org.lightjason.agentspeak.language.execution.achievementtest;
 
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IBaseExecution;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.execution.IExecution;
+import org.lightjason.agentspeak.language.execution.instantiable.IInstantiable;
 import org.lightjason.agentspeak.language.execution.instantiable.rule.IRule;
+import org.lightjason.agentspeak.language.execution.trampoline.ICallFrame;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import org.lightjason.agentspeak.language.variable.IRelocateVariable;
 import org.lightjason.agentspeak.language.variable.IVariable;
 
 import javax.annotation.Nonnull;
-import java.util.Arrays;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -50,6 +61,10 @@ public abstract class IAchievementRule<T> extends IBaseExecution<T>
      * serial id
      */
     private static final long serialVersionUID = -315973892409409832L;
+    /**
+     * marker of unbound values within a call pattern
+     */
+    private static final Object UNBOUND = new Object();
 
     /**
      * ctor
@@ -80,49 +95,107 @@ public abstract class IAchievementRule<T> extends IBaseExecution<T>
         // first step allocate all variables of the literal with the current context variables
         final ILiteral l_allocate = p_value.bind( p_context );
 
-        // second step execute backtracking rules sequential
-        return l_rules.stream()
-                      .map( i -> executerule( p_context, l_allocate, i ) )
-                      .filter( i -> i )
-                      .findFirst()
-                      .orElseGet( () -> false )
-                      ? p_context.agent().fuzzy().membership().success()
-                      : p_context.agent().fuzzy().membership().fail();
+        // second step execute backtracking rules sequential, results of tabled rules are read from the rule table
+        if ( !l_rules.isEmpty() && l_rules.stream().allMatch( IRule::tabled ) )
+            return executetabled( p_context, l_allocate, l_rules );
+
+        // rules are executed by the trampoline of the agent, so a call within a trampolined body is deferred
+        return p_context.agent().executionpolicy().trampoline().execute( () -> new CRuleFrame( p_context, l_allocate, l_rules ) );
     }
 
     /**
-     * execute single rule content
+     * executes the rules with the rule table, the result and the bound values
+     * of the call are stored with the call pattern of the literal
      *
-     * @param p_context context
+     * @param p_context execution context
      * @param p_literal binding literal
-     * @param p_rule rule
+     * @param p_rules rules
      * @return execution result
      */
-    private static boolean executerule( @Nonnull final IContext p_context, @Nonnull final ILiteral p_literal, @Nonnull final IRule p_rule )
+    @Nonnull
+    @SuppressWarnings( "unchecked" )
+    private static Stream<IFuzzyValue<?>> executetabled( @Nonnull final IContext p_context, @Nonnull final ILiteral p_literal,
+                                                         @Nonnull final Collection<IRule> p_rules )
     {
-        final Set<IVariable<?>> l_variables = p_context.agent().unifier().unify( p_literal, p_rule.identifier() );
-
-        final IFuzzyValue<?>[] l_result = p_rule.execute(
-            false,
-            p_rule.instantiate( p_context.agent(), l_variables.stream() ),
-            Collections.emptyList(),
-            Collections.emptyList()
-        ).toArray( IFuzzyValue[]::new );
-
-        if ( p_context.agent().fuzzy().defuzzification().success(
-                p_context.agent().fuzzy().defuzzification().apply(
-                    Arrays.stream( l_result )
-                )
-            ) )
+        final List<IVariable<?>> l_unbound = CCommon.flattenrecursive( p_literal.orderedvalues() )
+                                                    .filter( i -> i instanceof IVariable<?> )
+                                                    .<IVariable<?>>map( ITerm::term )
+                                                    .filter( i -> !i.allocated() )
+                                                    .distinct()
+                                                    .collect( Collectors.toList() );
+
+        // results of rules, which do not depend on the beliefs, are never out-dated
+        final long l_sequence = p_rules.stream().anyMatch( IRule::beliefdependent ) ? p_context.agent().beliefbase().beliefbase().sequence() : 0;
+        final Object l_key = tablekey( p_literal, l_unbound );
+        final Pair<Boolean, Object[]> l_entry = p_context.agent().ruletable().get( l_key, l_sequence );
+
+        final boolean l_success;
+        if ( Objects.nonNull( l_entry ) )
         {
-            l_variables.parallelStream()
-                       .filter( i -> i instanceof IRelocateVariable<?> )
-                       .forEach( i -> i.<IRelocateVariable<?>>term().relocate() );
+            l_success = l_entry.getLeft();
+            if ( l_success )
+                IntStream.range( 0, l_unbound.size() ).forEach( i -> ( (IVariable<Object>) l_unbound.get( i ) ).set( l_entry.getRight()[i] ) );
+        }
+        else
+        {
+            l_success = executerules( p_context, p_literal, p_rules );
+            p_context.agent().ruletable().put(
+                l_key,
+                l_success,
+                l_success ? l_unbound.stream().map( ITerm::raw ).toArray() : new Object[0],
+                l_sequence
+            );
+        }
 
-            return true;
+        return l_success
+               ? p_context.agent().fuzzy().membership().success()
+               : p_context.agent().fuzzy().membership().fail();
+    }
+
+    /**
+     * creates the call pattern of a literal, bound variables are replaced
+     * by their values and unbound variables by their position
+     *
+     * @param p_term term
+     * @param p_unbound unbound variables
+     * @return call pattern
+     */
+    @Nonnull
+    private static Object tablekey( @Nonnull final ITerm p_term, @Nonnull final List<IVariable<?>> p_unbound )
+    {
+        if ( p_term instanceof ILiteral )
+        {
+            final ILiteral l_literal = p_term.term();
+            final List<Object> l_key = new ArrayList<>();
+            l_key.add( l_literal.fqnfunctor() );
+            l_key.add( l_literal.negated() );
+            l_key.add( l_literal.hasAt() );
+            l_literal.orderedvalues().map( i -> tablekey( i, p_unbound ) ).forEachOrdered( l_key::add );
+            return l_key;
         }
 
-        return false;
+        if ( p_term instanceof IVariable<?> && !p_term.<IVariable<?>>term().allocated() )
+            return new ImmutablePair<>( UNBOUND, p_unbound.indexOf( p_term.<IVariable<?>>term() ) );
+
+        return Objects.isNull( p_term.raw() ) ? UNBOUND : p_term.raw();
+    }
+
+    /**
+     * execute backtracking rules sequential, rules
+     * which cannot match the call are skipped
+     *
+     * @param p_context execution context
+     * @param p_literal binding literal
+     * @param p_rules rules
+     * @return execution result
+     */
+    private static boolean executerules( @Nonnull final IContext p_context, @Nonnull final ILiteral p_literal, @Nonnull final Collection<IRule> p_rules )
+    {
+        return p_context.agent().fuzzy().defuzzification().success(
+            p_context.agent().fuzzy().defuzzification().apply(
+                p_context.agent().executionpolicy().trampoline().run( new CRuleFrame( p_context, p_literal, p_rules ) )
+            )
+        );
     }
 
     @Override
@@ -137,4 +210,84 @@ public abstract class IAchievementRule<T> extends IBaseExecution<T>
         return p_object instanceof IExecution && this.hashCode() == p_object.hashCode();
     }
 
+
+    /**
+     * call frame of backtracking rules, the rules
+     * are executed until one rule is successful
+     */
+    private static final class CRuleFrame implements ICallFrame
+    {
+        /**
+         * execution context of the call
+         */
+        private final IContext m_context;
+        /**
+         * binding literal
+         */
+        private final ILiteral m_literal;
+        /**
+         * rules, which can match the call
+         */
+        private final Iterator<IRule> m_rules;
+        /**
+         * unified variables of the current rule
+         */
+        private Set<IVariable<?>> m_variables = Collections.emptySet();
+        /**
+         * successful execution
+         */
+        private boolean m_success;
+
+        /**
+         * ctor
+         *
+         * @param p_context execution context
+         * @param p_literal binding literal
+         * @param p_rules rules
+         */
+        CRuleFrame( @Nonnull final IContext p_context, @Nonnull final ILiteral p_literal, @Nonnull final Collection<IRule> p_rules )
+        {
+            m_context = p_context;
+            m_literal = p_literal;
+            m_rules = p_rules.stream().filter( i -> i.viable( p_literal ) ).iterator();
+        }
+
+        @Nullable
+        @Override
+        public Pair<IInstantiable, IContext> next()
+        {
+            if ( m_success || !m_rules.hasNext() )
+                return null;
+
+            final IRule l_rule = m_rules.next();
+            m_variables = m_context.agent().unifier().unify( m_literal, l_rule.identifier() );
+            return new ImmutablePair<>( l_rule, l_rule.instantiate( m_context.agent(), m_variables.stream() ) );
+        }
+
+        @Override
+        public void finish( @Nonnull final Stream<IFuzzyValue<?>> p_result )
+        {
+            m_success = m_context.agent().fuzzy().defuzzification().success( m_context.agent().fuzzy().defuzzification().apply( p_result ) );
+            if ( m_success )
+                m_variables.parallelStream()
+                           .filter( i -> i instanceof IRelocateVariable<?> )
+                           .forEach( i -> i.<IRelocateVariable<?>>term().relocate() );
+        }
+
+        @Override
+        public boolean last()
+        {
+            return !m_rules.hasNext();
+        }
+
+        @Nonnull
+        @Override
+        public Stream<IFuzzyValue<?>> result()
+        {
+            return m_success
+                   ? m_context.agent().fuzzy().membership().success()
+                   : m_context.agent().fuzzy().membership().fail();
+        }
+    }
+
 }
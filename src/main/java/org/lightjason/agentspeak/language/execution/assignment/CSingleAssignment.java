@@ -98,6 +98,28 @@ public final class CSingleAssignment extends IBaseExecution<IVariable<?>>
         return Stream.empty();
     }
 
+    /**
+     * returns the assignment operator
+     *
+     * @return operator
+     */
+    @Nonnull
+    public EAssignOperator operator()
+    {
+        return m_operator;
+    }
+
+    /**
+     * returns the right-hand argument
+     *
+     * @return right-hand execution
+     */
+    @Nonnull
+    public IExecution rhs()
+    {
+        return m_rhs;
+    }
+
     @Override
     public int hashCode()
     {
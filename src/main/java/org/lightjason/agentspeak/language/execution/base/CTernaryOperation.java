@@ -98,6 +98,28 @@ public final class CTernaryOperation extends IBaseExecution<IExpression>
                : m_false.execute( p_parallel, p_context, Collections.emptyList(), p_return );
     }
 
+    /**
+     * returns the true execution block
+     *
+     * @return execution
+     */
+    @Nonnull
+    public IExecution truebranch()
+    {
+        return m_true;
+    }
+
+    /**
+     * returns the false execution block
+     *
+     * @return execution
+     */
+    @Nonnull
+    public IExecution falsebranch()
+    {
+        return m_false;
+    }
+
     @Override
     public int hashCode()
     {
@@ -0,0 +1,277 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.execution.compiler;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.IExecution;
+import org.lightjason.agentspeak.language.execution.assignment.CSingleAssignment;
+import org.lightjason.agentspeak.language.execution.expression.CConstantExpression;
+import org.lightjason.agentspeak.language.execution.passing.CPassRaw;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+import org.lightjason.agentspeak.language.fuzzy.bundle.IFuzzyBundle;
+import org.lightjason.agentspeak.language.variable.IVariable;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+
+/**
+ * dispatch cache of a plan or rule body, the execution elements are linked
+ * once into an array of steps which runs as a plain loop instead of the
+ * stream-based interpreter, only assignments of constant values are bound
+ * to specialized steps, all other elements call their own execution, so
+ * no code is generated and the gain is limited to the removed stream,
+ * argument list and defuzzification overhead of the interpreter loop
+ *
+ * @note the body is defuzzificated only if a step adds fuzzy values, because the
+ * defuzzification of an unchanged result list returns the same value
+ */
+public final class CCompiledBody implements Serializable
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 3126532930519722617L;
+    /**
+     * steps
+     */
+    private final IStep[] m_steps;
+    /**
+     * number of specialized steps
+     */
+    private final int m_specialized;
+
+    /**
+     * ctor
+     *
+     * @param p_execution execution elements
+     */
+    private CCompiledBody( @Nonnull final IExecution[] p_execution )
+    {
+        m_steps = Arrays.stream( p_execution ).map( CCompiledBody::compile ).toArray( IStep[]::new );
+        m_specialized = (int) Arrays.stream( m_steps ).filter( i -> i instanceof CConstantAssignment ).count();
+    }
+
+    /**
+     * executes the body sequentially
+     *
+     * @param p_context execution context
+     * @return list with execution results and successful execution
+     *
+     * @note result is equal to the sequential interpreter execution
+     */
+    @Nonnull
+    public Pair<List<IFuzzyValue<?>>, Boolean> execute( @Nonnull final IContext p_context )
+    {
+        final List<IFuzzyValue<?>> l_result = new ArrayList<>();
+
+        boolean l_success = false;
+        boolean l_defuzzificated = false;
+
+        for ( final IStep l_step : m_steps )
+        {
+            final int l_size = l_result.size();
+            l_step.execute( p_context, l_result );
+
+            if ( !l_defuzzificated || l_result.size() != l_size )
+            {
+                l_success = p_context.agent().fuzzy().defuzzification().success(
+                    p_context.agent().fuzzy().defuzzification().apply( l_result.stream() )
+                );
+                l_defuzzificated = true;
+            }
+
+            if ( !l_success )
+                break;
+        }
+
+        return new ImmutablePair<>( l_result, l_success );
+    }
+
+    /**
+     * returns the number of steps
+     *
+     * @return number of steps
+     */
+    @Nonnegative
+    public int size()
+    {
+        return m_steps.length;
+    }
+
+    /**
+     * returns the number of specialized steps
+     *
+     * @return number of steps which do not use the interpreter
+     */
+    @Nonnegative
+    public int specialized()
+    {
+        return m_specialized;
+    }
+
+    /**
+     * compiles a body
+     *
+     * @param p_execution execution elements
+     * @return compiled body
+     */
+    @Nonnull
+    public static CCompiledBody of( @Nonnull final IExecution[] p_execution )
+    {
+        return new CCompiledBody( p_execution );
+    }
+
+    /**
+     * compiles a single execution element
+     *
+     * @param p_execution execution element
+     * @return step
+     */
+    @Nonnull
+    private static IStep compile( @Nonnull final IExecution p_execution )
+    {
+        final IStep l_step = CConstantAssignment.of( p_execution );
+        return Objects.nonNull( l_step )
+               ? l_step
+               : ( i, j ) -> p_execution.execute( false, i, Collections.emptyList(), Collections.emptyList() ).forEach( j::add );
+    }
+
+
+    /**
+     * assignment of a constant value, the constant is
+     * bound to the step, so no argument list is created
+     */
+    private static final class CConstantAssignment implements IStep
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = -4418426451357427315L;
+        /**
+         * assignment
+         */
+        private final CSingleAssignment m_assignment;
+        /**
+         * constant value
+         */
+        private final ITerm m_value;
+        /**
+         * constant expression or null on raw values
+         */
+        private final CConstantExpression m_expression;
+        /**
+         * cached defuzzification of the last fuzzy bundle
+         */
+        private transient volatile Pair<IFuzzyBundle, Boolean> m_success;
+
+        /**
+         * ctor
+         *
+         * @param p_assignment assignment
+         * @param p_value constant value
+         * @param p_expression constant expression or null on raw values
+         */
+        private CConstantAssignment( @Nonnull final CSingleAssignment p_assignment, @Nonnull final ITerm p_value,
+                                     @Nullable final CConstantExpression p_expression )
+        {
+            m_assignment = p_assignment;
+            m_value = p_value;
+            m_expression = p_expression;
+        }
+
+        @Override
+        public void execute( @Nonnull final IContext p_context, @Nonnull final List<IFuzzyValue<?>> p_result )
+        {
+            if ( !this.success( p_context.agent().fuzzy() ) )
+            {
+                p_context.agent().fuzzy().membership().fail().forEach( p_result::add );
+                return;
+            }
+
+            final IVariable<Object> l_lhs = CCommon.replacebycontext( p_context, m_assignment.value() ).term();
+            l_lhs.set( m_assignment.operator().apply( l_lhs, m_value ) );
+        }
+
+        /**
+         * defuzzificates the fuzzy values of the constant
+         *
+         * @param p_bundle fuzzy bundle
+         * @return success flag
+         */
+        private boolean success( @Nonnull final IFuzzyBundle p_bundle )
+        {
+            final Pair<IFuzzyBundle, Boolean> l_success = m_success;
+            if ( Objects.nonNull( l_success ) && l_success.getLeft() == p_bundle )
+                return l_success.getRight();
+
+            final boolean l_result = p_bundle.defuzzification().success(
+                p_bundle.defuzzification().apply(
+                    Objects.isNull( m_expression ) ? Stream.empty() : Arrays.stream( m_expression.fuzzy( p_bundle ) )
+                )
+            );
+            m_success = new ImmutablePair<>( p_bundle, l_result );
+            return l_result;
+        }
+
+        /**
+         * creates a step of an execution
+         *
+         * @param p_execution execution
+         * @return step or null if the execution is not a constant assignment
+         */
+        @Nullable
+        static IStep of( @Nonnull final IExecution p_execution )
+        {
+            if ( !( p_execution instanceof CSingleAssignment ) )
+                return null;
+
+            final CSingleAssignment l_assignment = (CSingleAssignment) p_execution;
+            if ( l_assignment.rhs() instanceof CPassRaw<?> )
+                return new CConstantAssignment( l_assignment, ( (CPassRaw<?>) l_assignment.rhs() ).value(), null );
+
+            if ( l_assignment.rhs() instanceof CConstantExpression )
+                return new CConstantAssignment(
+                    l_assignment,
+                    CRawTerm.of( ( (CConstantExpression) l_assignment.rhs() ).raw() ),
+                    (CConstantExpression) l_assignment.rhs()
+                );
+
+            return null;
+        }
+    }
+}
@@ -23,7 +23,11 @@
 
 package org.lightjason.agentspeak.language.execution.expression;
 
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
 import org.lightjason.agentspeak.common.IBiFunction;
+import org.lightjason.agentspeak.error.CEnumConstantNotPresentException;
 import org.lightjason.agentspeak.error.context.CExecutionIllegalStateException;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
@@ -31,19 +35,27 @@ import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.execution.IExecution;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+import org.lightjason.agentspeak.language.fuzzy.bundle.IFuzzyBundle;
 import org.lightjason.agentspeak.language.variable.IVariable;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.text.MessageFormat;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Stream;
 
 
 /**
  * binary expression
+ *
+ * @note if both sides are raw values, variables or typed expressions, the expression
+ * is evaluated on primitive values without argument lists and is boxed once on the result,
+ * addition, subtraction and multiplication of integral operands are computed on long values
+ * and are converted to floating-point only on the result or on a long overflow
  */
-public final class CBinaryExpression implements IBinaryExpression
+public final class CBinaryExpression implements IBinaryExpression, ITypedExpression
 {
     /**
      * serial id
@@ -65,6 +77,30 @@ public final class CBinaryExpression implements IBinaryExpression
      * left-hand-side strict-bind
      */
     private final IBiFunction<ITerm, List<ITerm>, Boolean> m_lhsbind;
+    /**
+     * typed left-hand-side or null on untyped execution
+     */
+    private final COperand m_lhsoperand;
+    /**
+     * typed right-hand-side or null on untyped execution
+     */
+    private final COperand m_rhsoperand;
+    /**
+     * result type
+     */
+    private final EType m_type;
+    /**
+     * flag that both operands are statically integral numbers
+     */
+    private final boolean m_integral;
+    /**
+     * flag that both operands can be integral numbers, so variable values are checked on evaluation
+     */
+    private final boolean m_allowintegral;
+    /**
+     * cached fuzzy values of the last fuzzy bundle
+     */
+    private transient volatile Pair<IFuzzyBundle, IFuzzyValue<?>[]> m_fuzzy;
 
     /**
      * ctor
@@ -104,12 +140,319 @@ public final class CBinaryExpression implements IBinaryExpression
                 m_lhsbind = ( i, j ) -> false;
         }
 
+        final COperand l_lhs = COperand.of( m_lhs );
+        final COperand l_rhs = COperand.of( m_rhs );
+        final boolean l_typed = Objects.nonNull( l_lhs ) && Objects.nonNull( l_rhs ) && typed( m_operator, l_lhs, l_rhs );
+
+        m_lhsoperand = l_typed ? l_lhs : null;
+        m_rhsoperand = l_typed ? l_rhs : null;
+        m_type = l_typed ? type( m_operator ) : EType.UNTYPED;
+        m_allowintegral = l_typed && exact( m_operator ) && l_lhs.allowintegral() && l_rhs.allowintegral();
+        m_integral = m_allowintegral && l_lhs.integral() && l_rhs.integral();
     }
 
     @Nonnull
     @Override
     public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return )
+    {
+        if ( Objects.isNull( m_lhsoperand ) )
+            return this.executeuntyped( p_parallel, p_context, p_argument, p_return );
+
+        switch ( m_operator )
+        {
+            case AND:
+            case OR:
+                return this.executeshortcircuit( p_context, p_return );
+
+            default:
+                p_return.add( CRawTerm.of( this.evaluate( p_context ) ) );
+                return Arrays.stream( this.fuzzy( p_context.agent().fuzzy() ) );
+        }
+    }
+
+    @Nonnull
+    @Override
+    public EType type()
+    {
+        return m_type;
+    }
+
+    @Override
+    public boolean constant()
+    {
+        return Objects.nonNull( m_lhsoperand ) && m_lhsoperand.constant() && m_rhsoperand.constant();
+    }
+
+    @Nullable
+    @Override
+    public CConstantExpression fold()
+    {
+        if ( !this.constant() )
+            return null;
+
+        if ( !EBinaryOperator.AND.equals( m_operator ) && !EBinaryOperator.OR.equals( m_operator ) )
+            return new CConstantExpression( this, this.evaluate( IContext.EMPTYPLAN ), m_type, this );
+
+        // short-circuit expression returns the fuzzy values of both sides only if the right-hand-side is executed
+        final boolean l_lhs = m_lhsoperand.bool( IContext.EMPTYPLAN );
+        return EBinaryOperator.AND.equals( m_operator ) != l_lhs
+               ? new CConstantExpression( this, l_lhs, EType.BOOLEAN, null )
+               : new CConstantExpression( this, m_rhsoperand.bool( IContext.EMPTYPLAN ), EType.BOOLEAN, this );
+    }
+
+    /**
+     * returns the operator
+     *
+     * @return operator
+     */
+    @Nonnull
+    public EBinaryOperator operator()
+    {
+        return m_operator;
+    }
+
+    /**
+     * returns the left-hand-side
+     *
+     * @return left-hand-side execution
+     */
+    @Nonnull
+    public IExecution lhs()
+    {
+        return m_lhs;
+    }
+
+    /**
+     * returns the right-hand-side
+     *
+     * @return right-hand-side execution
+     */
+    @Nonnull
+    public IExecution rhs()
+    {
+        return m_rhs;
+    }
+
+    @Override
+    public boolean integral()
+    {
+        return m_integral || EType.LONG.equals( m_type );
+    }
+
+    @Override
+    public double evaluatedouble( @Nonnull final IContext p_context )
+    {
+        if ( m_integral || m_allowintegral && m_lhsoperand.integral( p_context ) && m_rhsoperand.integral( p_context ) )
+            try
+            {
+                return this.evaluateintegral( p_context );
+            }
+            catch ( final ArithmeticException l_exception )
+            {
+                return this.evaluatefloating( p_context );
+            }
+
+        return this.evaluatefloating( p_context );
+    }
+
+    @Override
+    public long evaluatelong( @Nonnull final IContext p_context )
+    {
+        if ( EBinaryOperator.MODULO.equals( m_operator ) )
+            return CCommon.modulo( m_lhsoperand.integer( p_context ), m_rhsoperand.integer( p_context ) );
+
+        return m_integral
+               ? this.evaluatelongexact( p_context )
+               : (long) this.evaluatedouble( p_context );
+    }
+
+    /**
+     * evaluates the arithmetic operator on long values
+     * and uses floating-point arithmetic on overflow
+     *
+     * @param p_context execution context
+     * @return value
+     */
+    private long evaluatelongexact( @Nonnull final IContext p_context )
+    {
+        try
+        {
+            return this.evaluateintegral( p_context );
+        }
+        catch ( final ArithmeticException l_exception )
+        {
+            return (long) this.evaluatefloating( p_context );
+        }
+    }
+
+    /**
+     * evaluates the arithmetic operator on long values
+     *
+     * @param p_context execution context
+     * @return value
+     * @throws ArithmeticException on long overflow
+     */
+    private long evaluateintegral( @Nonnull final IContext p_context )
+    {
+        switch ( m_operator )
+        {
+            case PLUS:
+                return Math.addExact( m_lhsoperand.integer( p_context ), m_rhsoperand.integer( p_context ) );
+
+            case MINUS:
+                return Math.subtractExact( m_lhsoperand.integer( p_context ), m_rhsoperand.integer( p_context ) );
+
+            case MULTIPLY:
+                return Math.multiplyExact( m_lhsoperand.integer( p_context ), m_rhsoperand.integer( p_context ) );
+
+            default:
+                throw new CEnumConstantNotPresentException( EBinaryOperator.class, m_operator.toString() );
+        }
+    }
+
+    /**
+     * evaluates the arithmetic operator on floating-point values
+     *
+     * @param p_context execution context
+     * @return value
+     */
+    private double evaluatefloating( @Nonnull final IContext p_context )
+    {
+        switch ( m_operator )
+        {
+            case PLUS:
+                return m_lhsoperand.number( p_context ) + m_rhsoperand.number( p_context );
+
+            case MINUS:
+                return m_lhsoperand.number( p_context ) - m_rhsoperand.number( p_context );
+
+            case MULTIPLY:
+                return m_lhsoperand.number( p_context ) * m_rhsoperand.number( p_context );
+
+            case DIVIDE:
+                return m_lhsoperand.number( p_context ) / m_rhsoperand.number( p_context );
+
+            case POWER:
+                return Math.pow( m_lhsoperand.number( p_context ), m_rhsoperand.number( p_context ) );
+
+            case MODULO:
+                return this.evaluatelong( p_context );
+
+            default:
+                throw new CEnumConstantNotPresentException( EBinaryOperator.class, m_operator.toString() );
+        }
+    }
+
+    @Override
+    public boolean evaluateboolean( @Nonnull final IContext p_context )
+    {
+        switch ( m_operator )
+        {
+            case AND:
+                return m_lhsoperand.bool( p_context ) && m_rhsoperand.bool( p_context );
+
+            case OR:
+                return m_lhsoperand.bool( p_context ) || m_rhsoperand.bool( p_context );
+
+            case XOR:
+                return m_lhsoperand.bool( p_context ) ^ m_rhsoperand.bool( p_context );
+
+            case EQUAL:
+            case NOTEQUAL:
+            case LESS:
+            case LESSEQUAL:
+            case GREATER:
+            case GREATEREQUAL:
+                return m_lhsoperand.numeric() && m_rhsoperand.numeric()
+                       ? this.comparenumber( m_lhsoperand.number( p_context ), m_rhsoperand.number( p_context ) )
+                       : (Boolean) m_operator.apply( m_lhsoperand.term( p_context ), m_rhsoperand.term( p_context ) );
+
+            default:
+                throw new CEnumConstantNotPresentException( EBinaryOperator.class, m_operator.toString() );
+        }
+    }
+
+    @Nonnull
+    @Override
+    public IFuzzyValue<?>[] fuzzy( @Nonnull final IFuzzyBundle p_bundle )
+    {
+        final Pair<IFuzzyBundle, IFuzzyValue<?>[]> l_fuzzy = m_fuzzy;
+        if ( Objects.nonNull( l_fuzzy ) && l_fuzzy.getLeft() == p_bundle )
+            return l_fuzzy.getRight();
+
+        final IFuzzyValue<?>[] l_result = ArrayUtils.addAll( m_lhsoperand.defuzzificated( p_bundle ), m_rhsoperand.defuzzificated( p_bundle ) );
+        m_fuzzy = new ImmutablePair<>( p_bundle, l_result );
+        return l_result;
+    }
+
+    /**
+     * execute boolean expression with short-circuit evaluation
+     *
+     * @param p_context execution context
+     * @param p_return return list
+     * @return fuzzy result
+     */
+    @Nonnull
+    private Stream<IFuzzyValue<?>> executeshortcircuit( @Nonnull final IContext p_context, @Nonnull final List<ITerm> p_return )
+    {
+        final boolean l_lhs = m_lhsoperand.bool( p_context );
+        if ( EBinaryOperator.AND.equals( m_operator ) != l_lhs )
+        {
+            p_return.add( CRawTerm.of( l_lhs ) );
+            return Stream.empty();
+        }
+
+        p_return.add( CRawTerm.of( m_rhsoperand.bool( p_context ) ) );
+        return Arrays.stream( this.fuzzy( p_context.agent().fuzzy() ) );
+    }
+
+    /**
+     * compares two numbers with the operator
+     *
+     * @param p_lhs left-hand-side
+     * @param p_rhs right-hand-side
+     * @return comparing result
+     */
+    private boolean comparenumber( final double p_lhs, final double p_rhs )
+    {
+        switch ( m_operator )
+        {
+            case EQUAL:
+                return Double.doubleToLongBits( p_lhs ) == Double.doubleToLongBits( p_rhs );
+
+            case NOTEQUAL:
+                return Double.doubleToLongBits( p_lhs ) != Double.doubleToLongBits( p_rhs );
+
+            case LESS:
+                return Double.compare( p_lhs, p_rhs ) < 0;
+
+            case LESSEQUAL:
+                return Double.compare( p_lhs, p_rhs ) <= 0;
+
+            case GREATER:
+                return Double.compare( p_lhs, p_rhs ) > 0;
+
+            case GREATEREQUAL:
+                return Double.compare( p_lhs, p_rhs ) >= 0;
+
+            default:
+                throw new CEnumConstantNotPresentException( EBinaryOperator.class, m_operator.toString() );
+        }
+    }
+
+    /**
+     * execute expression with argument lists
+     *
+     * @param p_parallel parallel execution
+     * @param p_context execution context
+     * @param p_argument argument list
+     * @param p_return return list
+     * @return fuzzy result
+     */
+    @Nonnull
+    private Stream<IFuzzyValue<?>> executeuntyped( final boolean p_parallel, @Nonnull final IContext p_context,
+                                                   @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return )
     {
         final List<ITerm> l_return = CCommon.argumentlist();
 
@@ -166,6 +509,81 @@ public final class CBinaryExpression implements IBinaryExpression
                : p_context.agent().fuzzy().membership().fail().toArray( IFuzzyValue[]::new );
     }
 
+    /**
+     * checks if the operands can be read by the operator without argument lists
+     *
+     * @param p_operator operator
+     * @param p_lhs left-hand-side
+     * @param p_rhs right-hand-side
+     * @return typed flag
+     */
+    private static boolean typed( @Nonnull final EBinaryOperator p_operator, @Nonnull final COperand p_lhs, @Nonnull final COperand p_rhs )
+    {
+        switch ( p_operator )
+        {
+            case PLUS:
+            case MINUS:
+            case MULTIPLY:
+            case DIVIDE:
+            case MODULO:
+            case POWER:
+                return p_lhs.allownumber() && p_rhs.allownumber();
+
+            case AND:
+            case OR:
+            case XOR:
+                return p_lhs.allowboolean() && p_rhs.allowboolean();
+
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * checks if the operator is closed over integral numbers
+     *
+     * @param p_operator operator
+     * @return exact flag
+     *
+     * @note division and power are not closed over integral numbers, so they are computed on floating-point values
+     */
+    private static boolean exact( @Nonnull final EBinaryOperator p_operator )
+    {
+        return EBinaryOperator.PLUS.equals( p_operator ) || EBinaryOperator.MINUS.equals( p_operator ) || EBinaryOperator.MULTIPLY.equals( p_operator );
+    }
+
+    /**
+     * returns the result type of the operator
+     *
+     * @param p_operator operator
+     * @return result type
+     *
+     * @note short-circuit operators are untyped, because the fuzzy result depends on the data
+     */
+    @Nonnull
+    private static EType type( @Nonnull final EBinaryOperator p_operator )
+    {
+        switch ( p_operator )
+        {
+            case PLUS:
+            case MINUS:
+            case MULTIPLY:
+            case DIVIDE:
+            case POWER:
+                return EType.DOUBLE;
+
+            case MODULO:
+                return EType.LONG;
+
+            case AND:
+            case OR:
+                return EType.UNTYPED;
+
+            default:
+                return EType.BOOLEAN;
+        }
+    }
+
     @Nonnull
     @Override
     public Stream<IVariable<?>> variables()
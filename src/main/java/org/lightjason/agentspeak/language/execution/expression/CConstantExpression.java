@@ -0,0 +1,220 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.execution.expression;
+
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.IExecution;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+import org.lightjason.agentspeak.language.fuzzy.bundle.IFuzzyBundle;
+import org.lightjason.agentspeak.language.variable.IVariable;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+
+/**
+ * constant expression, which is created by folding an expression
+ * on raw values, the fuzzy values are the values of the folded
+ * expression, so the execution result is not changed
+ */
+public final class CConstantExpression implements ITypedExpression
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -6466930745010853934L;
+    /**
+     * empty fuzzy values
+     */
+    private static final IFuzzyValue<?>[] EMPTYFUZZY = new IFuzzyValue<?>[0];
+    /**
+     * folded expression
+     */
+    private final ITypedExpression m_source;
+    /**
+     * value
+     */
+    private final Object m_value;
+    /**
+     * value term
+     */
+    private final ITerm m_term;
+    /**
+     * value type
+     */
+    private final EType m_type;
+    /**
+     * expression of the fuzzy values or null on empty fuzzy values
+     */
+    private final ITypedExpression m_fuzzy;
+
+    /**
+     * ctor
+     *
+     * @param p_source folded expression
+     * @param p_value value
+     * @param p_type value type
+     * @param p_fuzzy expression of the fuzzy values or null on empty fuzzy values
+     */
+    CConstantExpression( @Nonnull final ITypedExpression p_source, @Nonnull final Object p_value, @Nonnull final EType p_type,
+                         @Nullable final ITypedExpression p_fuzzy )
+    {
+        m_source = p_source;
+        m_value = p_value;
+        m_type = p_type;
+        m_fuzzy = p_fuzzy;
+        m_term = CRawTerm.of( p_value );
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return )
+    {
+        p_return.add( m_term );
+        return Objects.isNull( m_fuzzy )
+               ? Stream.empty()
+               : Arrays.stream( m_fuzzy.fuzzy( p_context.agent().fuzzy() ) );
+    }
+
+    @Nonnull
+    @Override
+    public EType type()
+    {
+        return m_type;
+    }
+
+    @Override
+    public boolean constant()
+    {
+        return true;
+    }
+
+    @Nonnull
+    @Override
+    public CConstantExpression fold()
+    {
+        return this;
+    }
+
+    @Override
+    public boolean integral()
+    {
+        return m_source.integral();
+    }
+
+    @Override
+    public double evaluatedouble( @Nonnull final IContext p_context )
+    {
+        return ( (Number) m_value ).doubleValue();
+    }
+
+    @Override
+    public long evaluatelong( @Nonnull final IContext p_context )
+    {
+        return ( (Number) m_value ).longValue();
+    }
+
+    @Override
+    public boolean evaluateboolean( @Nonnull final IContext p_context )
+    {
+        return (Boolean) m_value;
+    }
+
+    @Nonnull
+    @Override
+    public IFuzzyValue<?>[] fuzzy( @Nonnull final IFuzzyBundle p_bundle )
+    {
+        return Objects.isNull( m_fuzzy ) ? EMPTYFUZZY : m_fuzzy.fuzzy( p_bundle );
+    }
+
+    /**
+     * returns the constant value
+     *
+     * @return value
+     *
+     * @tparam T value type
+     */
+    @Nonnull
+    @SuppressWarnings( "unchecked" )
+    public <T> T raw()
+    {
+        return (T) m_value;
+    }
+
+    /**
+     * returns the folded expression
+     *
+     * @return expression
+     */
+    @Nonnull
+    public IExpression source()
+    {
+        return m_source;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IVariable<?>> variables()
+    {
+        return Stream.empty();
+    }
+
+    @Override
+    public String toString()
+    {
+        return m_value.toString();
+    }
+
+    /**
+     * folds an execution if it is a constant expression
+     *
+     * @param p_execution execution
+     * @return constant expression or the input execution
+     *
+     * @note an expression, which fails on evaluation is not folded, so the error is thrown on runtime
+     */
+    @Nonnull
+    public static IExecution of( @Nonnull final IExecution p_execution )
+    {
+        if ( !( p_execution instanceof ITypedExpression ) )
+            return p_execution;
+
+        try
+        {
+            final CConstantExpression l_constant = ( (ITypedExpression) p_execution ).fold();
+            return Objects.isNull( l_constant ) ? p_execution : l_constant;
+        }
+        catch ( final RuntimeException l_exception )
+        {
+            return p_execution;
+        }
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.execution.expression;
+
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.IExecution;
+import org.lightjason.agentspeak.language.execution.passing.CPassRaw;
+import org.lightjason.agentspeak.language.execution.passing.CPassVariable;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+import org.lightjason.agentspeak.language.fuzzy.bundle.IFuzzyBundle;
+import org.lightjason.agentspeak.language.variable.IVariable;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+
+
+/**
+ * operand of a typed expression, which reads the value
+ * of a raw term, a variable or a nested typed expression
+ * without an argument list
+ */
+final class COperand implements Serializable
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 6392914460212740281L;
+    /**
+     * empty fuzzy values
+     */
+    private static final IFuzzyValue<?>[] EMPTYFUZZY = new IFuzzyValue<?>[0];
+    /**
+     * raw term
+     */
+    private final ITerm m_raw;
+    /**
+     * variable
+     */
+    private final IVariable<?> m_variable;
+    /**
+     * nested expression
+     */
+    private final ITypedExpression m_expression;
+
+    /**
+     * ctor
+     *
+     * @param p_raw raw term
+     * @param p_variable variable
+     * @param p_expression nested expression
+     */
+    private COperand( @Nullable final ITerm p_raw, @Nullable final IVariable<?> p_variable, @Nullable final ITypedExpression p_expression )
+    {
+        m_raw = p_raw;
+        m_variable = p_variable;
+        m_expression = p_expression;
+    }
+
+    /**
+     * returns the type of a nested expression
+     *
+     * @return expression type or untyped on raw and variable operands
+     */
+    @Nonnull
+    public ITypedExpression.EType type()
+    {
+        return Objects.isNull( m_expression ) ? ITypedExpression.EType.UNTYPED : m_expression.type();
+    }
+
+    /**
+     * returns if the operand is statically a number
+     *
+     * @return number flag
+     */
+    public boolean numeric()
+    {
+        return this.type().numeric();
+    }
+
+    /**
+     * returns if the operand can be read as number
+     *
+     * @return flag
+     */
+    public boolean allownumber()
+    {
+        return Objects.isNull( m_expression ) || this.numeric();
+    }
+
+    /**
+     * returns if the operand can be read as boolean
+     *
+     * @return flag
+     */
+    public boolean allowboolean()
+    {
+        return Objects.isNull( m_expression ) || ITypedExpression.EType.BOOLEAN.equals( m_expression.type() );
+    }
+
+    /**
+     * returns if the operand is a raw value or a constant expression
+     *
+     * @return constant flag
+     */
+    public boolean constant()
+    {
+        return Objects.nonNull( m_raw ) || Objects.nonNull( m_expression ) && m_expression.constant();
+    }
+
+    /**
+     * returns the operand value as term
+     *
+     * @param p_context execution context
+     * @return term
+     */
+    @Nonnull
+    public ITerm term( @Nonnull final IContext p_context )
+    {
+        if ( Objects.nonNull( m_raw ) )
+            return m_raw;
+
+        return Objects.nonNull( m_variable )
+               ? CCommon.replacebycontext( p_context, m_variable )
+               : CRawTerm.of( m_expression.evaluate( p_context ) );
+    }
+
+    /**
+     * returns the operand value as floating-point number
+     *
+     * @param p_context execution context
+     * @return value
+     */
+    public double number( @Nonnull final IContext p_context )
+    {
+        if ( Objects.isNull( m_expression ) )
+            return this.term( p_context ).<Number>raw().doubleValue();
+
+        return ITypedExpression.EType.LONG.equals( m_expression.type() )
+               ? m_expression.evaluatelong( p_context )
+               : m_expression.evaluatedouble( p_context );
+    }
+
+    /**
+     * returns the operand value as integral number
+     *
+     * @param p_context execution context
+     * @return value
+     */
+    public long integer( @Nonnull final IContext p_context )
+    {
+        if ( Objects.isNull( m_expression ) )
+            return this.term( p_context ).<Number>raw().longValue();
+
+        return m_expression.integral()
+               ? m_expression.evaluatelong( p_context )
+               : (long) m_expression.evaluatedouble( p_context );
+    }
+
+    /**
+     * returns if the operand is statically an integral number
+     *
+     * @return integral flag
+     */
+    public boolean integral()
+    {
+        return Objects.nonNull( m_raw )
+               ? COperand.isintegral( m_raw.raw() )
+               : Objects.nonNull( m_expression ) && m_expression.integral();
+    }
+
+    /**
+     * returns if the operand can be an integral number
+     *
+     * @return integral flag, which is true on variables
+     */
+    public boolean allowintegral()
+    {
+        return Objects.nonNull( m_variable ) || this.integral();
+    }
+
+    /**
+     * returns if the operand value is an integral number
+     *
+     * @param p_context execution context
+     * @return integral flag
+     *
+     * @note only variables are read, all other operands are checked statically
+     */
+    public boolean integral( @Nonnull final IContext p_context )
+    {
+        return Objects.nonNull( m_variable )
+               ? COperand.isintegral( CCommon.replacebycontext( p_context, m_variable ).raw() )
+               : this.integral();
+    }
+
+    /**
+     * returns the operand value as boolean
+     *
+     * @param p_context execution context
+     * @return value
+     */
+    public boolean bool( @Nonnull final IContext p_context )
+    {
+        return Objects.isNull( m_expression )
+               ? this.term( p_context ).<Boolean>raw()
+               : m_expression.evaluateboolean( p_context );
+    }
+
+    /**
+     * returns the fuzzy values of the operand execution
+     *
+     * @param p_bundle fuzzy bundle
+     * @return fuzzy values
+     */
+    @Nonnull
+    public IFuzzyValue<?>[] execution( @Nonnull final IFuzzyBundle p_bundle )
+    {
+        return Objects.isNull( m_expression ) ? EMPTYFUZZY : m_expression.fuzzy( p_bundle );
+    }
+
+    /**
+     * returns the defuzzificated fuzzy values of the operand execution,
+     * which are created by a binary expression for each side
+     *
+     * @param p_bundle fuzzy bundle
+     * @return fuzzy values
+     */
+    @Nonnull
+    public IFuzzyValue<?>[] defuzzificated( @Nonnull final IFuzzyBundle p_bundle )
+    {
+        return p_bundle.defuzzification().success( p_bundle.defuzzification().apply( Arrays.stream( this.execution( p_bundle ) ) ) )
+               ? p_bundle.membership().success().toArray( IFuzzyValue[]::new )
+               : p_bundle.membership().fail().toArray( IFuzzyValue[]::new );
+    }
+
+    @Override
+    public String toString()
+    {
+        return Objects.nonNull( m_raw )
+               ? m_raw.toString()
+               : Objects.nonNull( m_variable ) ? m_variable.toString() : m_expression.toString();
+    }
+
+    /**
+     * checks if a value is an integral number
+     *
+     * @param p_value value
+     * @return integral flag
+     */
+    private static boolean isintegral( @Nullable final Object p_value )
+    {
+        return p_value instanceof Long || p_value instanceof Integer || p_value instanceof Short || p_value instanceof Byte;
+    }
+
+    /**
+     * creates an operand of an execution
+     *
+     * @param p_execution execution
+     * @return operand or null if the execution cannot be read without an argument list
+     */
+    @Nullable
+    public static COperand of( @Nonnull final IExecution p_execution )
+    {
+        if ( p_execution instanceof CPassRaw<?> )
+            return new COperand( ( (CPassRaw<?>) p_execution ).value(), null, null );
+
+        if ( p_execution instanceof CPassVariable )
+            return new COperand( null, ( (CPassVariable) p_execution ).value(), null );
+
+        return p_execution instanceof ITypedExpression && !ITypedExpression.EType.UNTYPED.equals( ( (ITypedExpression) p_execution ).type() )
+               ? new COperand( null, null, (ITypedExpression) p_execution )
+               : null;
+    }
+}
@@ -23,6 +23,7 @@
 
 package org.lightjason.agentspeak.language.execution.expression;
 
+import org.lightjason.agentspeak.error.CEnumConstantNotPresentException;
 import org.lightjason.agentspeak.error.context.CExecutionIllegalStateException;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
@@ -30,19 +31,22 @@ import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.execution.IExecution;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+import org.lightjason.agentspeak.language.fuzzy.bundle.IFuzzyBundle;
 import org.lightjason.agentspeak.language.variable.IVariable;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.text.MessageFormat;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Stream;
 
 
 /**
  * unary expression
  */
-public final class CUnaryExpression implements IUnaryExpression
+public final class CUnaryExpression implements IUnaryExpression, ITypedExpression
 {
     /**
      * serial id
@@ -56,6 +60,10 @@ public final class CUnaryExpression implements IUnaryExpression
      * execution element
      */
     private final IExecution m_element;
+    /**
+     * typed element or null on untyped execution
+     */
+    private final COperand m_operand;
 
     /**
      * ctor
@@ -67,6 +75,9 @@ public final class CUnaryExpression implements IUnaryExpression
     {
         m_operator = p_operator;
         m_element = p_element;
+
+        final COperand l_operand = COperand.of( m_element );
+        m_operand = Objects.nonNull( l_operand ) && l_operand.allowboolean() ? l_operand : null;
     }
 
     @Nonnull
@@ -75,6 +86,12 @@ public final class CUnaryExpression implements IUnaryExpression
                                            @Nonnull final List<ITerm> p_return
     )
     {
+        if ( Objects.nonNull( m_operand ) )
+        {
+            p_return.add( CRawTerm.of( this.evaluateboolean( p_context ) ) );
+            return Arrays.stream( m_operand.execution( p_context.agent().fuzzy() ) );
+        }
+
         final List<ITerm> l_return = CCommon.argumentlist();
 
         final IFuzzyValue<?>[] l_result =  m_element.execute( p_parallel, p_context, p_argument, l_return ).toArray( IFuzzyValue[]::new );
@@ -90,6 +107,75 @@ public final class CUnaryExpression implements IUnaryExpression
         return Arrays.stream( l_result );
     }
 
+    @Nonnull
+    @Override
+    public EType type()
+    {
+        return Objects.isNull( m_operand ) ? EType.UNTYPED : EType.BOOLEAN;
+    }
+
+    @Override
+    public boolean constant()
+    {
+        return Objects.nonNull( m_operand ) && m_operand.constant();
+    }
+
+    @Nullable
+    @Override
+    public CConstantExpression fold()
+    {
+        return this.constant()
+               ? new CConstantExpression( this, this.evaluateboolean( IContext.EMPTYPLAN ), EType.BOOLEAN, this )
+               : null;
+    }
+
+    /**
+     * returns the operator
+     *
+     * @return operator
+     */
+    @Nonnull
+    public EUnaryOperator operator()
+    {
+        return m_operator;
+    }
+
+    /**
+     * returns the element
+     *
+     * @return element execution
+     */
+    @Nonnull
+    public IExecution element()
+    {
+        return m_element;
+    }
+
+    @Override
+    public double evaluatedouble( @Nonnull final IContext p_context )
+    {
+        throw new CEnumConstantNotPresentException( EUnaryOperator.class, m_operator.toString() );
+    }
+
+    @Override
+    public long evaluatelong( @Nonnull final IContext p_context )
+    {
+        throw new CEnumConstantNotPresentException( EUnaryOperator.class, m_operator.toString() );
+    }
+
+    @Override
+    public boolean evaluateboolean( @Nonnull final IContext p_context )
+    {
+        return !m_operand.bool( p_context );
+    }
+
+    @Nonnull
+    @Override
+    public IFuzzyValue<?>[] fuzzy( @Nonnull final IFuzzyBundle p_bundle )
+    {
+        return m_operand.execution( p_bundle );
+    }
+
     @Nonnull
     @Override
     public Stream<IVariable<?>> variables()
@@ -0,0 +1,158 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.execution.expression;
+
+import org.lightjason.agentspeak.error.CEnumConstantNotPresentException;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+import org.lightjason.agentspeak.language.fuzzy.bundle.IFuzzyBundle;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+
+/**
+ * expression with a primitive result type, so nested
+ * expressions are evaluated without boxing and argument lists
+ */
+interface ITypedExpression extends IExpression
+{
+
+    /**
+     * returns the result type
+     *
+     * @return result type
+     */
+    @Nonnull
+    EType type();
+
+    /**
+     * evaluates the expression with a floating-point result
+     *
+     * @param p_context execution context
+     * @return value
+     */
+    double evaluatedouble( @Nonnull IContext p_context );
+
+    /**
+     * evaluates the expression with an integral result
+     *
+     * @param p_context execution context
+     * @return value
+     */
+    long evaluatelong( @Nonnull IContext p_context );
+
+    /**
+     * returns if the expression value is an integral number, so
+     * the integral evaluation is exact
+     *
+     * @return integral flag
+     */
+    default boolean integral()
+    {
+        return EType.LONG.equals( this.type() );
+    }
+
+    /**
+     * evaluates the expression with a boolean result
+     *
+     * @param p_context execution context
+     * @return value
+     */
+    boolean evaluateboolean( @Nonnull IContext p_context );
+
+    /**
+     * returns the fuzzy values of the typed execution
+     *
+     * @param p_bundle fuzzy bundle
+     * @return fuzzy values
+     *
+     * @note the fuzzy values do not depend on the data, so they are defined by the bundle only
+     */
+    @Nonnull
+    IFuzzyValue<?>[] fuzzy( @Nonnull IFuzzyBundle p_bundle );
+
+    /**
+     * returns if the expression depends on raw values only
+     *
+     * @return constant flag
+     */
+    boolean constant();
+
+    /**
+     * evaluates a constant expression
+     *
+     * @return constant expression or null if the expression is not constant
+     */
+    @Nullable
+    CConstantExpression fold();
+
+    /**
+     * evaluates the expression with a boxed result
+     *
+     * @param p_context execution context
+     * @return value
+     */
+    @Nonnull
+    default Object evaluate( @Nonnull final IContext p_context )
+    {
+        switch ( this.type() )
+        {
+            case DOUBLE:
+                return this.evaluatedouble( p_context );
+
+            case LONG:
+                return this.evaluatelong( p_context );
+
+            case BOOLEAN:
+                return this.evaluateboolean( p_context );
+
+            default:
+                throw new CEnumConstantNotPresentException( EType.class, this.type().toString() );
+        }
+    }
+
+
+    /**
+     * result type
+     */
+    enum EType
+    {
+        DOUBLE,
+        LONG,
+        BOOLEAN,
+        UNTYPED;
+
+        /**
+         * returns if the type is a number
+         *
+         * @return number flag
+         */
+        public final boolean numeric()
+        {
+            return DOUBLE.equals( this ) || LONG.equals( this );
+        }
+    }
+
+}
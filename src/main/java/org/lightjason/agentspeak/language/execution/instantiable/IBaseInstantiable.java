@@ -27,18 +27,25 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.lightjason.agentspeak.agent.IAgent;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.CSlotLayout;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.execution.IExecution;
+import org.lightjason.agentspeak.language.execution.compiler.CCompiledBody;
 import org.lightjason.agentspeak.language.execution.instantiable.plan.annotation.EAnnotation;
 import org.lightjason.agentspeak.language.execution.instantiable.plan.annotation.IAnnotation;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import org.lightjason.agentspeak.language.variable.IVariable;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.text.MessageFormat;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -83,6 +90,20 @@ public abstract class IBaseInstantiable implements IInstantiable
      * hash code
      */
     private final int m_hash;
+    /**
+     * slot layout of the variables, which is resolved on the first instantiation
+     */
+    private transient volatile CSlotLayout m_layout;
+    /**
+     * dispatch cache of the body, which is created if the execution policy enables the compilation
+     */
+    private transient volatile CCompiledBody m_compiled;
+    /**
+     * number of sequential executions until the body is compiled
+     *
+     * @note the counter is not transient, so it exists after deserialization
+     */
+    private final AtomicLong m_executions = new AtomicLong();
 
     /**
      * ctor
@@ -116,32 +137,28 @@ public abstract class IBaseInstantiable implements IInstantiable
         m_execution = p_execution;
 
         m_description = Arrays.stream( p_annotation )
-                              .parallel()
                               .filter( i -> EAnnotation.DESCRIPTION.equals( i.id() ) )
                               .findFirst()
                               .map( i -> i.value().toString() )
                               .orElse( "" );
 
         m_constant = Arrays.stream( p_annotation )
-                           .parallel()
                            .filter( i -> EAnnotation.CONSTANT.equals( i.id() ) )
                            .flatMap( IAnnotation::variables )
                            .toArray( IVariable<?>[]::new );
 
         m_tags = Arrays.stream( p_annotation )
-                       .parallel()
                        .filter( i -> EAnnotation.TAG.equals( i.id() ) )
                        .map( i -> i.value().toString() )
                        .toArray( String[]::new );
 
         m_variabledescription = Arrays.stream( p_annotation )
-                                      .parallel()
                                       .filter( i -> EAnnotation.VARIABLE.equals( i.id() ) )
                                       .flatMap( i -> i.variables() )
                                       .toArray( IVariable<?>[]::new );
 
-        m_parallel = Arrays.stream( p_annotation ).parallel().anyMatch( i -> EAnnotation.PARALLEL.equals( i.id() ) );
-        m_atomic = Arrays.stream( p_annotation ).parallel().anyMatch( i -> EAnnotation.ATOMIC.equals( i.id() ) );
+        m_parallel = Arrays.stream( p_annotation ).anyMatch( i -> EAnnotation.PARALLEL.equals( i.id() ) );
+        m_atomic = Arrays.stream( p_annotation ).anyMatch( i -> EAnnotation.ATOMIC.equals( i.id() ) );
     }
 
     @Nonnull
@@ -174,9 +191,34 @@ public abstract class IBaseInstantiable implements IInstantiable
     @Override
     public final boolean equals( final Object p_object )
     {
+        if ( this == p_object )
+            return true;
+
+        // hash is used as fast-path, structure is checked on equal hashes only
+        if ( p_object instanceof IBaseInstantiable )
+        {
+            final IBaseInstantiable l_instantiable = (IBaseInstantiable) p_object;
+            return m_hash == l_instantiable.m_hash
+                   && this.getClass().equals( l_instantiable.getClass() )
+                   && m_atomic == l_instantiable.m_atomic
+                   && m_parallel == l_instantiable.m_parallel
+                   && m_description.equals( l_instantiable.m_description )
+                   && Arrays.equals( m_tags, l_instantiable.m_tags )
+                   && Arrays.equals( m_execution, l_instantiable.m_execution )
+                   && this.equalstructure( l_instantiable );
+        }
+
         return p_object instanceof IInstantiable && this.hashCode() == p_object.hashCode();
     }
 
+    /**
+     * checks the structure of the derived class
+     *
+     * @param p_instantiable instantiable object of the same class
+     * @return equality flag
+     */
+    protected abstract boolean equalstructure( @Nonnull final IBaseInstantiable p_instantiable );
+
     @Nonnull
     @Override
     public final IContext instantiate( @Nonnull final IAgent<?> p_agent, @Nonnull final Stream<IVariable<?>> p_variable )
@@ -184,6 +226,20 @@ public abstract class IBaseInstantiable implements IInstantiable
         return CCommon.instantiate( this, p_agent, p_variable );
     }
 
+    @Nonnull
+    @Override
+    public final CSlotLayout layout()
+    {
+        // the variables of the sub-class are not initialized within the ctor, so the layout is resolved lazy
+        CSlotLayout l_layout = m_layout;
+        if ( Objects.isNull( l_layout ) )
+        {
+            l_layout = CSlotLayout.of( this.variables() );
+            m_layout = l_layout;
+        }
+        return l_layout;
+    }
+
     @Nonnull
     @Override
     public Stream<IVariable<?>> variables()
@@ -205,7 +261,7 @@ public abstract class IBaseInstantiable implements IInstantiable
         // because we need to allocate memory of any possible element, otherwise an unsupported operation exception is thrown
         final Pair<List<IFuzzyValue<?>>, Boolean> l_result = m_parallel
                                                              ? CCommon.executeparallel( p_context, Arrays.stream( m_execution ) )
-                                                             : CCommon.executesequential( p_context, Arrays.stream( m_execution ) );
+                                                             : this.executesequential( p_context );
 
         // if atomic flag if exists use this for return value
         return m_atomic
@@ -214,6 +270,84 @@ public abstract class IBaseInstantiable implements IInstantiable
     }
 
 
+    /**
+     * returns if the body has got the parallel annotation
+     *
+     * @return parallel flag
+     */
+    public final boolean parallel()
+    {
+        return m_parallel;
+    }
+
+    /**
+     * returns the body elements, if the body
+     * is interpreted sequentially element by element
+     *
+     * @param p_context execution context
+     * @return null for parallel, atomic or compiled bodies, otherwise the body elements
+     *
+     * @note the call counts as execution of the body, a compiled body is run by the execute call only
+     */
+    @Nullable
+    public final IExecution[] sequentialbody( @Nonnull final IContext p_context )
+    {
+        return m_parallel || m_atomic || Objects.nonNull( this.compiled( p_context ) ) ? null : m_execution;
+    }
+
+    /**
+     * executes the body sequentially with the interpreter or the compiled body
+     *
+     * @param p_context execution context
+     * @return list with execution results and successful execution
+     */
+    @Nonnull
+    private Pair<List<IFuzzyValue<?>>, Boolean> executesequential( @Nonnull final IContext p_context )
+    {
+        final CCompiledBody l_compiled = this.compiled( p_context );
+        return Objects.isNull( l_compiled )
+               ? CCommon.executesequential( p_context, Arrays.stream( m_execution ) )
+               : l_compiled.execute( p_context );
+    }
+
+    /**
+     * counts the execution and returns the compiled body
+     *
+     * @param p_context execution context
+     * @return null if the body is interpreted, otherwise the compiled body
+     *
+     * @note executions are counted until the body is compiled
+     */
+    @Nullable
+    private CCompiledBody compiled( @Nonnull final IContext p_context )
+    {
+        final CCompiledBody l_compiled = m_compiled;
+        if ( !p_context.agent().executionpolicy().compile( Objects.isNull( l_compiled ) ? m_executions.incrementAndGet() : m_executions.get() ) )
+            return null;
+
+        if ( Objects.nonNull( l_compiled ) )
+            return l_compiled;
+
+        final CCompiledBody l_body = CCompiledBody.of( m_execution );
+        m_compiled = l_body;
+        return l_body;
+    }
+
+    /**
+     * rewrites the execution elements
+     *
+     * @param p_rewrite rewrite function
+     * @return rewritten execution elements or null if no element is changed
+     */
+    @Nullable
+    protected final IExecution[] rewriteexecution( @Nonnull final UnaryOperator<IExecution> p_rewrite )
+    {
+        final IExecution[] l_execution = Arrays.stream( m_execution ).map( p_rewrite ).toArray( IExecution[]::new );
+        return IntStream.range( 0, l_execution.length ).allMatch( i -> l_execution[i] == m_execution[i] )
+               ? null
+               : l_execution;
+    }
+
     /**
      * returns all data as a string
      *
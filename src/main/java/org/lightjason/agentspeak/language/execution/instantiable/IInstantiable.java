@@ -25,6 +25,7 @@ package org.lightjason.agentspeak.language.execution.instantiable;
 
 import org.lightjason.agentspeak.agent.IAgent;
 import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.execution.CSlotLayout;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.execution.IExecution;
 import org.lightjason.agentspeak.language.variable.IVariable;
@@ -56,6 +57,19 @@ public interface IInstantiable extends IExecution
     @Nonnull
     IContext instantiate( @Nonnull final IAgent<?> p_agent, @Nonnull final Stream<IVariable<?>> p_variable );
 
+    /**
+     * returns the slot layout of the variables
+     *
+     * @return slot layout
+     *
+     * @note the default implementation resolves the layout on each call
+     */
+    @Nonnull
+    default CSlotLayout layout()
+    {
+        return CSlotLayout.of( this.variables() );
+    }
+
     /**
      * returns the description
      *
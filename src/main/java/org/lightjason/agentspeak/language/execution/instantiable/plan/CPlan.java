@@ -27,6 +27,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.CSlotLayout;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.execution.IExecution;
 import org.lightjason.agentspeak.language.execution.expression.IExpression;
@@ -34,6 +35,8 @@ import org.lightjason.agentspeak.language.execution.instantiable.IBaseInstantiab
 import org.lightjason.agentspeak.language.execution.instantiable.plan.annotation.IAnnotation;
 import org.lightjason.agentspeak.language.execution.instantiable.plan.trigger.ITrigger;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+import org.lightjason.agentspeak.language.unifier.CTriggerMatcher;
+import org.lightjason.agentspeak.language.unifier.ITriggerMatcher;
 import org.lightjason.agentspeak.language.variable.IVariable;
 
 import javax.annotation.Nonnull;
@@ -43,6 +46,7 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
 
@@ -63,6 +67,18 @@ public final class CPlan extends IBaseInstantiable implements IPlan
      * execution condition / expression
      */
     private final IExecution m_condition;
+    /**
+     * compiled trigger matcher
+     */
+    private final ITriggerMatcher m_matcher;
+    /**
+     * annotations
+     */
+    private final IAnnotation<?>[] m_annotation;
+    /**
+     * slot layout of the condition variables
+     */
+    private final CSlotLayout m_conditionlayout;
 
 
     /**
@@ -103,6 +119,11 @@ public final class CPlan extends IBaseInstantiable implements IPlan
 
         m_triggerevent = p_event;
         m_condition = p_condition;
+        m_annotation = p_annotation;
+        m_matcher = CTriggerMatcher.of( p_event );
+
+        // all fields are set, so the layouts can be resolved once
+        m_conditionlayout = this.layout().restrict( p_condition.variables() );
     }
 
     @Nonnull
@@ -112,6 +133,13 @@ public final class CPlan extends IBaseInstantiable implements IPlan
         return m_triggerevent;
     }
 
+    @Nonnull
+    @Override
+    public ITriggerMatcher matcher()
+    {
+        return m_matcher;
+    }
+
     @Nonnull
     @Override
     public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
@@ -120,6 +148,20 @@ public final class CPlan extends IBaseInstantiable implements IPlan
         return super.execute( p_parallel, p_context, p_argument, p_return );
     }
 
+    @Nonnull
+    @Override
+    public IExecution condition()
+    {
+        return m_condition;
+    }
+
+    @Nonnull
+    @Override
+    public CSlotLayout conditionlayout()
+    {
+        return m_conditionlayout;
+    }
+
     @Override
     public boolean condition( @Nonnull final IContext p_context )
     {
@@ -134,6 +176,26 @@ public final class CPlan extends IBaseInstantiable implements IPlan
             && l_return.get( 0 ).<Boolean>raw();
     }
 
+    @Nonnull
+    @Override
+    public IPlan rewrite( @Nonnull final UnaryOperator<IExecution> p_rewrite )
+    {
+        final IExecution l_condition = p_rewrite.apply( m_condition );
+        final IExecution[] l_body = this.rewriteexecution( p_rewrite );
+
+        if ( l_condition == m_condition && Objects.isNull( l_body ) )
+            return this;
+
+        return new CPlan( m_annotation, m_triggerevent, l_condition, Objects.isNull( l_body ) ? m_execution : l_body );
+    }
+
+    @Override
+    protected boolean equalstructure( @Nonnull final IBaseInstantiable p_instantiable )
+    {
+        return m_triggerevent.equals( ( (CPlan) p_instantiable ).m_triggerevent )
+               && m_condition.equals( ( (CPlan) p_instantiable ).m_condition );
+    }
+
     @Override
     public String toString()
     {
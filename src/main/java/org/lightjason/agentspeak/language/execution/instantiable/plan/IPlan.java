@@ -26,14 +26,20 @@ package org.lightjason.agentspeak.language.execution.instantiable.plan;
 import org.lightjason.agentspeak.agent.IAgent;
 import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.CSlotLayout;
 import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.IExecution;
+import org.lightjason.agentspeak.language.execution.expression.IExpression;
 import org.lightjason.agentspeak.language.execution.instantiable.IInstantiable;
 import org.lightjason.agentspeak.language.execution.instantiable.plan.trigger.ITrigger;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+import org.lightjason.agentspeak.language.unifier.CTriggerMatcher;
+import org.lightjason.agentspeak.language.unifier.ITriggerMatcher;
 import org.lightjason.agentspeak.language.variable.IVariable;
 
 import javax.annotation.Nonnull;
 import java.util.List;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
 
@@ -124,6 +130,19 @@ public interface IPlan extends IInstantiable
     @Nonnull
     ITrigger trigger();
 
+    /**
+     * returns the compiled matcher of the trigger
+     *
+     * @return trigger matcher
+     *
+     * @note the default implementation compiles the trigger on each call
+     */
+    @Nonnull
+    default ITriggerMatcher matcher()
+    {
+        return CTriggerMatcher.of( this.trigger() );
+    }
+
     /**
      * execute the plan condition
      *
@@ -132,4 +151,44 @@ public interface IPlan extends IInstantiable
      */
     boolean condition( @Nonnull final IContext p_context );
 
+    /**
+     * returns the condition of the plan
+     *
+     * @return condition execution
+     *
+     * @note the default implementation returns the empty expression, so the condition is not analysed
+     */
+    @Nonnull
+    default IExecution condition()
+    {
+        return IExpression.EMPTY;
+    }
+
+    /**
+     * returns the slot layout of the condition variables
+     *
+     * @return layout with the slots of the condition variables only
+     *
+     * @note the default implementation resolves the layout on each call
+     */
+    @Nonnull
+    default CSlotLayout conditionlayout()
+    {
+        return this.layout().restrict( this.condition().variables() );
+    }
+
+    /**
+     * rewrites the condition and the body of the plan
+     *
+     * @param p_rewrite rewrite function of each execution element
+     * @return rewritten plan or the plan itself if no element is changed
+     *
+     * @note the default implementation does not rewrite the plan
+     */
+    @Nonnull
+    default IPlan rewrite( @Nonnull final UnaryOperator<IExecution> p_rewrite )
+    {
+        return this;
+    }
+
 }
@@ -73,6 +73,14 @@ public enum EAnnotation implements BiFunction<String, Object, IAnnotation<?>>
             return new CAtomAnnotation<>( this );
         }
     },
+    TABLED( "@tabled" )
+    {
+        @Override
+        public IAnnotation<?> apply( final String p_text, final Object p_value )
+        {
+            return new CAtomAnnotation<>( this );
+        }
+    },
     TAG( "@tag" )
     {
         @Override
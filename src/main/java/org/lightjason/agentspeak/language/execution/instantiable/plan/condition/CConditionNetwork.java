@@ -0,0 +1,398 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.execution.instantiable.plan.condition;
+
+import org.lightjason.agentspeak.beliefbase.IBeliefbase;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.IExecution;
+import org.lightjason.agentspeak.language.execution.expression.CBinaryExpression;
+import org.lightjason.agentspeak.language.execution.expression.CConstantExpression;
+import org.lightjason.agentspeak.language.execution.expression.CUnaryExpression;
+import org.lightjason.agentspeak.language.execution.expression.IExpression;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.statistic.IPlanStatistic;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.execution.passing.CPassRaw;
+import org.lightjason.agentspeak.language.execution.passing.CPassVariable;
+import org.lightjason.agentspeak.language.execution.unify.CDefaultUnify;
+import org.lightjason.agentspeak.language.execution.unify.CExpressionUnify;
+import org.lightjason.agentspeak.language.execution.unify.CLiteralUnify;
+import org.lightjason.agentspeak.language.execution.unify.CVariableUnify;
+import org.lightjason.agentspeak.language.variable.IVariable;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * condition network, each plan condition is analysed once, a condition which
+ * reads beliefs by unification and evaluates expressions only, is stored as node
+ * with the matches of each trigger, each match is stamped with the sequence numbers
+ * of the read belief functors, so a match is out-dated on reading after a change of
+ * a depending belief and belief changes do not touch the network
+ *
+ * @note conditions with other elements (e.g. actions or rule calls) and conditions,
+ * which read variables not bound by the trigger or by a unification of the condition
+ * (e.g. variables of the plan statistic or of a variable builder), are evaluated on each call
+ */
+public final class CConditionNetwork implements IConditionNetwork
+{
+    /**
+     * default number of matches of a plan
+     */
+    public static final int DEFAULTSIZE = 1024;
+    /**
+     * node of conditions, which are evaluated on each call
+     */
+    private static final CNode UNCACHED = new CNode( 0, new String[0] );
+    /**
+     * maximum number of matches of a plan
+     */
+    private final int m_size;
+    /**
+     * node of each plan
+     */
+    private final Map<IPlan, CNode> m_nodes = new ConcurrentHashMap<>();
+
+
+    /**
+     * ctor
+     *
+     * @param p_size maximum number of matches of a plan
+     */
+    private CConditionNetwork( @Nonnegative final int p_size )
+    {
+        m_size = p_size;
+    }
+
+    @Override
+    public boolean condition( @Nonnull final IPlanStatistic p_plan, @Nonnull final ITrigger p_trigger, @Nonnull final IContext p_context )
+    {
+        final CNode l_node = m_nodes.computeIfAbsent( p_plan.plan(), i -> this.node( p_plan ) );
+        if ( l_node == UNCACHED )
+            return p_plan.plan().condition( p_context );
+
+        // the sequence number is read before the evaluation, so a change during the evaluation out-dates the match
+        final long l_sequence = l_node.sequence( p_context.agent().beliefbase().beliefbase() );
+        final CMatch l_match = l_node.get( p_trigger );
+        if ( Objects.nonNull( l_match ) && l_match.m_sequence == l_sequence )
+            return l_match.apply( p_context );
+
+        // the variables, which are not allocated before the evaluation, are bound by the condition
+        final Set<IPath> l_unbound = p_context.instancevariables().entrySet().stream()
+                                              .filter( i -> !i.getValue().allocated() )
+                                              .map( Map.Entry::getKey )
+                                              .collect( Collectors.toSet() );
+
+        final boolean l_result = p_plan.plan().condition( p_context );
+        final Map<IPath, Object> l_binding = new HashMap<>();
+        if ( l_result )
+            l_unbound.stream()
+                     .map( i -> p_context.instancevariables().get( i ) )
+                     .filter( IVariable::allocated )
+                     .forEach( i -> l_binding.put( i.fqnfunctor(), i.raw() ) );
+
+        l_node.put( p_trigger, new CMatch( l_result, l_binding, l_sequence ) );
+        return l_result;
+    }
+
+    @Nonnull
+    @Override
+    public IConditionNetwork clear()
+    {
+        m_nodes.values().forEach( CNode::clear );
+        return this;
+    }
+
+    @Override
+    public int size()
+    {
+        return m_nodes.values().stream().mapToInt( CNode::size ).sum();
+    }
+
+    /**
+     * creates a network with default size
+     *
+     * @return network
+     */
+    @Nonnull
+    public static IConditionNetwork of()
+    {
+        return of( DEFAULTSIZE );
+    }
+
+    /**
+     * creates a network
+     *
+     * @param p_size maximum number of matches of a plan
+     * @return network
+     */
+    @Nonnull
+    public static IConditionNetwork of( @Nonnegative final int p_size )
+    {
+        return new CConditionNetwork( p_size );
+    }
+
+    /**
+     * creates the node of a plan condition
+     *
+     * @param p_plan plan statistic
+     * @return node
+     */
+    @Nonnull
+    private CNode node( @Nonnull final IPlanStatistic p_plan )
+    {
+        final IExecution l_condition = p_plan.plan().condition();
+        final Set<String> l_functor = new HashSet<>();
+        final Set<IPath> l_bound = variables( p_plan.plan().trigger().literal() ).collect( Collectors.toSet() );
+
+        if ( IExpression.EMPTY.equals( l_condition )
+             || !analyse( l_condition, l_functor, l_bound )
+             || !l_condition.variables().map( IVariable::fqnfunctor ).allMatch( l_bound::contains ) )
+            return UNCACHED;
+
+        return new CNode( m_size, l_functor.toArray( String[]::new ) );
+    }
+
+    /**
+     * analyses a condition element and collects the functors of the read beliefs
+     * and the variables, which are bound by unification
+     *
+     * @param p_execution condition element
+     * @param p_functor set of belief functors
+     * @param p_bound set of bound variables
+     * @return true if the element result depends on the context and the beliefs only
+     */
+    private static boolean analyse( @Nonnull final IExecution p_execution, @Nonnull final Set<String> p_functor, @Nonnull final Set<IPath> p_bound )
+    {
+        if ( IExpression.EMPTY.equals( p_execution )
+             || p_execution instanceof CConstantExpression
+             || p_execution instanceof CPassRaw<?>
+             || p_execution instanceof CPassVariable )
+            return true;
+
+        if ( p_execution instanceof CLiteralUnify || p_execution instanceof CVariableUnify )
+        {
+            variables( ( (CDefaultUnify) p_execution ).value() ).forEach( p_bound::add );
+            return true;
+        }
+
+        if ( p_execution instanceof CBinaryExpression )
+            return analyse( ( (CBinaryExpression) p_execution ).lhs(), p_functor, p_bound )
+                   && analyse( ( (CBinaryExpression) p_execution ).rhs(), p_functor, p_bound );
+
+        if ( p_execution instanceof CUnaryExpression )
+            return analyse( ( (CUnaryExpression) p_execution ).element(), p_functor, p_bound );
+
+        if ( p_execution instanceof CExpressionUnify )
+        {
+            p_functor.add( ( (CExpressionUnify) p_execution ).value().functor() );
+            variables( ( (CExpressionUnify) p_execution ).value() ).forEach( p_bound::add );
+            return analyse( ( (CExpressionUnify) p_execution ).expression(), p_functor, p_bound );
+        }
+
+        if ( CDefaultUnify.class.equals( p_execution.getClass() ) )
+        {
+            p_functor.add( ( (CDefaultUnify) p_execution ).value().functor() );
+            variables( ( (CDefaultUnify) p_execution ).value() ).forEach( p_bound::add );
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * returns the variable names of a literal
+     *
+     * @param p_literal literal
+     * @return variable names
+     */
+    @Nonnull
+    private static Stream<IPath> variables( @Nonnull final ILiteral p_literal )
+    {
+        return CCommon.flattenrecursive( p_literal.orderedvalues() )
+                      .filter( i -> i instanceof IVariable<?> )
+                      .map( i -> i.<IVariable<?>>term().fqnfunctor() );
+    }
+
+
+    /**
+     * match of a condition
+     */
+    private static final class CMatch
+    {
+        /**
+         * condition result
+         */
+        private final boolean m_result;
+        /**
+         * values of the variables, which are bound by the condition
+         */
+        private final Map<IPath, Object> m_binding;
+        /**
+         * sequence number of the read beliefs before the evaluation
+         */
+        private final long m_sequence;
+
+        /**
+         * ctor
+         *
+         * @param p_result condition result
+         * @param p_binding bound values
+         * @param p_sequence sequence number of the read beliefs
+         */
+        CMatch( final boolean p_result, @Nonnull final Map<IPath, Object> p_binding, final long p_sequence )
+        {
+            m_result = p_result;
+            m_binding = p_binding;
+            m_sequence = p_sequence;
+        }
+
+        /**
+         * sets the bound values within a context
+         *
+         * @param p_context execution context
+         * @return condition result
+         */
+        @SuppressWarnings( "unchecked" )
+        boolean apply( @Nonnull final IContext p_context )
+        {
+            m_binding.forEach( ( k, v ) ->
+            {
+                final IVariable<?> l_variable = p_context.instancevariables().get( k );
+                if ( Objects.nonNull( l_variable ) )
+                    ( (IVariable<Object>) l_variable ).set( v );
+            } );
+            return m_result;
+        }
+    }
+
+    /**
+     * node of a plan condition with the matches of each trigger
+     */
+    private static final class CNode
+    {
+        /**
+         * matches in access order
+         */
+        private final Map<ITrigger, CMatch> m_matches;
+        /**
+         * functors of the read beliefs
+         */
+        private final String[] m_functor;
+
+        /**
+         * ctor
+         *
+         * @param p_size maximum number of matches
+         * @param p_functor functors of the read beliefs
+         */
+        CNode( @Nonnegative final int p_size, @Nonnull final String[] p_functor )
+        {
+            m_functor = p_functor;
+            m_matches = new LinkedHashMap<>( 16, 0.75f, true )
+            {
+                /**
+                 * serial id
+                 */
+                private static final long serialVersionUID = 7524404640718305931L;
+
+                @Override
+                protected boolean removeEldestEntry( final Map.Entry<ITrigger, CMatch> p_eldest )
+                {
+                    return this.size() > p_size;
+                }
+            };
+        }
+
+        /**
+         * returns the match of a trigger
+         *
+         * @param p_trigger trigger
+         * @return null or match
+         */
+        @Nullable
+        synchronized CMatch get( @Nonnull final ITrigger p_trigger )
+        {
+            return m_matches.get( p_trigger );
+        }
+
+        /**
+         * returns the sequence number of the read beliefs
+         *
+         * @param p_beliefbase beliefbase
+         * @return sequence number
+         */
+        long sequence( @Nonnull final IBeliefbase p_beliefbase )
+        {
+            long l_sequence = 0;
+            for ( final String l_functor : m_functor )
+                l_sequence += p_beliefbase.sequence( l_functor );
+            return l_sequence;
+        }
+
+        /**
+         * stores a match
+         *
+         * @param p_trigger trigger
+         * @param p_match match
+         */
+        synchronized void put( @Nonnull final ITrigger p_trigger, @Nonnull final CMatch p_match )
+        {
+            m_matches.put( p_trigger, p_match );
+        }
+
+        /**
+         * removes all matches
+         */
+        synchronized void clear()
+        {
+            m_matches.clear();
+        }
+
+        /**
+         * returns the number of matches
+         *
+         * @return number of matches
+         */
+        synchronized int size()
+        {
+            return m_matches.size();
+        }
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.execution.instantiable.plan.condition;
+
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.statistic.IPlanStatistic;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.trigger.ITrigger;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+
+/**
+ * network of plan conditions, which stores the condition
+ * matches of the plans, a match is out-dated on belief changes
+ */
+public interface IConditionNetwork
+{
+    /**
+     * empty network, which evaluates each condition
+     */
+    IConditionNetwork EMPTY = new IConditionNetwork()
+    {
+        @Override
+        public boolean condition( @Nonnull final IPlanStatistic p_plan, @Nonnull final ITrigger p_trigger, @Nonnull final IContext p_context )
+        {
+            return p_plan.plan().condition( p_context );
+        }
+
+        @Nonnull
+        @Override
+        public IConditionNetwork clear()
+        {
+            return this;
+        }
+
+        @Override
+        public int size()
+        {
+            return 0;
+        }
+    };
+
+    /**
+     * checks the condition of an instantiated plan
+     *
+     * @param p_plan plan statistic
+     * @param p_trigger trigger of the plan instance
+     * @param p_context execution context of the plan instance
+     * @return condition result
+     *
+     * @note the variables, which are bound by the condition, are set within the context
+     */
+    boolean condition( @Nonnull final IPlanStatistic p_plan, @Nonnull final ITrigger p_trigger, @Nonnull final IContext p_context );
+
+    /**
+     * removes all matches
+     *
+     * @return self reference
+     */
+    @Nonnull
+    IConditionNetwork clear();
+
+    /**
+     * returns the number of stored matches
+     *
+     * @return number of matches
+     */
+    @Nonnegative
+    int size();
+
+}
@@ -0,0 +1,191 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.execution.instantiable.plan.index;
+
+import com.google.common.collect.ImmutableMap;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.trigger.ITrigger;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * immutable and lock-free plan index, plans are grouped
+ * by the trigger structure hash (event type and literal structure)
+ * and the suffix fallback of each trigger structure is precomputed
+ */
+public final class CPlanIndex implements IPlanIndex
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -6405398106732251803L;
+    /**
+     * empty slots
+     */
+    private static final int[] EMPTYSLOTS = new int[0];
+    /**
+     * plans
+     */
+    private final IPlan[] m_plans;
+    /**
+     * slots of the plans with trigger structure hash
+     */
+    private final Map<Integer, int[]> m_slots;
+    /**
+     * number of suffix elements to the next indexed trigger structure
+     */
+    private final Map<Integer, Integer> m_fallback;
+
+    /**
+     * ctor
+     *
+     * @param p_plans plan stream
+     */
+    private CPlanIndex( @Nonnull final Stream<IPlan> p_plans )
+    {
+        // equal plans are merged like within a set multimap, the slot is defined by the stream order
+        final Set<IPlan> l_plans = new LinkedHashSet<>();
+        p_plans.forEachOrdered( l_plans::add );
+        m_plans = l_plans.toArray( IPlan[]::new );
+
+        // slots are grouped by the trigger structure and ordered by the plan hash
+        final Map<Integer, List<Integer>> l_group = new LinkedHashMap<>();
+        IntStream.range( 0, m_plans.length ).forEach( i -> l_group.computeIfAbsent( m_plans[i].trigger().structurehash(), j -> new ArrayList<>() ).add( i ) );
+        m_slots = ImmutableMap.copyOf(
+            l_group.entrySet()
+                   .stream()
+                   .collect( Collectors.toMap(
+                       Map.Entry::getKey,
+                       i -> i.getValue().stream().sorted( Comparator.comparingInt( j -> m_plans[j].hashCode() ) ).mapToInt( j -> j ).toArray()
+                   ) )
+        );
+
+        m_fallback = ImmutableMap.copyOf(
+            l_group.entrySet()
+                   .stream()
+                   .collect( Collectors.toMap( Map.Entry::getKey, i -> this.suffixdistance( m_plans[i.getValue().get( 0 )].trigger() ) ) )
+        );
+    }
+
+    @Override
+    public int size()
+    {
+        return m_plans.length;
+    }
+
+    @Nonnull
+    @Override
+    public IPlan plan( @Nonnegative final int p_slot )
+    {
+        return m_plans[p_slot];
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IPlan> plans()
+    {
+        return Arrays.stream( m_plans );
+    }
+
+    @Nonnull
+    @Override
+    public int[] slots( @Nonnull final ITrigger p_trigger )
+    {
+        return m_slots.getOrDefault( p_trigger.structurehash(), EMPTYSLOTS );
+    }
+
+    @Override
+    public int fallback( @Nonnull final ITrigger p_trigger )
+    {
+        return m_fallback.getOrDefault( p_trigger.structurehash(), 0 );
+    }
+
+    @Override
+    public String toString()
+    {
+        return MessageFormat.format( "{0} ( plans: {1} / trigger: {2} )", super.toString(), m_plans.length, m_slots.size() );
+    }
+
+    /**
+     * calculates the number of suffix elements
+     * to the next indexed trigger
+     *
+     * @param p_trigger trigger
+     * @return number of suffix elements or zero
+     */
+    private int suffixdistance( @Nonnull final ITrigger p_trigger )
+    {
+        ITrigger l_trigger = p_trigger;
+        for ( int i = 1; l_trigger.hasShallowcopywithoutsuffix(); i++ )
+        {
+            l_trigger = l_trigger.shallowcopywithoutsuffix();
+            if ( m_slots.containsKey( l_trigger.structurehash() ) )
+                return i;
+        }
+
+        return 0;
+    }
+
+    /**
+     * factory
+     *
+     * @param p_plans plans
+     * @return plan index
+     */
+    @Nonnull
+    public static IPlanIndex of( @Nonnull final IPlan... p_plans )
+    {
+        return of( Arrays.stream( p_plans ) );
+    }
+
+    /**
+     * factory
+     *
+     * @param p_plans plan stream
+     * @return plan index
+     *
+     * @note the slot of a plan is defined by the stream order, so
+     * the slots of existing plans do not change, if new plans are appended
+     */
+    @Nonnull
+    public static IPlanIndex of( @Nonnull final Stream<IPlan> p_plans )
+    {
+        return new CPlanIndex( p_plans.filter( Objects::nonNull ) );
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.execution.instantiable.plan.index;
+
+import org.lightjason.agentspeak.language.execution.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.trigger.ITrigger;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.util.stream.Stream;
+
+
+/**
+ * immutable plan index, each plan is stored in a
+ * slot and the slots are indexed by the trigger structure,
+ * so the index can be shared between agents
+ */
+public interface IPlanIndex extends Serializable
+{
+    /**
+     * empty index
+     */
+    IPlanIndex EMPTY = new IPlanIndex()
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 2817361049837221452L;
+        /**
+         * empty slots
+         */
+        private final int[] m_empty = new int[0];
+
+        @Override
+        public int size()
+        {
+            return 0;
+        }
+
+        @Nonnull
+        @Override
+        public IPlan plan( @Nonnegative final int p_slot )
+        {
+            return IPlan.EMPTY;
+        }
+
+        @Nonnull
+        @Override
+        public Stream<IPlan> plans()
+        {
+            return Stream.empty();
+        }
+
+        @Nonnull
+        @Override
+        public int[] slots( @Nonnull final ITrigger p_trigger )
+        {
+            return m_empty;
+        }
+
+        @Override
+        public int fallback( @Nonnull final ITrigger p_trigger )
+        {
+            return 0;
+        }
+    };
+
+    /**
+     * number of plans
+     *
+     * @return number of slots
+     */
+    @Nonnegative
+    int size();
+
+    /**
+     * returns the plan of a slot
+     *
+     * @param p_slot slot
+     * @return plan
+     */
+    @Nonnull
+    IPlan plan( @Nonnegative final int p_slot );
+
+    /**
+     * returns all plans ordered by the slots
+     *
+     * @return plan stream
+     */
+    @Nonnull
+    Stream<IPlan> plans();
+
+    /**
+     * returns the slots of the plans which
+     * trigger has got the same structure
+     *
+     * @param p_trigger trigger
+     * @return slot array, is empty if no plan exists
+     *
+     * @warning the array is shared and must not be modified
+     */
+    @Nonnull
+    int[] slots( @Nonnull final ITrigger p_trigger );
+
+    /**
+     * returns the number of suffix elements, which must be removed
+     * from the trigger literal to reach the next indexed trigger
+     *
+     * @param p_trigger indexed trigger
+     * @return number of suffix elements, zero if no fallback exists
+     */
+    @Nonnegative
+    int fallback( @Nonnull final ITrigger p_trigger );
+
+}
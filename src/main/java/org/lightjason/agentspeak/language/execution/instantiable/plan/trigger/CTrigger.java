@@ -92,6 +92,14 @@ public final class CTrigger implements ITrigger
     @Override
     public boolean equals( final Object p_object )
     {
+        if ( this == p_object )
+            return true;
+
+        if ( p_object instanceof CTrigger )
+            return m_hashcode == p_object.hashCode()
+                   && m_event.equals( ( (CTrigger) p_object ).m_event )
+                   && m_literal.equals( ( (CTrigger) p_object ).m_literal );
+
         return p_object instanceof ITrigger && this.hashCode() == p_object.hashCode();
     }
 
@@ -119,6 +127,12 @@ public final class CTrigger implements ITrigger
         return m_structurehash;
     }
 
+    @Override
+    public long fingerprint()
+    {
+        return 31 * m_literal.fingerprint() + m_event.ordinal() + 1;
+    }
+
     @Nonnull
     @Override
     public ITrigger shallowcopy( final IPath... p_prefix )
@@ -61,6 +61,12 @@ public interface ITrigger extends Serializable, IStructureHash, IShallowCopy<ITr
             return 0;
         }
 
+        @Override
+        public long fingerprint()
+        {
+            return 0;
+        }
+
         @Nonnull
         @Override
         public ITrigger shallowcopy( @Nullable final IPath... p_prefix )
@@ -133,6 +139,15 @@ public interface ITrigger extends Serializable, IStructureHash, IShallowCopy<ITr
      */
     ILiteral literal();
 
+    /**
+     * returns a 64-bit fingerprint of the event type and literal
+     *
+     * @return fingerprint
+     *
+     * @note the fingerprint can be used as map key
+     */
+    long fingerprint();
+
 
     /**
      * event types
@@ -28,12 +28,27 @@ import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IExecution;
+import org.lightjason.agentspeak.language.execution.achievementtest.CAchievementRuleLiteral;
+import org.lightjason.agentspeak.language.execution.assignment.CDeconstruct;
+import org.lightjason.agentspeak.language.execution.assignment.CSingleAssignment;
+import org.lightjason.agentspeak.language.execution.base.CRepair;
+import org.lightjason.agentspeak.language.execution.base.CTernaryOperation;
+import org.lightjason.agentspeak.language.execution.expression.CBinaryExpression;
+import org.lightjason.agentspeak.language.execution.expression.CConstantExpression;
+import org.lightjason.agentspeak.language.execution.expression.CUnaryExpression;
 import org.lightjason.agentspeak.language.execution.instantiable.IBaseInstantiable;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.annotation.EAnnotation;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.annotation.IAnnotation;
+import org.lightjason.agentspeak.language.execution.passing.CPassRaw;
+import org.lightjason.agentspeak.language.execution.passing.CPassVariable;
+import org.lightjason.agentspeak.language.execution.unary.IUnary;
 import org.lightjason.agentspeak.language.variable.IVariable;
 
 import javax.annotation.Nonnull;
 import java.text.MessageFormat;
 import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
 
@@ -50,6 +65,22 @@ public final class CRule extends IBaseInstantiable implements IRule
      * identifier of the rule
      */
     private final ILiteral m_id;
+    /**
+     * annotations
+     */
+    private final IAnnotation<?>[] m_annotation;
+    /**
+     * tabled flag
+     */
+    private final boolean m_tabled;
+    /**
+     * guard of the rule calls
+     */
+    private final CRuleGuard m_guard;
+    /**
+     * result can depend on the beliefs
+     */
+    private final boolean m_beliefdependent;
 
     /**
      * ctor
@@ -58,12 +89,29 @@ public final class CRule extends IBaseInstantiable implements IRule
      * @param p_body rule body
      */
     public CRule( @Nonnull final ILiteral p_id, @Nonnull final IExecution[] p_body )
+    {
+        this( new IAnnotation<?>[0], p_id, p_body );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_annotation annotations
+     * @param p_id literal with signature
+     * @param p_body rule body
+     */
+    public CRule( @Nonnull final IAnnotation<?>[] p_annotation, @Nonnull final ILiteral p_id, @Nonnull final IExecution[] p_body )
     {
         super(
+            p_annotation,
             p_body,
-            p_id.hashCode() ^ Arrays.hashCode( p_body )
+            p_id.hashCode() ^ Arrays.hashCode( p_body ) ^ ( p_annotation.length == 0 ? 0 : Arrays.hashCode( p_annotation ) )
         );
         m_id = p_id;
+        m_annotation = p_annotation;
+        m_tabled = Arrays.stream( p_annotation ).anyMatch( i -> EAnnotation.TABLED.equals( i.id() ) );
+        m_guard = CRuleGuard.of( p_id, p_body );
+        m_beliefdependent = Arrays.stream( p_body ).anyMatch( i -> beliefdependent( p_id, i ) );
     }
 
     @Nonnull
@@ -83,6 +131,47 @@ public final class CRule extends IBaseInstantiable implements IRule
         );
     }
 
+    @Override
+    public boolean tabled()
+    {
+        return m_tabled;
+    }
+
+    @Override
+    public boolean beliefdependent()
+    {
+        return m_beliefdependent;
+    }
+
+    @Override
+    public boolean viable( @Nonnull final ILiteral p_literal )
+    {
+        return m_guard.viable( p_literal );
+    }
+
+    @Nonnull
+    @Override
+    public IRule annotate( @Nonnull final IAnnotation<?>... p_annotation )
+    {
+        return p_annotation.length == 0
+               ? this
+               : new CRule( Stream.concat( Arrays.stream( m_annotation ), Arrays.stream( p_annotation ) ).toArray( IAnnotation<?>[]::new ), m_id, m_execution );
+    }
+
+    @Nonnull
+    @Override
+    public IRule rewrite( @Nonnull final UnaryOperator<IExecution> p_rewrite )
+    {
+        final IExecution[] l_body = this.rewriteexecution( p_rewrite );
+        return Objects.isNull( l_body ) ? this : new CRule( m_annotation, m_id, l_body );
+    }
+
+    @Override
+    protected boolean equalstructure( @Nonnull final IBaseInstantiable p_instantiable )
+    {
+        return m_tabled == ( (CRule) p_instantiable ).m_tabled && m_id.equals( ( (CRule) p_instantiable ).m_id );
+    }
+
     @Override
     public String toString()
     {
@@ -99,4 +188,47 @@ public final class CRule extends IBaseInstantiable implements IRule
     {
         return m_id;
     }
+
+    /**
+     * checks if a body element can depend on the beliefs
+     *
+     * @param p_id rule identifier
+     * @param p_execution body element
+     * @return false if the element evaluates values and recursive calls of the rule only
+     *
+     * @note unifications, actions and calls of other rules are belief dependent,
+     * because the called rule or action can read the beliefs
+     */
+    private static boolean beliefdependent( @Nonnull final ILiteral p_id, @Nonnull final IExecution p_execution )
+    {
+        if ( p_execution instanceof CConstantExpression
+             || p_execution instanceof CPassRaw<?>
+             || p_execution instanceof CPassVariable
+             || p_execution instanceof CDeconstruct
+             || p_execution instanceof IUnary )
+            return false;
+
+        if ( p_execution instanceof CAchievementRuleLiteral )
+            return !p_id.fqnfunctor().equals( ( (CAchievementRuleLiteral) p_execution ).value().fqnfunctor() );
+
+        if ( p_execution instanceof CRepair )
+            return Arrays.stream( ( (CRepair) p_execution ).value() ).anyMatch( i -> beliefdependent( p_id, i ) );
+
+        if ( p_execution instanceof CSingleAssignment )
+            return beliefdependent( p_id, ( (CSingleAssignment) p_execution ).rhs() );
+
+        if ( p_execution instanceof CBinaryExpression )
+            return beliefdependent( p_id, ( (CBinaryExpression) p_execution ).lhs() )
+                   || beliefdependent( p_id, ( (CBinaryExpression) p_execution ).rhs() );
+
+        if ( p_execution instanceof CUnaryExpression )
+            return beliefdependent( p_id, ( (CUnaryExpression) p_execution ).element() );
+
+        if ( p_execution instanceof CTernaryOperation )
+            return beliefdependent( p_id, ( (CTernaryOperation) p_execution ).value() )
+                   || beliefdependent( p_id, ( (CTernaryOperation) p_execution ).truebranch() )
+                   || beliefdependent( p_id, ( (CTernaryOperation) p_execution ).falsebranch() );
+
+        return true;
+    }
 }
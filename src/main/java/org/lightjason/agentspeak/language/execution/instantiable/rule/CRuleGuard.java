@@ -0,0 +1,297 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.execution.instantiable.rule;
+
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.IRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IExecution;
+import org.lightjason.agentspeak.language.execution.base.CRepair;
+import org.lightjason.agentspeak.language.execution.expression.CBinaryExpression;
+import org.lightjason.agentspeak.language.execution.expression.CConstantExpression;
+import org.lightjason.agentspeak.language.execution.expression.EBinaryOperator;
+import org.lightjason.agentspeak.language.execution.passing.CPassRaw;
+import org.lightjason.agentspeak.language.execution.passing.CPassVariable;
+import org.lightjason.agentspeak.language.variable.IVariable;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Serializable;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+
+/**
+ * guard of a rule, which is build of the constants of the rule identifier
+ * and a leading comparison of a rule body, so a rule call can be rejected
+ * without instantiating the rule
+ *
+ * @note the guard rejects a call only, if the rule execution fails definitely,
+ * on unknown values the rule is executed
+ */
+final class CRuleGuard implements Serializable
+{
+    /**
+     * guard without any checks
+     */
+    static final CRuleGuard EMPTY = new CRuleGuard( new int[0], new Object[0], -1, null, null, false );
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -6172580233147712458L;
+    /**
+     * comparison operators
+     */
+    private static final Set<EBinaryOperator> COMPARISON = EnumSet.of(
+        EBinaryOperator.EQUAL, EBinaryOperator.NOTEQUAL, EBinaryOperator.LESS, EBinaryOperator.LESSEQUAL, EBinaryOperator.GREATER, EBinaryOperator.GREATEREQUAL
+    );
+    /**
+     * argument positions of the identifier constants
+     */
+    private final int[] m_constantposition;
+    /**
+     * identifier constants
+     */
+    private final Object[] m_constant;
+    /**
+     * argument position of the compared variable or -1
+     */
+    private final int m_comparisonposition;
+    /**
+     * comparison operator
+     */
+    private final EBinaryOperator m_operator;
+    /**
+     * compared constant
+     */
+    private final Object m_comparison;
+    /**
+     * variable is the left-hand-side argument of the comparison
+     */
+    private final boolean m_variableleft;
+
+
+    /**
+     * ctor
+     *
+     * @param p_constantposition argument positions of the identifier constants
+     * @param p_constant identifier constants
+     * @param p_comparisonposition argument position of the compared variable or -1
+     * @param p_operator comparison operator
+     * @param p_comparison compared constant
+     * @param p_variableleft variable is the left-hand-side argument
+     */
+    private CRuleGuard( @Nonnull final int[] p_constantposition, @Nonnull final Object[] p_constant, final int p_comparisonposition,
+                        @Nullable final EBinaryOperator p_operator, @Nullable final Object p_comparison, final boolean p_variableleft )
+    {
+        m_constantposition = p_constantposition;
+        m_constant = p_constant;
+        m_comparisonposition = p_comparisonposition;
+        m_operator = p_operator;
+        m_comparison = p_comparison;
+        m_variableleft = p_variableleft;
+    }
+
+    /**
+     * checks if a call can be executed by the rule
+     *
+     * @param p_literal call literal with bound variables
+     * @return false if the rule fails definitely
+     */
+    boolean viable( @Nonnull final ILiteral p_literal )
+    {
+        if ( m_constantposition.length == 0 && m_comparisonposition < 0 )
+            return true;
+
+        final List<ITerm> l_arguments = p_literal.orderedvalues().collect( Collectors.toList() );
+
+        for ( int i = 0; i < m_constantposition.length; i++ )
+        {
+            final Object l_value = value( l_arguments, m_constantposition[i] );
+            if ( !matchconstant( l_value, m_constant[i] ) )
+                return false;
+        }
+
+        if ( m_comparisonposition < 0 )
+            return true;
+
+        final Object l_value = value( l_arguments, m_comparisonposition );
+        if ( !( l_value instanceof Number ) )
+            return true;
+
+        try
+        {
+            return Boolean.TRUE.equals(
+                m_variableleft
+                ? m_operator.apply( CRawTerm.of( l_value ), CRawTerm.of( m_comparison ) )
+                : m_operator.apply( CRawTerm.of( m_comparison ), CRawTerm.of( l_value ) )
+            );
+        }
+        catch ( final RuntimeException l_exception )
+        {
+            return true;
+        }
+    }
+
+    /**
+     * creates the guard of a rule
+     *
+     * @param p_identifier rule identifier
+     * @param p_body rule body
+     * @return guard
+     */
+    @Nonnull
+    static CRuleGuard of( @Nonnull final ILiteral p_identifier, @Nonnull final IExecution[] p_body )
+    {
+        final List<ITerm> l_arguments = p_identifier.orderedvalues().collect( Collectors.toList() );
+
+        final int[] l_constantposition = IntStream.range( 0, l_arguments.size() )
+                                                  .filter( i -> constant( l_arguments.get( i ) ) )
+                                                  .toArray();
+
+        final CBinaryExpression l_comparison = comparison( p_body );
+        final int l_lhs = Objects.isNull( l_comparison ) ? -1 : position( l_arguments, l_comparison.lhs() );
+        final int l_rhs = Objects.isNull( l_comparison ) ? -1 : position( l_arguments, l_comparison.rhs() );
+        final Object l_lhsconstant = Objects.isNull( l_comparison ) ? null : comparisonconstant( l_comparison.lhs() );
+        final Object l_rhsconstant = Objects.isNull( l_comparison ) ? null : comparisonconstant( l_comparison.rhs() );
+
+        final boolean l_variableleft = l_lhs >= 0 && l_rhsconstant instanceof Number;
+        final boolean l_variableright = l_rhs >= 0 && l_lhsconstant instanceof Number;
+
+        if ( l_constantposition.length == 0 && !l_variableleft && !l_variableright )
+            return EMPTY;
+
+        return new CRuleGuard(
+            l_constantposition,
+            IntStream.of( l_constantposition ).mapToObj( i -> l_arguments.get( i ).raw() ).toArray(),
+            l_variableleft ? l_lhs : l_variableright ? l_rhs : -1,
+            l_variableleft || l_variableright ? l_comparison.operator() : null,
+            l_variableleft ? l_rhsconstant : l_lhsconstant,
+            l_variableleft
+        );
+    }
+
+    /**
+     * returns the leading comparison of a body
+     *
+     * @param p_body body
+     * @return null or comparison expression
+     */
+    @Nullable
+    private static CBinaryExpression comparison( @Nonnull final IExecution[] p_body )
+    {
+        if ( p_body.length == 0 || !( p_body[0] instanceof CRepair ) || ( (CRepair) p_body[0] ).value().length != 1 )
+            return null;
+
+        final IExecution l_execution = ( (CRepair) p_body[0] ).value()[0];
+        return l_execution instanceof CBinaryExpression && COMPARISON.contains( ( (CBinaryExpression) l_execution ).operator() )
+               ? (CBinaryExpression) l_execution
+               : null;
+    }
+
+    /**
+     * returns the argument position of a variable
+     *
+     * @param p_arguments identifier arguments
+     * @param p_execution comparison argument
+     * @return position or -1
+     */
+    private static int position( @Nonnull final List<ITerm> p_arguments, @Nonnull final IExecution p_execution )
+    {
+        if ( !( p_execution instanceof CPassVariable ) || ( (CPassVariable) p_execution ).value().any() )
+            return -1;
+
+        return p_arguments.indexOf( ( (CPassVariable) p_execution ).value() );
+    }
+
+    /**
+     * returns the constant of a comparison argument
+     *
+     * @param p_execution comparison argument
+     * @return null or constant
+     */
+    @Nullable
+    private static Object comparisonconstant( @Nonnull final IExecution p_execution )
+    {
+        if ( p_execution instanceof CPassRaw<?> )
+            return ( (CPassRaw<?>) p_execution ).value().raw();
+
+        return p_execution instanceof CConstantExpression ? ( (CConstantExpression) p_execution ).raw() : null;
+    }
+
+    /**
+     * checks if an identifier argument is a constant
+     *
+     * @param p_term argument
+     * @return constant flag
+     */
+    private static boolean constant( @Nonnull final ITerm p_term )
+    {
+        return p_term instanceof IRawTerm<?> && ( p_term.raw() instanceof Number || p_term.raw() instanceof String );
+    }
+
+    /**
+     * returns the value of a call argument
+     *
+     * @param p_arguments call arguments
+     * @param p_position position
+     * @return null or value
+     */
+    @Nullable
+    private static Object value( @Nonnull final List<ITerm> p_arguments, final int p_position )
+    {
+        if ( p_position >= p_arguments.size() )
+            return null;
+
+        final ITerm l_term = p_arguments.get( p_position );
+        if ( l_term instanceof IVariable<?> )
+            return l_term.<IVariable<?>>term().allocated() ? l_term.raw() : null;
+
+        return l_term instanceof IRawTerm<?> ? l_term.raw() : null;
+    }
+
+    /**
+     * checks if a call value matches an identifier constant
+     *
+     * @param p_value call value
+     * @param p_constant constant
+     * @return false if the value does not match definitely
+     */
+    private static boolean matchconstant( @Nullable final Object p_value, @Nonnull final Object p_constant )
+    {
+        if ( p_value instanceof Number && p_constant instanceof Number )
+            return Double.compare( ( (Number) p_value ).doubleValue(), ( (Number) p_constant ).doubleValue() ) == 0;
+
+        if ( p_value instanceof String && p_constant instanceof String )
+            return p_value.equals( p_constant );
+
+        return true;
+    }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.execution.instantiable.rule;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.ImmutableTriple;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+
+/**
+ * size-bounded rule table, which evicts the least-recently used call pattern
+ *
+ * @note each entry is stamped with the sequence number of the beliefs, so a belief
+ * change does not touch the table and an out-dated entry is removed on reading
+ */
+public final class CRuleTable implements IRuleTable
+{
+    /**
+     * default number of entries
+     */
+    public static final int DEFAULTSIZE = 4096;
+    /**
+     * entries in access order with sequence number, execution result and bound values
+     */
+    private final Map<Object, Triple<Long, Boolean, Object[]>> m_entries;
+
+
+    /**
+     * ctor
+     *
+     * @param p_size maximum number of entries
+     */
+    private CRuleTable( @Nonnegative final int p_size )
+    {
+        m_entries = new LinkedHashMap<>( 16, 0.75f, true )
+        {
+            /**
+             * serial id
+             */
+            private static final long serialVersionUID = 2270413716453925613L;
+
+            @Override
+            protected boolean removeEldestEntry( final Map.Entry<Object, Triple<Long, Boolean, Object[]>> p_eldest )
+            {
+                return this.size() > p_size;
+            }
+        };
+    }
+
+    @Nullable
+    @Override
+    public synchronized Pair<Boolean, Object[]> get( @Nonnull final Object p_key, final long p_sequence )
+    {
+        final Triple<Long, Boolean, Object[]> l_entry = m_entries.get( p_key );
+        if ( Objects.isNull( l_entry ) )
+            return null;
+
+        if ( l_entry.getLeft() != p_sequence )
+        {
+            m_entries.remove( p_key );
+            return null;
+        }
+
+        return new ImmutablePair<>( l_entry.getMiddle(), l_entry.getRight() );
+    }
+
+    @Nonnull
+    @Override
+    public synchronized IRuleTable put( @Nonnull final Object p_key, final boolean p_success, @Nonnull final Object[] p_values, final long p_sequence )
+    {
+        m_entries.put( p_key, new ImmutableTriple<>( p_sequence, p_success, p_values ) );
+        return this;
+    }
+
+    @Nonnull
+    @Override
+    public synchronized IRuleTable clear()
+    {
+        m_entries.clear();
+        return this;
+    }
+
+    @Override
+    public synchronized int size()
+    {
+        return m_entries.size();
+    }
+
+    /**
+     * creates a table with default size
+     *
+     * @return table
+     */
+    @Nonnull
+    public static IRuleTable of()
+    {
+        return of( DEFAULTSIZE );
+    }
+
+    /**
+     * creates a table
+     *
+     * @param p_size maximum number of entries
+     * @return table
+     */
+    @Nonnull
+    public static IRuleTable of( @Nonnegative final int p_size )
+    {
+        return new CRuleTable( p_size );
+    }
+
+}
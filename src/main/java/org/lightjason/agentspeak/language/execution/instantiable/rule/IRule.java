@@ -27,12 +27,15 @@ import org.lightjason.agentspeak.agent.IAgent;
 import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.IExecution;
 import org.lightjason.agentspeak.language.execution.instantiable.IInstantiable;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.annotation.IAnnotation;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import org.lightjason.agentspeak.language.variable.IVariable;
 
 import javax.annotation.Nonnull;
 import java.util.List;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
 
@@ -117,4 +120,71 @@ public interface IRule extends IInstantiable
     @Nonnull
     ILiteral identifier();
 
+    /**
+     * returns if the results of the rule calls are stored within the rule table of the agent
+     *
+     * @return tabled flag
+     *
+     * @note the default implementation does not table the rule
+     */
+    default boolean tabled()
+    {
+        return false;
+    }
+
+    /**
+     * returns if the result of the rule can depend on the beliefs, so
+     * the tabled results are out-dated on a belief change
+     *
+     * @return belief dependency flag
+     *
+     * @note the default implementation depends on the beliefs
+     */
+    default boolean beliefdependent()
+    {
+        return true;
+    }
+
+    /**
+     * checks if a call can be executed by the rule, so
+     * rules which fail definitely are not instantiated
+     *
+     * @param p_literal call literal with bound variables
+     * @return false if the rule execution fails definitely
+     *
+     * @note the default implementation executes all calls
+     */
+    default boolean viable( @Nonnull final ILiteral p_literal )
+    {
+        return true;
+    }
+
+    /**
+     * returns a rule with additional annotations
+     *
+     * @param p_annotation annotations
+     * @return annotated rule
+     *
+     * @note the default implementation does not annotate the rule
+     */
+    @Nonnull
+    default IRule annotate( @Nonnull final IAnnotation<?>... p_annotation )
+    {
+        return this;
+    }
+
+    /**
+     * rewrites the body of the rule
+     *
+     * @param p_rewrite rewrite function of each execution element
+     * @return rewritten rule or the rule itself if no element is changed
+     *
+     * @note the default implementation does not rewrite the rule
+     */
+    @Nonnull
+    default IRule rewrite( @Nonnull final UnaryOperator<IExecution> p_rewrite )
+    {
+        return this;
+    }
+
 }
@@ -0,0 +1,112 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.execution.instantiable.rule;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+
+/**
+ * table of tabled rule calls, which maps a call pattern
+ * to the result and the bound values of the call
+ */
+public interface IRuleTable
+{
+    /**
+     * empty table, which stores nothing
+     */
+    IRuleTable EMPTY = new IRuleTable()
+    {
+        @Nullable
+        @Override
+        public Pair<Boolean, Object[]> get( @Nonnull final Object p_key, final long p_sequence )
+        {
+            return null;
+        }
+
+        @Nonnull
+        @Override
+        public IRuleTable put( @Nonnull final Object p_key, final boolean p_success, @Nonnull final Object[] p_values, final long p_sequence )
+        {
+            return this;
+        }
+
+        @Nonnull
+        @Override
+        public IRuleTable clear()
+        {
+            return this;
+        }
+
+        @Override
+        public int size()
+        {
+            return 0;
+        }
+    };
+
+    /**
+     * returns the result of a call pattern
+     *
+     * @param p_key call pattern
+     * @param p_sequence current sequence number of the beliefs
+     * @return null or pair of execution result and bound values
+     *
+     * @note an entry, which is stored with another sequence number, is out-dated and is not returned
+     */
+    @Nullable
+    Pair<Boolean, Object[]> get( @Nonnull final Object p_key, final long p_sequence );
+
+    /**
+     * stores the result of a call pattern
+     *
+     * @param p_key call pattern
+     * @param p_success execution result
+     * @param p_values bound values of the unbound call variables
+     * @param p_sequence sequence number of the beliefs before the execution
+     * @return self reference
+     */
+    @Nonnull
+    IRuleTable put( @Nonnull final Object p_key, final boolean p_success, @Nonnull final Object[] p_values, final long p_sequence );
+
+    /**
+     * removes all entries
+     *
+     * @return self reference
+     */
+    @Nonnull
+    IRuleTable clear();
+
+    /**
+     * number of entries
+     *
+     * @return size
+     */
+    @Nonnegative
+    int size();
+
+}
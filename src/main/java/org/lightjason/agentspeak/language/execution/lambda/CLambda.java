@@ -146,22 +146,26 @@ public final class CLambda extends IBaseExecution<IExecution[]>
      * @param p_context execution context
      * @param p_iterator iterator stream
      * @return execution result
+     *
+     * @note the stream runs within the executor of the agent execution policy
      */
     private Stream<IFuzzyValue<?>> parallel( @Nonnull final IContext p_context, @Nonnull final Stream<?> p_iterator )
     {
-        return p_iterator.parallel()
-                         .map( i -> m_iterator.shallowcopy().set( i ) )
-                         .map( i -> p_context.duplicate(
-                             CCommon.streamconcatstrict(
-                                 Stream.of( i ),
-                                 p_context.instancevariables().values().stream(),
-                                 Arrays.stream( m_value ).flatMap( IExecution::variables )
-                             )
-                         ) )
-                         .map( i -> CCommon.executesequential( i, Arrays.stream( m_value ) ) )
-                         .allMatch( Pair::getValue )
-                         ? p_context.agent().fuzzy().membership().success()
-                         : p_context.agent().fuzzy().membership().fail();
+        return p_context.agent().executionpolicy().execute(
+            () -> p_iterator.parallel()
+                            .map( i -> m_iterator.shallowcopy().set( i ) )
+                            .map( i -> p_context.duplicate(
+                                CCommon.streamconcatstrict(
+                                    Stream.of( i ),
+                                    p_context.instancevariables().values().stream(),
+                                    Arrays.stream( m_value ).flatMap( IExecution::variables )
+                                )
+                            ) )
+                            .map( i -> CCommon.executesequential( i, Arrays.stream( m_value ) ) )
+                            .allMatch( Pair::getValue )
+        )
+               ? p_context.agent().fuzzy().membership().success()
+               : p_context.agent().fuzzy().membership().fail();
     }
 
 
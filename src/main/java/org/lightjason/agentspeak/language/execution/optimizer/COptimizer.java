@@ -0,0 +1,387 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.execution.optimizer;
+
+import org.lightjason.agentspeak.language.execution.IExecution;
+import org.lightjason.agentspeak.language.execution.assignment.CSingleAssignment;
+import org.lightjason.agentspeak.language.execution.base.CRepair;
+import org.lightjason.agentspeak.language.execution.base.CTernaryOperation;
+import org.lightjason.agentspeak.language.execution.expression.CBinaryExpression;
+import org.lightjason.agentspeak.language.execution.expression.CConstantExpression;
+import org.lightjason.agentspeak.language.execution.expression.CUnaryExpression;
+import org.lightjason.agentspeak.language.execution.expression.IExpression;
+import org.lightjason.agentspeak.language.execution.instantiable.IInstantiable;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.execution.instantiable.rule.IRule;
+import org.lightjason.agentspeak.language.execution.passing.CPassRaw;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+import org.lightjason.agentspeak.language.fuzzy.bundle.IFuzzyBundle;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * default optimizer, which folds constant expressions, removes dead
+ * branches of ternary operations and repair chains and flattens nested
+ * repair chains
+ *
+ * @note each rewriting keeps the execution result, so decisions which
+ * depend on the fuzzy values are made with the fuzzy bundle of the agent
+ */
+public final class COptimizer implements IOptimizer
+{
+    /**
+     * fuzzy bundle of the agent
+     */
+    private final IFuzzyBundle m_fuzzy;
+    /**
+     * rewritings of each plan and rule
+     */
+    private final Map<IInstantiable, List<String>> m_report = new ConcurrentHashMap<>();
+
+    /**
+     * ctor
+     *
+     * @param p_fuzzy fuzzy bundle of the agent
+     */
+    private COptimizer( @Nonnull final IFuzzyBundle p_fuzzy )
+    {
+        m_fuzzy = p_fuzzy;
+    }
+
+    @Nonnull
+    @Override
+    public IPlan optimize( @Nonnull final IPlan p_plan )
+    {
+        final List<String> l_report = new ArrayList<>();
+        final IPlan l_plan = p_plan.rewrite( i -> this.rewrite( i, l_report ) );
+
+        if ( !l_report.isEmpty() )
+            m_report.put( l_plan, Collections.unmodifiableList( l_report ) );
+        return l_plan;
+    }
+
+    @Nonnull
+    @Override
+    public IRule optimize( @Nonnull final IRule p_rule )
+    {
+        final List<String> l_report = new ArrayList<>();
+        final IRule l_rule = p_rule.rewrite( i -> this.rewrite( i, l_report ) );
+
+        if ( !l_report.isEmpty() )
+            m_report.put( l_rule, Collections.unmodifiableList( l_report ) );
+        return l_rule;
+    }
+
+    @Nonnull
+    @Override
+    public Map<IInstantiable, List<String>> report()
+    {
+        return Collections.unmodifiableMap( m_report );
+    }
+
+    /**
+     * rewrites an execution element bottom-up
+     *
+     * @param p_execution execution
+     * @param p_report report list
+     * @return rewritten execution or the execution itself if nothing is rewritten
+     */
+    @Nonnull
+    private IExecution rewrite( @Nonnull final IExecution p_execution, @Nonnull final List<String> p_report )
+    {
+        if ( p_execution instanceof CBinaryExpression )
+            return this.rewritebinary( (CBinaryExpression) p_execution, p_report );
+
+        if ( p_execution instanceof CUnaryExpression )
+            return this.rewriteunary( (CUnaryExpression) p_execution, p_report );
+
+        if ( p_execution instanceof CTernaryOperation )
+            return this.rewriteternary( (CTernaryOperation) p_execution, p_report );
+
+        if ( p_execution instanceof CRepair )
+            return this.rewriterepair( (CRepair) p_execution, p_report );
+
+        if ( p_execution instanceof CSingleAssignment )
+            return this.rewriteassignment( (CSingleAssignment) p_execution, p_report );
+
+        return p_execution;
+    }
+
+    /**
+     * rewrites a binary expression
+     *
+     * @param p_expression expression
+     * @param p_report report list
+     * @return rewritten execution
+     */
+    @Nonnull
+    private IExecution rewritebinary( @Nonnull final CBinaryExpression p_expression, @Nonnull final List<String> p_report )
+    {
+        final IExecution l_lhs = this.rewrite( p_expression.lhs(), p_report );
+        final IExecution l_rhs = this.rewrite( p_expression.rhs(), p_report );
+
+        return this.fold(
+            l_lhs == p_expression.lhs() && l_rhs == p_expression.rhs()
+            ? p_expression
+            : new CBinaryExpression( p_expression.operator(), l_lhs, l_rhs ),
+            p_report
+        );
+    }
+
+    /**
+     * rewrites an unary expression
+     *
+     * @param p_expression expression
+     * @param p_report report list
+     * @return rewritten execution
+     */
+    @Nonnull
+    private IExecution rewriteunary( @Nonnull final CUnaryExpression p_expression, @Nonnull final List<String> p_report )
+    {
+        final IExecution l_element = this.rewrite( p_expression.element(), p_report );
+
+        return this.fold(
+            l_element == p_expression.element()
+            ? p_expression
+            : new CUnaryExpression( p_expression.operator(), l_element ),
+            p_report
+        );
+    }
+
+    /**
+     * folds a constant expression
+     *
+     * @param p_execution expression
+     * @param p_report report list
+     * @return constant or input expression
+     */
+    @Nonnull
+    private IExecution fold( @Nonnull final IExecution p_execution, @Nonnull final List<String> p_report )
+    {
+        final IExecution l_execution = CConstantExpression.of( p_execution );
+        if ( l_execution != p_execution )
+            p_report.add( report( ERewrite.CONSTANTFOLDING, p_execution, l_execution ) );
+        return l_execution;
+    }
+
+    /**
+     * rewrites a ternary operation and removes the dead branch on constant conditions
+     *
+     * @param p_ternary ternary operation
+     * @param p_report report list
+     * @return rewritten execution
+     */
+    @Nonnull
+    private IExecution rewriteternary( @Nonnull final CTernaryOperation p_ternary, @Nonnull final List<String> p_report )
+    {
+        final IExecution l_condition = this.rewrite( p_ternary.value(), p_report );
+        final IExecution l_true = this.rewrite( p_ternary.truebranch(), p_report );
+        final IExecution l_false = this.rewrite( p_ternary.falsebranch(), p_report );
+
+        final Boolean l_result = this.constantcondition( l_condition );
+        if ( Objects.nonNull( l_result ) )
+        {
+            final IExecution l_branch = l_result ? l_true : l_false;
+            p_report.add( report( ERewrite.DEADBRANCH, p_ternary, l_branch ) );
+            return l_branch;
+        }
+
+        return l_condition == p_ternary.value() && l_true == p_ternary.truebranch() && l_false == p_ternary.falsebranch()
+               ? p_ternary
+               : new CTernaryOperation(
+                   l_condition instanceof IExpression ? (IExpression) l_condition : p_ternary.value(),
+                   l_true,
+                   l_false
+               );
+    }
+
+    /**
+     * rewrites a repair chain, nested chains are flattened, constant failing
+     * elements are removed and the chain is cut after a constant successful element
+     *
+     * @param p_repair repair chain
+     * @param p_report report list
+     * @return rewritten execution
+     */
+    @Nonnull
+    private IExecution rewriterepair( @Nonnull final CRepair p_repair, @Nonnull final List<String> p_report )
+    {
+        final IExecution[] l_flat = Arrays.stream( p_repair.value() )
+                                          .map( i -> this.rewrite( i, p_report ) )
+                                          .flatMap( i -> i instanceof CRepair ? Arrays.stream( ( (CRepair) i ).value() ) : Stream.of( i ) )
+                                          .toArray( IExecution[]::new );
+
+        if ( l_flat.length != p_repair.value().length )
+            p_report.add( report( ERewrite.FLATTENING, p_repair, Arrays.toString( l_flat ) ) );
+
+        final List<IExecution> l_chain = new ArrayList<>( l_flat.length );
+        for ( final IExecution l_execution : l_flat )
+        {
+            final Boolean l_result = this.constantrepair( l_execution );
+            if ( Boolean.FALSE.equals( l_result ) )
+                continue;
+
+            l_chain.add( l_execution );
+            if ( Boolean.TRUE.equals( l_result ) )
+                break;
+        }
+
+        if ( l_chain.size() != l_flat.length )
+            p_report.add( report( ERewrite.DEADBRANCH, p_repair, l_chain ) );
+
+        return l_chain.size() == p_repair.value().length && IntStream.range( 0, l_chain.size() ).allMatch( i -> l_chain.get( i ) == p_repair.value()[i] )
+               ? p_repair
+               : new CRepair( l_chain.stream() );
+    }
+
+    /**
+     * rewrites the right-hand-side of an assignment
+     *
+     * @param p_assignment assignment
+     * @param p_report report list
+     * @return rewritten execution
+     */
+    @Nonnull
+    private IExecution rewriteassignment( @Nonnull final CSingleAssignment p_assignment, @Nonnull final List<String> p_report )
+    {
+        final IExecution l_rhs = this.rewrite( p_assignment.rhs(), p_report );
+        return l_rhs == p_assignment.rhs()
+               ? p_assignment
+               : new CSingleAssignment( p_assignment.operator(), p_assignment.value(), l_rhs );
+    }
+
+    /**
+     * returns the result of a constant ternary condition
+     *
+     * @param p_condition condition
+     * @return branch flag or null if the condition is not constant
+     */
+    @Nullable
+    private Boolean constantcondition( @Nonnull final IExecution p_condition )
+    {
+        if ( !( p_condition instanceof CConstantExpression ) || !( ( (CConstantExpression) p_condition ).raw() instanceof Boolean ) )
+            return null;
+
+        return this.success( ( (CConstantExpression) p_condition ).fuzzy( m_fuzzy ) ) && ( (CConstantExpression) p_condition ).<Boolean>raw();
+    }
+
+    /**
+     * returns the result of a constant element of a repair chain
+     *
+     * @param p_execution execution
+     * @return success flag or null if the element is not constant
+     */
+    @Nullable
+    private Boolean constantrepair( @Nonnull final IExecution p_execution )
+    {
+        final Object l_value;
+        final IFuzzyValue<?>[] l_fuzzy;
+
+        if ( p_execution instanceof CConstantExpression )
+        {
+            l_value = ( (CConstantExpression) p_execution ).raw();
+            l_fuzzy = ( (CConstantExpression) p_execution ).fuzzy( m_fuzzy );
+        }
+        else if ( p_execution instanceof CPassRaw<?> )
+        {
+            l_value = ( (CPassRaw<?>) p_execution ).value().<Object>raw();
+            l_fuzzy = new IFuzzyValue<?>[0];
+        }
+        else
+            return null;
+
+        // a boolean value defines the result, otherwise the fuzzy values are used
+        if ( l_value instanceof Boolean )
+            return (Boolean) l_value;
+
+        return Objects.isNull( l_value ) ? null : this.success( l_fuzzy );
+    }
+
+    /**
+     * defuzzificates fuzzy values
+     *
+     * @param p_fuzzy fuzzy values
+     * @return success flag
+     */
+    private boolean success( @Nonnull final IFuzzyValue<?>[] p_fuzzy )
+    {
+        return m_fuzzy.defuzzification().success( m_fuzzy.defuzzification().apply( Arrays.stream( p_fuzzy ) ) );
+    }
+
+    /**
+     * creates a report entry
+     *
+     * @param p_rewrite rewriting
+     * @param p_source source element
+     * @param p_target target element
+     * @return report string
+     */
+    @Nonnull
+    private static String report( @Nonnull final ERewrite p_rewrite, @Nonnull final Object p_source, @Nonnull final Object p_target )
+    {
+        return MessageFormat.format( "{0}: {1} => {2}", p_rewrite, p_source, p_target );
+    }
+
+    /**
+     * creates an optimizer
+     *
+     * @param p_fuzzy fuzzy bundle of the agent
+     * @return optimizer
+     */
+    @Nonnull
+    public static IOptimizer of( @Nonnull final IFuzzyBundle p_fuzzy )
+    {
+        return new COptimizer( p_fuzzy );
+    }
+
+
+    /**
+     * rewriting types
+     */
+    private enum ERewrite
+    {
+        CONSTANTFOLDING,
+        DEADBRANCH,
+        FLATTENING;
+
+        @Override
+        public String toString()
+        {
+            return super.toString().toLowerCase( Locale.ROOT );
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.execution.optimizer;
+
+import org.lightjason.agentspeak.language.execution.instantiable.IInstantiable;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.execution.instantiable.rule.IRule;
+
+import javax.annotation.Nonnull;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * optimizer of the execution tree, which
+ * runs between parsing and agent configuration
+ */
+public interface IOptimizer
+{
+    /**
+     * optimizer without any rewriting
+     */
+    IOptimizer EMPTY = new IOptimizer()
+    {
+        @Nonnull
+        @Override
+        public IPlan optimize( @Nonnull final IPlan p_plan )
+        {
+            return p_plan;
+        }
+
+        @Nonnull
+        @Override
+        public IRule optimize( @Nonnull final IRule p_rule )
+        {
+            return p_rule;
+        }
+
+        @Nonnull
+        @Override
+        public Map<IInstantiable, List<String>> report()
+        {
+            return Collections.emptyMap();
+        }
+    };
+
+    /**
+     * optimizes a plan
+     *
+     * @param p_plan plan
+     * @return optimized plan or the plan itself if nothing is rewritten
+     */
+    @Nonnull
+    IPlan optimize( @Nonnull final IPlan p_plan );
+
+    /**
+     * optimizes a rule
+     *
+     * @param p_rule rule
+     * @return optimized rule or the rule itself if nothing is rewritten
+     */
+    @Nonnull
+    IRule optimize( @Nonnull final IRule p_rule );
+
+    /**
+     * returns the rewritings of each optimized plan and rule
+     *
+     * @return map with the optimized plan or rule and the descriptions of the rewritings
+     */
+    @Nonnull
+    Map<IInstantiable, List<String>> report();
+
+}
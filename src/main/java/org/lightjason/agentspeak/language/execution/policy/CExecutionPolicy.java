@@ -0,0 +1,186 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.execution.policy;
+
+import org.lightjason.agentspeak.language.execution.trampoline.ITrampoline;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.text.MessageFormat;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+
+
+/**
+ * adaptive execution policy, streams run parallel only if the number
+ * of elements reaches a threshold, so small operations do not pay the
+ * fork-join overhead, parallel executions can be bound to a dedicated
+ * pool, so that one agent cannot starve the common pool
+ *
+ * @note only parallel streams are submitted to the dedicated pool, so a caller blocks
+ * only while a parallel stream runs and nested executions within the pool run directly
+ */
+public final class CExecutionPolicy implements IExecutionPolicy
+{
+    /**
+     * default threshold
+     */
+    public static final int THRESHOLD = 64;
+    /**
+     * default policy with default threshold on the common pool
+     */
+    public static final IExecutionPolicy DEFAULT = new CExecutionPolicy( THRESHOLD, null, Long.MAX_VALUE, ITrampoline.EMPTY );
+    /**
+     * number of elements which enables parallel streams
+     */
+    private final long m_threshold;
+    /**
+     * executor pool or null for the current pool
+     */
+    private final ForkJoinPool m_pool;
+    /**
+     * number of executions which enables the compiled execution of a body
+     */
+    private final long m_compile;
+    /**
+     * trampoline of rule calls and immediate goals
+     */
+    private final ITrampoline m_trampoline;
+
+
+    /**
+     * ctor
+     *
+     * @param p_threshold number of elements which enables parallel streams
+     * @param p_pool dedicated pool or null
+     * @param p_compile number of executions which enables the compiled execution of a body
+     * @param p_trampoline trampoline of rule calls and immediate goals
+     */
+    private CExecutionPolicy( @Nonnegative final long p_threshold, @Nullable final ForkJoinPool p_pool, @Nonnegative final long p_compile,
+                              @Nonnull final ITrampoline p_trampoline )
+    {
+        m_threshold = p_threshold;
+        m_pool = p_pool;
+        m_compile = p_compile;
+        m_trampoline = p_trampoline;
+    }
+
+    /**
+     * factory
+     *
+     * @param p_threshold number of elements which enables parallel streams
+     * @return policy on the common pool
+     */
+    @Nonnull
+    public static IExecutionPolicy of( @Nonnegative final long p_threshold )
+    {
+        return new CExecutionPolicy( p_threshold, null, Long.MAX_VALUE, ITrampoline.EMPTY );
+    }
+
+    /**
+     * factory
+     *
+     * @param p_threshold number of elements which enables parallel streams
+     * @param p_pool dedicated pool
+     * @return policy
+     */
+    @Nonnull
+    public static IExecutionPolicy of( @Nonnegative final long p_threshold, @Nonnull final ForkJoinPool p_pool )
+    {
+        return new CExecutionPolicy( p_threshold, p_pool, Long.MAX_VALUE, ITrampoline.EMPTY );
+    }
+
+    /**
+     * factory
+     *
+     * @param p_threshold number of elements which enables parallel streams
+     * @param p_pool dedicated pool or null for the current pool
+     * @param p_compile number of executions of a plan or rule body, which enables the compiled execution
+     * @return policy
+     */
+    @Nonnull
+    public static IExecutionPolicy of( @Nonnegative final long p_threshold, @Nullable final ForkJoinPool p_pool, @Nonnegative final long p_compile )
+    {
+        return new CExecutionPolicy( p_threshold, p_pool, p_compile, ITrampoline.EMPTY );
+    }
+
+    /**
+     * factory
+     *
+     * @param p_threshold number of elements which enables parallel streams
+     * @param p_pool dedicated pool or null for the current pool
+     * @param p_compile number of executions of a plan or rule body, which enables the compiled execution
+     * @param p_trampoline trampoline of rule calls and immediate goals
+     * @return policy
+     */
+    @Nonnull
+    public static IExecutionPolicy of( @Nonnegative final long p_threshold, @Nullable final ForkJoinPool p_pool, @Nonnegative final long p_compile,
+                                       @Nonnull final ITrampoline p_trampoline )
+    {
+        return new CExecutionPolicy( p_threshold, p_pool, p_compile, p_trampoline );
+    }
+
+    @Override
+    public boolean parallel( @Nonnegative final long p_size )
+    {
+        return p_size >= m_threshold;
+    }
+
+    @Override
+    public <T> T execute( @Nonnull final Supplier<T> p_task )
+    {
+        // tasks within the pool run directly, otherwise a blocking join is used
+        return Objects.isNull( m_pool ) || m_pool.equals( ForkJoinTask.getPool() )
+               ? p_task.get()
+               : m_pool.submit( p_task::get ).join();
+    }
+
+    @Override
+    public boolean compile( @Nonnegative final long p_executions )
+    {
+        return p_executions >= m_compile;
+    }
+
+    @Nonnull
+    @Override
+    public ITrampoline trampoline()
+    {
+        return m_trampoline;
+    }
+
+    @Override
+    public String toString()
+    {
+        return MessageFormat.format(
+            "adaptive threshold {0} on {1}{2}{3}",
+            m_threshold, Objects.isNull( m_pool ) ? "current pool" : m_pool,
+            m_compile == Long.MAX_VALUE ? "" : MessageFormat.format( ", compile after {0} executions", m_compile ),
+            ITrampoline.EMPTY.equals( m_trampoline ) ? "" : MessageFormat.format( ", {0}", m_trampoline )
+        );
+    }
+
+}
@@ -0,0 +1,204 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.execution.policy;
+
+import org.lightjason.agentspeak.language.execution.trampoline.ITrampoline;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * execution policy, which decides whether a stream runs
+ * sequential or parallel and defines the executor of
+ * parallel executions
+ */
+public interface IExecutionPolicy
+{
+    /**
+     * policy with sequential streams only
+     */
+    IExecutionPolicy SEQUENTIAL = new IExecutionPolicy()
+    {
+        @Override
+        public boolean parallel( @Nonnegative final long p_size )
+        {
+            return false;
+        }
+
+        @Override
+        public <T> T execute( @Nonnull final Supplier<T> p_task )
+        {
+            return p_task.get();
+        }
+
+        @Override
+        public String toString()
+        {
+            return "sequential";
+        }
+    };
+
+    /**
+     * policy with parallel streams only
+     * on the common pool
+     */
+    IExecutionPolicy PARALLEL = new IExecutionPolicy()
+    {
+        @Override
+        public boolean parallel( @Nonnegative final long p_size )
+        {
+            return true;
+        }
+
+        @Override
+        public <T> T execute( @Nonnull final Supplier<T> p_task )
+        {
+            return p_task.get();
+        }
+
+        @Override
+        public String toString()
+        {
+            return "parallel";
+        }
+    };
+
+
+    /**
+     * decides if a number of elements is processed in parallel
+     *
+     * @param p_size number of elements
+     * @return parallel flag
+     */
+    boolean parallel( @Nonnegative final long p_size );
+
+    /**
+     * executes a task within the executor of the policy,
+     * so parallel streams of the task use the executor
+     *
+     * @param p_task task
+     * @return task result
+     *
+     * @tparam T result type
+     * @note the task must not return a lazy stream, because the stream will be evaluated outside the executor
+     */
+    <T> T execute( @Nonnull final Supplier<T> p_task );
+
+    /**
+     * decides if a plan or rule body is executed by its dispatch cache
+     *
+     * @param p_executions number of executions of the body
+     * @return compile flag
+     *
+     * @note the default implementation uses the interpreter only
+     * @see org.lightjason.agentspeak.language.execution.compiler.CCompiledBody
+     */
+    default boolean compile( @Nonnegative final long p_executions )
+    {
+        return false;
+    }
+
+    /**
+     * returns the trampoline, which executes rule calls and immediate goals
+     *
+     * @return trampoline
+     *
+     * @note the default implementation executes calls recursively
+     */
+    @Nonnull
+    default ITrampoline trampoline()
+    {
+        return ITrampoline.EMPTY;
+    }
+
+    /**
+     * executes a task without result within the executor of the policy
+     *
+     * @param p_task task
+     */
+    default void run( @Nonnull final Runnable p_task )
+    {
+        this.execute( () ->
+        {
+            p_task.run();
+            return null;
+        } );
+    }
+
+    /**
+     * maps each element of a collection to a stream and collects the results,
+     * only a parallel stream is executed within the executor of the policy
+     *
+     * @param p_collection collection
+     * @param p_function mapping function
+     * @return list with all results
+     *
+     * @tparam T element type
+     * @tparam R result type
+     */
+    @Nonnull
+    default <T, R> List<R> flatmap( @Nonnull final Collection<T> p_collection, @Nonnull final Function<T, Stream<R>> p_function )
+    {
+        return this.parallel( p_collection.size() )
+               ? this.execute( () -> p_collection.parallelStream().flatMap( p_function ).collect( Collectors.toList() ) )
+               : p_collection.stream().flatMap( p_function ).collect( Collectors.toList() );
+    }
+
+    /**
+     * creates a stream of a collection
+     *
+     * @param p_collection collection
+     * @return sequential or parallel stream
+     *
+     * @tparam T element type
+     */
+    @Nonnull
+    default <T> Stream<T> stream( @Nonnull final Collection<T> p_collection )
+    {
+        return this.parallel( p_collection.size() ) ? p_collection.parallelStream() : p_collection.stream();
+    }
+
+    /**
+     * sets the execution mode of a stream
+     *
+     * @param p_stream stream
+     * @param p_size number of elements
+     * @return sequential or parallel stream
+     *
+     * @tparam T element type
+     */
+    @Nonnull
+    default <T> Stream<T> stream( @Nonnull final Stream<T> p_stream, @Nonnegative final long p_size )
+    {
+        return this.parallel( p_size ) ? p_stream.parallel() : p_stream.sequential();
+    }
+
+}
@@ -0,0 +1,426 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.execution.trampoline;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.IExecution;
+import org.lightjason.agentspeak.language.execution.achievementtest.CAchievementGoalLiteral;
+import org.lightjason.agentspeak.language.execution.achievementtest.CAchievementRuleLiteral;
+import org.lightjason.agentspeak.language.execution.base.CRepair;
+import org.lightjason.agentspeak.language.execution.instantiable.IBaseInstantiable;
+import org.lightjason.agentspeak.language.execution.instantiable.IInstantiable;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.text.MessageFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * trampoline with an explicit frame stack, sequential bodies are
+ * interpreted by the trampoline and rule calls and immediate goals
+ * within the bodies push a frame instead of a recursive call
+ *
+ * @note a call in the last position of a body is executed as tail call, if the
+ * calling frame has got no further body, the body is removed from the stack, bodies with
+ * parallel or atomic annotation, compiled bodies and nested calls e.g. within repair
+ * chains or lambda expressions are executed recursively
+ */
+public final class CTrampoline implements ITrampoline
+{
+    /**
+     * deferral of the current thread
+     */
+    private static final ThreadLocal<CDeferral> DEFERRAL = ThreadLocal.withInitial( CDeferral::new );
+    /**
+     * maximum depth of the frame stack
+     */
+    private final AtomicLong m_maxdepth = new AtomicLong();
+    /**
+     * number of eliminated tail calls
+     */
+    private final AtomicLong m_tailcalls = new AtomicLong();
+
+    /**
+     * ctor
+     */
+    private CTrampoline()
+    {
+    }
+
+    /**
+     * factory
+     *
+     * @return trampoline
+     */
+    @Nonnull
+    public static ITrampoline of()
+    {
+        return new CTrampoline();
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( @Nonnull final Supplier<ICallFrame> p_frame )
+    {
+        // the deferral request must be read before the frame is created, because the frame creation can run nested calls
+        final CDeferral l_deferral = DEFERRAL.get();
+        final boolean l_requested = l_deferral.m_requested;
+        l_deferral.m_requested = false;
+
+        final ICallFrame l_frame = p_frame.get();
+        if ( !l_requested )
+            return this.run( l_frame );
+
+        l_deferral.m_frame = l_frame;
+        return Stream.empty();
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> run( @Nonnull final ICallFrame p_frame )
+    {
+        DEFERRAL.get().m_requested = false;
+
+        final Deque<CCall> l_stack = new ArrayDeque<>();
+        l_stack.push( new CCall( p_frame, null ) );
+
+        Stream<IFuzzyValue<?>> l_result = null;
+        while ( true )
+        {
+            final CCall l_call = l_stack.element();
+
+            // result of a finished call is passed to the waiting body
+            if ( Objects.nonNull( l_result ) )
+            {
+                l_call.m_body.add( l_result );
+                l_result = null;
+            }
+
+            if ( Objects.isNull( l_call.m_body ) )
+            {
+                final Pair<IInstantiable, IContext> l_next = l_call.m_frame.next();
+                if ( Objects.isNull( l_next ) )
+                {
+                    l_stack.pop();
+                    l_result = l_call.result();
+                    if ( l_stack.isEmpty() )
+                        return l_result;
+                    continue;
+                }
+
+                final IExecution[] l_execution = l_next.getLeft() instanceof IBaseInstantiable
+                                                 ? ( (IBaseInstantiable) l_next.getLeft() ).sequentialbody( l_next.getRight() )
+                                                 : null;
+                if ( Objects.isNull( l_execution ) )
+                {
+                    l_call.m_frame.finish( l_next.getLeft().execute( false, l_next.getRight(), Collections.emptyList(), Collections.emptyList() ) );
+                    continue;
+                }
+
+                l_call.m_body = new CBody( l_next.getRight(), l_execution );
+            }
+
+            final CBody l_body = l_call.m_body;
+            if ( l_body.finished() )
+            {
+                l_call.m_body = null;
+                l_call.m_frame.finish( l_body.m_result.stream() );
+                continue;
+            }
+
+            final IExecution l_execution = l_body.m_execution[l_body.m_position++];
+            if ( !deferrable( l_execution ) )
+            {
+                l_body.append( l_execution.execute( false, l_body.m_context, Collections.emptyList(), Collections.emptyList() ) );
+                continue;
+            }
+
+            final ICallFrame l_frame = defer( l_body, l_execution );
+            if ( Objects.isNull( l_frame ) )
+                continue;
+
+            // on a tail call the calling frame is removed from the stack and is finished by the result of the called frame
+            if ( l_body.m_position == l_body.m_execution.length && l_call.m_frame.last() )
+            {
+                l_stack.pop();
+                l_stack.push( new CCall( l_frame, l_call.continuation() ) );
+                m_tailcalls.incrementAndGet();
+            }
+            else
+                l_stack.push( new CCall( l_frame, null ) );
+
+            m_maxdepth.accumulateAndGet( l_stack.size(), Math::max );
+        }
+    }
+
+    @Override
+    public long maxdepth()
+    {
+        return m_maxdepth.get();
+    }
+
+    @Override
+    public long tailcalls()
+    {
+        return m_tailcalls.get();
+    }
+
+    @Override
+    public String toString()
+    {
+        return MessageFormat.format( "trampoline (maximum depth {0}, tail calls {1})", m_maxdepth.get(), m_tailcalls.get() );
+    }
+
+    /**
+     * executes an element with a deferral request
+     *
+     * @param p_body body
+     * @param p_execution execution element
+     * @return null or the deferred frame
+     */
+    @Nullable
+    private static ICallFrame defer( @Nonnull final CBody p_body, @Nonnull final IExecution p_execution )
+    {
+        final CDeferral l_deferral = DEFERRAL.get();
+        final Stream<IFuzzyValue<?>> l_result;
+
+        l_deferral.m_requested = true;
+        try
+        {
+            l_result = p_execution.execute( false, p_body.m_context, Collections.emptyList(), Collections.emptyList() );
+        }
+        finally
+        {
+            l_deferral.m_requested = false;
+        }
+
+        final ICallFrame l_frame = l_deferral.m_frame;
+        l_deferral.m_frame = null;
+        if ( Objects.nonNull( l_frame ) )
+            return l_frame;
+
+        p_body.append( l_result );
+        return null;
+    }
+
+    /**
+     * checks if an execution element can be deferred, so
+     * the element is a single rule call or immediate goal
+     *
+     * @param p_execution execution element
+     * @return deferrable flag
+     */
+    private static boolean deferrable( @Nonnull final IExecution p_execution )
+    {
+        if ( !( p_execution instanceof CRepair ) || ( (CRepair) p_execution ).value().length != 1 )
+            return false;
+
+        final IExecution l_execution = ( (CRepair) p_execution ).value()[0];
+        return l_execution instanceof CAchievementRuleLiteral
+               || l_execution instanceof CAchievementGoalLiteral && ( (CAchievementGoalLiteral) l_execution ).immediately();
+    }
+
+
+    /**
+     * deferral request of a thread
+     */
+    private static final class CDeferral
+    {
+        /**
+         * a call is requested to be deferred
+         */
+        private boolean m_requested;
+        /**
+         * deferred frame
+         */
+        private ICallFrame m_frame;
+    }
+
+    /**
+     * call on the frame stack
+     */
+    private static final class CCall
+    {
+        /**
+         * frame of the call
+         */
+        private final ICallFrame m_frame;
+        /**
+         * calls, which are finished by the result of this call (tail calls), the last caller is the first element
+         */
+        private final Deque<CCall> m_continuation;
+        /**
+         * running or waiting body
+         */
+        private CBody m_body;
+
+        /**
+         * ctor
+         *
+         * @param p_frame frame
+         * @param p_continuation calls, which are finished by the result of this call or null
+         */
+        CCall( @Nonnull final ICallFrame p_frame, @Nullable final Deque<CCall> p_continuation )
+        {
+            m_frame = p_frame;
+            m_continuation = p_continuation;
+        }
+
+        /**
+         * returns the continuation of a tail call, which is
+         * called by the running body of this call
+         *
+         * @return continuation with this call
+         */
+        @Nonnull
+        Deque<CCall> continuation()
+        {
+            final Deque<CCall> l_continuation = Objects.isNull( m_continuation ) ? new ArrayDeque<>() : m_continuation;
+            l_continuation.push( this );
+            return l_continuation;
+        }
+
+        /**
+         * returns the result of the finished call and
+         * finishes all calls of the continuation
+         *
+         * @return fuzzy result
+         */
+        @Nonnull
+        Stream<IFuzzyValue<?>> result()
+        {
+            Stream<IFuzzyValue<?>> l_result = m_frame.result();
+            if ( Objects.isNull( m_continuation ) )
+                return l_result;
+
+            for ( final CCall l_call : m_continuation )
+            {
+                l_call.m_body.add( l_result );
+                l_call.m_frame.finish( l_call.m_body.m_result.stream() );
+                l_call.m_body = null;
+                l_result = l_call.m_frame.result();
+            }
+
+            return l_result;
+        }
+    }
+
+    /**
+     * sequential body on the frame stack
+     */
+    private static final class CBody
+    {
+        /**
+         * execution context
+         */
+        private final IContext m_context;
+        /**
+         * execution elements
+         */
+        private final IExecution[] m_execution;
+        /**
+         * fuzzy results
+         */
+        private final List<IFuzzyValue<?>> m_result = new ArrayList<>();
+        /**
+         * position of the next element
+         */
+        private int m_position;
+        /**
+         * body is successful
+         */
+        private boolean m_success = true;
+
+        /**
+         * ctor
+         *
+         * @param p_context execution context
+         * @param p_execution execution elements
+         */
+        CBody( @Nonnull final IContext p_context, @Nonnull final IExecution[] p_execution )
+        {
+            m_context = p_context;
+            m_execution = p_execution;
+        }
+
+        /**
+         * returns if the body is finished
+         *
+         * @return finish flag
+         */
+        boolean finished()
+        {
+            return !m_success || m_position == m_execution.length;
+        }
+
+        /**
+         * appends the result of an element
+         *
+         * @param p_result element result
+         */
+        void append( @Nonnull final Stream<IFuzzyValue<?>> p_result )
+        {
+            p_result.forEach( m_result::add );
+            this.update();
+        }
+
+        /**
+         * adds the result of a deferred call, a failed call
+         * returns the fail value like a repair element
+         *
+         * @param p_result call result
+         */
+        void add( @Nonnull final Stream<IFuzzyValue<?>> p_result )
+        {
+            final List<IFuzzyValue<?>> l_result = p_result.collect( Collectors.toList() );
+            if ( m_context.agent().fuzzy().defuzzification().success( m_context.agent().fuzzy().defuzzification().apply( l_result.stream() ) ) )
+                m_result.addAll( l_result );
+            else
+                m_context.agent().fuzzy().membership().fail().forEach( m_result::add );
+
+            this.update();
+        }
+
+        /**
+         * updates the success flag with all results
+         */
+        void update()
+        {
+            m_success = m_context.agent().fuzzy().defuzzification().success( m_context.agent().fuzzy().defuzzification().apply( m_result.stream() ) );
+        }
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.execution.trampoline;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.instantiable.IInstantiable;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.stream.Stream;
+
+
+/**
+ * frame of a call, which executes a sequence of instantiated
+ * bodies (e.g. the clauses of a rule or the plans of a goal)
+ * and builds the call result of the body results
+ */
+public interface ICallFrame
+{
+
+    /**
+     * returns the next instantiated body of the call
+     *
+     * @return null if the call is finished, otherwise the instantiable element with its context
+     */
+    @Nullable
+    Pair<IInstantiable, IContext> next();
+
+    /**
+     * finishes the body, which is returned by the last next call
+     *
+     * @param p_result fuzzy results of the body
+     */
+    void finish( @Nonnull final Stream<IFuzzyValue<?>> p_result );
+
+    /**
+     * returns if no further body is executed after
+     * the current body, so the call finishes with the current body
+     *
+     * @return last body flag
+     *
+     * @note if the flag is true, the result is read after finishing the current body without a further next call
+     */
+    boolean last();
+
+    /**
+     * returns the result of the finished call
+     *
+     * @return fuzzy result
+     */
+    @Nonnull
+    Stream<IFuzzyValue<?>> result();
+
+}
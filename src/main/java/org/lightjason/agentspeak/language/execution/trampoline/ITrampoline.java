@@ -0,0 +1,124 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.execution.trampoline;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.instantiable.IInstantiable;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+
+/**
+ * trampoline, which executes calls of rules and immediate goals
+ *
+ * @note a trampoline keeps nested calls on a heap-allocated frame stack
+ * instead of the thread stack, so deep recursions do not overflow the thread stack
+ */
+public interface ITrampoline
+{
+    /**
+     * empty trampoline, which executes
+     * each call recursively on the thread stack
+     */
+    ITrampoline EMPTY = new ITrampoline()
+    {
+        @Nonnull
+        @Override
+        public Stream<IFuzzyValue<?>> execute( @Nonnull final Supplier<ICallFrame> p_frame )
+        {
+            return this.run( p_frame.get() );
+        }
+
+        @Nonnull
+        @Override
+        public Stream<IFuzzyValue<?>> run( @Nonnull final ICallFrame p_frame )
+        {
+            for ( Pair<IInstantiable, IContext> l_body = p_frame.next(); Objects.nonNull( l_body ); l_body = p_frame.next() )
+                p_frame.finish( l_body.getLeft().execute( false, l_body.getRight(), Collections.emptyList(), Collections.emptyList() ) );
+
+            return p_frame.result();
+        }
+
+        @Override
+        public long maxdepth()
+        {
+            return 0;
+        }
+
+        @Override
+        public long tailcalls()
+        {
+            return 0;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "recursive";
+        }
+    };
+
+    /**
+     * executes a call, if the call is executed by a body of a running
+     * trampoline, the call is deferred to the frame stack of the trampoline
+     *
+     * @param p_frame frame supplier, which is called once
+     * @return fuzzy result or an empty stream if the call is deferred
+     */
+    @Nonnull
+    Stream<IFuzzyValue<?>> execute( @Nonnull final Supplier<ICallFrame> p_frame );
+
+    /**
+     * executes a call and returns the result
+     *
+     * @param p_frame frame
+     * @return fuzzy result
+     */
+    @Nonnull
+    Stream<IFuzzyValue<?>> run( @Nonnull final ICallFrame p_frame );
+
+    /**
+     * returns the maximum depth of the frame stack
+     *
+     * @return maximum number of nested calls
+     */
+    @Nonnegative
+    long maxdepth();
+
+    /**
+     * returns the number of eliminated tail calls
+     *
+     * @return number of tail calls
+     */
+    @Nonnegative
+    long tailcalls();
+
+}
@@ -63,6 +63,16 @@ public final class CExpressionUnify extends CDefaultUnify
         m_expression = p_expression;
     }
 
+    /**
+     * returns the unification constraint
+     *
+     * @return constraint expression
+     */
+    @Nonnull
+    public IExecution expression()
+    {
+        return m_expression;
+    }
 
     @Override
     public String toString()
@@ -0,0 +1,131 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.unifier;
+
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.variable.IVariable;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * unifier on at hash-based quality, which walks the
+ * value lists of the literals by index without streams
+ *
+ * @note on equal structure hashes both literals are walked in parallel,
+ * only on a structure mismatch (hash collision) the flattened streams are used
+ */
+public final class CHashArrayUnifyAlgorithm extends IBaseUnifyAlgorithm
+{
+    /**
+     * successful unification
+     */
+    private static final int MATCH = 1;
+    /**
+     * failed unification
+     */
+    private static final int FAIL = 0;
+    /**
+     * structures are not equal
+     */
+    private static final int STRUCTURE = -1;
+
+    @Override
+    public Boolean apply( @Nonnull final Set<IVariable<?>> p_variables,
+                          @Nonnull final Stream<ITerm> p_source, @Nonnull final Stream<ITerm> p_target )
+    {
+        final List<ITerm> l_source = p_source.collect( Collectors.toList() );
+        final List<ITerm> l_target = p_target.collect( Collectors.toList() );
+
+        // zip semantic, the shorter list defines the number of checks
+        final int l_size = Math.min( l_source.size(), l_target.size() );
+        for ( int i = 0; i < l_size; i++ )
+            if ( !unifyterm( p_variables, l_source.get( i ), l_target.get( i ) ) )
+                return false;
+
+        return true;
+    }
+
+    @Override
+    public boolean unify( @Nonnull final Set<IVariable<?>> p_variables, @Nonnull final List<ITerm> p_source, @Nonnull final List<ITerm> p_target )
+    {
+        final int l_result = parallel( p_variables, p_source, p_target );
+        return l_result == STRUCTURE
+               ? this.apply( p_variables, CCommon.flattenrecursive( p_source.stream() ), CCommon.flattenrecursive( p_target.stream() ) )
+               : l_result == MATCH;
+    }
+
+    /**
+     * walks both value lists in parallel
+     *
+     * @param p_variables output variables
+     * @param p_source source values
+     * @param p_target target values
+     * @return unification state
+     */
+    private static int parallel( @Nonnull final Set<IVariable<?>> p_variables, @Nonnull final List<ITerm> p_source, @Nonnull final List<ITerm> p_target )
+    {
+        if ( p_source.size() != p_target.size() )
+            return STRUCTURE;
+
+        for ( int i = 0; i < p_source.size(); i++ )
+        {
+            final ITerm l_source = p_source.get( i );
+            final ITerm l_target = p_target.get( i );
+
+            if ( l_source instanceof ILiteral || l_target instanceof ILiteral )
+            {
+                if ( !( l_source instanceof ILiteral && l_target instanceof ILiteral ) )
+                    return STRUCTURE;
+
+                final int l_result = parallel( p_variables, ( (ILiteral) l_source ).orderedvaluelist(), ( (ILiteral) l_target ).orderedvaluelist() );
+                if ( l_result != MATCH )
+                    return l_result;
+            }
+            else if ( !unifyterm( p_variables, l_source, l_target ) )
+                return FAIL;
+        }
+
+        return MATCH;
+    }
+
+    /**
+     * unifies a single term
+     *
+     * @param p_variables output variables
+     * @param p_source source term
+     * @param p_target target term
+     * @return successful unification
+     */
+    private static boolean unifyterm( @Nonnull final Set<IVariable<?>> p_variables, @Nonnull final ITerm p_source, @Nonnull final ITerm p_target )
+    {
+        return bothvariables( p_variables, p_source, p_target ) || variables( p_variables, p_source, p_target ) || p_source.equals( p_target );
+    }
+}
@@ -24,10 +24,12 @@
 package org.lightjason.agentspeak.language.unifier;
 
 import com.codepoetics.protonpack.StreamUtils;
+import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.variable.IVariable;
 
 import javax.annotation.Nonnull;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -48,4 +50,10 @@ public final class CHashUnifyAlgorithm extends IBaseUnifyAlgorithm
             ( s, t ) -> bothvariables( p_variables, s, t ) || ( variables( p_variables, s, t ) || s.equals( t ) )
         ).allMatch( i -> i );
     }
+
+    @Override
+    public boolean unify( @Nonnull final Set<IVariable<?>> p_variables, @Nonnull final List<ITerm> p_source, @Nonnull final List<ITerm> p_target )
+    {
+        return this.apply( p_variables, CCommon.flattenrecursive( p_source.stream() ), CCommon.flattenrecursive( p_target.stream() ) );
+    }
 }
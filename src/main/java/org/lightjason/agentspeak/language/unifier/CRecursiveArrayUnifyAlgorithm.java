@@ -0,0 +1,104 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.unifier;
+
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.IRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.variable.IVariable;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * recursive unifier, which walks the value
+ * lists of the literals by index without streams
+ */
+public final class CRecursiveArrayUnifyAlgorithm extends IBaseUnifyAlgorithm
+{
+
+    @Override
+    public Boolean apply( @Nonnull final Set<IVariable<?>> p_variables,
+                          @Nonnull final Stream<ITerm> p_source, @Nonnull final Stream<ITerm> p_target )
+    {
+        return this.unify( p_variables, p_source.collect( Collectors.toList() ), p_target.collect( Collectors.toList() ) );
+    }
+
+    @Override
+    public boolean unify( @Nonnull final Set<IVariable<?>> p_variables, @Nonnull final List<ITerm> p_source, @Nonnull final List<ITerm> p_target )
+    {
+        if ( p_target.isEmpty() || p_source.isEmpty() )
+            return true;
+
+        if ( p_target.size() != p_source.size() )
+            return false;
+
+        for ( int i = 0; i < p_source.size(); i++ )
+        {
+            final ITerm l_source = p_source.get( i );
+            final ITerm l_target = p_target.get( i );
+
+            if ( bothvariables( p_variables, l_source, l_target ) || variables( p_variables, l_source, l_target ) )
+                continue;
+
+            // if both raw values -> equality check
+            if ( l_source instanceof IRawTerm<?> || l_target instanceof IRawTerm<?> )
+            {
+                if ( !l_source.equals( l_target ) )
+                    return false;
+                continue;
+            }
+
+            if ( !this.recursion( p_variables, l_source, l_target ) )
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * recursive descent on literal
+     *
+     * @param p_variables variables
+     * @param p_source source term
+     * @param p_target target term
+     * @return unification literal
+     */
+    private boolean recursion( @Nonnull final Set<IVariable<?>> p_variables, @Nonnull final ITerm p_source, @Nonnull final ITerm p_target )
+    {
+        if ( !( p_source instanceof ILiteral && p_target instanceof ILiteral ) )
+            return false;
+
+        final ILiteral l_sourceliteral = (ILiteral) p_source;
+        final ILiteral l_targetliteral = (ILiteral) p_target;
+
+        return l_sourceliteral.fqnfunctor().equals( l_targetliteral.fqnfunctor() )
+               && this.unify( p_variables, l_sourceliteral.orderedvaluelist(), l_targetliteral.orderedvaluelist() );
+    }
+
+}
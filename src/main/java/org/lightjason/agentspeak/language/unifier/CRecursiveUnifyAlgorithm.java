@@ -58,6 +58,12 @@ public final class CRecursiveUnifyAlgorithm extends IBaseUnifyAlgorithm
         return this.process( p_variables, l_source, l_target );
     }
 
+    @Override
+    public boolean unify( @Nonnull final Set<IVariable<?>> p_variables, @Nonnull final List<ITerm> p_source, @Nonnull final List<ITerm> p_target )
+    {
+        return this.apply( p_variables, p_source.stream(), p_target.stream() );
+    }
+
     /**
      * process term structure
      *
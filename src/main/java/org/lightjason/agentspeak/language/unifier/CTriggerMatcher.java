@@ -0,0 +1,326 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.unifier;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.IRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.variable.CRelocateMutexVariable;
+import org.lightjason.agentspeak.language.variable.CRelocateVariable;
+import org.lightjason.agentspeak.language.variable.IVariable;
+
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+
+/**
+ * compiled matcher of a plan trigger, the trigger literal is
+ * compiled once into instruction arrays of constant checks and
+ * variable slot bindings, so the unification works without streams
+ * and without a deep-copy of the plan trigger
+ *
+ * @note the matcher follows the hash-based and recursive unification
+ * of the default unifier
+ */
+public final class CTriggerMatcher implements ITriggerMatcher
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -3176330588520416455L;
+    /**
+     * failed result
+     */
+    private static final Pair<Boolean, Set<IVariable<?>>> FAIL = new ImmutablePair<>( false, Collections.emptySet() );
+    /**
+     * structure hash of the trigger literal
+     */
+    private final int m_structurehash;
+    /**
+     * empty-values flag of the trigger literal
+     */
+    private final boolean m_emptyvalues;
+    /**
+     * nested instructions for recursive unification
+     */
+    private final CInstruction[] m_nested;
+    /**
+     * flat instructions for hash-based unification
+     */
+    private final CInstruction[] m_flat;
+    /**
+     * variables of the trigger literal by slot
+     */
+    private final IVariable<?>[] m_slots;
+
+
+    /**
+     * ctor
+     *
+     * @param p_literal trigger literal
+     */
+    private CTriggerMatcher( @Nonnull final ILiteral p_literal )
+    {
+        final Map<IVariable<?>, Integer> l_slots = new LinkedHashMap<>();
+
+        m_structurehash = p_literal.structurehash();
+        m_emptyvalues = p_literal.emptyValues();
+        m_nested = compile( p_literal.orderedvaluelist(), l_slots );
+        m_flat = flatten( Arrays.stream( m_nested ) ).toArray( CInstruction[]::new );
+        m_slots = l_slots.keySet().toArray( IVariable<?>[]::new );
+    }
+
+    /**
+     * compiles a plan trigger
+     *
+     * @param p_trigger plan trigger
+     * @return matcher
+     */
+    @Nonnull
+    public static ITriggerMatcher of( @Nonnull final ITrigger p_trigger )
+    {
+        return new CTriggerMatcher( p_trigger.literal() );
+    }
+
+    @Nonnull
+    @Override
+    public Pair<Boolean, Set<IVariable<?>>> match( @Nonnull final ITrigger p_trigger )
+    {
+        // filter for avoid duplicated instantiation on non-existing values
+        final ILiteral l_literal = p_trigger.literal();
+        if ( l_literal.emptyValues() != m_emptyvalues )
+            return FAIL;
+
+        final IVariable<?>[] l_binding = new IVariable<?>[m_slots.length];
+        if ( !( l_literal.structurehash() == m_structurehash
+                ? this.flat( l_literal.orderedvaluelist(), 0, l_binding ) >= 0
+                : this.nested( l_literal.orderedvaluelist(), m_nested, l_binding ) ) )
+            return FAIL;
+
+        // check for completely unification (of all variables)
+        for ( final IVariable<?> i : l_binding )
+            if ( Objects.isNull( i ) )
+                return FAIL;
+
+        return new ImmutablePair<>( true, new HashSet<>( Arrays.asList( l_binding ) ) );
+    }
+
+    @Override
+    public String toString()
+    {
+        return MessageFormat.format( "{0} / {1}", Arrays.toString( m_nested ), Arrays.toString( m_slots ) );
+    }
+
+    /**
+     * hash-based unification on the flat source structure
+     *
+     * @param p_source source terms
+     * @param p_index current instruction index
+     * @param p_binding variable binding
+     * @return next instruction index or -1 on failure
+     */
+    private int flat( @Nonnull final List<ITerm> p_source, final int p_index, @Nonnull final IVariable<?>[] p_binding )
+    {
+        int l_index = p_index;
+        for ( int i = 0; i < p_source.size() && l_index < m_flat.length; i++ )
+        {
+            final ITerm l_source = p_source.get( i );
+            if ( l_source instanceof ILiteral )
+            {
+                l_index = this.flat( ( (ILiteral) l_source ).orderedvaluelist(), l_index, p_binding );
+                if ( l_index < 0 )
+                    return -1;
+                continue;
+            }
+
+            final CInstruction l_instruction = m_flat[l_index++];
+            if ( l_instruction.m_slot >= 0 )
+                this.bind( l_instruction.m_slot, l_source, p_binding );
+            else if ( !l_source.equals( l_instruction.m_term ) )
+                return -1;
+        }
+
+        return l_index;
+    }
+
+    /**
+     * recursive unification on the nested source structure
+     *
+     * @param p_source source terms
+     * @param p_target target instructions
+     * @param p_binding variable binding
+     * @return successful unification
+     */
+    private boolean nested( @Nonnull final List<ITerm> p_source, @Nonnull final CInstruction[] p_target, @Nonnull final IVariable<?>[] p_binding )
+    {
+        if ( p_source.isEmpty() || p_target.length == 0 )
+            return true;
+
+        if ( p_source.size() != p_target.length )
+            return false;
+
+        for ( int i = 0; i < p_target.length; i++ )
+        {
+            final ITerm l_source = p_source.get( i );
+            final CInstruction l_target = p_target[i];
+
+            if ( l_target.m_slot >= 0 )
+                this.bind( l_target.m_slot, l_source, p_binding );
+
+            // if both raw values -> equality check
+            else if ( l_source instanceof IRawTerm<?> || l_target.m_term instanceof IRawTerm<?> )
+            {
+                if ( !l_source.equals( l_target.m_term ) )
+                    return false;
+            }
+
+            // recursive descent on literal
+            else if ( !( l_source instanceof ILiteral
+                         && l_target.m_term instanceof ILiteral
+                         && l_source.fqnfunctor().equals( l_target.m_term.fqnfunctor() )
+                         && this.nested( ( (ILiteral) l_source ).orderedvaluelist(), l_target.m_children, p_binding ) ) )
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * binds a source term to a variable slot, the first binding
+     * of a variable is used
+     *
+     * @param p_slot slot index
+     * @param p_source source term
+     * @param p_binding variable binding
+     */
+    private void bind( final int p_slot, @Nonnull final ITerm p_source, @Nonnull final IVariable<?>[] p_binding )
+    {
+        if ( Objects.nonNull( p_binding[p_slot] ) )
+            return;
+
+        final IVariable<?> l_variable = m_slots[p_slot];
+
+        // if source and target are variables create a realocated variable for backtracking
+        if ( p_source instanceof IVariable<?> )
+            p_binding[p_slot] = l_variable.mutex()
+                                ? new CRelocateMutexVariable<>( l_variable.fqnfunctor(), p_source.term() )
+                                : new CRelocateVariable<>( l_variable.fqnfunctor(), p_source.term() );
+        else
+            p_binding[p_slot] = l_variable.deepcopy().<IVariable<Object>>term().set( p_source );
+    }
+
+    /**
+     * compiles terms into instructions
+     *
+     * @param p_terms terms
+     * @param p_slots variable slots
+     * @return instruction array
+     */
+    @Nonnull
+    private static CInstruction[] compile( @Nonnull final List<ITerm> p_terms, @Nonnull final Map<IVariable<?>, Integer> p_slots )
+    {
+        final CInstruction[] l_instructions = new CInstruction[p_terms.size()];
+        for ( int i = 0; i < l_instructions.length; i++ )
+        {
+            final ITerm l_term = p_terms.get( i );
+
+            if ( l_term instanceof IVariable<?> )
+                l_instructions[i] = new CInstruction( l_term, p_slots.computeIfAbsent( (IVariable<?>) l_term, j -> p_slots.size() ), null );
+            else if ( l_term instanceof ILiteral )
+                l_instructions[i] = new CInstruction( l_term, -1, compile( ( (ILiteral) l_term ).orderedvaluelist(), p_slots ) );
+            else
+                l_instructions[i] = new CInstruction( l_term, -1, null );
+        }
+        return l_instructions;
+    }
+
+    /**
+     * flats the instruction tree into leaf instructions
+     *
+     * @param p_instructions instructions
+     * @return leaf instructions
+     */
+    @Nonnull
+    private static Stream<CInstruction> flatten( @Nonnull final Stream<CInstruction> p_instructions )
+    {
+        return p_instructions.flatMap( i -> i.m_term instanceof ILiteral ? flatten( Arrays.stream( i.m_children ) ) : Stream.of( i ) );
+    }
+
+
+    /**
+     * instruction of a single term
+     */
+    private static final class CInstruction implements Serializable
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 4212539473417498812L;
+        /**
+         * term of the trigger literal
+         */
+        private final ITerm m_term;
+        /**
+         * variable slot or -1 on constant checks
+         */
+        private final int m_slot;
+        /**
+         * instructions of literal values
+         */
+        private final CInstruction[] m_children;
+
+        /**
+         * ctor
+         *
+         * @param p_term term
+         * @param p_slot variable slot
+         * @param p_children instructions of literal values
+         */
+        CInstruction( @Nonnull final ITerm p_term, final int p_slot, final CInstruction[] p_children )
+        {
+            m_term = p_term;
+            m_slot = p_slot;
+            m_children = p_children;
+        }
+
+        @Override
+        public String toString()
+        {
+            return m_slot < 0 ? m_term.toString() : MessageFormat.format( "{0}#{1}", m_term, m_slot );
+        }
+    }
+}
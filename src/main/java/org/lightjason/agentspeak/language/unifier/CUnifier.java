@@ -23,6 +23,7 @@
 
 package org.lightjason.agentspeak.language.unifier;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.lightjason.agentspeak.agent.IAgent;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.ILiteral;
@@ -30,6 +31,8 @@ import org.lightjason.agentspeak.language.IRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.execution.IExecution;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.trigger.ITrigger;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import org.lightjason.agentspeak.language.variable.IVariable;
 
@@ -57,6 +60,10 @@ public final class CUnifier implements IUnifier
      * recursive unifier algorithm
      */
     private final IUnifyAlgorithm m_recursive;
+    /**
+     * flag that the compiled trigger matcher of a plan can be used
+     */
+    private final boolean m_compiledtrigger;
 
     /**
      * ctor
@@ -76,6 +83,8 @@ public final class CUnifier implements IUnifier
     {
         m_hashbased = p_hashbased;
         m_recursive = p_recursive;
+        m_compiledtrigger = ( p_hashbased instanceof CHashUnifyAlgorithm || p_hashbased instanceof CHashArrayUnifyAlgorithm )
+                            && ( p_recursive instanceof CRecursiveUnifyAlgorithm || p_recursive instanceof CRecursiveArrayUnifyAlgorithm );
     }
 
     // --- inheritance & context modification ------------------------------------------------------------------------------------------------------------------
@@ -89,16 +98,8 @@ public final class CUnifier implements IUnifier
         // try to unifier exact or if not possible by recursive on the value set
         if ( !(
             p_target.structurehash() == p_source.structurehash()
-            ? m_hashbased.apply(
-                l_result,
-                CCommon.flattenrecursive( p_source.orderedvalues() ),
-                CCommon.flattenrecursive( p_target.orderedvalues() )
-            )
-            : m_recursive.apply(
-                l_result,
-                p_source.orderedvalues(),
-                p_target.orderedvalues()
-            ) ) )
+            ? m_hashbased.unify( l_result, p_source.orderedvaluelist(), p_target.orderedvaluelist() )
+            : m_recursive.unify( l_result, p_source.orderedvaluelist(), p_target.orderedvaluelist() ) ) )
             return Collections.emptySet();
 
         return l_result;
@@ -128,6 +129,15 @@ public final class CUnifier implements IUnifier
         return p_context.agent().fuzzy().membership().success();
     }
 
+    @Nonnull
+    @Override
+    public Pair<Boolean, Set<IVariable<?>>> unifytrigger( @Nonnull final ITrigger p_source, @Nonnull final IPlan p_plan )
+    {
+        return m_compiledtrigger
+               ? p_plan.matcher().match( p_source )
+               : IUnifier.super.unifytrigger( p_source, p_plan );
+    }
+
     // ---------------------------------------------------------------------------------------------------------------------------------------------------------
 
     @Override
@@ -193,7 +203,7 @@ public final class CUnifier implements IUnifier
     private List<Set<IVariable<?>>> variables( final IAgent<?> p_agent, final ILiteral p_literal, final long p_variablenumber )
     {
         return p_agent.beliefbase()
-                      .stream( p_literal.negated(), p_literal.fqnfunctor() )
+                      .query( p_literal )
                       .filter( i -> i.emptyValues() == p_literal.emptyValues() )
                       .map( i -> this.unify( i, Objects.requireNonNull( p_literal.deepcopy().<ILiteral>raw() ) ) )
                       .filter( i -> p_variablenumber == i.size() )
@@ -0,0 +1,72 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.unifier;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.variable.IVariable;
+
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.Set;
+
+
+/**
+ * matcher of a plan trigger, which unifies an incoming
+ * trigger against the precompiled trigger of a plan
+ */
+public interface ITriggerMatcher extends Serializable
+{
+    /**
+     * empty matcher
+     */
+    ITriggerMatcher EMPTY = new ITriggerMatcher()
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 2950466404722475196L;
+
+        @Nonnull
+        @Override
+        public Pair<Boolean, Set<IVariable<?>>> match( @Nonnull final ITrigger p_trigger )
+        {
+            return new ImmutablePair<>( false, Collections.emptySet() );
+        }
+    };
+
+    /**
+     * unifies the trigger
+     *
+     * @param p_trigger incoming trigger (with data)
+     * @return pair of successful unification and the set of allocated variables
+     *
+     * @note the result is equal to CCommon.unifytrigger with the default unifier
+     */
+    @Nonnull
+    Pair<Boolean, Set<IVariable<?>>> match( @Nonnull final ITrigger p_trigger );
+
+}
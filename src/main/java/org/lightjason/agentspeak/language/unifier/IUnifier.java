@@ -23,9 +23,13 @@
 
 package org.lightjason.agentspeak.language.unifier;
 
+import org.apache.commons.lang3.tuple.Pair;
+import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.execution.IExecution;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.trigger.ITrigger;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import org.lightjason.agentspeak.language.variable.IVariable;
 
@@ -90,4 +94,17 @@ public interface IUnifier
                                   @Nonnull final IExecution p_expression, final boolean p_parallel
     );
 
+    /**
+     * unifies a trigger with the trigger of a plan
+     *
+     * @param p_source source trigger (with data)
+     * @param p_plan plan
+     * @return pair of successful unification and the set of allocated variables
+     */
+    @Nonnull
+    default Pair<Boolean, Set<IVariable<?>>> unifytrigger( @Nonnull final ITrigger p_source, @Nonnull final IPlan p_plan )
+    {
+        return CCommon.unifytrigger( this, p_source, p_plan.trigger() );
+    }
+
 }
@@ -27,6 +27,8 @@ import com.codepoetics.protonpack.functions.TriFunction;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.variable.IVariable;
 
+import javax.annotation.Nonnull;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -36,4 +38,17 @@ import java.util.stream.Stream;
  */
 interface IUnifyAlgorithm extends TriFunction<Set<IVariable<?>>, Stream<ITerm>, Stream<ITerm>, Boolean>
 {
+
+    /**
+     * unifies the ordered values of two literals
+     *
+     * @param p_variables output variables
+     * @param p_source ordered values of the source literal
+     * @param p_target ordered values of the target literal
+     * @return successful unification
+     *
+     * @note the values are not flattened, so the algorithm defines the structure handling
+     */
+    boolean unify( @Nonnull Set<IVariable<?>> p_variables, @Nonnull List<ITerm> p_source, @Nonnull List<ITerm> p_target );
+
 }
@@ -208,7 +208,8 @@ public abstract class IBaseVariable<T> implements IVariable<T>
     @Override
     public final boolean equals( final Object p_object )
     {
-        return p_object instanceof IVariable<?> && this.hashCode() == p_object.hashCode();
+        return this == p_object
+               || p_object instanceof IVariable<?> && this.hashCode() == p_object.hashCode() && m_functor.equals( ( (IVariable<?>) p_object ).fqnfunctor() );
     }
 
     @Override
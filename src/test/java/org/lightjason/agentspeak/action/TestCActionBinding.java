@@ -38,15 +38,25 @@ import org.lightjason.agentspeak.generator.IBaseAgentGenerator;
 import org.lightjason.agentspeak.generator.ILambdaStreamingGenerator;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.CContext;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.IPlan;
 import org.lightjason.agentspeak.testing.IBaseTest;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -216,6 +226,62 @@ public final class TestCActionBinding extends IBaseTest
         Assert.assertEquals( l_return.get( 0 ), l_return.get( 1 ) );
     }
 
+    /**
+     * benchmark of the arity binding against the
+     * generic method handle invocation
+     *
+     * @throws Throwable on invocation error
+     */
+    @Test
+    public void aritybinding() throws Throwable
+    {
+        final int l_iteration = 100000;
+        final IAgent<?> l_agent = new CArityBindingGenerator().generatesingle();
+        final IContext l_context = new CContext( l_agent, IPlan.EMPTY, Collections.emptyList() );
+        final Map<String, IAction> l_actions = CCommon.actionsFromAgentClass( CArityBinding.class )
+                                                      .collect( Collectors.toMap( i -> i.name().toString(), i -> i ) );
+
+        for ( final int l_arity : new int[]{0, 1, 3, 6} )
+        {
+            final String l_name = "arity" + l_arity;
+            final IAction l_action = l_actions.get( l_name );
+            final List<ITerm> l_arguments = IntStream.range( 0, l_arity ).mapToObj( CRawTerm::of ).collect( Collectors.toList() );
+
+            final Method l_method = Arrays.stream( CArityBinding.class.getDeclaredMethods() )
+                                          .filter( i -> l_name.equals( i.getName() ) )
+                                          .findFirst()
+                                          .orElseThrow();
+            l_method.setAccessible( true );
+            final MethodHandle l_handle = MethodHandles.lookup().unreflect( l_method );
+
+            final List<ITerm> l_return = new ArrayList<>();
+            Assert.assertEquals( 0, l_action.execute( false, l_context, l_arguments, l_return ).count() );
+            Assert.assertEquals(
+                l_handle.invokeWithArguments( Stream.concat( Stream.of( l_agent ), l_arguments.stream().map( ITerm::raw ) ).collect( Collectors.toList() ) ),
+                l_return.get( 0 ).raw()
+            );
+
+            final long l_generic = System.nanoTime();
+            for ( int i = 0; i < l_iteration; i++ )
+                l_handle.invokeWithArguments( Stream.concat( Stream.of( l_agent ), l_arguments.stream().map( ITerm::raw ) ).collect( Collectors.toList() ) );
+            final long l_generictime = System.nanoTime() - l_generic;
+
+            final long l_bound = System.nanoTime();
+            for ( int i = 0; i < l_iteration; i++ )
+            {
+                l_return.clear();
+                l_action.execute( false, l_context, l_arguments, l_return );
+            }
+            final long l_boundtime = System.nanoTime() - l_bound;
+
+            if ( PRINTENABLE )
+                System.out.println( MessageFormat.format(
+                    "method with {0} arguments: generic invocation {1} ns/op / arity binding {2} ns/op",
+                    l_arity, l_generictime / l_iteration, l_boundtime / l_iteration
+                ) );
+        }
+    }
+
     // ---------------------------------------------------------------------------------------------------------------------------------------------------------
 
 
@@ -302,6 +368,101 @@ public final class TestCActionBinding extends IBaseTest
         }
     }
 
+    /**
+     * arity binding agent generator
+     */
+    private static class CArityBindingGenerator extends IBaseAgentGenerator<CArityBinding>
+    {
+        /**
+         * ctor
+         *
+         * @throws Exception on any error
+         */
+        CArityBindingGenerator() throws Exception
+        {
+            super( InputStream.nullInputStream(), IActionGenerator.EMPTY, ILambdaStreamingGenerator.EMPTY );
+        }
+
+        @Nonnull
+        @Override
+        public CArityBinding generatesingle( @Nullable final Object... p_data )
+        {
+            return new CArityBinding( m_configuration );
+        }
+    }
+
+    /**
+     * test class with methods of different arity
+     */
+    @IAgentAction( access = IAgentAction.EAccess.WHITELIST )
+    private static final class CArityBinding extends IBaseAgent<CArityBinding>
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 4413052183396606126L;
+
+        /**
+         * ctor
+         *
+         * @param p_configuration agent configuration
+         */
+        CArityBinding( final IAgentConfiguration<CArityBinding> p_configuration )
+        {
+            super( p_configuration );
+        }
+
+        /**
+         * method without arguments
+         *
+         * @return int value
+         */
+        private int arity0()
+        {
+            return 0;
+        }
+
+        /**
+         * method with one argument
+         *
+         * @param p_first first value
+         * @return int value
+         */
+        private int arity1( final int p_first )
+        {
+            return p_first;
+        }
+
+        /**
+         * method with three arguments
+         *
+         * @param p_first first value
+         * @param p_second second value
+         * @param p_third third value
+         * @return int value
+         */
+        private int arity3( final int p_first, final int p_second, final int p_third )
+        {
+            return p_first + p_second + p_third;
+        }
+
+        /**
+         * method with six arguments
+         *
+         * @param p_first first value
+         * @param p_second second value
+         * @param p_third third value
+         * @param p_fourth fourth value
+         * @param p_fifth fifth value
+         * @param p_sixth sixth value
+         * @return int value
+         */
+        private int arity6( final int p_first, final int p_second, final int p_third, final int p_fourth, final int p_fifth, final int p_sixth )
+        {
+            return p_first + p_second + p_third + p_fourth + p_fifth + p_sixth;
+        }
+    }
+
     /**
      * test class with whitelist binding
      */
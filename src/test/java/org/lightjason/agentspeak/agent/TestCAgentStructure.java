@@ -332,6 +332,7 @@ public final class TestCAgentStructure extends IBaseTest
         Assert.assertTrue( IAgent.EMPTY.rules().isEmpty() );
         Assert.assertTrue( IAgent.EMPTY.plans().isEmpty() );
         Assert.assertTrue( IAgent.EMPTY.runningplans().isEmpty() );
+        Assert.assertFalse( IAgent.EMPTY.runningplan( CPath.of( "foo" ) ) );
         Assert.assertTrue( IAgent.EMPTY.storage().isEmpty() );
 
         IAgent.EMPTY.sleep( 10 );
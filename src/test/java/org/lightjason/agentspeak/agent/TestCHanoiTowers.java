@@ -41,6 +41,8 @@ import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.execution.IVariableBuilder;
 import org.lightjason.agentspeak.language.execution.instantiable.IInstantiable;
+import org.lightjason.agentspeak.language.execution.policy.CExecutionPolicy;
+import org.lightjason.agentspeak.language.execution.policy.IExecutionPolicy;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import org.lightjason.agentspeak.language.variable.CConstant;
 import org.lightjason.agentspeak.language.variable.IVariable;
@@ -79,6 +81,10 @@ public final class TestCHanoiTowers extends IBaseTest
      * action fail probability
      */
     private static final double FAILPROBABILITY = 0.1;
+    /**
+     * number of games of the benchmark
+     */
+    private static final int ROUNDS = 25;
     /**
      * agent map
      */
@@ -118,7 +124,7 @@ public final class TestCHanoiTowers extends IBaseTest
     {
         this.setup(
             1, 3, 3,
-            this.getClass().getClassLoader().getResource( "hanoi.asl" ).getPath(), Stream.empty() );
+            this.getClass().getClassLoader().getResource( "hanoi.asl" ).getPath(), Stream.empty(), CExecutionPolicy.DEFAULT );
     }
 
 
@@ -133,6 +139,48 @@ public final class TestCHanoiTowers extends IBaseTest
         this.execute();
     }
 
+    /**
+     * benchmark of interpreted and compiled agents
+     *
+     * @throws Exception is thrown on execute error
+     */
+    @Test
+    public void compilebenchmark() throws Exception
+    {
+        final long l_interpreted = this.benchmark( CExecutionPolicy.DEFAULT );
+        final long l_compiled = this.benchmark( CExecutionPolicy.of( CExecutionPolicy.THRESHOLD, null, 1 ) );
+
+        if ( PRINTENABLE )
+            System.out.println( MessageFormat.format(
+                "hanoi.asl with {0} games: interpreted {1} ms, compiled {2} ms, ratio {3}",
+                ROUNDS, l_interpreted / 1000000.0, l_compiled / 1000000.0, (double) l_interpreted / l_compiled
+            ) );
+    }
+
+
+    /**
+     * plays the games of the benchmark
+     *
+     * @param p_policy execution policy
+     * @return playing time in nanoseconds
+     * @throws Exception thrown on initialize error
+     */
+    private long benchmark( @Nonnull final IExecutionPolicy p_policy ) throws Exception
+    {
+        long l_time = 0;
+        for ( int i = 0; i < ROUNDS; i++ )
+        {
+            this.setup(
+                1, 3, 3,
+                this.getClass().getClassLoader().getResource( "hanoi.asl" ).getPath(), Stream.empty(), p_policy );
+
+            final long l_start = System.nanoTime();
+            this.execute();
+            l_time += System.nanoTime() - l_start;
+        }
+        return l_time;
+    }
+
 
     /**
      * initialize call
@@ -141,10 +189,11 @@ public final class TestCHanoiTowers extends IBaseTest
      * @param p_slicenumber number of slices
      * @param p_asl asl file
      * @param p_action action stream
+     * @param p_policy execution policy
      * @throws Exception thrown on initialize error
      */
     private void setup( final int p_agentnumber, final long p_towernumber, final long p_slicenumber,
-                        final String p_asl, final Stream<IAction> p_action ) throws Exception
+                        final String p_asl, final Stream<IAction> p_action, final IExecutionPolicy p_policy ) throws Exception
     {
         m_towernumber = p_towernumber;
         m_slicenumber = p_slicenumber;
@@ -168,7 +217,7 @@ public final class TestCHanoiTowers extends IBaseTest
                 final InputStream l_asl = new FileInputStream( p_asl )
             )
         {
-            final CGenerator l_generator = new CGenerator( l_asl, p_action );
+            final CGenerator l_generator = new CGenerator( l_asl, p_action, p_policy );
             IntStream.range( 0, p_agentnumber )
                       .forEach( i -> l_agentmap.put( i, l_generator.generatesingle( i ) ) );
         }
@@ -254,9 +303,10 @@ public final class TestCHanoiTowers extends IBaseTest
          *
          * @param p_stream asl stream
          * @param p_action stream of action
+         * @param p_policy execution policy
          * @throws Exception on any error
          */
-        CGenerator( final InputStream p_stream, final Stream<IAction> p_action ) throws Exception
+        CGenerator( final InputStream p_stream, final Stream<IAction> p_action, final IExecutionPolicy p_policy ) throws Exception
         {
             super(
                 p_stream,
@@ -277,6 +327,7 @@ public final class TestCHanoiTowers extends IBaseTest
                     )
                 ),
                 ILambdaStreamingGenerator.EMPTY,
+                Collections.emptySet(),
                 new IVariableBuilder()
                 {
                     @Override
@@ -290,7 +341,8 @@ public final class TestCHanoiTowers extends IBaseTest
                             new CConstant<>( "SliceCount", TestCHanoiTowers.this.m_slicenumber )
                         );
                     }
-                }
+                },
+                p_policy
             );
         }
 
@@ -0,0 +1,165 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.agent;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.Multimap;
+import com.google.common.collect.Multimaps;
+import org.junit.Assert;
+import org.junit.Test;
+import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.execution.CContext;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.testing.IBaseTest;
+
+import javax.annotation.Nonnull;
+import java.lang.ref.WeakReference;
+import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+
+/**
+ * test running plan registry
+ */
+public final class TestCRunningPlans extends IBaseTest
+{
+
+    /**
+     * test membership and epoch reset
+     */
+    @Test
+    public void epoch()
+    {
+        final CRunningPlans l_plans = new CRunningPlans();
+        final ILiteral l_foo = CLiteral.of( "foo" );
+        final ILiteral l_bar = CLiteral.of( "bar/baz" );
+
+        l_plans.put( l_foo.fqnfunctor(), l_foo, IContext.EMPTYPLAN );
+        l_plans.put( l_foo.fqnfunctor(), l_foo, IContext.EMPTYPLAN );
+        l_plans.put( l_bar.fqnfunctor(), l_bar, IContext.EMPTYPLAN );
+
+        Assert.assertTrue( l_plans.contains( CPath.of( "foo" ) ) );
+        Assert.assertTrue( l_plans.contains( CPath.of( "bar/baz" ) ) );
+        Assert.assertFalse( l_plans.contains( CPath.of( "bar" ) ) );
+        Assert.assertEquals( 2, l_plans.literals().count() );
+        Assert.assertEquals( 2, l_plans.multimap().size() );
+
+        l_plans.reset();
+        Assert.assertFalse( l_plans.contains( CPath.of( "foo" ) ) );
+        Assert.assertEquals( 0, l_plans.paths().count() );
+        Assert.assertTrue( l_plans.multimap().isEmpty() );
+
+        l_plans.put( l_bar.fqnfunctor(), l_bar, IContext.EMPTYPLAN );
+        Assert.assertFalse( l_plans.contains( CPath.of( "foo" ) ) );
+        Assert.assertTrue( l_plans.contains( CPath.of( "bar/baz" ) ) );
+        Assert.assertEquals( 1, l_plans.multimap().get( CPath.of( "bar/baz" ) ).size() );
+    }
+
+    /**
+     * test releasing the contexts of an older epoch
+     *
+     * @throws InterruptedException on sleeping interrupt
+     */
+    @Test
+    public void release() throws InterruptedException
+    {
+        final CRunningPlans l_plans = new CRunningPlans();
+        final ILiteral l_foo = CLiteral.of( "foo" );
+
+        final WeakReference<IContext> l_reference = put( l_plans, l_foo );
+
+        l_plans.reset();
+        for ( int i = 0; i < 10 && Objects.nonNull( l_reference.get() ); i++ )
+        {
+            System.gc();
+            Thread.sleep( 10 );
+        }
+
+        Assert.assertNull( l_reference.get() );
+        Assert.assertFalse( l_plans.contains( l_foo.fqnfunctor() ) );
+    }
+
+    /**
+     * adds a running plan with a new context
+     *
+     * @param p_plans running plans
+     * @param p_literal literal
+     * @return weak reference of the context
+     */
+    private static WeakReference<IContext> put( @Nonnull final CRunningPlans p_plans, @Nonnull final ILiteral p_literal )
+    {
+        final IContext l_context = new CContext( IAgent.EMPTY, IPlan.EMPTY, Collections.emptyList() );
+        p_plans.put( p_literal.fqnfunctor(), p_literal, l_context );
+        return new WeakReference<>( l_context );
+    }
+
+    /**
+     * benchmark of test-goal lookup with multimap copy
+     * and with the registry
+     */
+    @Test
+    public void lookup()
+    {
+        final int l_size = 250;
+        final int l_iteration = 10000;
+        final IPath l_path = CPath.of( "plan/" + ( l_size - 1 ) );
+
+        final Multimap<IPath, ILiteral> l_multimap = Multimaps.synchronizedSetMultimap( HashMultimap.create() );
+        final CRunningPlans l_plans = new CRunningPlans();
+
+        IntStream.range( 0, l_size )
+                 .mapToObj( i -> CLiteral.of( "plan/" + i ) )
+                 .collect( Collectors.toList() )
+                 .forEach( i ->
+                 {
+                     l_multimap.put( i.fqnfunctor(), i );
+                     l_plans.put( i.fqnfunctor(), i, IContext.EMPTYPLAN );
+                 } );
+
+        final long l_copy = System.nanoTime();
+        for ( int i = 0; i < l_iteration; i++ )
+            Assert.assertTrue( ImmutableMultimap.copyOf( l_multimap ).keySet().contains( l_path ) );
+        final long l_copytime = System.nanoTime() - l_copy;
+
+        final long l_registry = System.nanoTime();
+        for ( int i = 0; i < l_iteration; i++ )
+            Assert.assertTrue( l_plans.contains( l_path ) );
+        final long l_registrytime = System.nanoTime() - l_registry;
+
+        if ( PRINTENABLE )
+            System.out.println( MessageFormat.format(
+                "test-goal lookup with {0} running plans: multimap copy {1} ms / registry {2} ms",
+                l_size, l_copytime / 1000000.0, l_registrytime / 1000000.0
+            ) );
+    }
+
+}
@@ -0,0 +1,167 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.agent.scheduler;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.testing.IBaseTest;
+
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+
+/**
+ * test scheduler
+ */
+public final class TestCScheduler extends IBaseTest
+{
+
+    /**
+     * test population execution
+     *
+     * @throws IOException parsing error
+     */
+    @Test
+    public void population() throws IOException
+    {
+        final IScheduler l_scheduler = new CScheduler().add(
+            new CAgentGenerator().generatemultiple( 10 ).collect( Collectors.toList() ).toArray( IAgent<?>[]::new )
+        );
+
+        Assert.assertEquals( 10, l_scheduler.population().count() );
+        Assert.assertEquals( 10, l_scheduler.active().count() );
+
+        final ITickStatistic l_statistic = l_scheduler.tick();
+        Assert.assertEquals( 1, l_statistic.tick() );
+        Assert.assertEquals( 10, l_statistic.population() );
+        Assert.assertEquals( 10, l_statistic.executed() );
+        Assert.assertEquals( 0, l_statistic.idle() );
+        Assert.assertEquals( 0, l_statistic.failed() );
+        Assert.assertEquals( l_statistic, l_scheduler.statistic() );
+    }
+
+    /**
+     * test parking of sleeping agents
+     *
+     * @throws IOException parsing error
+     */
+    @Test
+    public void parking() throws IOException
+    {
+        final IAgent<?> l_sleeping = new CAgentGenerator( "+!wakeup <- success." ).generatesingle();
+        final IAgent<?> l_active = new CAgentGenerator().generatesingle();
+        final IScheduler l_scheduler = new CScheduler( ForkJoinPool.commonPool(), true ).add( l_sleeping, l_active );
+
+        l_sleeping.sleep( Long.MAX_VALUE );
+        Assert.assertTrue( l_scheduler.parking() );
+        Assert.assertFalse( l_sleeping.runnable() );
+
+        Assert.assertEquals( 2, l_scheduler.tick().executed() );
+        Assert.assertEquals( 1, l_scheduler.active().count() );
+
+        final ITickStatistic l_statistic = l_scheduler.tick();
+        Assert.assertEquals( 1, l_statistic.executed() );
+        Assert.assertEquals( 1, l_statistic.idle() );
+
+        l_sleeping.wakeup();
+        Assert.assertTrue( l_sleeping.runnable() );
+        Assert.assertEquals( 2, l_scheduler.active().count() );
+        Assert.assertEquals( 2, l_scheduler.tick().executed() );
+    }
+
+    /**
+     * test sleeping agents are executed without parking
+     *
+     * @throws IOException parsing error
+     */
+    @Test
+    public void sleeping() throws IOException
+    {
+        final IAgent<?> l_sleeping = new CAgentGenerator( "+!wakeup <- success." ).generatesingle();
+        final IScheduler l_scheduler = new CScheduler().add( l_sleeping, new CAgentGenerator().generatesingle() );
+
+        l_sleeping.sleep( Long.MAX_VALUE );
+        Assert.assertFalse( l_scheduler.parking() );
+
+        Assert.assertEquals( 2, l_scheduler.tick().executed() );
+        Assert.assertEquals( 2, l_scheduler.active().count() );
+        Assert.assertEquals( 2, l_scheduler.tick().executed() );
+    }
+
+    /**
+     * test finite sleeping agents stay runnable
+     *
+     * @throws IOException parsing error
+     */
+    @Test
+    public void finitesleeping() throws IOException
+    {
+        final IAgent<?> l_agent = new CAgentGenerator( "+!wakeup <- success." ).generatesingle();
+        final IScheduler l_scheduler = new CScheduler().add( l_agent );
+
+        l_agent.sleep( 2 );
+        Assert.assertTrue( l_agent.runnable() );
+
+        l_scheduler.tick();
+        Assert.assertTrue( l_agent.sleeping() );
+        l_scheduler.tick();
+        Assert.assertFalse( l_agent.sleeping() );
+        Assert.assertEquals( 1, l_scheduler.active().count() );
+    }
+
+    /**
+     * test removing agents
+     *
+     * @throws IOException parsing error
+     */
+    @Test
+    public void remove() throws IOException
+    {
+        final IAgent<?> l_agent = new CAgentGenerator().generatesingle();
+        final IScheduler l_scheduler = new CScheduler().add( l_agent );
+
+        l_scheduler.remove( l_agent );
+        Assert.assertEquals( 0, l_scheduler.population().count() );
+        Assert.assertEquals( 0, l_scheduler.tick().executed() );
+
+        l_agent.sleep( Long.MAX_VALUE );
+        l_agent.wakeup();
+        Assert.assertEquals( 0, l_scheduler.active().count() );
+    }
+
+    /**
+     * test empty scheduler
+     */
+    @Test
+    public void empty()
+    {
+        Assert.assertEquals( 0, IScheduler.EMPTY.add( IAgent.EMPTY ).population().count() );
+        Assert.assertEquals( ITickStatistic.EMPTY, IScheduler.EMPTY.tick() );
+        Assert.assertFalse( IScheduler.EMPTY.parking() );
+        Assert.assertFalse( IAgent.EMPTY.runnable() );
+    }
+
+}
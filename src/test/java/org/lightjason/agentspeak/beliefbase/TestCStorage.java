@@ -23,21 +23,35 @@
 
 package org.lightjason.agentspeak.beliefbase;
 
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
 import org.junit.Assert;
 import org.junit.Test;
 import org.lightjason.agentspeak.beliefbase.storage.CClassStorage;
+import org.lightjason.agentspeak.beliefbase.storage.CConcurrentStorage;
+import org.lightjason.agentspeak.beliefbase.storage.CIndexStorage;
 import org.lightjason.agentspeak.beliefbase.storage.CMultiStorage;
+import org.lightjason.agentspeak.beliefbase.storage.COverlayStorage;
 import org.lightjason.agentspeak.beliefbase.storage.CSingleOnlyStorage;
 import org.lightjason.agentspeak.beliefbase.storage.CSingleStorage;
 import org.lightjason.agentspeak.beliefbase.storage.IStorage;
 import org.lightjason.agentspeak.beliefbase.view.CView;
 import org.lightjason.agentspeak.beliefbase.view.IView;
+import org.lightjason.agentspeak.common.CPath;
 import org.lightjason.agentspeak.language.CLiteral;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.variable.CVariable;
 import org.lightjason.agentspeak.testing.IBaseTest;
 
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -266,6 +280,281 @@ public final class TestCStorage extends IBaseTest
     }
 
 
+    /**
+     * test overlay-storage on a shared layer
+     */
+    @Test
+    public void overlaystorageaccess()
+    {
+        final ILiteral l_base = CLiteral.of( "foo", CRawTerm.of( 1 ) );
+        final IStorage<ILiteral, IView> l_layer = new CIndexStorage<>();
+        l_layer.putmulti( l_base.functor(), l_base );
+
+        final IStorage<ILiteral, IView> l_first = new COverlayStorage<>( l_layer );
+        final IStorage<ILiteral, IView> l_second = new COverlayStorage<>( l_layer );
+
+        Assert.assertEquals( 1, l_first.size() );
+        Assert.assertTrue( l_first.containsmulti( l_base.functor() ) );
+        Assert.assertFalse( l_first.putmulti( l_base.functor(), l_base ) );
+
+        final ILiteral l_literal = CLiteral.of( "foo", CRawTerm.of( 2 ) );
+        Assert.assertTrue( l_first.putmulti( l_literal.functor(), l_literal ) );
+        Assert.assertTrue( l_first.removemulti( l_base.functor(), l_base ) );
+        Assert.assertFalse( l_first.removemulti( l_base.functor(), l_base ) );
+
+        Assert.assertArrayEquals( Stream.of( l_literal ).toArray(), l_first.streammulti().toArray() );
+        Assert.assertArrayEquals( Stream.of( l_literal ).toArray(), l_first.multi( l_literal.functor() ).toArray() );
+        Assert.assertArrayEquals( Stream.of( l_base ).toArray(), l_second.streammulti().toArray() );
+
+        Assert.assertTrue( l_first.putmulti( l_base.functor(), l_base ) );
+        Assert.assertEquals( 2, l_first.size() );
+        Assert.assertTrue( l_first.clear().isempty() );
+        Assert.assertFalse( l_second.isempty() );
+    }
+
+    /**
+     * test overlay-storage query on the index of the shared layer
+     */
+    @Test
+    public void overlaystoragequery()
+    {
+        final IStorage<ILiteral, IView> l_layer = new CIndexStorage<>();
+        IntStream.range( 0, 100 ).forEach( i -> IntStream.range( 0, 10 ).mapToObj( j -> CLiteral.of( "pos", CRawTerm.of( i ), CRawTerm.of( j ) ) )
+                                                          .forEach( j -> l_layer.putmulti( j.functor(), j ) ) );
+
+        final IStorage<ILiteral, IView> l_storage = new COverlayStorage<>( l_layer, new CIndexStorage<>() );
+        final ILiteral l_query = CLiteral.of( "pos", CRawTerm.of( 3 ), new CVariable<>( "Y" ) );
+        Assert.assertEquals( 10, l_storage.query( "pos", l_query ).count() );
+
+        Assert.assertTrue( l_storage.removemulti( "pos", CLiteral.of( "pos", CRawTerm.of( 3 ), CRawTerm.of( 0 ) ) ) );
+        Assert.assertTrue( l_storage.putmulti( "pos", CLiteral.of( "pos", CRawTerm.of( 3 ), CRawTerm.of( 10 ) ) ) );
+        Assert.assertTrue( l_storage.putmulti( "pos", CLiteral.of( "pos", CRawTerm.of( 4 ), CRawTerm.of( 10 ) ) ) );
+
+        Assert.assertEquals( 10, l_storage.query( "pos", l_query ).count() );
+        Assert.assertTrue( l_storage.query( "pos", l_query ).allMatch( i -> i.orderedvalues().findFirst().orElseThrow().<Number>raw().intValue() == 3 ) );
+        Assert.assertEquals( 1000, l_layer.size() );
+    }
+
+    /**
+     * test insertion order of the index-storage
+     */
+    @Test
+    public void indexstorageorder()
+    {
+        final IStorage<ILiteral, IView> l_storage = new CIndexStorage<>();
+        final ILiteral[] l_literals = Stream.of(
+            CLiteral.of( "order", CRawTerm.of( 1 ), CRawTerm.of( 5 ) ),
+            CLiteral.of( "order", new CVariable<>( "X" ), CRawTerm.of( 1 ) ),
+            CLiteral.of( "order", CRawTerm.of( 1 ), CRawTerm.of( 2 ) ),
+            CLiteral.of( "order", CRawTerm.of( 2 ), CRawTerm.of( 0 ) ),
+            CLiteral.of( "order", CRawTerm.of( 1 ), CRawTerm.of( 9 ) )
+        ).toArray( ILiteral[]::new );
+        Arrays.stream( l_literals ).forEach( i -> l_storage.putmulti( i.functor(), i ) );
+
+        Assert.assertArrayEquals( l_literals, l_storage.multi( "order" ).toArray() );
+        Assert.assertArrayEquals(
+            new ILiteral[]{l_literals[0], l_literals[1], l_literals[2], l_literals[4]},
+            l_storage.query( "order", CLiteral.of( "order", CRawTerm.of( 1 ), new CVariable<>( "Y" ) ) ).toArray()
+        );
+
+        // a removed and added literal is the last one
+        Assert.assertTrue( l_storage.removemulti( "order", l_literals[0] ) );
+        Assert.assertTrue( l_storage.putmulti( "order", l_literals[0] ) );
+        Assert.assertEquals( l_literals[0], l_storage.streammulti().reduce( ( i, j ) -> j ).orElseThrow() );
+
+        Assert.assertTrue( l_storage.clear().isempty() );
+        Assert.assertEquals( 0, l_storage.size() );
+        Assert.assertEquals( 0, l_storage.query( "order", l_literals[0] ).count() );
+    }
+
+    /**
+     * test index-storage with argument-position index
+     */
+    @Test
+    public void indexstorage()
+    {
+        final IStorage<ILiteral, IView> l_storage = new CIndexStorage<>( 0, 1 );
+        IntStream.range( 0, 100 ).forEach( i -> IntStream.range( 0, 10 ).mapToObj( j -> CLiteral.of( "pos", CRawTerm.of( i ), CRawTerm.of( j ) ) )
+                                                          .forEach( j -> l_storage.putmulti( j.functor(), j ) ) );
+        final ILiteral l_nested = CLiteral.of( "pos", CLiteral.of( "nested" ), CRawTerm.of( 3 ) );
+        Assert.assertTrue( l_storage.putmulti( l_nested.functor(), l_nested ) );
+        Assert.assertEquals( 1001, l_storage.size() );
+
+        // first argument is ground, the literal with a nested literal is a candidate also
+        Assert.assertEquals( 11, l_storage.query( "pos", CLiteral.of( "pos", CRawTerm.of( 3 ), new CVariable<>( "Y" ) ) ).count() );
+        Assert.assertTrue(
+            l_storage.query( "pos", CLiteral.of( "pos", CRawTerm.of( 3 ), new CVariable<>( "Y" ) ) )
+                     .filter( i -> !l_nested.equals( i ) )
+                     .allMatch( i -> Integer.valueOf( 3 ).equals( i.orderedvalues().findFirst().orElseThrow().raw() ) )
+        );
+
+        // second argument is ground
+        Assert.assertEquals( 100, l_storage.query( "pos", CLiteral.of( "pos", new CVariable<>( "X" ), CRawTerm.of( 7 ) ) ).count() );
+
+        // both arguments are ground, the smallest candidate set is used
+        Assert.assertEquals( 11, l_storage.query( "pos", CLiteral.of( "pos", CRawTerm.of( 3 ), CRawTerm.of( 3 ) ) ).count() );
+
+        // no ground argument uses all literals
+        Assert.assertEquals( 1001, l_storage.query( "pos", CLiteral.of( "pos", new CVariable<>( "X" ), new CVariable<>( "Y" ) ) ).count() );
+
+        // removed literals are removed from the index
+        Assert.assertTrue( l_storage.removemulti( "pos", CLiteral.of( "pos", CRawTerm.of( 3 ), CRawTerm.of( 3 ) ) ) );
+        Assert.assertEquals( 10, l_storage.query( "pos", CLiteral.of( "pos", CRawTerm.of( 3 ), CRawTerm.of( 3 ) ) ).count() );
+        Assert.assertEquals( 0, l_storage.clear().query( "pos", CLiteral.of( "pos", CRawTerm.of( 3 ), new CVariable<>( "Y" ) ) ).count() );
+    }
+
+    /**
+     * test index-storage with numbers of different types, the index
+     * uses the raw term equality, so equal number types are matched only
+     */
+    @Test
+    public void indexstoragenumbertype()
+    {
+        final IStorage<ILiteral, IView> l_storage = new CIndexStorage<>();
+        final ILiteral l_double = CLiteral.of( "num", CRawTerm.of( 2.0 ) );
+        final ILiteral l_long = CLiteral.of( "num", CRawTerm.of( 2L ) );
+        l_storage.putmulti( l_double.functor(), l_double );
+        l_storage.putmulti( l_long.functor(), l_long );
+
+        Assert.assertArrayEquals( new ILiteral[]{l_double}, l_storage.query( "num", CLiteral.of( "num", CRawTerm.of( 2.0 ) ) ).toArray() );
+        Assert.assertArrayEquals( new ILiteral[]{l_long}, l_storage.query( "num", CLiteral.of( "num", CRawTerm.of( 2L ) ) ).toArray() );
+    }
+
+    /**
+     * test view query on index-storage
+     */
+    @Test
+    public void indexstorageview()
+    {
+        final IView l_view = new CBeliefbase( new CIndexStorage<>() ).create( "root" );
+        l_view.add( IntStream.range( 0, 100000 ).mapToObj( i -> CLiteral.of( "pos", CRawTerm.of( i % 1000 ), CRawTerm.of( i ) ) ) );
+
+        final ILiteral l_query = CLiteral.of( "pos", CRawTerm.of( 3 ), new CVariable<>( "Y" ) );
+        Assert.assertEquals( 100, l_view.query( l_query ).count() );
+        Assert.assertEquals(
+            l_view.stream( CPath.of( "pos" ) ).filter( i -> Integer.valueOf( 3 ).equals( i.orderedvalues().findFirst().orElseThrow().raw() ) ).collect( Collectors.toSet() ),
+            l_view.query( l_query ).collect( Collectors.toSet() )
+        );
+        Assert.assertEquals( 0, l_view.query( CLiteral.of( false, true, CPath.of( "pos" ), CRawTerm.of( 3 ), new CVariable<>( "Y" ) ) ).count() );
+    }
+
+    /**
+     * test concurrent-storage access
+     */
+    @Test
+    public void concurrentstorage()
+    {
+        final IStorage<ILiteral, IView> l_storage = new CConcurrentStorage<>();
+        Assert.assertTrue( l_storage.isempty() );
+
+        final ILiteral l_literal = CLiteral.of( "zzz" );
+        Assert.assertTrue( l_storage.putmulti( l_literal.functor(), l_literal ) );
+        Assert.assertFalse( l_storage.putmulti( l_literal.functor(), l_literal ) );
+        Assert.assertTrue( l_storage.containsmulti( l_literal.functor() ) );
+        Assert.assertEquals( 1, l_storage.size() );
+
+        final IView l_view = new CView( "foo", IBeliefbase.EMPY );
+        Assert.assertTrue( l_storage.putsingle( l_view.name(), l_view ) );
+        Assert.assertEquals( l_view, l_storage.single( l_view.name() ) );
+
+        Assert.assertTrue( l_storage.removemulti( l_literal.functor(), l_literal ) );
+        Assert.assertFalse( l_storage.containsmulti( l_literal.functor() ) );
+        Assert.assertTrue( l_storage.multi( l_literal.functor() ).isEmpty() );
+        Assert.assertEquals( 0, l_storage.size() );
+
+        Assert.assertTrue( l_storage.putmulti( l_literal.functor(), l_literal ) );
+        Assert.assertTrue( l_storage.clear().isempty() );
+        Assert.assertEquals( 0, l_storage.size() );
+    }
+
+    /**
+     * contention benchmark of storages with mixed add, remove and stream
+     * calls of parallel threads on one beliefbase
+     */
+    @Test
+    public void storagecontention()
+    {
+        Stream.<Pair<String, Supplier<IStorage<ILiteral, IView>>>>of(
+            new ImmutablePair<>( "multi", CMultiStorage::new ),
+            new ImmutablePair<>( "index", CIndexStorage::new ),
+            new ImmutablePair<>( "concurrent", CConcurrentStorage::new )
+        ).forEach( i ->
+        {
+            final long l_time = contention( i.getRight().get() );
+            if ( PRINTENABLE )
+                System.out.println( MessageFormat.format( "{0} storage contention: {1} ms", i.getLeft(), l_time ) );
+        } );
+    }
+
+    /**
+     * runs mixed add, remove and stream calls in parallel
+     *
+     * @param p_storage storage
+     * @return runtime in milliseconds
+     */
+    private static long contention( @Nonnull final IStorage<ILiteral, IView> p_storage )
+    {
+        final int l_calls = 100000;
+        final IView l_view = new CBeliefbase( p_storage ).create( "root" );
+
+        final long l_start = System.currentTimeMillis();
+        IntStream.range( 0, l_calls ).parallel().forEach( i ->
+        {
+            final ILiteral l_literal = CLiteral.of( "belief" + i % 16, CRawTerm.of( i ) );
+            l_view.add( l_literal );
+            if ( i % 3 == 0 )
+                l_view.remove( l_literal );
+            if ( i % 100 == 0 )
+                l_view.stream().count();
+        } );
+        final long l_time = System.currentTimeMillis() - l_start;
+
+        Assert.assertEquals( l_calls - IntStream.range( 0, l_calls ).filter( i -> i % 3 == 0 ).count(), p_storage.size() );
+        return l_time;
+    }
+
+    /**
+     * test memory usage of overlay-storage and multi-storage
+     */
+    @Test
+    public void overlaystoragememory()
+    {
+        final int l_agents = 1000;
+        final IStorage<ILiteral, IView> l_layer = new CIndexStorage<>();
+        IntStream.range( 0, 100 ).mapToObj( i -> CLiteral.of( "belief", CRawTerm.of( i ) ) ).forEach( i -> l_layer.putmulti( i.functor(), i ) );
+
+        final long l_copy = memory( () -> IntStream.range( 0, l_agents ).mapToObj( i ->
+        {
+            final IStorage<ILiteral, IView> l_storage = new CMultiStorage<>();
+            l_layer.streammulti().forEach( j -> l_storage.putmulti( j.functor(), j.shallowcopy() ) );
+            return l_storage;
+        } ).collect( Collectors.toList() ) );
+
+        final long l_overlay = memory( () -> IntStream.range( 0, l_agents ).mapToObj( i -> new COverlayStorage<ILiteral, IView>( l_layer ) )
+                                                      .collect( Collectors.toList() ) );
+
+        if ( PRINTENABLE )
+            System.out.println( MessageFormat.format( "bytes per agent: copy [{0}] / overlay [{1}]", l_copy / l_agents, l_overlay / l_agents ) );
+    }
+
+    /**
+     * returns the used memory of a generated structure
+     *
+     * @param p_generator structure generator
+     * @return used bytes
+     */
+    private static long memory( @Nonnull final Supplier<Collection<?>> p_generator )
+    {
+        System.gc();
+        final long l_start = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+        final Collection<?> l_result = p_generator.get();
+        System.gc();
+        final long l_end = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+
+        Assert.assertFalse( l_result.isEmpty() );
+        return l_end - l_start;
+    }
+
     /**
      * test class storage
      */
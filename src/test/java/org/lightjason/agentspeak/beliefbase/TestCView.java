@@ -35,6 +35,9 @@ import org.lightjason.agentspeak.language.CLiteral;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.testing.IBaseTest;
 
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -122,6 +125,79 @@ public final class TestCView extends IBaseTest
         new CView( "", IBeliefbase.EMPY );
     }
 
+    /**
+     * test event log with independent view cursors
+     */
+    @Test
+    public void eventlog()
+    {
+        final IBeliefbase l_beliefbase = new CBeliefbase( new CMultiStorage<>() );
+        final IView l_first = l_beliefbase.create( "first" );
+        final IView l_second = l_beliefbase.create( "second" );
+
+        l_beliefbase.add( CLiteral.of( "foo" ) );
+        l_beliefbase.add( CLiteral.of( "foo" ) );
+        l_beliefbase.add( CLiteral.of( "bar" ) );
+
+        Assert.assertEquals( 2, l_first.trigger().count() );
+        Assert.assertEquals( 0, l_first.trigger().count() );
+
+        l_beliefbase.remove( CLiteral.of( "foo" ) );
+
+        Assert.assertEquals( 1, l_first.trigger().count() );
+        Assert.assertEquals( 3, l_second.trigger().count() );
+
+        final IView l_third = l_beliefbase.create( "third" );
+        Assert.assertEquals( 0, l_third.trigger().count() );
+    }
+
+    /**
+     * test dropping of events, if a view is read too slowly
+     */
+    @Test
+    public void eventoverflow()
+    {
+        final CBeliefbase l_beliefbase = new CBeliefbase( new CMultiStorage<>(), 4 );
+        final IView l_view = l_beliefbase.create( "view" );
+
+        IntStream.range( 0, 6 ).forEach( i -> l_beliefbase.add( CLiteral.of( "event", CRawTerm.of( i ) ) ) );
+        Assert.assertEquals( 4, l_view.trigger().count() );
+        Assert.assertEquals( 2, l_beliefbase.dropped( l_view ) );
+
+        IntStream.range( 6, 9 ).forEach( i -> l_beliefbase.add( CLiteral.of( "event", CRawTerm.of( i ) ) ) );
+        Assert.assertEquals( 3, l_view.trigger().count() );
+        Assert.assertEquals( 2, l_beliefbase.dropped( l_view ) );
+    }
+
+    /**
+     * benchmark of event fan-out with different number of views on one beliefbase
+     */
+    @Test
+    public void eventfanout()
+    {
+        final int l_events = 10000;
+
+        IntStream.of( 1, 10, 100 ).forEach( n ->
+        {
+            final IBeliefbase l_beliefbase = new CBeliefbase( new CMultiStorage<>(), l_events );
+            final List<IView> l_views = IntStream.range( 0, n )
+                                                 .mapToObj( i -> l_beliefbase.create( "view" + i ) )
+                                                 .collect( Collectors.toList() );
+
+            final long l_start = System.nanoTime();
+            IntStream.range( 0, l_events ).forEach( i -> l_beliefbase.add( CLiteral.of( "event", CRawTerm.of( i ) ) ) );
+            final long l_push = System.nanoTime() - l_start;
+
+            l_views.forEach( i -> Assert.assertEquals( l_events, i.trigger().count() ) );
+            final long l_read = System.nanoTime() - l_start - l_push;
+
+            if ( PRINTENABLE )
+                System.out.println( MessageFormat.format(
+                    "{0} views: push {1} ms / read {2} ms", n, l_push / 1000000.0, l_read / 1000000.0 )
+                );
+        } );
+    }
+
     /**
      * create a view with beliefbase
      *
@@ -0,0 +1,118 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.common;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.generator.CActionGenerator;
+import org.lightjason.agentspeak.testing.IBaseTest;
+import org.reflections.Reflections;
+
+import java.lang.reflect.Modifier;
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * test class index
+ */
+public final class TestCClassIndex extends IBaseTest
+{
+    /**
+     * package of the test actions
+     */
+    private static final String PACKAGE = "org.lightjason.agentspeak.testing";
+
+    /**
+     * test resource names
+     */
+    @Test
+    public void resource()
+    {
+        Assert.assertEquals( "META-INF/lightjason/action", CClassIndex.EIndex.ACTION.resource() );
+        Assert.assertEquals( "META-INF/lightjason/lambdastreaming", CClassIndex.EIndex.LAMBDASTREAMING.resource() );
+        Assert.assertEquals( "META-INF/lightjason/packages", CClassIndex.PACKAGES );
+    }
+
+    /**
+     * test processor index contains all instantiable classes of the classpath scan
+     */
+    @Test
+    public void classes()
+    {
+        final Set<Class<?>> l_index = CClassIndex.index( CClassIndex.EIndex.ACTION )
+                                                 .filter( i -> i.getName().startsWith( PACKAGE + "." ) )
+                                                 .collect( Collectors.toSet() );
+
+        Assert.assertFalse( l_index.isEmpty() );
+        Assert.assertTrue(
+            l_index.containsAll(
+                new Reflections( PACKAGE ).getSubTypesOf( IAction.class )
+                                          .stream()
+                                          .filter( i -> Modifier.isPublic( i.getModifiers() ) )
+                                          .filter( i -> !Modifier.isAbstract( i.getModifiers() ) )
+                                          .filter( i -> !i.isInterface() )
+                                          .filter( i -> Arrays.stream( i.getConstructors() ).anyMatch( j -> j.getParameterCount() == 0 ) )
+                                          .collect( Collectors.toSet() )
+            )
+        );
+        Assert.assertEquals( l_index, CClassIndex.classes( CClassIndex.EIndex.ACTION, PACKAGE ).collect( Collectors.toSet() ) );
+        Assert.assertEquals( 0, CClassIndex.classes( CClassIndex.EIndex.ACTION, "org.lightjason.agentspeak.notexisting" ).count() );
+    }
+
+    /**
+     * benchmark of action lookup with classpath scanning
+     * and with generator index
+     */
+    @Test
+    public void actionlookup()
+    {
+        final int l_iteration = 25;
+        final IPath l_path = CPath.of( "notexisting/action" );
+        final CActionGenerator l_generator = new CActionGenerator( Stream.of( PACKAGE ) );
+
+        final long l_scan = System.nanoTime();
+        for ( int i = 0; i < l_iteration; i++ )
+            Assert.assertTrue(
+                new Reflections( PACKAGE ).getSubTypesOf( IAction.class ).stream().noneMatch( j -> j.getSimpleName().equals( l_path.path() ) )
+            );
+        final long l_scantime = System.nanoTime() - l_scan;
+
+        final long l_index = System.nanoTime();
+        for ( int i = 0; i < l_iteration; i++ )
+            Assert.assertFalse( l_generator.contains( l_path ) );
+        final long l_indextime = System.nanoTime() - l_index;
+
+        if ( PRINTENABLE )
+            System.out.println( MessageFormat.format(
+                "{0} missing action lookups: classpath scanning {1} ms / generator index {2} ms",
+                l_iteration, l_scantime / 1000000.0, l_indextime / 1000000.0
+            ) );
+    }
+
+}
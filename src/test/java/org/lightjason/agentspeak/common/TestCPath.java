@@ -27,7 +27,14 @@ import org.junit.Assert;
 import org.junit.Test;
 import org.lightjason.agentspeak.testing.IBaseTest;
 
+import javax.annotation.Nonnull;
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -97,9 +104,8 @@ public final class TestCPath extends IBaseTest
         final IPath l_path = CPath.of( "A/b/C/d" );
 
         Assert.assertEquals( "a/b/c/d", l_path.lower().toString() );
-        Assert.assertEquals( "a/b/c/d", l_path.toString() );
         Assert.assertEquals( "A/B/C/D", l_path.upper().toString() );
-        Assert.assertEquals( "A/B/C/D", l_path.toString() );
+        Assert.assertEquals( "A/b/C/d", l_path.toString() );
     }
 
     /**
@@ -121,17 +127,20 @@ public final class TestCPath extends IBaseTest
 
         Assert.assertEquals( "x/y/z/a/b/c", l_path.toString() );
         Assert.assertEquals( "x/y/z", l_path.remove( 3, 6 ).toString() );
+        Assert.assertEquals( "x/z/a/b/c", l_path.remove( 1 ).toString() );
+        Assert.assertEquals( "x/y/z/a/b/c", l_path.toString() );
     }
 
     /**
-     * test path remove suoofix
+     * test path suffix
      */
     @Test
     public void suffix()
     {
         final IPath l_path = CPath.of( "u/v" );
-        Assert.assertEquals( "v", l_path.removesuffix() );
-        Assert.assertEquals( "u", l_path.toString() );
+        Assert.assertEquals( "v", l_path.suffix() );
+        Assert.assertEquals( "u", l_path.subpath( 0, -1 ).toString() );
+        Assert.assertEquals( "u/v", l_path.toString() );
     }
 
     /**
@@ -154,10 +163,61 @@ public final class TestCPath extends IBaseTest
         final IPath l_path = CPath.of( "a/b" );
 
         Assert.assertEquals( "a/b", l_path.toString() );
-        l_path.pushfront( "x/y" );
-        Assert.assertEquals( "x/y/a/b", l_path.toString() );
-        l_path.pushback( "u/v" );
-        Assert.assertEquals( "x/y/a/b/u/v", l_path.toString() );
+        Assert.assertEquals( "x/y/a/b", l_path.pushfront( "x/y" ).toString() );
+        Assert.assertEquals( "a/b/u/v", l_path.pushback( "u/v" ).toString() );
+        Assert.assertEquals( "x/y/a/b/u/v", l_path.pushfront( "x/y" ).pushback( "u/v" ).toString() );
+        Assert.assertEquals( "a/b", l_path.toString() );
+    }
+
+    /**
+     * test interned paths
+     */
+    @Test
+    public void intern()
+    {
+        Assert.assertSame( CPath.of( "i/n/t" ), CPath.of( "i/n/t" ) );
+        Assert.assertSame( CPath.of( "i/n/t" ), CPath.of( "i/n" ).append( "t" ) );
+        Assert.assertSame( CPath.of( "i/n/t" ), CPath.of( new CPath( "i", "n", "t" ) ) );
+        Assert.assertNotSame( CPath.of( "i/n/t" ), new CPath( "i", "n", "t" ) );
+        Assert.assertEquals( CPath.of( "i/n/t" ), new CPath( "i", "n", "t" ) );
+        Assert.assertEquals( "i:n:t", CPath.of( "i/n/t" ).separator( ":" ).toString() );
+        Assert.assertEquals( "i/n/t", CPath.of( "i/n/t" ).toString() );
+    }
+
+    /**
+     * benchmark of context variable lookup with interned and not-interned paths
+     */
+    @Test
+    public void lookup()
+    {
+        final int l_variables = 64;
+        final int l_runs = 100000;
+
+        final List<String> l_names = IntStream.range( 0, l_variables ).mapToObj( i -> "Variable" + i ).collect( Collectors.toList() );
+        final Map<IPath, Integer> l_context = l_names.stream().collect( Collectors.toMap( CPath::of, String::length ) );
+        final IPath[] l_interned = l_names.stream().map( CPath::of ).toArray( IPath[]::new );
+        final IPath[] l_copied = l_names.stream().map( i -> new CPath( i ) ).toArray( IPath[]::new );
+
+        final long l_interntime = lookuptime( l_context, l_interned, l_runs );
+        final long l_copytime = lookuptime( l_context, l_copied, l_runs );
+
+        if ( PRINTENABLE )
+            System.out.println( MessageFormat.format( "variable lookup: interned [{0} ns] / copied [{1} ns]", l_interntime, l_copytime ) );
+    }
+
+    /**
+     * runs variable lookups
+     *
+     * @param p_context context map
+     * @param p_keys lookup keys
+     * @param p_runs number of runs
+     * @return runtime in nanoseconds
+     */
+    private static long lookuptime( @Nonnull final Map<IPath, Integer> p_context, @Nonnull final IPath[] p_keys, final int p_runs )
+    {
+        final long l_start = System.nanoTime();
+        IntStream.range( 0, p_runs ).forEach( i -> Arrays.stream( p_keys ).forEach( j -> Assert.assertNotNull( p_context.get( j ) ) ) );
+        return System.nanoTime() - l_start;
     }
 
     /**
@@ -187,7 +247,6 @@ public final class TestCPath extends IBaseTest
         Assert.assertEquals( IPath.EMPTY, IPath.EMPTY.upper() );
 
         Assert.assertEquals( "", IPath.EMPTY.suffix() );
-        Assert.assertEquals( "", IPath.EMPTY.removesuffix() );
 
         Assert.assertEquals( 0, IPath.EMPTY.stream().count() );
 
@@ -30,6 +30,7 @@ import org.junit.Test;
 import org.lightjason.agentspeak.action.IAction;
 import org.lightjason.agentspeak.action.binding.CMethodAction;
 import org.lightjason.agentspeak.action.binding.IAgentAction;
+import org.lightjason.agentspeak.agent.IAgent;
 import org.lightjason.agentspeak.agent.IBaseAgent;
 import org.lightjason.agentspeak.agent.IPlanBundle;
 import org.lightjason.agentspeak.common.CCommon;
@@ -46,6 +47,7 @@ import org.lightjason.agentspeak.testing.action.CTestIs;
 
 import javax.annotation.Nonnull;
 import java.io.IOException;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -68,6 +70,36 @@ public final class TestCGenerator extends IBaseTest
         Assert.assertEquals( 5, new CAgentGenerator().generatemultiple( 5 ).count() );
     }
 
+    /**
+     * test structural sharing of agents
+     *
+     * @throws IOException on stream error
+     */
+    @Test
+    public void agentgeneratorflyweight() throws IOException
+    {
+        final List<IAgent<?>> l_agents = new CAgentGenerator( "foo(1). bar :- success. +!do <- success." ).generatemultiple( 2 )
+                                                                                                          .collect( Collectors.toList() );
+
+        Assert.assertArrayEquals( l_agents.get( 0 ).rules().values().toArray(), l_agents.get( 1 ).rules().values().toArray() );
+        Assert.assertSame(
+            l_agents.get( 0 ).plans().values().iterator().next().plan(),
+            l_agents.get( 1 ).plans().values().iterator().next().plan()
+        );
+        Assert.assertNotSame(
+            l_agents.get( 0 ).plans().values().iterator().next(),
+            l_agents.get( 1 ).plans().values().iterator().next()
+        );
+
+        l_agents.get( 0 ).beliefbase().remove( CLiteral.of( "foo", CRawTerm.of( 1 ) ) );
+        Assert.assertEquals( 0, l_agents.get( 0 ).beliefbase().size() );
+        Assert.assertEquals( 1, l_agents.get( 1 ).beliefbase().size() );
+
+        l_agents.get( 0 ).rules().clear();
+        Assert.assertTrue( l_agents.get( 0 ).rules().isEmpty() );
+        Assert.assertFalse( l_agents.get( 1 ).rules().isEmpty() );
+    }
+
     /**
      * test static action generator fail
      */
@@ -0,0 +1,162 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.grammar;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lightjason.agentspeak.error.parser.CParserCharacterException;
+import org.lightjason.agentspeak.generator.CActionGenerator;
+import org.lightjason.agentspeak.generator.CLambdaStreamingGenerator;
+import org.lightjason.agentspeak.generator.IActionGenerator;
+import org.lightjason.agentspeak.generator.ILambdaStreamingGenerator;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.testing.IBaseTest;
+
+import javax.annotation.Nonnull;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * test of the parser instances
+ */
+public final class TestCParser extends IBaseTest
+{
+    /**
+     * number of parsing iterations
+     */
+    private static final int ITERATIONS = 1000;
+    /**
+     * agent scripts
+     */
+    private static final String[] AGENTS = {"asl/execution.asl", "asl/unification.asl", "asl/deconstruct.asl", "asl/rules.asl", "asl/trigger.asl",
+                                            "hanoi.asl", "execution.asl"};
+
+    /**
+     * test reusing the parser instance
+     */
+    @Test
+    public void reuse()
+    {
+        final CParserPlanBundle l_parser = new CParserPlanBundle( IActionGenerator.EMPTY, ILambdaStreamingGenerator.EMPTY );
+
+        final IASTVisitorPlanBundle l_first = l_parser.parse( stream( "foo(1). bar :- success. +!do <- success." ) );
+        final IASTVisitorPlanBundle l_second = l_parser.parse( stream( "foo(1). bar :- success. +!do <- success." ) );
+
+        Assert.assertArrayEquals( l_first.initialbeliefs().toArray(), l_second.initialbeliefs().toArray() );
+        Assert.assertArrayEquals( l_first.plans().toArray(), l_second.plans().toArray() );
+        Assert.assertArrayEquals( l_first.rules().toArray(), l_second.rules().toArray() );
+    }
+
+    /**
+     * test syntax error, which is reported by the full parsing stage
+     */
+    @Test( expected = CParserCharacterException.class )
+    public void syntaxerror()
+    {
+        new CParserPlanBundle( IActionGenerator.EMPTY, ILambdaStreamingGenerator.EMPTY ).parse( stream( "+!do <- ." ) );
+    }
+
+    /**
+     * test parser usage after a syntax error
+     */
+    @Test
+    public void reuseaftersyntaxerror()
+    {
+        final CParserPlanBundle l_parser = new CParserPlanBundle( IActionGenerator.EMPTY, ILambdaStreamingGenerator.EMPTY );
+
+        Assert.assertThrows( CParserCharacterException.class, () -> l_parser.parse( stream( "+!do <- ." ) ) );
+        Assert.assertEquals( 1, l_parser.parse( stream( "+!do <- success." ) ).plans().size() );
+    }
+
+    /**
+     * test parallel literal parsing
+     */
+    @Test
+    public void literal()
+    {
+        Assert.assertArrayEquals(
+            IntStream.range( 0, ITERATIONS ).mapToObj( i -> CLiteral.of( "foo", CRawTerm.of( (double) i ) ) ).toArray(),
+            IntStream.range( 0, ITERATIONS ).parallel().mapToObj( i -> CLiteral.parse( "foo(" + i + ")" ) ).toArray()
+        );
+    }
+
+    /**
+     * benchmark of parsing all agent scripts
+     *
+     * @throws Exception on stream error
+     */
+    @Test
+    public void parsebenchmark() throws Exception
+    {
+        final List<byte[]> l_scripts = new ArrayList<>();
+        for ( final String l_asl : AGENTS )
+            try
+            (
+                final InputStream l_stream = TestCParser.class.getClassLoader().getResourceAsStream( l_asl )
+            )
+            {
+                l_scripts.add( l_stream.readAllBytes() );
+            }
+
+        final CParserAgent l_parser = new CParserAgent(
+            new CActionGenerator( Stream.of( "org.lightjason.agentspeak.testing" ) ),
+            new CLambdaStreamingGenerator( Stream.of( "org.lightjason.agentspeak.testing" ) )
+        );
+
+        final long l_start = System.nanoTime();
+        final List<IASTVisitorAgent> l_result = l_parser.parsemultiple(
+            IntStream.range( 0, ITERATIONS ).boxed().flatMap( i -> l_scripts.stream() ).map( ByteArrayInputStream::new )
+        ).collect( Collectors.toList() );
+        final long l_time = System.nanoTime() - l_start;
+
+        Assert.assertEquals( ITERATIONS * AGENTS.length, l_result.size() );
+
+        if ( PRINTENABLE )
+            System.out.println( MessageFormat.format(
+                "{0} scripts parsed {1} times in {2} ms", AGENTS.length, ITERATIONS, l_time / 1000000.0
+            ) );
+    }
+
+    /**
+     * creates an input stream of a string
+     *
+     * @param p_script script
+     * @return input stream
+     */
+    @Nonnull
+    private static InputStream stream( @Nonnull final String p_script )
+    {
+        return new ByteArrayInputStream( p_script.getBytes( StandardCharsets.UTF_8 ) );
+    }
+
+}
@@ -0,0 +1,238 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.grammar;
+
+import com.google.common.hash.Hashing;
+import org.junit.Assert;
+import org.junit.Test;
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.generator.CActionStaticGenerator;
+import org.lightjason.agentspeak.generator.IActionGenerator;
+import org.lightjason.agentspeak.generator.ILambdaStreamingGenerator;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+import org.lightjason.agentspeak.testing.IBaseTest;
+
+import javax.annotation.Nonnull;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+
+/**
+ * test script cache
+ */
+public final class TestCScriptCache extends IBaseTest
+{
+    /**
+     * plan bundle script
+     */
+    private static final String PLANBUNDLE = "foobar. bar :- success. +!do <- success.";
+    /**
+     * agent script
+     */
+    private static final String AGENT = "foo(3). !main. +!main <- .bar.";
+
+    /**
+     * test storing and loading a plan bundle
+     *
+     * @throws IOException on file error
+     */
+    @Test
+    public void planbundle() throws IOException
+    {
+        final CScriptCache l_cache = CScriptCache.of( Files.createTempDirectory( "scriptcache" ) );
+        final Path l_file = l_cache.file( "planbundle", PLANBUNDLE.getBytes( StandardCharsets.UTF_8 ) );
+
+        final CScript l_parsed = l_cache.planbundle( stream( PLANBUNDLE ), IActionGenerator.EMPTY, ILambdaStreamingGenerator.EMPTY );
+        Assert.assertTrue( Files.isRegularFile( l_file ) );
+
+        final CScript l_loaded = l_cache.planbundle( stream( PLANBUNDLE ), IActionGenerator.EMPTY, ILambdaStreamingGenerator.EMPTY );
+
+        Assert.assertArrayEquals( l_parsed.initialbeliefs().toArray(), l_loaded.initialbeliefs().toArray() );
+        Assert.assertArrayEquals( l_parsed.plans().toArray(), l_loaded.plans().toArray() );
+        Assert.assertArrayEquals( l_parsed.rules().toArray(), l_loaded.rules().toArray() );
+        Assert.assertSame( ITrigger.EMPTY, l_loaded.initialgoal() );
+        Assert.assertEquals( CLiteral.of( "foobar" ), l_loaded.initialbeliefs().iterator().next() );
+    }
+
+    /**
+     * test loading an agent with actions
+     *
+     * @throws IOException on file error
+     */
+    @Test
+    public void agent() throws IOException
+    {
+        final CScriptCache l_cache = CScriptCache.of( Files.createTempDirectory( "scriptcache" ) );
+        final IActionGenerator l_actions = new CActionStaticGenerator( Stream.of( new CAction() ) );
+
+        final CScript l_parsed = l_cache.agent( stream( AGENT ), l_actions, ILambdaStreamingGenerator.EMPTY );
+        Assert.assertTrue( Files.isRegularFile( l_cache.file( "agent", AGENT.getBytes( StandardCharsets.UTF_8 ) ) ) );
+
+        final CScript l_loaded = l_cache.agent( stream( AGENT ), l_actions, ILambdaStreamingGenerator.EMPTY );
+
+        Assert.assertEquals( l_parsed.initialgoal(), l_loaded.initialgoal() );
+        Assert.assertArrayEquals( l_parsed.initialbeliefs().toArray(), l_loaded.initialbeliefs().toArray() );
+        Assert.assertArrayEquals( l_parsed.plans().toArray(), l_loaded.plans().toArray() );
+    }
+
+    /**
+     * test loading an agent with a missing action,
+     * the cache entry is invalid and the parser fails
+     *
+     * @throws IOException on file error
+     */
+    @Test( expected = NoSuchElementException.class )
+    public void agentactionnotfound() throws IOException
+    {
+        final CScriptCache l_cache = CScriptCache.of( Files.createTempDirectory( "scriptcache" ) );
+
+        l_cache.agent( stream( AGENT ), new CActionStaticGenerator( Stream.of( new CAction() ) ), ILambdaStreamingGenerator.EMPTY );
+        l_cache.agent( stream( AGENT ), IActionGenerator.EMPTY, ILambdaStreamingGenerator.EMPTY );
+    }
+
+    /**
+     * test invalid cache file
+     *
+     * @throws IOException on file error
+     */
+    @Test
+    public void invalid() throws IOException
+    {
+        final CScriptCache l_cache = CScriptCache.of( Files.createTempDirectory( "scriptcache" ) );
+        final Path l_file = l_cache.file( "planbundle", PLANBUNDLE.getBytes( StandardCharsets.UTF_8 ) );
+        Files.write( l_file, "foo".getBytes( StandardCharsets.UTF_8 ) );
+
+        final CScript l_script = l_cache.planbundle( stream( PLANBUNDLE ), IActionGenerator.EMPTY, ILambdaStreamingGenerator.EMPTY );
+
+        Assert.assertEquals( 1, l_script.plans().size() );
+        Assert.assertEquals( 1, l_script.rules().size() );
+        Assert.assertTrue( Files.size( l_file ) > 3 );
+    }
+
+    /**
+     * test cache file with a class outside of the allow-list
+     *
+     * @throws IOException on file error
+     */
+    @Test
+    public void rejected() throws IOException
+    {
+        final CScriptCache l_cache = CScriptCache.of( Files.createTempDirectory( "scriptcache" ) );
+        final Path l_file = l_cache.file( "planbundle", PLANBUNDLE.getBytes( StandardCharsets.UTF_8 ) );
+        try (
+            final ObjectOutputStream l_output = new ObjectOutputStream( Files.newOutputStream( l_file ) )
+        )
+        {
+            l_output.writeObject( new File( "foo" ) );
+        }
+
+        final CScript l_script = l_cache.planbundle( stream( PLANBUNDLE ), IActionGenerator.EMPTY, ILambdaStreamingGenerator.EMPTY );
+
+        Assert.assertEquals( 1, l_script.plans().size() );
+        Assert.assertEquals( 1, l_script.rules().size() );
+    }
+
+    /**
+     * test cache files of different builds
+     *
+     * @throws IOException on file error
+     */
+    @Test
+    public void version() throws IOException
+    {
+        final byte[] l_script = PLANBUNDLE.getBytes( StandardCharsets.UTF_8 );
+        final CScriptCache l_cache = CScriptCache.of( Files.createTempDirectory( "scriptcache" ) );
+
+        Assert.assertEquals( l_cache.file( "planbundle", l_script ), l_cache.file( "planbundle", l_script ) );
+        Assert.assertNotEquals( l_cache.file( "planbundle", l_script ), l_cache.file( "agent", l_script ) );
+        Assert.assertNotEquals(
+            l_cache.file( "planbundle", l_script ).getFileName().toString(),
+            Hashing.sha256().newHasher()
+                   .putString( "1", StandardCharsets.UTF_8 )
+                   .putString( "planbundle", StandardCharsets.UTF_8 )
+                   .putBytes( l_script )
+                   .hash()
+                   .toString() + ".bin"
+        );
+    }
+
+    /**
+     * creates an input stream of a string
+     *
+     * @param p_script script
+     * @return input stream
+     */
+    private static ByteArrayInputStream stream( @Nonnull final String p_script )
+    {
+        return new ByteArrayInputStream( p_script.getBytes( StandardCharsets.UTF_8 ) );
+    }
+
+
+    /**
+     * test action
+     */
+    private static final class CAction implements IAction
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 8419376540387729461L;
+
+        @Nonnull
+        @Override
+        public IPath name()
+        {
+            return CPath.of( "bar" );
+        }
+
+        @Override
+        public int minimalArgumentNumber()
+        {
+            return 0;
+        }
+
+        @Nonnull
+        @Override
+        public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                               @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return )
+        {
+            return Stream.empty();
+        }
+    }
+
+}
@@ -31,6 +31,7 @@ import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.error.CNoSuchElementException;
 import org.lightjason.agentspeak.error.CTypeNotAssignable;
 import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.trigger.ITrigger;
 import org.lightjason.agentspeak.language.variable.CConstant;
 import org.lightjason.agentspeak.language.variable.CMutexVariable;
 import org.lightjason.agentspeak.language.variable.CRelocateMutexVariable;
@@ -42,8 +43,13 @@ import org.lightjason.agentspeak.testing.IBaseTest;
 
 import java.text.MessageFormat;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -85,6 +91,62 @@ public final class TestCTermVariablesConstant extends IBaseTest
     }
 
 
+    /**
+     * test literal equality on hash collision
+     */
+    @Test
+    public void literalcollision()
+    {
+        final ILiteral l_first = CLiteral.of( "collision", CRawTerm.of( "Ea" ) );
+        final ILiteral l_second = CLiteral.of( "collision", CRawTerm.of( "FB" ) );
+
+        Assert.assertEquals( l_first.hashCode(), l_second.hashCode() );
+        Assert.assertNotEquals( l_first, l_second );
+        Assert.assertNotEquals( l_first.fingerprint(), l_second.fingerprint() );
+
+        Assert.assertEquals( l_first, CLiteral.of( "collision", CRawTerm.of( "Ea" ) ) );
+        Assert.assertEquals( l_first.fingerprint(), CLiteral.of( "collision", CRawTerm.of( "Ea" ) ).fingerprint() );
+
+        Assert.assertNotEquals( ITrigger.EType.ADDGOAL.builddefault( l_first ), ITrigger.EType.ADDGOAL.builddefault( l_second ) );
+        Assert.assertNotEquals( ITrigger.EType.ADDGOAL.builddefault( l_first ).fingerprint(), ITrigger.EType.ADDBELIEF.builddefault( l_first ).fingerprint() );
+    }
+
+    /**
+     * collision stress test with random literals
+     */
+    @Test
+    public void literalcollisionstress()
+    {
+        final List<ILiteral> l_literals = randomliterals( 100000 );
+        final Set<String> l_distinct = l_literals.stream().map( Object::toString ).collect( Collectors.toSet() );
+
+        Assert.assertEquals( l_distinct.size(), new HashSet<>( l_literals ).size() );
+        Assert.assertEquals( l_distinct.size(), l_literals.stream().mapToLong( ILiteral::fingerprint ).distinct().count() );
+        Assert.assertEquals( l_literals, randomliterals( 100000 ) );
+    }
+
+    /**
+     * creates random literals with string values,
+     * which produce many collisions of the string hash
+     *
+     * @param p_number number of literals
+     * @return literal list
+     */
+    private static List<ILiteral> randomliterals( final int p_number )
+    {
+        final Random l_random = new Random( 4711 );
+        return IntStream.range( 0, p_number )
+                        .mapToObj( i -> CLiteral.of(
+                            "stress/literal" + l_random.nextInt( 10 ),
+                            IntStream.range( 0, 1 + l_random.nextInt( 3 ) )
+                                     .mapToObj( j -> l_random.nextBoolean()
+                                                     ? CRawTerm.of( l_random.nextInt( 100 ) )
+                                                     : CRawTerm.of( new String( new char[]{(char) ( 'A' + l_random.nextInt( 58 ) ), (char) ( 'A' + l_random.nextInt( 58 ) )} ) ) )
+                                     .toArray( ITerm[]::new )
+                        ) )
+                        .collect( Collectors.toList() );
+    }
+
     /**
      * test raw-term structure
      */
@@ -105,6 +167,23 @@ public final class TestCTermVariablesConstant extends IBaseTest
         Assert.assertEquals( "number value", l_value, l_numberterm.raw(), 0 );
     }
 
+    /**
+     * test equality of numbers with different types, so
+     * raw terms and literals are equal with equal number types only
+     */
+    @Test
+    public void rawtermnumbertype()
+    {
+        Assert.assertEquals( CRawTerm.of( 2.0 ), CRawTerm.of( 2.0 ) );
+        Assert.assertEquals( CRawTerm.of( 2L ), CRawTerm.of( 2L ) );
+        Assert.assertNotEquals( CRawTerm.of( 2L ), CRawTerm.of( 2.0 ) );
+        Assert.assertNotEquals( CRawTerm.of( 2.0 ), CRawTerm.of( 2L ) );
+        Assert.assertNotEquals( CRawTerm.of( 2 ), CRawTerm.of( 2L ) );
+
+        Assert.assertEquals( CLiteral.of( "foo", CRawTerm.of( 2.0 ) ), CLiteral.of( "foo", CRawTerm.of( 2.0 ) ) );
+        Assert.assertNotEquals( CLiteral.of( "foo", CRawTerm.of( 2L ) ), CLiteral.of( "foo", CRawTerm.of( 2.0 ) ) );
+    }
+
 
     /**
      * test constant access structure
@@ -511,6 +590,7 @@ public final class TestCTermVariablesConstant extends IBaseTest
         Assert.assertFalse( ILiteral.EMPTY.hasShallowcopywithoutsuffix() );
 
         Assert.assertEquals( 0, ILiteral.EMPTY.structurehash() );
+        Assert.assertEquals( 0, ILiteral.EMPTY.fingerprint() );
     }
 
     /**
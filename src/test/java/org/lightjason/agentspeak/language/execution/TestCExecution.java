@@ -26,12 +26,21 @@ package org.lightjason.agentspeak.language.execution;
 import org.junit.Assert;
 import org.junit.Test;
 import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.CPlan;
 import org.lightjason.agentspeak.language.execution.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.annotation.IAnnotation;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.trigger.ITrigger;
 import org.lightjason.agentspeak.language.execution.instantiable.rule.IRule;
 import org.lightjason.agentspeak.language.variable.CMutexVariable;
 import org.lightjason.agentspeak.language.variable.CVariable;
+import org.lightjason.agentspeak.language.variable.IVariable;
 import org.lightjason.agentspeak.testing.IBaseTest;
 
+import java.lang.management.ManagementFactory;
+import java.text.MessageFormat;
 import java.util.Collections;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -104,4 +113,63 @@ public final class TestCExecution extends IBaseTest
             new CContext( IAgent.EMPTY, IPlan.EMPTY, Stream.of( new CVariable<>( "X" ) ).collect( Collectors.toSet() ) )
         );
     }
+
+    /**
+     * test context instantiation and duplication
+     */
+    @Test
+    public void contextduplicate()
+    {
+        final IContext l_context = CCommon.instantiate( plan(), IAgent.EMPTY, Stream.of( new CVariable<>( "X", 1 ) ) );
+
+        Assert.assertEquals( 3, l_context.instancevariables().size() );
+        Assert.assertEquals( Integer.valueOf( 1 ), l_context.instancevariables().get( CPath.of( "X" ) ).raw() );
+        Assert.assertFalse( l_context.instancevariables().get( CPath.of( "Y" ) ).allocated() );
+
+        final IContext l_duplicate = l_context.duplicate( new CVariable<>( "Y", 2 ), new CVariable<>( "W", 3 ) );
+        l_duplicate.instancevariables().get( CPath.of( "X" ) ).<IVariable<Object>>term().set( 5 );
+
+        Assert.assertEquals( 4, l_duplicate.instancevariables().size() );
+        Assert.assertEquals( Integer.valueOf( 2 ), l_duplicate.instancevariables().get( CPath.of( "Y" ) ).raw() );
+        Assert.assertEquals( Integer.valueOf( 3 ), l_duplicate.instancevariables().get( CPath.of( "W" ) ).raw() );
+        Assert.assertEquals( Integer.valueOf( 1 ), l_context.instancevariables().get( CPath.of( "X" ) ).raw() );
+        Assert.assertFalse( l_context.instancevariables().containsKey( CPath.of( "W" ) ) );
+    }
+
+    /**
+     * benchmark of allocated bytes per plan instantiation
+     */
+    @Test
+    public void instantiateallocation()
+    {
+        final int l_iteration = 10000;
+        final IPlan l_plan = plan();
+
+        final long l_bytes = allocatedbytes();
+        for ( int i = 0; i < l_iteration; i++ )
+            CCommon.instantiate( l_plan, IAgent.EMPTY, Stream.of( new CVariable<>( "X", i ) ) ).duplicate();
+
+        if ( PRINTENABLE )
+            System.out.println( MessageFormat.format( "instantiation and duplication: {0} bytes/op", ( allocatedbytes() - l_bytes ) / l_iteration ) );
+    }
+
+    /**
+     * creates a plan with variables
+     *
+     * @return plan
+     */
+    private static IPlan plan()
+    {
+        return new CPlan( new IAnnotation<?>[0], ITrigger.EType.ADDGOAL.builddefault( CLiteral.parse( "foo(X, Y, Z)" ) ), new IExecution[0] );
+    }
+
+    /**
+     * returns the allocated bytes of the current thread
+     *
+     * @return allocated bytes
+     */
+    private static long allocatedbytes()
+    {
+        return ( (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean() ).getThreadAllocatedBytes( Thread.currentThread().getId() );
+    }
 }
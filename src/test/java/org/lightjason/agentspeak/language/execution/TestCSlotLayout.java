@@ -0,0 +1,75 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.execution;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.Assert;
+import org.junit.Test;
+import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.language.variable.CVariable;
+import org.lightjason.agentspeak.language.variable.IVariable;
+import org.lightjason.agentspeak.testing.IBaseTest;
+
+import java.util.stream.Stream;
+
+
+/**
+ * test of the slot layout
+ */
+public final class TestCSlotLayout extends IBaseTest
+{
+
+    /**
+     * test restriction of a layout
+     */
+    @Test
+    public void restrict()
+    {
+        final IVariable<?> l_first = new CVariable<>( "A" );
+        final CSlotLayout l_layout = CSlotLayout.of( Stream.of( l_first, new CVariable<>( "B" ), new CVariable<>( "C" ) ) );
+        final CSlotLayout l_restrict = l_layout.restrict( Stream.of( new CVariable<>( "C" ), new CVariable<>( "A" ), new CVariable<>( "D" ) ) );
+
+        Assert.assertEquals( 2, l_restrict.size() );
+        Assert.assertEquals( CPath.of( "A" ), l_restrict.path( 0 ) );
+        Assert.assertEquals( CPath.of( "C" ), l_restrict.path( 1 ) );
+        Assert.assertEquals( -1, l_restrict.slot( CPath.of( "B" ) ) );
+    }
+
+    /**
+     * test selection of a frame
+     */
+    @Test
+    public void select()
+    {
+        final IVariable<?> l_value = new CVariable<>( "A", 5 );
+        final CSlotLayout l_layout = CSlotLayout.of( Stream.of( new CVariable<>( "A" ), new CVariable<>( "B" ) ) );
+        final Pair<CSlotLayout, IVariable<?>[]> l_frame = l_layout.select( Stream.of( l_value, new CVariable<>( "C", 3 ) ) );
+
+        Assert.assertSame( l_layout, l_frame.getLeft() );
+        Assert.assertEquals( 2, l_frame.getRight().length );
+        Assert.assertSame( l_value, l_frame.getRight()[0] );
+        Assert.assertFalse( l_frame.getRight()[1].allocated() );
+    }
+
+}
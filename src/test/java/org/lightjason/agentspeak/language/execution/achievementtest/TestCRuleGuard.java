@@ -0,0 +1,149 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.execution.achievementtest;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.execution.CContext;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.execution.instantiable.rule.IRule;
+import org.lightjason.agentspeak.language.variable.CVariable;
+import org.lightjason.agentspeak.language.variable.IVariable;
+import org.lightjason.agentspeak.testing.IBaseTest;
+
+import javax.annotation.Nonnull;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+
+/**
+ * test of rule guards
+ */
+public final class TestCRuleGuard extends IBaseTest
+{
+    /**
+     * fibonacci rule
+     */
+    private static final String FIBONACCI = "fibonacci(X, R) :- X <= 2; R = 1 :- X > 2; TA = X - 1; TB = X - 2; $fibonacci(TA,A); $fibonacci(TB,B); R = A+B.";
+    /**
+     * rule with constant arguments
+     */
+    private static final String NAME = "name(1, R) :- R = \"one\". name(2, R) :- R = \"two\".";
+
+    /**
+     * test leading comparison
+     *
+     * @throws Exception on agent error
+     */
+    @Test
+    public void comparison() throws Exception
+    {
+        final List<IRule> l_rules = rules( new CAgentGenerator( FIBONACCI ).generatesingle(), "fibonacci" );
+        Assert.assertEquals( 2, l_rules.size() );
+
+        final ILiteral l_small = CLiteral.of( "fibonacci", CRawTerm.of( 1.0 ), new CVariable<>( "R" ) );
+        final ILiteral l_large = CLiteral.of( "fibonacci", CRawTerm.of( 5.0 ), new CVariable<>( "R" ) );
+        final ILiteral l_unbound = CLiteral.of( "fibonacci", new CVariable<>( "X" ), new CVariable<>( "R" ) );
+
+        Assert.assertEquals( 1, l_rules.stream().filter( i -> i.viable( l_small ) ).count() );
+        Assert.assertEquals( 1, l_rules.stream().filter( i -> i.viable( l_large ) ).count() );
+        Assert.assertNotEquals( l_rules.stream().filter( i -> i.viable( l_small ) ).findFirst(), l_rules.stream().filter( i -> i.viable( l_large ) ).findFirst() );
+        Assert.assertTrue( l_rules.stream().allMatch( i -> i.viable( l_unbound ) ) );
+    }
+
+    /**
+     * test constant arguments
+     *
+     * @throws Exception on agent error
+     */
+    @Test
+    public void constant() throws Exception
+    {
+        final List<IRule> l_rules = rules( new CAgentGenerator( NAME ).generatesingle(), "name" );
+        Assert.assertEquals( 2, l_rules.size() );
+
+        Assert.assertEquals( 1, l_rules.stream().filter( i -> i.viable( CLiteral.of( "name", CRawTerm.of( 2.0 ), new CVariable<>( "R" ) ) ) ).count() );
+        Assert.assertEquals( 0, l_rules.stream().filter( i -> i.viable( CLiteral.of( "name", CRawTerm.of( 3 ), new CVariable<>( "R" ) ) ) ).count() );
+        Assert.assertEquals( 2, l_rules.stream().filter( i -> i.viable( CLiteral.of( "name", new CVariable<>( "N" ), new CVariable<>( "R" ) ) ) ).count() );
+    }
+
+    /**
+     * test execution results with guards
+     *
+     * @throws Exception on agent error
+     */
+    @Test
+    public void execution() throws Exception
+    {
+        Assert.assertEquals( 610.0, execute( new CAgentGenerator( FIBONACCI ).generatesingle(), "fibonacci", 15.0 ) );
+        Assert.assertEquals( "two", execute( new CAgentGenerator( NAME ).generatesingle(), "name", 2.0 ) );
+    }
+
+    /**
+     * returns the rules of an agent
+     *
+     * @param p_agent agent
+     * @param p_name rule name
+     * @return rules
+     */
+    @Nonnull
+    private static List<IRule> rules( @Nonnull final IAgent<?> p_agent, @Nonnull final String p_name )
+    {
+        return p_agent.rules().get( CPath.of( p_name ) ).stream().collect( Collectors.toList() );
+    }
+
+    /**
+     * executes a rule
+     *
+     * @param p_agent agent
+     * @param p_name rule name
+     * @param p_value input value
+     * @return result value
+     */
+    @Nonnull
+    private static Object execute( @Nonnull final IAgent<?> p_agent, @Nonnull final String p_name, final double p_value )
+    {
+        final IVariable<?> l_result = new CVariable<>( "R" );
+        final IContext l_context = new CContext( p_agent, IPlan.EMPTY, Collections.singletonList( l_result ) );
+
+        Assert.assertTrue(
+            p_agent.fuzzy().defuzzification().success(
+                p_agent.fuzzy().defuzzification().apply(
+                    new CAchievementRuleLiteral( CLiteral.of( p_name, CRawTerm.of( p_value ), new CVariable<>( "R" ) ) )
+                        .execute( false, l_context, Collections.emptyList(), Collections.emptyList() )
+                )
+            )
+        );
+
+        return l_result.raw();
+    }
+
+}
@@ -0,0 +1,250 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.execution.achievementtest;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.execution.CContext;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.IExecution;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.annotation.EAnnotation;
+import org.lightjason.agentspeak.language.execution.instantiable.rule.CRule;
+import org.lightjason.agentspeak.language.execution.instantiable.rule.CRuleTable;
+import org.lightjason.agentspeak.language.execution.instantiable.rule.IRule;
+import org.lightjason.agentspeak.language.execution.instantiable.rule.IRuleTable;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+import org.lightjason.agentspeak.language.variable.CVariable;
+import org.lightjason.agentspeak.language.variable.IVariable;
+import org.lightjason.agentspeak.testing.IBaseTest;
+
+import javax.annotation.Nonnull;
+import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+
+/**
+ * test of tabled rules
+ */
+public final class TestCTabledRule extends IBaseTest
+{
+    /**
+     * fibonacci rule
+     */
+    private static final String FIBONACCI = "fibonacci(X, R) :- X <= 2; R = 1 :- X > 2; TA = X - 1; TB = X - 2; $fibonacci(TA,A); $fibonacci(TB,B); R = A+B.";
+    /**
+     * rule, which reads a belief
+     */
+    private static final String VALUE = "value(X) :- >>foo(X).";
+
+    /**
+     * test tabled annotation
+     */
+    @Test
+    public void annotation()
+    {
+        final IRule l_rule = new CRule( CLiteral.of( "foo" ), new IExecution[0] );
+        final IRule l_tabled = l_rule.annotate( EAnnotation.TABLED.apply( null, null ) );
+
+        Assert.assertFalse( l_rule.tabled() );
+        Assert.assertTrue( l_tabled.tabled() );
+        Assert.assertNotEquals( l_rule, l_tabled );
+        Assert.assertEquals( EAnnotation.TABLED, EAnnotation.of( "@tabled" ) );
+        Assert.assertEquals( EAnnotation.TAG, EAnnotation.of( "@tag" ) );
+    }
+
+    /**
+     * test eviction of the table
+     */
+    @Test
+    public void eviction()
+    {
+        final IRuleTable l_table = CRuleTable.of( 2 );
+
+        l_table.put( "a", true, new Object[]{1}, 0 );
+        l_table.put( "b", true, new Object[]{2}, 0 );
+        Assert.assertNotNull( l_table.get( "a", 0 ) );
+        l_table.put( "c", false, new Object[0], 0 );
+
+        Assert.assertEquals( 2, l_table.size() );
+        Assert.assertNotNull( l_table.get( "a", 0 ) );
+        Assert.assertNull( l_table.get( "b", 0 ) );
+        Assert.assertFalse( l_table.get( "c", 0 ).getLeft() );
+
+        Assert.assertEquals( 0, l_table.clear().size() );
+    }
+
+    /**
+     * test out-dated entries of the table
+     */
+    @Test
+    public void sequence()
+    {
+        final IRuleTable l_table = CRuleTable.of( 2 );
+
+        l_table.put( "a", true, new Object[]{1}, 3 );
+        Assert.assertNotNull( l_table.get( "a", 3 ) );
+        Assert.assertNull( l_table.get( "a", 4 ) );
+        Assert.assertEquals( 0, l_table.size() );
+    }
+
+    /**
+     * test tabled fibonacci with the untabled result
+     *
+     * @throws Exception on agent error
+     */
+    @Test
+    public void fibonacci() throws Exception
+    {
+        final IAgent<?> l_untabled = new CAgentGenerator( FIBONACCI ).generatesingle();
+        final IAgent<?> l_tabled = tabled( new CAgentGenerator( FIBONACCI ).generatesingle(), CPath.of( "fibonacci" ) );
+
+        Assert.assertEquals( fibonacci( l_untabled, 15 ), fibonacci( l_tabled, 15 ) );
+        Assert.assertEquals( 610.0, fibonacci( l_tabled, 15 ) );
+
+        final long l_start = System.nanoTime();
+        Assert.assertEquals( 102334155.0, fibonacci( l_tabled, 40 ) );
+        final long l_time = System.nanoTime() - l_start;
+
+        Assert.assertTrue( l_tabled.ruletable().size() > 0 );
+
+        if ( PRINTENABLE )
+            System.out.println( MessageFormat.format( "tabled fibonacci(40) in {0} ms with {1} table entries", l_time / 1000000.0, l_tabled.ruletable().size() ) );
+    }
+
+    /**
+     * test that belief changes do not touch the results of rules, which do not read beliefs
+     *
+     * @throws Exception on agent error
+     */
+    @Test
+    public void independent() throws Exception
+    {
+        final IAgent<?> l_agent = tabled( new CAgentGenerator( FIBONACCI ).generatesingle(), CPath.of( "fibonacci" ) );
+        Assert.assertTrue( l_agent.rules().get( CPath.of( "fibonacci" ) ).stream().noneMatch( IRule::beliefdependent ) );
+
+        fibonacci( l_agent, 10 );
+        final int l_size = l_agent.ruletable().size();
+        Assert.assertTrue( l_size > 0 );
+
+        l_agent.beliefbase().add( CLiteral.of( "foo" ) );
+        Assert.assertEquals( 55.0, fibonacci( l_agent, 10 ) );
+        Assert.assertEquals( l_size, l_agent.ruletable().size() );
+    }
+
+    /**
+     * test invalidation on belief changes
+     *
+     * @throws Exception on agent error
+     */
+    @Test
+    public void invalidation() throws Exception
+    {
+        final IAgent<?> l_agent = tabled( new CAgentGenerator( VALUE ).generatesingle(), CPath.of( "value" ) );
+        Assert.assertTrue( l_agent.rules().get( CPath.of( "value" ) ).stream().allMatch( IRule::beliefdependent ) );
+
+        l_agent.beliefbase().add( CLiteral.of( "foo", CRawTerm.of( 1.0 ) ) );
+        Assert.assertEquals( 1.0, value( l_agent ) );
+        Assert.assertEquals( 1, l_agent.ruletable().size() );
+
+        l_agent.beliefbase().remove( CLiteral.of( "foo", CRawTerm.of( 1.0 ) ) );
+        l_agent.beliefbase().add( CLiteral.of( "foo", CRawTerm.of( 2.0 ) ) );
+        Assert.assertEquals( 2.0, value( l_agent ) );
+    }
+
+    /**
+     * replaces the rules of an agent with tabled rules
+     *
+     * @param p_agent agent
+     * @param p_rule rule path
+     * @return agent
+     */
+    @Nonnull
+    private static IAgent<?> tabled( @Nonnull final IAgent<?> p_agent, @Nonnull final IPath p_rule )
+    {
+        final Set<IRule> l_rules = p_agent.rules().removeAll( p_rule ).stream()
+                                          .map( i -> i.annotate( EAnnotation.TABLED.apply( null, null ) ) )
+                                          .collect( Collectors.toCollection( LinkedHashSet::new ) );
+        p_agent.rules().putAll( p_rule, l_rules );
+        return p_agent;
+    }
+
+    /**
+     * calculates a fibonacci number with the rule
+     *
+     * @param p_agent agent
+     * @param p_value input value
+     * @return fibonacci number
+     */
+    @Nonnull
+    private static Object fibonacci( @Nonnull final IAgent<?> p_agent, final int p_value )
+    {
+        final IVariable<?> l_result = new CVariable<>( "F" );
+        final IContext l_context = new CContext( p_agent, IPlan.EMPTY, Collections.singletonList( l_result ) );
+
+        Assert.assertTrue(
+            p_agent.fuzzy().defuzzification().success(
+                p_agent.fuzzy().defuzzification().apply(
+                    new CAchievementRuleLiteral( CLiteral.of( "fibonacci", CRawTerm.of( (double) p_value ), new CVariable<>( "F" ) ) )
+                        .execute( false, l_context, Collections.emptyList(), Collections.emptyList() )
+                )
+            )
+        );
+
+        return l_result.raw();
+    }
+
+    /**
+     * reads the value of the belief with the rule
+     *
+     * @param p_agent agent
+     * @return value
+     */
+    @Nonnull
+    private static Object value( @Nonnull final IAgent<?> p_agent )
+    {
+        final IVariable<?> l_result = new CVariable<>( "V" );
+        final IContext l_context = new CContext( p_agent, IPlan.EMPTY, Collections.singletonList( l_result ) );
+
+        Assert.assertTrue(
+            p_agent.fuzzy().defuzzification().success(
+                p_agent.fuzzy().defuzzification().apply(
+                    new CAchievementRuleLiteral( CLiteral.of( "value", new CVariable<>( "V" ) ) )
+                        .execute( false, l_context, Collections.emptyList(), Collections.emptyList() )
+                )
+            )
+        );
+
+        return l_result.raw();
+    }
+
+}
@@ -36,7 +36,6 @@ import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.execution.instantiable.plan.IPlan;
-import org.lightjason.agentspeak.language.execution.instantiable.plan.statistic.CPlanStatistic;
 import org.lightjason.agentspeak.language.execution.instantiable.plan.statistic.IPlanStatistic;
 import org.lightjason.agentspeak.language.execution.instantiable.plan.trigger.CTrigger;
 import org.lightjason.agentspeak.language.execution.instantiable.plan.trigger.ITrigger;
@@ -197,7 +196,7 @@ public final class TestCTestGoal extends IBaseTest
         Assume.assumeNotNull( m_agent );
 
         final ITrigger l_trigger = CTrigger.of( ITrigger.EType.ADDGOAL, CLiteral.of( "foobar" ) );
-        m_agent.plans().put( l_trigger, CPlanStatistic.of( new IPlan()
+        m_agent.addplan( new IPlan()
         {
             @Nonnull
             @Override
@@ -260,7 +259,7 @@ public final class TestCTestGoal extends IBaseTest
             {
                 return Stream.empty();
             }
-        } ) );
+        } );
         m_agent.trigger( l_trigger );
         m_agent.call();
 
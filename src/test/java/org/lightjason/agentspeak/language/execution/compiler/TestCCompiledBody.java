@@ -0,0 +1,209 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.execution.compiler;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.agent.IBaseAgent;
+import org.lightjason.agentspeak.configuration.IAgentConfiguration;
+import org.lightjason.agentspeak.generator.CActionGenerator;
+import org.lightjason.agentspeak.generator.CLambdaStreamingGenerator;
+import org.lightjason.agentspeak.generator.IBaseAgentGenerator;
+import org.lightjason.agentspeak.language.execution.IExecution;
+import org.lightjason.agentspeak.language.execution.IVariableBuilder;
+import org.lightjason.agentspeak.language.execution.assignment.CSingleAssignment;
+import org.lightjason.agentspeak.language.execution.assignment.EAssignOperator;
+import org.lightjason.agentspeak.language.execution.expression.CBinaryExpression;
+import org.lightjason.agentspeak.language.execution.expression.CConstantExpression;
+import org.lightjason.agentspeak.language.execution.expression.EBinaryOperator;
+import org.lightjason.agentspeak.language.execution.passing.CPassRaw;
+import org.lightjason.agentspeak.language.execution.passing.CPassVariable;
+import org.lightjason.agentspeak.language.execution.policy.CExecutionPolicy;
+import org.lightjason.agentspeak.language.execution.policy.IExecutionPolicy;
+import org.lightjason.agentspeak.language.variable.CVariable;
+import org.lightjason.agentspeak.testing.IBaseTest;
+
+import javax.annotation.Nonnull;
+import java.io.InputStream;
+import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * test compiled body
+ */
+public final class TestCCompiledBody extends IBaseTest
+{
+    /**
+     * number of agent cycles of the benchmark
+     */
+    private static final int CYCLES = 50;
+    /**
+     * number of agents of the benchmark
+     */
+    private static final int AGENTS = 25;
+
+    /**
+     * test compile decision of the execution policy
+     */
+    @Test
+    public void policy()
+    {
+        final IExecutionPolicy l_policy = CExecutionPolicy.of( CExecutionPolicy.THRESHOLD, null, 5 );
+
+        Assert.assertFalse( l_policy.compile( 4 ) );
+        Assert.assertTrue( l_policy.compile( 5 ) );
+        Assert.assertFalse( CExecutionPolicy.DEFAULT.compile( Long.MAX_VALUE - 1 ) );
+        Assert.assertFalse( IExecutionPolicy.SEQUENTIAL.compile( Long.MAX_VALUE ) );
+    }
+
+    /**
+     * test specialized steps
+     */
+    @Test
+    public void specialized()
+    {
+        final CCompiledBody l_body = CCompiledBody.of( new IExecution[]{
+            new CSingleAssignment( EAssignOperator.ASSIGN, new CVariable<>( "X" ), new CPassRaw<>( 5 ) ),
+            new CSingleAssignment(
+                EAssignOperator.ASSIGN,
+                new CVariable<>( "Y" ),
+                CConstantExpression.of( new CBinaryExpression( EBinaryOperator.PLUS, new CPassRaw<>( 1 ), new CPassRaw<>( 2 ) ) )
+            ),
+            new CSingleAssignment( EAssignOperator.ASSIGN, new CVariable<>( "Z" ), new CPassVariable( new CVariable<>( "X" ) ) )
+        } );
+
+        Assert.assertEquals( 3, l_body.size() );
+        Assert.assertEquals( 2, l_body.specialized() );
+    }
+
+    /**
+     * benchmark of interpreted and compiled agents
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public void compilebenchmark() throws Exception
+    {
+        for ( final String l_asl : new String[]{"asl/execution.asl", "asl/unification.asl"} )
+            for ( final IExecutionPolicy l_policy : new IExecutionPolicy[]{
+                CExecutionPolicy.DEFAULT,
+                CExecutionPolicy.of( CExecutionPolicy.THRESHOLD, null, 1 )
+            } )
+            {
+                final List<IAgent<?>> l_agents = agents( l_asl, l_policy );
+
+                final long l_start = System.nanoTime();
+                for ( int i = 0; i < CYCLES; i++ )
+                    for ( final IAgent<?> l_agent : l_agents )
+                        l_agent.call();
+                final long l_time = System.nanoTime() - l_start;
+
+                if ( PRINTENABLE )
+                    System.out.println( MessageFormat.format(
+                        "{0} with policy [{1}]: {2} agents with {3} cycles in {4} ms",
+                        l_asl, l_policy, AGENTS, CYCLES, l_time / 1000000.0
+                    ) );
+            }
+    }
+
+
+    /**
+     * generates agents
+     *
+     * @param p_asl asl resource
+     * @param p_policy execution policy
+     * @return agent list
+     * @throws Exception on parsing error
+     */
+    @Nonnull
+    private static List<IAgent<?>> agents( @Nonnull final String p_asl, @Nonnull final IExecutionPolicy p_policy ) throws Exception
+    {
+        try
+        (
+            final InputStream l_stream = TestCCompiledBody.class.getClassLoader().getResourceAsStream( p_asl )
+        )
+        {
+            return new CGenerator( l_stream, p_policy ).generatemultiple( AGENTS ).collect( Collectors.toList() );
+        }
+    }
+
+
+    /**
+     * agent generator
+     */
+    private static final class CGenerator extends IBaseAgentGenerator<CAgent>
+    {
+        /**
+         * ctor
+         *
+         * @param p_stream asl stream
+         * @param p_policy execution policy
+         */
+        CGenerator( @Nonnull final InputStream p_stream, @Nonnull final IExecutionPolicy p_policy )
+        {
+            super(
+                p_stream,
+                new CActionGenerator( Stream.of( "org.lightjason.agentspeak.testing" ) ),
+                new CLambdaStreamingGenerator( Stream.of( "org.lightjason.agentspeak.testing" ) ),
+                Collections.emptySet(),
+                IVariableBuilder.EMPTY,
+                p_policy
+            );
+        }
+
+        @Nonnull
+        @Override
+        public CAgent generatesingle( final Object... p_data )
+        {
+            return new CAgent( m_configuration );
+        }
+    }
+
+    /**
+     * agent class
+     */
+    private static final class CAgent extends IBaseAgent<CAgent>
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 8741503957632441078L;
+
+        /**
+         * ctor
+         *
+         * @param p_configuration agent configuration
+         */
+        CAgent( @Nonnull final IAgentConfiguration<CAgent> p_configuration )
+        {
+            super( p_configuration );
+        }
+    }
+
+}
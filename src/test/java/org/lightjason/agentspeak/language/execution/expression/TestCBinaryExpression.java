@@ -38,9 +38,11 @@ import org.lightjason.agentspeak.language.variable.IVariable;
 import org.lightjason.agentspeak.testing.IBaseTest;
 
 import javax.annotation.Nonnull;
+import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -205,6 +207,102 @@ public final class TestCBinaryExpression extends IBaseTest
         Assert.assertEquals( p_data[3], l_return.get( 0 ).raw() );
     }
 
+    /**
+     * test nested typed expressions
+     */
+    @Test
+    public void nested()
+    {
+        final IVariable<Object> l_value = new CVariable<>( "Value" ).set( 7 );
+
+        // ( ( Value + 3 ) * ( Value % 4 ) ) > 20 ^ ~( Value == 2 )
+        final CBinaryExpression l_arithmetic = new CBinaryExpression(
+            EBinaryOperator.MULTIPLY,
+            new CBinaryExpression( EBinaryOperator.PLUS, new CPassVariable( l_value ), new CPassRaw<>( 3 ) ),
+            new CBinaryExpression( EBinaryOperator.MODULO, new CPassVariable( l_value ), new CPassRaw<>( 4 ) )
+        );
+        final CBinaryExpression l_expression = new CBinaryExpression(
+            EBinaryOperator.XOR,
+            new CBinaryExpression( EBinaryOperator.GREATER, l_arithmetic, new CPassRaw<>( 20 ) ),
+            new CUnaryExpression(
+                EUnaryOperator.NEGATION,
+                new CBinaryExpression( EBinaryOperator.EQUAL, new CPassVariable( l_value ), new CPassRaw<>( 2 ) )
+            )
+        );
+
+        Assert.assertEquals( ITypedExpression.EType.DOUBLE, l_arithmetic.type() );
+        Assert.assertEquals( ITypedExpression.EType.BOOLEAN, l_expression.type() );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        final long l_start = System.nanoTime();
+
+        IntStream.range( 0, 10000 ).forEach( i ->
+        {
+            l_return.clear();
+            Assert.assertTrue( execute( l_arithmetic, false, Collections.emptyList(), l_return, l_value ) );
+            Assert.assertEquals( 30.0, l_return.get( 0 ).<Object>raw() );
+
+            l_return.clear();
+            Assert.assertTrue( execute( l_expression, false, Collections.emptyList(), l_return, l_value ) );
+            Assert.assertEquals( false, l_return.get( 0 ).<Object>raw() );
+        } );
+
+        if ( PRINTENABLE )
+            System.out.println( MessageFormat.format( "nested typed expression: {0} ns per execution", ( System.nanoTime() - l_start ) / 20000 ) );
+    }
+
+    /**
+     * test integral arithmetic is computed on long values
+     */
+    @Test
+    public void integral()
+    {
+        final IVariable<Object> l_value = new CVariable<>( "Value" ).set( 9007199254740993L );
+
+        // ( Value - 9007199254740992 ) * 3, the left value cannot be represented as double
+        final CBinaryExpression l_expression = new CBinaryExpression(
+            EBinaryOperator.MULTIPLY,
+            new CBinaryExpression( EBinaryOperator.MINUS, new CPassVariable( l_value ), new CPassRaw<>( 9007199254740992L ) ),
+            new CPassRaw<>( 3 )
+        );
+        final CBinaryExpression l_overflow = new CBinaryExpression( EBinaryOperator.PLUS, new CPassRaw<>( Long.MAX_VALUE ), new CPassRaw<>( 1L ) );
+
+        Assert.assertEquals( ITypedExpression.EType.DOUBLE, l_expression.type() );
+        Assert.assertTrue( l_overflow.integral() );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        Assert.assertTrue( execute( l_expression, false, Collections.emptyList(), l_return, l_value ) );
+        Assert.assertEquals( 3.0, l_return.get( 0 ).<Object>raw() );
+
+        l_return.clear();
+        Assert.assertTrue( execute( l_overflow, false, Collections.emptyList(), l_return ) );
+        Assert.assertEquals( Long.MAX_VALUE + 1.0, l_return.get( 0 ).<Object>raw() );
+
+        l_value.set( 2.5 );
+        l_return.clear();
+        Assert.assertTrue( execute( l_expression, false, Collections.emptyList(), l_return, l_value ) );
+        Assert.assertEquals( ( 2.5 - 9007199254740992.0 ) * 3, l_return.get( 0 ).<Object>raw() );
+    }
+
+    /**
+     * test short-circuit expressions are untyped operands
+     */
+    @Test
+    public void shortcircuit()
+    {
+        final CBinaryExpression l_expression = new CBinaryExpression(
+            EBinaryOperator.XOR,
+            new CBinaryExpression( EBinaryOperator.AND, new CPassRaw<>( false ), new CPassRaw<>( true ) ),
+            new CPassRaw<>( true )
+        );
+
+        Assert.assertEquals( ITypedExpression.EType.UNTYPED, l_expression.type() );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        Assert.assertTrue( execute( l_expression, false, Collections.emptyList(), l_return ) );
+        Assert.assertEquals( true, l_return.get( 0 ).<Object>raw() );
+    }
+
     /**
      * test comparable
      */
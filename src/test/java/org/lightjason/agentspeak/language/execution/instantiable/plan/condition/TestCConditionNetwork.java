@@ -0,0 +1,257 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.execution.instantiable.plan.condition;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.agent.IBaseAgent;
+import org.lightjason.agentspeak.common.CPath;
+import org.lightjason.agentspeak.configuration.IAgentConfiguration;
+import org.lightjason.agentspeak.generator.IActionGenerator;
+import org.lightjason.agentspeak.generator.IBaseAgentGenerator;
+import org.lightjason.agentspeak.generator.ILambdaStreamingGenerator;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.execution.IVariableBuilder;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.trigger.CTrigger;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.variable.CVariable;
+import org.lightjason.agentspeak.testing.IBaseTest;
+
+import javax.annotation.Nonnull;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * test of the condition network
+ */
+public final class TestCConditionNetwork extends IBaseTest
+{
+    /**
+     * plan with belief condition
+     */
+    private static final String CHECK = "value(5). +!check : >>value(X) <- +found(X).";
+
+    /**
+     * test bound variables of a stored match
+     *
+     * @throws Exception on agent error
+     */
+    @Test
+    public void binding() throws Exception
+    {
+        final IAgent<?> l_agent = new CAgentGenerator( CHECK ).generatesingle().conditionnetwork( CConditionNetwork.of() );
+
+        Assert.assertEquals( 1, check( l_agent ) );
+        Assert.assertEquals( 1, l_agent.conditionnetwork().size() );
+
+        final ILiteral l_found = l_agent.beliefbase().stream( CPath.of( "found" ) ).findFirst().orElseThrow();
+        l_agent.beliefbase().remove( l_found );
+        l_agent.call();
+
+        Assert.assertEquals( 1, check( l_agent ) );
+        Assert.assertEquals( 1, l_agent.conditionnetwork().size() );
+        Assert.assertEquals( l_found, l_agent.beliefbase().stream( CPath.of( "found" ) ).findFirst().orElseThrow() );
+    }
+
+    /**
+     * test out-dated matches on belief changes
+     *
+     * @throws Exception on agent error
+     */
+    @Test
+    public void invalidation() throws Exception
+    {
+        final IAgent<?> l_agent = new CAgentGenerator( CHECK ).generatesingle().conditionnetwork( CConditionNetwork.of() );
+
+        Assert.assertEquals( 1, check( l_agent ) );
+        Assert.assertEquals( 1, l_agent.conditionnetwork().size() );
+
+        l_agent.beliefbase().remove( CLiteral.of( "value", CRawTerm.of( 5.0 ) ) );
+        Assert.assertEquals( 0, check( l_agent ) );
+
+        l_agent.beliefbase().add( CLiteral.of( "value", CRawTerm.of( 7.0 ) ) );
+        Assert.assertEquals( 1, check( l_agent ) );
+        Assert.assertTrue( l_agent.beliefbase().stream( CPath.of( "found" ) ).anyMatch( i -> i.equals( CLiteral.of( "found", CRawTerm.of( 7.0 ) ) ) ) );
+    }
+
+    /**
+     * test the sequence numbers of the belief functors
+     *
+     * @throws Exception on agent error
+     */
+    @Test
+    public void sequence() throws Exception
+    {
+        final IAgent<?> l_agent = new CAgentGenerator( CHECK ).generatesingle();
+        final long l_value = l_agent.beliefbase().beliefbase().sequence( "value" );
+        final long l_sequence = l_agent.beliefbase().beliefbase().sequence();
+
+        l_agent.beliefbase().add( CLiteral.of( "other" ) );
+        Assert.assertEquals( l_value, l_agent.beliefbase().beliefbase().sequence( "value" ) );
+        Assert.assertNotEquals( l_sequence, l_agent.beliefbase().beliefbase().sequence() );
+
+        l_agent.beliefbase().add( CLiteral.of( "value", CRawTerm.of( 1.0 ) ) );
+        Assert.assertNotEquals( l_value, l_agent.beliefbase().beliefbase().sequence( "value" ) );
+    }
+
+    /**
+     * test conditions, which are evaluated on each call
+     *
+     * @throws Exception on agent error
+     */
+    @Test
+    public void uncached() throws Exception
+    {
+        final IAgent<?> l_agent = new CAgentGenerator( "+!check : PlanRuns < 100 <- success." ).generatesingle()
+                                                                                              .conditionnetwork( CConditionNetwork.of() );
+
+        Assert.assertEquals( 1, check( l_agent ) );
+        Assert.assertEquals( 0, l_agent.conditionnetwork().size() );
+    }
+
+    /**
+     * test conditions, which read variables of the variable builder
+     *
+     * @throws Exception on agent error
+     */
+    @Test
+    public void builder() throws Exception
+    {
+        final AtomicInteger l_limit = new AtomicInteger( 10 );
+        final IAgent<?> l_agent = new CGenerator(
+            CHECK.replace( ">>value(X)", ">>value(X) && X < Limit" ),
+            ( i, j ) -> Stream.of( new CVariable<>( "Limit" ).set( l_limit.get() ) )
+        ).generatesingle().conditionnetwork( CConditionNetwork.of() );
+
+        Assert.assertEquals( 1, check( l_agent ) );
+        Assert.assertEquals( 0, l_agent.conditionnetwork().size() );
+
+        l_limit.set( 0 );
+        Assert.assertEquals( 0, check( l_agent ) );
+    }
+
+    /**
+     * benchmark of repeated conditions on a large beliefbase
+     *
+     * @throws Exception on agent error
+     */
+    @Test
+    public void benchmark() throws Exception
+    {
+        final IAgent<?> l_agent = new CAgentGenerator( CHECK ).generatesingle();
+        IntStream.range( 0, 10000 ).forEach( i -> l_agent.beliefbase().add( CLiteral.of( "value", CRawTerm.of( (double) i ) ) ) );
+        l_agent.call();
+
+        final long l_evaluated = run( l_agent, 500 );
+        final long l_stored = run( l_agent.conditionnetwork( CConditionNetwork.of() ), 500 );
+
+        if ( PRINTENABLE )
+            System.out.println( MessageFormat.format( "condition evaluation {0} ms, condition network {1} ms", l_evaluated / 1000000.0, l_stored / 1000000.0 ) );
+    }
+
+    /**
+     * runs the check goal
+     *
+     * @param p_agent agent
+     * @param p_runs number of runs
+     * @return nano seconds
+     */
+    private static long run( @Nonnull final IAgent<?> p_agent, final int p_runs )
+    {
+        final long l_start = System.nanoTime();
+        IntStream.range( 0, p_runs ).forEach( i -> Assert.assertEquals( 1, check( p_agent ) ) );
+        return System.nanoTime() - l_start;
+    }
+
+    /**
+     * triggers the check goal immediately
+     *
+     * @param p_agent agent
+     * @return number of executed plans
+     */
+    private static long check( @Nonnull final IAgent<?> p_agent )
+    {
+        return p_agent.trigger( CTrigger.of( ITrigger.EType.ADDGOAL, CLiteral.of( "check" ) ), true ).count();
+    }
+
+
+    /**
+     * agent generator with variable builder
+     */
+    private static final class CGenerator extends IBaseAgentGenerator<CAgent>
+    {
+        /**
+         * ctor
+         *
+         * @param p_asl asl script
+         * @param p_variablebuilder variable builder
+         */
+        CGenerator( @Nonnull final String p_asl, @Nonnull final IVariableBuilder p_variablebuilder )
+        {
+            super(
+                new ByteArrayInputStream( p_asl.getBytes( StandardCharsets.UTF_8 ) ),
+                IActionGenerator.EMPTY,
+                ILambdaStreamingGenerator.EMPTY,
+                p_variablebuilder
+            );
+        }
+
+        @Nonnull
+        @Override
+        public CAgent generatesingle( final Object... p_data )
+        {
+            return new CAgent( m_configuration );
+        }
+    }
+
+    /**
+     * agent class
+     */
+    private static final class CAgent extends IBaseAgent<CAgent>
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = -1406216466429880371L;
+
+        /**
+         * ctor
+         *
+         * @param p_configuration agent configuration
+         */
+        CAgent( @Nonnull final IAgentConfiguration<CAgent> p_configuration )
+        {
+            super( p_configuration );
+        }
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.execution.instantiable.plan.index;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.execution.IExecution;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.CPlan;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.annotation.IAnnotation;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.trigger.CTrigger;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.testing.IBaseTest;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+
+/**
+ * test plan index
+ */
+public final class TestCPlanIndex extends IBaseTest
+{
+
+    /**
+     * test slot lookup
+     */
+    @Test
+    public void slots()
+    {
+        final IPlan l_foo = plan( ITrigger.EType.ADDGOAL, "foo" );
+        final IPlan l_bar = plan( ITrigger.EType.ADDGOAL, "bar" );
+        final IPlanIndex l_index = CPlanIndex.of( l_foo, l_bar, plan( ITrigger.EType.DELETEGOAL, "foo" ) );
+
+        Assert.assertEquals( 3, l_index.size() );
+        Assert.assertArrayEquals( new int[]{0}, l_index.slots( CTrigger.of( ITrigger.EType.ADDGOAL, CLiteral.of( "foo" ) ) ) );
+        Assert.assertArrayEquals( new int[]{1}, l_index.slots( CTrigger.of( ITrigger.EType.ADDGOAL, CLiteral.of( "bar" ) ) ) );
+        Assert.assertArrayEquals( new int[]{2}, l_index.slots( CTrigger.of( ITrigger.EType.DELETEGOAL, CLiteral.of( "foo" ) ) ) );
+        Assert.assertEquals( 0, l_index.slots( CTrigger.of( ITrigger.EType.ADDBELIEF, CLiteral.of( "foo" ) ) ).length );
+        Assert.assertEquals( l_foo, l_index.plan( 0 ) );
+        Assert.assertEquals( l_bar, l_index.plan( 1 ) );
+    }
+
+    /**
+     * test precomputed suffix fallback
+     */
+    @Test
+    public void fallback()
+    {
+        final IPlan l_plan = plan( ITrigger.EType.ADDGOAL, "foo/bar/baz" );
+        final IPlanIndex l_index = CPlanIndex.of( plan( ITrigger.EType.ADDGOAL, "foo" ), l_plan );
+
+        Assert.assertEquals( 2, l_index.fallback( l_plan.trigger() ) );
+        Assert.assertEquals( 0, l_index.fallback( CTrigger.of( ITrigger.EType.ADDGOAL, CLiteral.of( "foo" ) ) ) );
+        Assert.assertEquals( "foo/bar/baz", l_plan.trigger().literal().fqnfunctor().path() );
+    }
+
+    /**
+     * test slots are stable on appending plans
+     */
+    @Test
+    public void append()
+    {
+        final IPlanIndex l_index = CPlanIndex.of( plan( ITrigger.EType.ADDGOAL, "foo" ), plan( ITrigger.EType.ADDGOAL, "bar" ) );
+        final IPlanIndex l_append = CPlanIndex.of(
+            Stream.concat( l_index.plans(), Stream.of( plan( ITrigger.EType.ADDGOAL, "foo" ), plan( ITrigger.EType.ADDGOAL, "xxx" ) ) )
+        );
+
+        Assert.assertEquals( 3, l_append.size() );
+        Assert.assertArrayEquals( l_index.plans().toArray(), Arrays.copyOf( l_append.plans().toArray(), 2 ) );
+        Assert.assertArrayEquals( new int[]{2}, l_append.slots( CTrigger.of( ITrigger.EType.ADDGOAL, CLiteral.of( "xxx" ) ) ) );
+    }
+
+    /**
+     * test empty index
+     */
+    @Test
+    public void empty()
+    {
+        Assert.assertEquals( 0, IPlanIndex.EMPTY.size() );
+        Assert.assertEquals( 0, IPlanIndex.EMPTY.plans().count() );
+        Assert.assertEquals( 0, IPlanIndex.EMPTY.slots( ITrigger.EMPTY ).length );
+        Assert.assertEquals( 0, IPlanIndex.EMPTY.fallback( ITrigger.EMPTY ) );
+    }
+
+    /**
+     * creates a plan with empty body
+     *
+     * @param p_event trigger event
+     * @param p_functor literal functor
+     * @return plan
+     */
+    private static IPlan plan( final ITrigger.EType p_event, final String p_functor )
+    {
+        return new CPlan( new IAnnotation<?>[0], CTrigger.of( p_event, CLiteral.of( p_functor ) ), new IExecution[0] );
+    }
+
+}
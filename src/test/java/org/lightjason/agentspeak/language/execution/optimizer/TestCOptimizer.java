@@ -0,0 +1,205 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.execution.optimizer;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lightjason.agentspeak.generator.IAgentGenerator;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IExecution;
+import org.lightjason.agentspeak.language.execution.assignment.CSingleAssignment;
+import org.lightjason.agentspeak.language.execution.assignment.EAssignOperator;
+import org.lightjason.agentspeak.language.execution.base.CRepair;
+import org.lightjason.agentspeak.language.execution.base.CTernaryOperation;
+import org.lightjason.agentspeak.language.execution.expression.CBinaryExpression;
+import org.lightjason.agentspeak.language.execution.expression.CConstantExpression;
+import org.lightjason.agentspeak.language.execution.expression.EBinaryOperator;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.CPlan;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.annotation.IAnnotation;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.execution.passing.CPassRaw;
+import org.lightjason.agentspeak.language.execution.passing.CPassVariable;
+import org.lightjason.agentspeak.language.variable.CVariable;
+import org.lightjason.agentspeak.language.variable.IVariable;
+import org.lightjason.agentspeak.testing.IBaseTest;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+
+/**
+ * test optimizer
+ */
+public final class TestCOptimizer extends IBaseTest
+{
+
+    /**
+     * test constant folding
+     */
+    @Test
+    public void constantfolding()
+    {
+        final IVariable<Object> l_variable = new CVariable<>( "X" );
+        final IOptimizer l_optimizer = COptimizer.of( IAgentGenerator.DEFAULTFUZZYBUNDLE );
+
+        final IPlan l_plan = l_optimizer.optimize( plan(
+            new CSingleAssignment(
+                EAssignOperator.ASSIGN,
+                l_variable,
+                new CBinaryExpression(
+                    EBinaryOperator.PLUS,
+                    new CPassRaw<>( 2 ),
+                    new CBinaryExpression( EBinaryOperator.MULTIPLY, new CPassRaw<>( 3 ), new CPassRaw<>( 4 ) )
+                )
+            )
+        ) );
+
+        final List<IExecution> l_body = body( l_plan );
+        Assert.assertEquals( 1, l_body.size() );
+        Assert.assertTrue( ( (CSingleAssignment) l_body.get( 0 ) ).rhs() instanceof CConstantExpression );
+        Assert.assertEquals( 2, l_optimizer.report().get( l_plan ).size() );
+
+        Assert.assertTrue( execute( l_body.get( 0 ), false, Collections.emptyList(), Collections.emptyList(), l_variable ) );
+        Assert.assertEquals( 14.0, l_variable.<Object>raw() );
+    }
+
+    /**
+     * test expressions which fail on execution are not folded
+     */
+    @Test
+    public void failingexpression()
+    {
+        final IOptimizer l_optimizer = COptimizer.of( IAgentGenerator.DEFAULTFUZZYBUNDLE );
+        final IPlan l_plan = plan(
+            new CSingleAssignment(
+                EAssignOperator.ASSIGN,
+                new CVariable<>( "X" ),
+                new CBinaryExpression( EBinaryOperator.PLUS, new CPassRaw<>( "foo" ), new CPassRaw<>( 1 ) )
+            )
+        );
+
+        Assert.assertSame( l_plan, l_optimizer.optimize( l_plan ) );
+        Assert.assertTrue( l_optimizer.report().isEmpty() );
+    }
+
+    /**
+     * test dead-branch elimination of ternary operation
+     */
+    @Test
+    public void ternary()
+    {
+        final IVariable<Object> l_variable = new CVariable<>( "X" );
+        final IExecution l_true = new CSingleAssignment( EAssignOperator.ASSIGN, l_variable, new CPassRaw<>( "yes" ) );
+        final IExecution l_false = new CSingleAssignment( EAssignOperator.ASSIGN, l_variable, new CPassRaw<>( "no" ) );
+
+        final IPlan l_plan = COptimizer.of( IAgentGenerator.DEFAULTFUZZYBUNDLE ).optimize( plan(
+            new CTernaryOperation( new CBinaryExpression( EBinaryOperator.LESS, new CPassRaw<>( 1 ), new CPassRaw<>( 2 ) ), l_true, l_false )
+        ) );
+
+        Assert.assertEquals( Collections.singletonList( l_true ), body( l_plan ) );
+    }
+
+    /**
+     * test flattening and pruning of repair chains
+     */
+    @Test
+    public void repair()
+    {
+        final IVariable<Object> l_value = new CVariable<>( "X" ).set( false );
+        final IExecution l_variable = new CPassVariable( l_value );
+        final IExecution l_success = new CPassRaw<>( true );
+
+        final IPlan l_plan = COptimizer.of( IAgentGenerator.DEFAULTFUZZYBUNDLE ).optimize( plan(
+            new CRepair( Stream.of(
+                new CPassRaw<>( false ),
+                new CRepair( Stream.of( l_variable, new CPassRaw<>( false ) ) ),
+                l_success,
+                new CPassRaw<>( false )
+            ) )
+        ) );
+
+        final List<IExecution> l_body = body( l_plan );
+        Assert.assertEquals( 1, l_body.size() );
+        Assert.assertArrayEquals( new IExecution[]{l_variable, l_success}, ( (CRepair) l_body.get( 0 ) ).value() );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        Assert.assertTrue( execute( l_body.get( 0 ), false, Collections.emptyList(), l_return, l_value ) );
+    }
+
+    /**
+     * test disabled optimizer
+     */
+    @Test
+    public void disabled()
+    {
+        final IPlan l_plan = plan(
+            new CSingleAssignment(
+                EAssignOperator.ASSIGN,
+                new CVariable<>( "X" ),
+                new CBinaryExpression( EBinaryOperator.PLUS, new CPassRaw<>( 1 ), new CPassRaw<>( 1 ) )
+            )
+        );
+
+        Assert.assertSame( l_plan, IOptimizer.EMPTY.optimize( l_plan ) );
+        Assert.assertTrue( IOptimizer.EMPTY.report().isEmpty() );
+    }
+
+    /**
+     * creates a plan
+     *
+     * @param p_body plan body
+     * @return plan
+     */
+    @Nonnull
+    private static IPlan plan( @Nonnull final IExecution... p_body )
+    {
+        return new CPlan( new IAnnotation<?>[0], ITrigger.EType.ADDGOAL.builddefault( CLiteral.of( "foo" ) ), p_body );
+    }
+
+    /**
+     * returns the body of a plan
+     *
+     * @param p_plan plan
+     * @return body elements
+     */
+    @Nonnull
+    private static List<IExecution> body( @Nonnull final IPlan p_plan )
+    {
+        final List<IExecution> l_body = new ArrayList<>();
+        p_plan.rewrite( i ->
+        {
+            l_body.add( i );
+            return i;
+        } );
+
+        // first element is the plan condition
+        return l_body.subList( 1, l_body.size() );
+    }
+
+}
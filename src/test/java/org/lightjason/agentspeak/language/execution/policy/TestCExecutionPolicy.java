@@ -0,0 +1,261 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.execution.policy;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.agent.IBaseAgent;
+import org.lightjason.agentspeak.configuration.IAgentConfiguration;
+import org.lightjason.agentspeak.generator.CActionGenerator;
+import org.lightjason.agentspeak.generator.CLambdaStreamingGenerator;
+import org.lightjason.agentspeak.generator.IBaseAgentGenerator;
+import org.lightjason.agentspeak.language.execution.IVariableBuilder;
+import org.lightjason.agentspeak.testing.IBaseTest;
+
+import javax.annotation.Nonnull;
+import java.io.InputStream;
+import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * test execution policy
+ */
+public final class TestCExecutionPolicy extends IBaseTest
+{
+    /**
+     * number of agent cycles of the benchmark
+     */
+    private static final int CYCLES = 50;
+    /**
+     * number of agents of the benchmark
+     */
+    private static final int AGENTS = 25;
+
+    /**
+     * test threshold decision
+     */
+    @Test
+    public void threshold()
+    {
+        final IExecutionPolicy l_policy = CExecutionPolicy.of( 10 );
+
+        Assert.assertFalse( l_policy.parallel( 9 ) );
+        Assert.assertTrue( l_policy.parallel( 10 ) );
+        Assert.assertFalse( l_policy.stream( Collections.nCopies( 9, 1 ) ).isParallel() );
+        Assert.assertTrue( l_policy.stream( Collections.nCopies( 10, 1 ) ).isParallel() );
+
+        Assert.assertFalse( IExecutionPolicy.SEQUENTIAL.stream( Collections.nCopies( 1000, 1 ) ).isParallel() );
+        Assert.assertTrue( IExecutionPolicy.PARALLEL.stream( Collections.nCopies( 1, 1 ) ).isParallel() );
+    }
+
+    /**
+     * test execution within the dedicated pool
+     */
+    @Test
+    public void dedicatedpool()
+    {
+        final ForkJoinPool l_pool = new ForkJoinPool( 2 );
+        try
+        {
+            final IExecutionPolicy l_policy = CExecutionPolicy.of( 1, l_pool );
+
+            Assert.assertEquals( l_pool, l_policy.execute( ForkJoinTask::getPool ) );
+            Assert.assertEquals(
+                l_pool,
+                l_policy.execute( () -> l_policy.execute( ForkJoinTask::getPool ) )
+            );
+            Assert.assertTrue(
+                l_policy.execute(
+                    () -> IntStream.range( 0, 1000 ).parallel().mapToObj( i -> ForkJoinTask.getPool() ).allMatch( l_pool::equals )
+                )
+            );
+        }
+        finally
+        {
+            l_pool.shutdown();
+        }
+    }
+
+    /**
+     * test only parallel streams are submitted to the dedicated pool
+     */
+    @Test
+    public void flatmap()
+    {
+        final ForkJoinPool l_pool = new ForkJoinPool( 2 );
+        try
+        {
+            final IExecutionPolicy l_policy = CExecutionPolicy.of( 10, l_pool );
+
+            Assert.assertTrue(
+                l_policy.flatmap( Collections.nCopies( 9, 1 ), i -> Stream.of( Thread.currentThread() ) ).stream().allMatch( Thread.currentThread()::equals )
+            );
+            Assert.assertTrue(
+                l_policy.flatmap( Collections.nCopies( 100, 1 ), i -> Stream.of( ForkJoinTask.getPool() ) ).stream().allMatch( l_pool::equals )
+            );
+        }
+        finally
+        {
+            l_pool.shutdown();
+        }
+    }
+
+    /**
+     * test agent policy definition
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public void agentpolicy() throws Exception
+    {
+        final IAgent<?> l_agent = agents( "asl/trigger.asl", IExecutionPolicy.SEQUENTIAL, 1 ).get( 0 );
+        Assert.assertEquals( IExecutionPolicy.SEQUENTIAL, l_agent.executionpolicy() );
+
+        l_agent.executionpolicy( IExecutionPolicy.PARALLEL );
+        Assert.assertEquals( IExecutionPolicy.PARALLEL, l_agent.executionpolicy() );
+    }
+
+    /**
+     * benchmark of forced-sequential, forced-parallel and adaptive execution
+     *
+     * @throws Exception on execution error
+     */
+    @Test
+    public void policybenchmark() throws Exception
+    {
+        final ForkJoinPool l_pool = new ForkJoinPool( Runtime.getRuntime().availableProcessors() );
+        try
+        {
+            for ( final String l_asl : new String[]{"asl/trigger.asl", "asl/unification.asl"} )
+                for ( final IExecutionPolicy l_policy : new IExecutionPolicy[]{
+                    IExecutionPolicy.SEQUENTIAL,
+                    IExecutionPolicy.PARALLEL,
+                    CExecutionPolicy.of( CExecutionPolicy.THRESHOLD, l_pool )
+                } )
+                {
+                    final List<IAgent<?>> l_agents = agents( l_asl, l_policy, AGENTS );
+
+                    final long l_start = System.nanoTime();
+                    for ( int i = 0; i < CYCLES; i++ )
+                        for ( final IAgent<?> l_agent : l_agents )
+                            l_agent.call();
+                    final long l_time = System.nanoTime() - l_start;
+
+                    if ( PRINTENABLE )
+                        System.out.println( MessageFormat.format(
+                            "{0} with policy [{1}]: {2} agents with {3} cycles in {4} ms",
+                            l_asl, l_policy, AGENTS, CYCLES, l_time / 1000000.0
+                        ) );
+                }
+        }
+        finally
+        {
+            l_pool.shutdown();
+        }
+    }
+
+
+    /**
+     * generates agents
+     *
+     * @param p_asl asl resource
+     * @param p_policy execution policy
+     * @param p_number number of agents
+     * @return agent list
+     * @throws Exception on parsing error
+     */
+    @Nonnull
+    private static List<IAgent<?>> agents( @Nonnull final String p_asl, @Nonnull final IExecutionPolicy p_policy, final int p_number ) throws Exception
+    {
+        try
+        (
+            final InputStream l_stream = TestCExecutionPolicy.class.getClassLoader().getResourceAsStream( p_asl )
+        )
+        {
+            return new CGenerator( l_stream, p_policy ).generatemultiple( p_number ).collect( Collectors.toList() );
+        }
+    }
+
+
+    /**
+     * agent generator
+     */
+    private static final class CGenerator extends IBaseAgentGenerator<CAgent>
+    {
+        /**
+         * ctor
+         *
+         * @param p_stream asl stream
+         * @param p_policy execution policy
+         */
+        CGenerator( @Nonnull final InputStream p_stream, @Nonnull final IExecutionPolicy p_policy )
+        {
+            super(
+                p_stream,
+                new CActionGenerator( Stream.of( "org.lightjason.agentspeak.testing" ) ),
+                new CLambdaStreamingGenerator( Stream.of( "org.lightjason.agentspeak.testing" ) ),
+                Collections.emptySet(),
+                IVariableBuilder.EMPTY,
+                p_policy
+            );
+        }
+
+        @Nonnull
+        @Override
+        public CAgent generatesingle( final Object... p_data )
+        {
+            return new CAgent( m_configuration );
+        }
+    }
+
+    /**
+     * agent class
+     */
+    private static final class CAgent extends IBaseAgent<CAgent>
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = -2287620553429316834L;
+
+        /**
+         * ctor
+         *
+         * @param p_configuration agent configuration
+         */
+        CAgent( @Nonnull final IAgentConfiguration<CAgent> p_configuration )
+        {
+            super( p_configuration );
+        }
+    }
+
+}
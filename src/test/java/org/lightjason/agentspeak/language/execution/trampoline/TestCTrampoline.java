@@ -0,0 +1,227 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.execution.trampoline;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.CContext;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.execution.achievementtest.CAchievementRuleLiteral;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.trigger.CTrigger;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.execution.policy.CExecutionPolicy;
+import org.lightjason.agentspeak.language.variable.CVariable;
+import org.lightjason.agentspeak.language.variable.IVariable;
+import org.lightjason.agentspeak.testing.IBaseTest;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Stream;
+
+
+/**
+ * test of the trampoline
+ */
+public final class TestCTrampoline extends IBaseTest
+{
+    /**
+     * recursive sum rule
+     */
+    private static final String SUM = "sum(N, R) :- N <= 0; R = 0 :- N > 0; M = N - 1; $sum(M, S); R = N + S.";
+    /**
+     * tail recursive count rule
+     */
+    private static final String COUNT = "count(N, A, R) :- N <= 0; R = A :- N > 0; M = N - 1; B = A + 1; $count(M, B, R).";
+    /**
+     * tail recursive immediate goal
+     */
+    private static final String LOOP = "+!loop(N) : N > 0 <- M = N - 1; !!loop(M) : N <= 0 <- success.";
+    /**
+     * immediate goal, which matches two plans on each level
+     */
+    private static final String CHAIN = "+!chain(N) : N > 0 <- M = N - 1; !!chain(M) : N <= 0 <- success. +!chain(N) <- success.";
+
+    /**
+     * test deep recursion on the frame stack
+     *
+     * @throws Exception on agent error
+     */
+    @Test
+    public void recursion() throws Exception
+    {
+        final ITrampoline l_trampoline = CTrampoline.of();
+        final IAgent<?> l_agent = trampoline( new CAgentGenerator( SUM ).generatesingle(), l_trampoline );
+
+        Assert.assertEquals( 55.0, execute( l_agent, "sum", 10 ) );
+        Assert.assertEquals( 12502500.0, execute( l_agent, "sum", 5000 ) );
+        Assert.assertTrue( l_trampoline.maxdepth() >= 5000 );
+
+        if ( PRINTENABLE )
+            System.out.println( l_trampoline );
+    }
+
+    /**
+     * test tail calls of rules
+     *
+     * @throws Exception on agent error
+     */
+    @Test
+    public void tailrule() throws Exception
+    {
+        final ITrampoline l_trampoline = CTrampoline.of();
+        final IAgent<?> l_agent = trampoline( new CAgentGenerator( COUNT ).generatesingle(), l_trampoline );
+
+        Assert.assertEquals( 10000.0, execute( l_agent, "count", 10000, 0 ) );
+        Assert.assertEquals( 10000, l_trampoline.tailcalls() );
+        Assert.assertTrue( l_trampoline.maxdepth() < 10 );
+    }
+
+    /**
+     * test tail calls of immediate goals
+     *
+     * @throws Exception on agent error
+     */
+    @Test
+    public void tailgoal() throws Exception
+    {
+        final ITrampoline l_trampoline = CTrampoline.of();
+        final IAgent<?> l_agent = trampoline( new CAgentGenerator( LOOP ).generatesingle(), l_trampoline );
+
+        Assert.assertTrue(
+            l_agent.fuzzy().defuzzification().success(
+                l_agent.fuzzy().defuzzification().apply(
+                    l_agent.trigger( CTrigger.of( ITrigger.EType.ADDGOAL, CLiteral.of( "loop", CRawTerm.of( 5000.0 ) ) ), true )
+                )
+            )
+        );
+        Assert.assertEquals( 5000, l_trampoline.tailcalls() );
+        Assert.assertTrue( l_trampoline.maxdepth() < 10 );
+    }
+
+    /**
+     * test a deep chain of immediate goals with two plans on each level
+     *
+     * @throws Exception on agent error
+     */
+    @Test
+    public void chaingoal() throws Exception
+    {
+        final ITrampoline l_trampoline = CTrampoline.of();
+        final IAgent<?> l_agent = trampoline( new CAgentGenerator( CHAIN ).generatesingle(), l_trampoline );
+
+        Assert.assertTrue(
+            l_agent.fuzzy().defuzzification().success(
+                l_agent.fuzzy().defuzzification().apply(
+                    l_agent.trigger( CTrigger.of( ITrigger.EType.ADDGOAL, CLiteral.of( "chain", CRawTerm.of( 20000.0 ) ) ), true )
+                )
+            )
+        );
+
+        // each level is a tail call or a frame on the stack, depending on the order of the plans
+        Assert.assertTrue( l_trampoline.maxdepth() + l_trampoline.tailcalls() >= 20000 );
+    }
+
+    /**
+     * test compiled bodies, which are executed recursively
+     *
+     * @throws Exception on agent error
+     */
+    @Test
+    public void compiled() throws Exception
+    {
+        final ITrampoline l_trampoline = CTrampoline.of();
+        final IAgent<?> l_agent = new CAgentGenerator( COUNT ).generatesingle();
+        l_agent.executionpolicy( CExecutionPolicy.of( CExecutionPolicy.THRESHOLD, null, 1, l_trampoline ) );
+
+        Assert.assertEquals( 100.0, execute( l_agent, "count", 100, 0 ) );
+        Assert.assertEquals( 0, l_trampoline.tailcalls() );
+    }
+
+    /**
+     * test recursive execution without trampoline
+     *
+     * @throws Exception on agent error
+     */
+    @Test
+    public void recursive() throws Exception
+    {
+        final IAgent<?> l_agent = trampoline( new CAgentGenerator( SUM + COUNT ).generatesingle(), ITrampoline.EMPTY );
+
+        Assert.assertEquals( 5050.0, execute( l_agent, "sum", 100 ) );
+        Assert.assertEquals( 100.0, execute( l_agent, "count", 100, 0 ) );
+        Assert.assertEquals( 0, ITrampoline.EMPTY.maxdepth() );
+    }
+
+    /**
+     * sets the trampoline of an agent
+     *
+     * @param p_agent agent
+     * @param p_trampoline trampoline
+     * @return agent
+     */
+    @Nonnull
+    private static IAgent<?> trampoline( @Nonnull final IAgent<?> p_agent, @Nonnull final ITrampoline p_trampoline )
+    {
+        p_agent.executionpolicy( CExecutionPolicy.of( CExecutionPolicy.THRESHOLD, null, Long.MAX_VALUE, p_trampoline ) );
+        return p_agent;
+    }
+
+    /**
+     * executes a rule
+     *
+     * @param p_agent agent
+     * @param p_name rule name
+     * @param p_value input values
+     * @return result value
+     */
+    @Nonnull
+    private static Object execute( @Nonnull final IAgent<?> p_agent, @Nonnull final String p_name, @Nonnull final int... p_value )
+    {
+        final IVariable<?> l_result = new CVariable<>( "R" );
+        final IContext l_context = new CContext( p_agent, IPlan.EMPTY, Collections.singletonList( l_result ) );
+
+        final ITerm[] l_arguments = Stream.concat(
+            Arrays.stream( p_value ).mapToObj( i -> CRawTerm.of( (double) i ) ),
+            Stream.of( new CVariable<>( "R" ) )
+        ).toArray( ITerm[]::new );
+
+        Assert.assertTrue(
+            p_agent.fuzzy().defuzzification().success(
+                p_agent.fuzzy().defuzzification().apply(
+                    new CAchievementRuleLiteral( CLiteral.of( p_name, l_arguments ) )
+                        .execute( false, l_context, Collections.emptyList(), Collections.emptyList() )
+                )
+            )
+        );
+
+        return l_result.raw();
+    }
+
+}
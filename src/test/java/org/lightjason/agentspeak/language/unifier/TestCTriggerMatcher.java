@@ -0,0 +1,160 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.language.unifier;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.Assert;
+import org.junit.Test;
+import org.lightjason.agentspeak.generator.CActionGenerator;
+import org.lightjason.agentspeak.generator.ILambdaStreamingGenerator;
+import org.lightjason.agentspeak.grammar.CParserAgent;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CLiteral;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.IPlan;
+import org.lightjason.agentspeak.language.execution.instantiable.plan.trigger.ITrigger;
+import org.lightjason.agentspeak.language.variable.IVariable;
+import org.lightjason.agentspeak.testing.IBaseTest;
+
+import javax.annotation.Nonnull;
+import java.io.InputStream;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+
+/**
+ * test compiled trigger matcher
+ */
+public final class TestCTriggerMatcher extends IBaseTest
+{
+
+    /**
+     * test matching with structure-equal trigger
+     */
+    @Test
+    public void hashbased()
+    {
+        final ITriggerMatcher l_matcher = CTriggerMatcher.of( ITrigger.EType.ADDGOAL.builddefault( CLiteral.parse( "foo(X, bar(Y), X)" ) ) );
+
+        final Pair<Boolean, Set<IVariable<?>>> l_result = l_matcher.match(
+            ITrigger.EType.ADDGOAL.builddefault( CLiteral.parse( "foo(1, bar(2), 3)" ) )
+        );
+
+        Assert.assertTrue( l_result.getLeft() );
+        Assert.assertEquals( 2, l_result.getRight().size() );
+        Assert.assertEquals(
+            1.0,
+            l_result.getRight().stream().filter( i -> "X".equals( i.functor() ) ).findFirst().orElseThrow().<Number>raw()
+        );
+
+        Assert.assertFalse( l_matcher.match( ITrigger.EType.ADDGOAL.builddefault( CLiteral.parse( "foo" ) ) ).getLeft() );
+    }
+
+    /**
+     * test matching with different structure
+     */
+    @Test
+    public void recursive()
+    {
+        final ITriggerMatcher l_matcher = CTriggerMatcher.of( ITrigger.EType.ADDGOAL.builddefault( CLiteral.parse( "foo(X, bar(5))" ) ) );
+
+        final Pair<Boolean, Set<IVariable<?>>> l_result = l_matcher.match(
+            ITrigger.EType.ADDGOAL.builddefault( CLiteral.parse( "foo(inner(3), bar(5))" ) )
+        );
+
+        Assert.assertTrue( l_result.getLeft() );
+        Assert.assertEquals( "inner[3.0]", l_result.getRight().stream().findFirst().orElseThrow().raw().toString() );
+
+        Assert.assertFalse( l_matcher.match( ITrigger.EType.ADDGOAL.builddefault( CLiteral.parse( "foo(inner(3), xbar(5))" ) ) ).getLeft() );
+    }
+
+    /**
+     * benchmark and equality of compiled and default trigger
+     * unification over the plans of the unification and trigger agent
+     *
+     * @throws Exception on parsing error
+     */
+    @Test
+    public void agentplans() throws Exception
+    {
+        final int l_iteration = 1000;
+        final IUnifier l_unifier = new CUnifier();
+
+        for ( final String l_asl : new String[]{"asl/unification.asl", "asl/trigger.asl"} )
+        {
+            final List<IPlan> l_plans = plans( l_asl );
+
+            l_plans.forEach( i -> l_plans.forEach( j ->
+            {
+                final Pair<Boolean, Set<IVariable<?>>> l_default = CCommon.unifytrigger( l_unifier, j.trigger(), i.trigger() );
+                final Pair<Boolean, Set<IVariable<?>>> l_compiled = i.matcher().match( j.trigger() );
+
+                Assert.assertEquals( MessageFormat.format( "{0} / {1}", i.trigger(), j.trigger() ), l_default.getLeft(), l_compiled.getLeft() );
+                Assert.assertEquals( MessageFormat.format( "{0} / {1}", i.trigger(), j.trigger() ), l_default.getRight(), l_compiled.getRight() );
+            } ) );
+
+            final long l_default = System.nanoTime();
+            for ( int n = 0; n < l_iteration; n++ )
+                l_plans.forEach( i -> l_plans.forEach( j -> CCommon.unifytrigger( l_unifier, j.trigger(), i.trigger() ) ) );
+            final long l_defaulttime = System.nanoTime() - l_default;
+
+            final long l_compiled = System.nanoTime();
+            for ( int n = 0; n < l_iteration; n++ )
+                l_plans.forEach( i -> l_plans.forEach( j -> i.matcher().match( j.trigger() ) ) );
+            final long l_compiledtime = System.nanoTime() - l_compiled;
+
+            if ( PRINTENABLE )
+                System.out.println( MessageFormat.format(
+                    "{0} with {1} plans: default unification {2} ms / compiled unification {3} ms",
+                    l_asl, l_plans.size(), l_defaulttime / 1000000.0, l_compiledtime / 1000000.0
+                ) );
+        }
+    }
+
+    /**
+     * parses the plans of an agent
+     *
+     * @param p_asl asl resource
+     * @return plan list
+     * @throws Exception on parsing error
+     */
+    @Nonnull
+    private static List<IPlan> plans( @Nonnull final String p_asl ) throws Exception
+    {
+        try
+        (
+            final InputStream l_stream = TestCTriggerMatcher.class.getClassLoader().getResourceAsStream( p_asl )
+        )
+        {
+            return new ArrayList<>(
+                new CParserAgent(
+                    new CActionGenerator( Stream.of( "org.lightjason.agentspeak.testing" ) ),
+                    ILambdaStreamingGenerator.EMPTY
+                ).parse( l_stream ).plans()
+            );
+        }
+    }
+}
@@ -31,11 +31,16 @@ import org.lightjason.agentspeak.language.variable.CMutexVariable;
 import org.lightjason.agentspeak.language.variable.CVariable;
 import org.lightjason.agentspeak.language.variable.IRelocateVariable;
 import org.lightjason.agentspeak.language.variable.IVariable;
+import org.lightjason.agentspeak.language.ILiteral;
 import org.lightjason.agentspeak.testing.IBaseTest;
 
+import java.lang.management.ManagementFactory;
+import java.text.MessageFormat;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
@@ -272,4 +277,79 @@ public final class TestCUnify extends IBaseTest
             )
         );
     }
+
+    /**
+     * array-based unification with equal results to the stream-based unification
+     */
+    @Test
+    public void arrayunification()
+    {
+        final IUnifier l_stream = new CUnifier();
+        final IUnifier l_array = new CUnifier( new CHashArrayUnifyAlgorithm(), new CRecursiveArrayUnifyAlgorithm() );
+
+        literalpairs().forEach( i ->
+        {
+            final Set<IVariable<?>> l_streamresult = l_stream.unify( i[0], i[1].deepcopy().raw() );
+            final Set<IVariable<?>> l_arrayresult = l_array.unify( i[0], i[1].deepcopy().raw() );
+
+            Assert.assertEquals( MessageFormat.format( "{0} / {1}", i[0], i[1] ), l_streamresult, l_arrayresult );
+            Assert.assertArrayEquals(
+                l_streamresult.stream().map( j -> j.raw() ).map( String::valueOf ).sorted().toArray(),
+                l_arrayresult.stream().map( j -> j.raw() ).map( String::valueOf ).sorted().toArray()
+            );
+        } );
+    }
+
+    /**
+     * benchmark of allocated bytes per unification
+     */
+    @Test
+    public void unificationallocation()
+    {
+        final int l_iteration = 10000;
+        final List<ILiteral[]> l_pairs = literalpairs().map( i -> new ILiteral[]{i[0], i[1].deepcopy().raw()} ).collect( Collectors.toList() );
+
+        Stream.of(
+            new CUnifier(),
+            new CUnifier( new CHashArrayUnifyAlgorithm(), new CRecursiveArrayUnifyAlgorithm() )
+        ).forEach( i ->
+        {
+            final long l_bytes = allocatedbytes();
+            for ( int n = 0; n < l_iteration; n++ )
+                l_pairs.forEach( j -> i.unify( j[0], j[1] ) );
+
+            if ( PRINTENABLE )
+                System.out.println( MessageFormat.format(
+                    "{0}: {1} bytes/op", i, ( allocatedbytes() - l_bytes ) / ( l_iteration * l_pairs.size() )
+                ) );
+        } );
+    }
+
+    /**
+     * returns pairs of source and target literals
+     *
+     * @return stream of literal pairs
+     */
+    private static Stream<ILiteral[]> literalpairs()
+    {
+        return Stream.of(
+            new ILiteral[]{CLiteral.parse( "foo(1, 2, 3)" ), CLiteral.parse( "foo(X, Y, Z)" )},
+            new ILiteral[]{CLiteral.parse( "foo(1, bar(2, baz(3)), 4)" ), CLiteral.parse( "foo(X, bar(Y, baz(Z)), W)" )},
+            new ILiteral[]{CLiteral.parse( "foo(1, bar(2), 4)" ), CLiteral.parse( "foo(X, bar(3), W)" )},
+            new ILiteral[]{CLiteral.parse( "foo(inner(1), 2)" ), CLiteral.parse( "foo(X, Y)" )},
+            new ILiteral[]{CLiteral.parse( "foo(inner(1), 2)" ), CLiteral.parse( "foo(inner(X), Y)" )},
+            new ILiteral[]{CLiteral.parse( "foo(xinner(1), 2)" ), CLiteral.parse( "foo(inner(X), Y)" )},
+            new ILiteral[]{CLiteral.parse( "foo('text', [1, 2])" ), CLiteral.parse( "foo(T, L)" )}
+        );
+    }
+
+    /**
+     * returns the allocated bytes of the current thread
+     *
+     * @return allocated bytes
+     */
+    private static long allocatedbytes()
+    {
+        return ( (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean() ).getThreadAllocatedBytes( Thread.currentThread().getId() );
+    }
 }